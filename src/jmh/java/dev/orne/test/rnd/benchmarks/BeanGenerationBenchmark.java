@@ -0,0 +1,87 @@
+package dev.orne.test.rnd.benchmarks;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.orne.test.rnd.Generators;
+
+/**
+ * Benchmarks for bean generation through {@code GeneratorMethod} annotated
+ * constructors and factory methods.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see dev.orne.test.rnd.generators.AnnotatedMethodGenerator
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanGenerationBenchmark {
+
+    /**
+     * Measures the generation of a bean through an annotated constructor.
+     * 
+     * @return The generated bean
+     */
+    @Benchmark
+    public Customer constructorBean() {
+        return Generators.randomValue(Customer.class);
+    }
+
+    /**
+     * Measures the generation of a bean through an annotated factory
+     * method.
+     * 
+     * @return The generated bean
+     */
+    @Benchmark
+    public OrderLine factoryMethodBean() {
+        return Generators.randomValue(OrderLine.class);
+    }
+
+    /**
+     * Measures the generation of a bean graph with nested beans and
+     * collections of beans.
+     * 
+     * @return The generated bean
+     */
+    @Benchmark
+    public Order beanGraph() {
+        return Generators.randomValue(Order.class);
+    }
+}
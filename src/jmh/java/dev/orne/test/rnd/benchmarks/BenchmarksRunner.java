@@ -0,0 +1,77 @@
+package dev.orne.test.rnd.benchmarks;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * Command line entry point of the benchmarks.
+ * <p>
+ * Delegates in the JMH command line runner, providing the values of the
+ * {@code typeName} parameter of {@code BuiltInGeneratorsBenchmark}
+ * from the generators registered through SPI unless specified in the
+ * command line.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see BuiltInGeneratorsBenchmark#valueTypeNames()
+ */
+public final class BenchmarksRunner {
+
+    /** The JMH option for benchmark parameters values. */
+    private static final String PARAM_OPTION = "-p";
+
+    /**
+     * Private constructor.
+     */
+    private BenchmarksRunner() {
+        // Utility class
+    }
+
+    /**
+     * Runs the benchmarks with the specified JMH command line arguments.
+     * 
+     * @param args The JMH command line arguments
+     * @throws IOException If an I/O error occurs
+     */
+    public static void main(
+            final String... args)
+    throws IOException {
+        final String prefix = BuiltInGeneratorsBenchmark.TYPE_NAME_PARAM + "=";
+        for (int i = 0; i < args.length - 1; i++) {
+            if (PARAM_OPTION.equals(args[i]) && args[i + 1].startsWith(prefix)) {
+                Main.main(args);
+                return;
+            }
+        }
+        final String[] extended = Arrays.copyOf(args, args.length + 2);
+        extended[args.length] = PARAM_OPTION;
+        extended[args.length + 1] = prefix
+                + String.join(",", BuiltInGeneratorsBenchmark.valueTypeNames());
+        Main.main(extended);
+    }
+}
@@ -0,0 +1,180 @@
+package dev.orne.test.rnd.benchmarks;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.time.DayOfWeek;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.orne.test.rnd.AbstractTypedGenerator;
+import dev.orne.test.rnd.Generator;
+import dev.orne.test.rnd.Generators;
+import dev.orne.test.rnd.params.AbstractTypedParameterizableGenerator;
+
+/**
+ * Benchmarks for the generator registry and the built-in generators
+ * registered through SPI.
+ * <p>
+ * Each benchmark runs for one value type supported by each of the generators
+ * declared in {@code META-INF/services/dev.orne.test.rnd.Generator}, read
+ * from the SPI registry by {@code BenchmarksRunner}. Collection generators
+ * require the generic type of the target, so they are measured in
+ * {@code TargetedGeneratorsBenchmark}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @since 0.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuiltInGeneratorsBenchmark {
+
+    /** The name of the generated value type parameter. */
+    static final String TYPE_NAME_PARAM = "typeName";
+    /**
+     * The sample value types of the generators registered through SPI
+     * that support families of types instead of a single value type.
+     */
+    private static final Class<?>[] SAMPLE_TYPES = {
+        DayOfWeek.class,
+        int[].class,
+        String[].class,
+        Customer.class
+    };
+
+    /**
+     * The name of the generated value type. The values are provided by
+     * {@code BenchmarksRunner}, the default value is only used when run
+     * directly through the JMH runner.
+     * 
+     * @see #valueTypeNames()
+     */
+    @Param("java.lang.String")
+    public String typeName;
+
+    /** The generated value type. */
+    private Class<?> type;
+
+    /**
+     * Returns the names of the value types to benchmark: the value type of
+     * each typed generator registered through SPI, except collections and
+     * maps, and the sample value types of the other generators.
+     * 
+     * @return The names of the value types to benchmark
+     */
+    static String[] valueTypeNames() {
+        final Set<String> result = new LinkedHashSet<>();
+        for (final Generator generator : ServiceLoader.load(Generator.class)) {
+            final Class<?> type = getValueType(generator);
+            if (type != null
+                    && !Collection.class.isAssignableFrom(type)
+                    && !Map.class.isAssignableFrom(type)) {
+                result.add(type.getName());
+            }
+        }
+        for (final Class<?> type : SAMPLE_TYPES) {
+            result.add(type.getName());
+        }
+        return result.toArray(new String[result.size()]);
+    }
+
+    /**
+     * Returns the value type of the specified generator, if typed.
+     * 
+     * @param generator The generator
+     * @return The value type of the generator, or {@code null} if the
+     * generator is not typed
+     */
+    private static Class<?> getValueType(
+            final Generator generator) {
+        if (generator instanceof AbstractTypedGenerator) {
+            return ((AbstractTypedGenerator<?>) generator).getValueType();
+        } else if (generator instanceof AbstractTypedParameterizableGenerator) {
+            return ((AbstractTypedParameterizableGenerator<?, ?>) generator).getValueType();
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the generated value type.
+     * 
+     * @throws ClassNotFoundException If the value type cannot be found
+     */
+    @Setup
+    public void setup()
+    throws ClassNotFoundException {
+        this.type = ClassUtils.getClass(this.typeName);
+    }
+
+    /**
+     * Measures the generator lookup in the registry.
+     * 
+     * @return The generator for the value type
+     */
+    @Benchmark
+    public Generator getGenerator() {
+        return Generators.getGenerator(this.type);
+    }
+
+    /**
+     * Measures the generation of default values through {@code Generators}.
+     * 
+     * @return The generated value
+     */
+    @Benchmark
+    public Object defaultValue() {
+        return Generators.defaultValue(this.type);
+    }
+
+    /**
+     * Measures the generation of random values through {@code Generators}.
+     * 
+     * @return The generated value
+     */
+    @Benchmark
+    public Object randomValue() {
+        return Generators.randomValue(this.type);
+    }
+}
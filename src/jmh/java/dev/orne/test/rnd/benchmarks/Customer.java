@@ -0,0 +1,94 @@
+package dev.orne.test.rnd.benchmarks;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.time.LocalDate;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import dev.orne.test.rnd.GeneratorMethod;
+
+/**
+ * Customer bean generated through an annotated constructor.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ */
+public class Customer {
+
+    /** The customer name. */
+    private final String name;
+    /** The customer age. */
+    private final Integer age;
+    /** The customer registration date. */
+    private final LocalDate since;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param name The customer name
+     * @param age The customer age
+     * @param since The customer registration date
+     */
+    @GeneratorMethod
+    public Customer(
+            final @NotNull @Size(min = 1, max = 40) String name,
+            final @NotNull @Min(18) @Max(120) Integer age,
+            final @NotNull LocalDate since) {
+        super();
+        this.name = name;
+        this.age = age;
+        this.since = since;
+    }
+
+    /**
+     * Returns the customer name.
+     * 
+     * @return The customer name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the customer age.
+     * 
+     * @return The customer age
+     */
+    public Integer getAge() {
+        return this.age;
+    }
+
+    /**
+     * Returns the customer registration date.
+     * 
+     * @return The customer registration date
+     */
+    public LocalDate getSince() {
+        return this.since;
+    }
+}
@@ -0,0 +1,109 @@
+package dev.orne.test.rnd.benchmarks;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import dev.orne.test.rnd.GeneratorMethod;
+
+/**
+ * Order bean with nested generated beans, generated through an annotated
+ * constructor.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ */
+public class Order {
+
+    /** The order identifier. */
+    private final UUID id;
+    /** The order customer. */
+    private final Customer customer;
+    /** The order lines. */
+    private final List<OrderLine> lines;
+    /** The order creation instant. */
+    private final Instant created;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param id The order identifier
+     * @param customer The order customer
+     * @param lines The order lines
+     * @param created The order creation instant
+     */
+    @GeneratorMethod
+    public Order(
+            final @NotNull UUID id,
+            final @NotNull Customer customer,
+            final @NotNull @Size(min = 1, max = 5) List<OrderLine> lines,
+            final @NotNull Instant created) {
+        super();
+        this.id = id;
+        this.customer = customer;
+        this.lines = lines;
+        this.created = created;
+    }
+
+    /**
+     * Returns the order identifier.
+     * 
+     * @return The order identifier
+     */
+    public UUID getId() {
+        return this.id;
+    }
+
+    /**
+     * Returns the order customer.
+     * 
+     * @return The order customer
+     */
+    public Customer getCustomer() {
+        return this.customer;
+    }
+
+    /**
+     * Returns the order lines.
+     * 
+     * @return The order lines
+     */
+    public List<OrderLine> getLines() {
+        return this.lines;
+    }
+
+    /**
+     * Returns the order creation instant.
+     * 
+     * @return The order creation instant
+     */
+    public Instant getCreated() {
+        return this.created;
+    }
+}
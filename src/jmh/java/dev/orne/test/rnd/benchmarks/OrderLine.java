@@ -0,0 +1,108 @@
+package dev.orne.test.rnd.benchmarks;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.math.BigDecimal;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import dev.orne.test.rnd.GeneratorMethod;
+
+/**
+ * Order line bean generated through an annotated factory method.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ */
+public class OrderLine {
+
+    /** The product name. */
+    private final String product;
+    /** The product quantity. */
+    private final Integer quantity;
+    /** The product unit price. */
+    private final BigDecimal price;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param product The product name
+     * @param quantity The product quantity
+     * @param price The product unit price
+     */
+    protected OrderLine(
+            final String product,
+            final Integer quantity,
+            final BigDecimal price) {
+        super();
+        this.product = product;
+        this.quantity = quantity;
+        this.price = price;
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param product The product name
+     * @param quantity The product quantity
+     * @param price The product unit price
+     * @return The created instance
+     */
+    @GeneratorMethod
+    public static OrderLine of(
+            final @NotNull String product,
+            final @NotNull @Min(1) @Max(10) Integer quantity,
+            final @NotNull @Min(0) @Max(1000) BigDecimal price) {
+        return new OrderLine(product, quantity, price);
+    }
+
+    /**
+     * Returns the product name.
+     * 
+     * @return The product name
+     */
+    public String getProduct() {
+        return this.product;
+    }
+
+    /**
+     * Returns the product quantity.
+     * 
+     * @return The product quantity
+     */
+    public Integer getQuantity() {
+        return this.quantity;
+    }
+
+    /**
+     * Returns the product unit price.
+     * 
+     * @return The product unit price
+     */
+    public BigDecimal getPrice() {
+        return this.price;
+    }
+}
@@ -0,0 +1,156 @@
+package dev.orne.test.rnd.benchmarks;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.orne.test.rnd.Generators;
+import dev.orne.test.rnd.params.PropertyTypeGenerator;
+
+/**
+ * Benchmarks for targeted generators, including the {@code List},
+ * {@code Set} and {@code Map} generators with generic and constraint
+ * based generation parameters.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetedGeneratorsBenchmark {
+
+    /** The name of the target field of {@code Bean}. */
+    @Param({
+        "number",
+        "text",
+        "date",
+        "list",
+        "set",
+        "map",
+        "customers"
+    })
+    public String fieldName;
+
+    /** The target field. */
+    private Field field;
+    /** The generator for the target field. */
+    private PropertyTypeGenerator<?> generator;
+
+    /**
+     * Creates the generator for the target field.
+     * 
+     * @throws NoSuchFieldException If the target field does not exist
+     */
+    @Setup
+    public void setup()
+    throws NoSuchFieldException {
+        this.field = Bean.class.getDeclaredField(this.fieldName);
+        this.generator = Generators.forField(Bean.class, this.field);
+    }
+
+    /**
+     * Measures the creation of a targeted generator for the target field.
+     * 
+     * @return The created generator
+     */
+    @Benchmark
+    public PropertyTypeGenerator<?> forField() {
+        return Generators.forField(Bean.class, this.field);
+    }
+
+    /**
+     * Measures the generation of random values with a reused targeted
+     * generator.
+     * 
+     * @return The generated value
+     */
+    @Benchmark
+    public Object randomValue() {
+        return this.generator.randomValue();
+    }
+
+    /**
+     * Measures the generation of random values with a new targeted
+     * generator for each value.
+     * 
+     * @return The generated value
+     */
+    @Benchmark
+    public Object randomValueNewGenerator() {
+        return Generators.forField(Bean.class, this.field).randomValue();
+    }
+
+    /**
+     * Bean with the target fields.
+     */
+    public static class Bean {
+        /** Constrained number field. */
+        @NotNull @Min(0) @Max(100)
+        public Integer number;
+        /** Constrained text field. */
+        @NotNull @Size(min = 5, max = 20)
+        public String text;
+        /** Date field. */
+        @NotNull
+        public LocalDate date;
+        /** List field. */
+        @NotNull @Size(min = 10, max = 10)
+        public List<String> list;
+        /** Set field. */
+        @NotNull @Size(min = 10, max = 10)
+        public Set<Integer> set;
+        /** Map field. */
+        @NotNull @Size(min = 10, max = 10)
+        public Map<String, Long> map;
+        /** List of beans field. */
+        @NotNull @Size(min = 5, max = 5)
+        public List<Customer> customers;
+    }
+}
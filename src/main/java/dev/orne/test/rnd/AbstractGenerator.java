@@ -26,7 +26,6 @@ import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -40,7 +39,7 @@ import org.apiguardian.api.API.Status;
  * Provides basic implementations for common methods.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2021-03
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -142,7 +141,7 @@ implements Generator {
      */
     public boolean randomNull(
             final @NotNull Class<?> type) {
-        return RandomUtils.nextFloat(0, 1) < this.nullProbability;
+        return RandomSources.current().nextFloat() < this.nullProbability;
     }
 
     /**
@@ -22,6 +22,11 @@ package dev.orne.test.rnd;
  * #L%
  */
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.Validate;
@@ -35,7 +40,7 @@ import org.apiguardian.api.API.Status;
  * Abstract implementation of {@code TypedGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2021-03
+ * @version 1.1, 2026-10
  * @param <T> The type of generated values
  * @since 0.1
  */
@@ -104,6 +109,14 @@ implements TypedGenerator<T> {
         return Validate.notNull(type).equals(this.valueType);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Set<Class<?>> getSupportedTypes() {
+        return Collections.singleton(this.valueType);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -134,6 +147,29 @@ implements TypedGenerator<T> {
         return (V) randomValue();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull <V> List<V> randomValues(
+            final @NotNull Class<V> type,
+            final int count) {
+        assertSupported(type);
+        return (List<V>) randomValues(count);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull <V> Stream<V> stream(
+            final @NotNull Class<V> type) {
+        assertSupported(type);
+        return (Stream<V>) stream();
+    }
+
     /**
      * {@inheritDoc}
      */
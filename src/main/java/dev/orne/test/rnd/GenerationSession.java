@@ -0,0 +1,273 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Reproducible random values generation session.
+ * <p>
+ * A session derives independent random streams from a root seed. Each
+ * stream is identified by a numeric identifier and its values only depend
+ * on the root seed and the stream identifier, not on the thread executing
+ * the generation or the order in which the streams are used.
+ * <p>
+ * Tasks executed through the session use the selected stream as the
+ * current random source (see {@link RandomSources#current()}), so
+ * generation through {@link Generators} and targeted generators
+ * is reproducible:
+ * <pre>
+ * GenerationSession session = new GenerationSession(seed);
+ * MyBean bean = session.call(() -&gt; Generators.randomValue(MyBean.class));
+ * List&lt;MyBean&gt; beans = session.callAll(workers,
+ *         worker -&gt; generateBeans(worker));
+ * </pre>
+ * Each worker task must generate its values in the thread executing the
+ * task. Threads created by the task itself use the default random source.
+ * <p>
+ * Large amounts of values can be generated in parallel with
+ * {@link #parallelStream(long, Supplier)}, where each value uses the
+ * stream identified by its position:
+ * <pre>
+ * List&lt;MyBean&gt; beans = session.parallelStream(count,
+ *         () -&gt; Generators.randomValue(MyBean.class))
+ *     .collect(Collectors.toList());
+ * </pre>
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @since 0.3
+ * @see RandomSources
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public class GenerationSession {
+
+    /** The identifier of the stream used by default. */
+    public static final long DEFAULT_STREAM = 0L;
+
+    /** The root seed. */
+    private final long seed;
+
+    /**
+     * Creates a new session with a random root seed.
+     */
+    public GenerationSession() {
+        this(ThreadLocalRandomSource.INSTANCE.nextLong());
+    }
+
+    /**
+     * Creates a new session with the specified root seed.
+     * 
+     * @param seed The root seed
+     */
+    public GenerationSession(
+            final long seed) {
+        super();
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the root seed of this session.
+     * 
+     * @return The root seed
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Returns the seed of the specified stream.
+     * 
+     * @param stream The stream identifier
+     * @return The seed of the stream
+     */
+    public long getStreamSeed(
+            final long stream) {
+        return SplitMix64.valueAt(this.seed, stream);
+    }
+
+    /**
+     * Creates a new random source for the specified stream. Each call
+     * returns a new random source positioned at the start of the stream.
+     * <p>
+     * The returned source is not thread safe and must be confined to a
+     * single thread. It can be selected for the current thread with
+     * {@link RandomSources#withSource(RandomSource, Supplier)}, but must not
+     * be set as the default random source.
+     * 
+     * @param stream The stream identifier
+     * @return The random source for the stream
+     */
+    public @NotNull RandomSource createSource(
+            final long stream) {
+        return new IndexedRandomSource(this, stream);
+    }
+
+    /**
+     * Executes the specified task in the current thread using the
+     * default stream of this session.
+     * 
+     * @param <T> The type of the task result
+     * @param task The task to execute
+     * @return The result of the task
+     */
+    public <T> T call(
+            final @NotNull Supplier<T> task) {
+        return call(DEFAULT_STREAM, task);
+    }
+
+    /**
+     * Executes the specified task in the current thread using the
+     * specified stream of this session.
+     * 
+     * @param <T> The type of the task result
+     * @param stream The stream identifier
+     * @param task The task to execute
+     * @return The result of the task
+     */
+    public <T> T call(
+            final long stream,
+            final @NotNull Supplier<T> task) {
+        // The created source is confined to the current thread
+        return RandomSources.withSource(createSource(stream), task);
+    }
+
+    /**
+     * Executes the specified task in the current thread using the
+     * default stream of this session.
+     * 
+     * @param task The task to execute
+     */
+    public void run(
+            final @NotNull Runnable task) {
+        run(DEFAULT_STREAM, task);
+    }
+
+    /**
+     * Executes the specified task in the current thread using the
+     * specified stream of this session.
+     * 
+     * @param stream The stream identifier
+     * @param task The task to execute
+     */
+    public void run(
+            final long stream,
+            final @NotNull Runnable task) {
+        // The created source is confined to the current thread
+        RandomSources.withSource(createSource(stream), task);
+    }
+
+    /**
+     * Executes the specified number of tasks in parallel. Each task
+     * receives its index and uses the stream with the same identifier.
+     * The results are returned in task index order, so the result is
+     * reproducible regardless of the threads executing each task.
+     * 
+     * @param <T> The type of the tasks results
+     * @param tasks The number of tasks to execute
+     * @param task The task to execute
+     * @return The results of the tasks, in task index order
+     */
+    public <T> @NotNull List<T> callAll(
+            final @Min(0) int tasks,
+            final @NotNull IntFunction<T> task) {
+        Validate.isTrue(tasks >= 0, "The number of tasks must be non negative");
+        Validate.notNull(task);
+        return IntStream.range(0, tasks)
+                .parallel()
+                .mapToObj(index -> call(index, () -> task.apply(index)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a parallel stream of the specified number of values
+     * generated with the specified generator.
+     * <p>
+     * The value at each position is generated in the thread consuming it
+     * using the stream with the same identifier as the position, so the
+     * values and their order are reproducible regardless of how the
+     * stream is split between threads.
+     * 
+     * @param <T> The type of the generated values
+     * @param count The number of values to generate
+     * @param generator The values generator
+     * @return The parallel stream of generated values
+     */
+    public <T> @NotNull Stream<T> parallelStream(
+            final @Min(0) long count,
+            final @NotNull Supplier<T> generator) {
+        Validate.isTrue(count >= 0, "The number of values must be non negative");
+        return parallelStream(0, count, generator);
+    }
+
+    /**
+     * Returns a parallel stream of the values between the specified
+     * positions generated with the specified generator.
+     * <p>
+     * The values are the same values returned for the same positions by
+     * {@link #parallelStream(long, Supplier)}, so disjoint slices of the
+     * same sequence can be generated independently.
+     * 
+     * @param <T> The type of the generated values
+     * @param origin The position of the first value, inclusive
+     * @param fence The position of the last value, exclusive
+     * @param generator The values generator
+     * @return The parallel stream of generated values
+     */
+    public <T> @NotNull Stream<T> parallelStream(
+            final @Min(0) long origin,
+            final @Min(0) long fence,
+            final @NotNull Supplier<T> generator) {
+        Validate.isTrue(origin >= 0, "The first value position must be non negative");
+        Validate.isTrue(origin <= fence, "The last value position must be greater or equal than the first");
+        Validate.notNull(generator);
+        return StreamSupport.stream(
+                new GenerationSpliterator<>(this, generator, origin, fence),
+                true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("seed", this.seed)
+                .toString();
+    }
+}
@@ -0,0 +1,166 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Spliterator of a fixed number of generated values.
+ * <p>
+ * The value at each position is generated using the stream of the
+ * generation session with the same identifier, so the generated values
+ * only depend on the session seed and the position of each value, not on
+ * how the spliterator is split between threads.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @param <T> The type of generated values
+ * @since 0.3
+ * @see GenerationSession#parallelStream(long, Supplier)
+ */
+@API(status=Status.INTERNAL, since="0.3")
+final class GenerationSpliterator<T>
+implements Spliterator<T> {
+
+    /** The spliterator characteristics. */
+    private static final int CHARACTERISTICS =
+            ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+
+    /** The generation session. */
+    private final @NotNull GenerationSession session;
+    /** The values generator. */
+    private final @NotNull Supplier<T> generator;
+    /**
+     * The random source used to generate the values, confined to the
+     * thread traversing this spliterator.
+     */
+    private final @NotNull IndexedRandomSource source;
+    /** The position of the next value to generate. */
+    private long index;
+    /** The position after the last value to generate. */
+    private final long fence;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param session The generation session
+     * @param generator The values generator
+     * @param origin The position of the first value to generate
+     * @param fence The position after the last value to generate
+     */
+    GenerationSpliterator(
+            final @NotNull GenerationSession session,
+            final @NotNull Supplier<T> generator,
+            final long origin,
+            final long fence) {
+        super();
+        this.session = Validate.notNull(session);
+        this.generator = Validate.notNull(generator);
+        this.source = new IndexedRandomSource(session);
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean tryAdvance(
+            final @NotNull Consumer<? super T> action) {
+        Validate.notNull(action);
+        if (this.index < this.fence) {
+            action.accept(generate(this.index++));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachRemaining(
+            final @NotNull Consumer<? super T> action) {
+        Validate.notNull(action);
+        final long end = this.fence;
+        long position = this.index;
+        this.index = end;
+        for (; position < end; position++) {
+            action.accept(generate(position));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        final long origin = this.index;
+        final long middle = (origin + this.fence) >>> 1;
+        if (middle <= origin) {
+            return null;
+        }
+        this.index = middle;
+        return new GenerationSpliterator<>(
+                this.session,
+                this.generator,
+                origin,
+                middle);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long estimateSize() {
+        return this.fence - this.index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Generates the value at the specified position.
+     * 
+     * @param position The position of the value
+     * @return The generated value
+     */
+    private T generate(
+            final long position) {
+        this.source.position(position);
+        return RandomSources.withSource(this.source, this.generator);
+    }
+}
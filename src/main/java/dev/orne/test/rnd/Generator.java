@@ -22,8 +22,14 @@ package dev.orne.test.rnd;
  * #L%
  */
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -34,7 +40,7 @@ import dev.orne.test.rnd.params.ParameterizableGenerator;
  * Interface for random value generators.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2021-03
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -101,6 +107,94 @@ public interface Generator {
      */
     <T> T nullableRandomValue(@NotNull Class<T> type);
 
+    /**
+     * Returns a list of random values of the specified type.
+     * <p>
+     * Implementations should perform the type verifications and any
+     * generation setup once for all the values.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param count The number of values to generate.
+     * @return A list of random values for the specified type.
+     * @throws UnsupportedValueTypeException If the specified type is not supported.
+     * @throws GenerationException If an error occurs generating the values
+     * @see #randomValue(Class)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default <T> @NotNull List<T> randomValues(
+            final @NotNull Class<T> type,
+            final @Min(0) int count) {
+        Validate.isTrue(count >= 0, "The number of values must be non negative");
+        if (!supports(type)) {
+            throw new UnsupportedValueTypeException(String.format(
+                    "Generators of type %s does not support generation of values of type %s",
+                    getClass(),
+                    type));
+        }
+        final List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(randomValue(type));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an infinite sequential stream of random values of the
+     * specified type.
+     * <p>
+     * Implementations should perform the type verifications and any
+     * generation setup once for all the values.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @return An infinite stream of random values for the specified type.
+     * @throws UnsupportedValueTypeException If the specified type is not supported.
+     * @see #randomValue(Class)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default <T> @NotNull Stream<T> stream(
+            final @NotNull Class<T> type) {
+        if (!supports(type)) {
+            throw new UnsupportedValueTypeException(String.format(
+                    "Generators of type %s does not support generation of values of type %s",
+                    getClass(),
+                    type));
+        }
+        return Stream.generate(() -> randomValue(type));
+    }
+
+    /**
+     * Returns the random value of the specified type at the specified
+     * position of the sequence of random values for the specified seed.
+     * <p>
+     * The value is generated directly, without generating the previous
+     * values of the sequence, using the stream with the same identifier
+     * as the position of a {@code GenerationSession} with the specified
+     * seed. Thus, disjoint slices of the same sequence can be generated
+     * independently.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param seed The sequence seed.
+     * @param index The position of the value in the sequence.
+     * @return The random value at the specified position.
+     * @throws UnsupportedValueTypeException If the specified type is not supported.
+     * @throws GenerationException If an error occurs generating the value
+     * @see GenerationSession#call(long, java.util.function.Supplier)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default <T> @NotNull T randomValue(
+            final @NotNull Class<T> type,
+            final long seed,
+            final @Min(0) long index) {
+        Validate.isTrue(index >= 0, "The value index must be non negative");
+        return new GenerationSession(seed).call(index, () -> randomValue(type));
+    }
+
     /**
      * Returns the priority of this generator.
      * 
@@ -32,11 +32,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
-import java.util.WeakHashMap;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.Validate;
@@ -64,9 +67,20 @@ import dev.orne.test.rnd.params.PropertyTypeGenerator;
  * {@link #register(Generator...)}, {@link #register(Collection)},
  * {@link #remove(Generator...)}, {@link #remove(Collection)}
  * and {@link #reset()}.
+ * <p>
+ * Registered generators are kept in an immutable {@code Registry} snapshot.
+ * Generator resolution reads the current snapshot without locking and
+ * caches the resolved generator per value type in a {@code ClassValue}.
+ * Modifications build a new snapshot that is published atomically,
+ * discarding the cached resolutions.
+ * <p>
+ * Generators declared through SPI are loaded and sorted once per class
+ * loader. Native image builds sort them at build time, so native
+ * executables create the default generators without scanning the class
+ * path.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.1, 2023-11
+ * @version 1.3, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -77,10 +91,8 @@ public final class Generators {
      */
     public static final Comparator<Generator> COMPARATOR =
             Comparator.comparingInt(Generator::getPriority).reversed();
-    /** The by class generator cache. */
-    private static final Map<Class<?>, Generator> CACHE = new WeakHashMap<>();
-    /** The registered generators. */
-    private static List<Generator> registeredGenerators;
+    /** The current registered generators snapshot. */
+    private static volatile Registry registry;
 
     /**
      * Private constructor.
@@ -253,6 +265,259 @@ public final class Generators {
         return requireParameterizableGenerator(type).nullableRandomValue(type, params);
     }
 
+    /**
+     * Returns the random value of the specified type at the specified
+     * position of the sequence of random values for the specified seed.
+     * <p>
+     * The value is generated directly, without generating the previous
+     * values of the sequence. The value is the same value generated at the
+     * same position by {@link #parallelStream(Class, long, long)} with the
+     * same seed.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param seed The sequence seed.
+     * @param index The position of the value in the sequence.
+     * @return The random value at the specified position.
+     * @throws GeneratorNotFoundException If no generator supports the
+     * requested value type.
+     * @see Generator#randomValue(Class, long, long)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since = "0.3")
+    public static <T> @NotNull T randomValue(
+            final @NotNull Class<T> type,
+            final long seed,
+            final @Min(0) long index) {
+        final Generator generator = getGeneratorInt(type);
+        return generator.randomValue(type, seed, index);
+    }
+
+    /**
+     * Returns a list of random values of the specified type.
+     * <p>
+     * The generator is resolved once for all the values.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param count The number of values to generate.
+     * @return A list of random values for the specified type.
+     * @throws GeneratorNotFoundException If no generator supports the
+     * requested value type.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since = "0.3")
+    public static <T> @NotNull List<T> randomValues(
+            final @NotNull Class<T> type,
+            final @Min(0) int count) {
+        final Generator generator = getGeneratorInt(type);
+        return generator.randomValues(type, count);
+    }
+
+    /**
+     * Returns a list of random values of the specified type.
+     * <p>
+     * The generator is resolved and the generation parameters are extracted
+     * once for all the values.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param count The number of values to generate.
+     * @param params The generation parameter sources.
+     * @return A list of random values for the specified type.
+     * @throws GeneratorNotFoundException If no generator supports the
+     * requested value type.
+     * @throws GeneratorNotParameterizableException If the generator registered
+     * for the requested value type is not parameterizable.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since = "0.3")
+    public static <T> @NotNull List<T> randomValues(
+            final @NotNull Class<T> type,
+            final @Min(0) int count,
+            final @NotNull Object... params) {
+        return requireParameterizableGenerator(type).randomValues(type, count, params);
+    }
+
+    /**
+     * Returns an infinite sequential stream of random values of the
+     * specified type.
+     * <p>
+     * The generator is resolved once for all the values.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @return An infinite stream of random values for the specified type.
+     * @throws GeneratorNotFoundException If no generator supports the
+     * requested value type.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since = "0.3")
+    public static <T> @NotNull Stream<T> stream(
+            final @NotNull Class<T> type) {
+        final Generator generator = getGeneratorInt(type);
+        return generator.stream(type);
+    }
+
+    /**
+     * Returns an infinite sequential stream of random values of the
+     * specified type.
+     * <p>
+     * The generator is resolved and the generation parameters are extracted
+     * once for all the values.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param params The generation parameter sources.
+     * @return An infinite stream of random values for the specified type.
+     * @throws GeneratorNotFoundException If no generator supports the
+     * requested value type.
+     * @throws GeneratorNotParameterizableException If the generator registered
+     * for the requested value type is not parameterizable.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since = "0.3")
+    public static <T> @NotNull Stream<T> stream(
+            final @NotNull Class<T> type,
+            final @NotNull Object... params) {
+        return requireParameterizableGenerator(type).stream(type, params);
+    }
+
+    /**
+     * Returns a parallel stream of the specified number of random values
+     * of the specified type.
+     * <p>
+     * The generator is resolved once for all the values. The values are
+     * generated with a {@code GenerationSession} seeded from the current
+     * random source, so the values are reproducible when generated inside
+     * a reproducible session.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param count The number of values to generate.
+     * @return A parallel stream of random values for the specified type.
+     * @throws GeneratorNotFoundException If no generator supports the
+     * requested value type.
+     * @see GenerationSession#parallelStream(long, java.util.function.Supplier)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since = "0.3")
+    public static <T> @NotNull Stream<T> parallelStream(
+            final @NotNull Class<T> type,
+            final @Min(0) long count) {
+        return parallelStream(type, count, RandomSources.current().nextLong());
+    }
+
+    /**
+     * Returns a parallel stream of the specified number of random values
+     * of the specified type.
+     * <p>
+     * The generator is resolved once for all the values. The values only
+     * depend on the specified seed and their position in the stream,
+     * regardless of the threads generating them.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param count The number of values to generate.
+     * @param seed The generation seed.
+     * @return A parallel stream of random values for the specified type.
+     * @throws GeneratorNotFoundException If no generator supports the
+     * requested value type.
+     * @see GenerationSession#parallelStream(long, java.util.function.Supplier)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since = "0.3")
+    public static <T> @NotNull Stream<T> parallelStream(
+            final @NotNull Class<T> type,
+            final @Min(0) long count,
+            final long seed) {
+        final Generator generator = getGeneratorInt(type);
+        if (generator == MissingGenerator.INSTANCE) {
+            throw new GeneratorNotFoundException(MissingGenerator.ERR_MSG);
+        }
+        return new GenerationSession(seed).parallelStream(
+                count,
+                () -> generator.randomValue(type));
+    }
+
+    /**
+     * Returns a generator of primitive {@code int} values.
+     * <p>
+     * Returns the generator registered for {@code int} values if it
+     * implements {@code PrimitiveIntGenerator}. Otherwise returns an adapter
+     * that unboxes the values generated by the registered generator.
+     * 
+     * @return The generator of primitive {@code int} values
+     * @throws GeneratorNotFoundException If no generator supports
+     * {@code int} values.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since = "0.3")
+    public static @NotNull PrimitiveIntGenerator intGenerator() {
+        final Generator generator = getGeneratorInt(int.class);
+        final PrimitiveIntGenerator result;
+        if (generator == MissingGenerator.INSTANCE) {
+            throw new GeneratorNotFoundException(MissingGenerator.ERR_MSG);
+        } else if (generator instanceof PrimitiveIntGenerator) {
+            result = (PrimitiveIntGenerator) generator;
+        } else {
+            result = () -> generator.randomValue(int.class);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a generator of primitive {@code long} values.
+     * <p>
+     * Returns the generator registered for {@code long} values if it
+     * implements {@code PrimitiveLongGenerator}. Otherwise returns an adapter
+     * that unboxes the values generated by the registered generator.
+     * 
+     * @return The generator of primitive {@code long} values
+     * @throws GeneratorNotFoundException If no generator supports
+     * {@code long} values.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since = "0.3")
+    public static @NotNull PrimitiveLongGenerator longGenerator() {
+        final Generator generator = getGeneratorInt(long.class);
+        final PrimitiveLongGenerator result;
+        if (generator == MissingGenerator.INSTANCE) {
+            throw new GeneratorNotFoundException(MissingGenerator.ERR_MSG);
+        } else if (generator instanceof PrimitiveLongGenerator) {
+            result = (PrimitiveLongGenerator) generator;
+        } else {
+            result = () -> generator.randomValue(long.class);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a generator of primitive {@code double} values.
+     * <p>
+     * Returns the generator registered for {@code double} values if it
+     * implements {@code PrimitiveDoubleGenerator}. Otherwise returns an adapter
+     * that unboxes the values generated by the registered generator.
+     * 
+     * @return The generator of primitive {@code double} values
+     * @throws GeneratorNotFoundException If no generator supports
+     * {@code double} values.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since = "0.3")
+    public static @NotNull PrimitiveDoubleGenerator doubleGenerator() {
+        final Generator generator = getGeneratorInt(double.class);
+        final PrimitiveDoubleGenerator result;
+        if (generator == MissingGenerator.INSTANCE) {
+            throw new GeneratorNotFoundException(MissingGenerator.ERR_MSG);
+        } else if (generator instanceof PrimitiveDoubleGenerator) {
+            result = (PrimitiveDoubleGenerator) generator;
+        } else {
+            result = () -> generator.randomValue(double.class);
+        }
+        return result;
+    }
+
     /**
      * Returns the generator to use for the specified value type.
      * 
@@ -295,7 +560,7 @@ public final class Generators {
      */
     static @NotNull Generator getGeneratorInt(
             final @NotNull Class<?> type) {
-        return CACHE.computeIfAbsent(type, Generators::findGenerator);
+        return getRegistryInt().getGenerator(type);
     }
 
     /**
@@ -327,16 +592,7 @@ public final class Generators {
      */
     static @NotNull Generator findGenerator(
             final @NotNull Class<?> type) {
-        Generator result = MissingGenerator.INSTANCE;
-        synchronized (Generators.class) {
-            for (final Generator generator : getGeneratorsInt()) {
-                if (generator.supports(type)) {
-                    result = generator;
-                    break;
-                }
-            }
-        }
-        return result;
+        return getRegistryInt().findGenerator(type);
     }
 
     /**
@@ -530,7 +786,7 @@ public final class Generators {
      * @return The registered generators
      */
     public static @NotNull List<Generator> getRegisteredGenerators() {
-        return Collections.unmodifiableList(getGeneratorsInt());
+        return getGeneratorsInt();
     }
 
     /**
@@ -554,10 +810,10 @@ public final class Generators {
         Validate.notNull(generators);
         Validate.noNullElements(generators);
         synchronized (Generators.class) {
-            final List<Generator> intList = getGeneratorsInt();
-            intList.addAll(generators);
-            Collections.sort(intList, COMPARATOR);
-            CACHE.clear();
+            final List<Generator> newGenerators = new ArrayList<>(
+                    getRegistryInt().getGenerators());
+            newGenerators.addAll(generators);
+            registry = new Registry(newGenerators);
         }
     }
 
@@ -582,49 +838,55 @@ public final class Generators {
         Validate.notNull(generators);
         Validate.noNullElements(generators);
         synchronized (Generators.class) {
-            final List<Generator> intList = getGeneratorsInt();
-            intList.removeAll(generators);
-            Collections.sort(intList, COMPARATOR);
-            CACHE.clear();
+            final List<Generator> newGenerators = new ArrayList<>(
+                    getRegistryInt().getGenerators());
+            newGenerators.removeAll(generators);
+            registry = new Registry(newGenerators);
         }
     }
 
     /**
-     * Resets the loaded and cached generators. Next call will regenerate the
-     * generator list (including SPI generators) and restart generator caching.
+     * Resets the loaded and cached generators. Next call will restore the
+     * default generator list (including SPI generators) and restart
+     * generator caching.
      */
     public static void reset() {
         synchronized (Generators.class) {
-            registeredGenerators = null;
-            CACHE.clear();
+            registry = null;
         }
     }
 
     /**
-     * Returns a modifiable list with the registered generators.
+     * Returns an unmodifiable list with the registered generators, sorted
+     * by priority.
      * If generators has not been loaded loads the default generators,
      * including generators registered through SPI.
      * 
      * @return The registered generators
      */
     static @NotNull List<Generator> getGeneratorsInt() {
-        synchronized (Generators.class) {
-            if (registeredGenerators == null) {
-                registeredGenerators = new ArrayList<>();
-                registeredGenerators.addAll(loadSpiGenerators());
-                Collections.sort(registeredGenerators, COMPARATOR);
-            }
-            return registeredGenerators;
-        }
+        return getRegistryInt().getGenerators();
     }
 
     /**
-     * Returns the internal by class generator cache.
+     * Returns the current registered generators snapshot.
+     * If generators has not been loaded loads the default generators,
+     * including generators registered through SPI.
      * 
-     * @return The internal by class generator cache
+     * @return The current registered generators snapshot
      */
-    static @NotNull Map<Class<?>, Generator> getCacheInt() {
-        return CACHE;
+    static @NotNull Registry getRegistryInt() {
+        Registry result = registry;
+        if (result == null) {
+            synchronized (Generators.class) {
+                result = registry;
+                if (result == null) {
+                    result = new Registry(Defaults.GENERATORS);
+                    registry = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -646,6 +908,194 @@ public final class Generators {
         return result;
     }
 
+    /**
+     * Holder of the default generators, declared through SPI and sorted
+     * by priority. Loaded once on first access.
+     * <p>
+     * In native images the generators are created in the order sorted at
+     * image build time, stored in {@link ProviderSnapshots}.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.3
+     */
+    @API(status=Status.INTERNAL, since="0.3")
+    static final class Defaults {
+
+        /** The default generators, sorted by priority. */
+        static final List<Generator> GENERATORS;
+        static {
+            List<Generator> generators = ProviderSnapshots.newProviders(Generator.class);
+            if (generators == null) {
+                generators = loadSpiGenerators();
+                Collections.sort(generators, COMPARATOR);
+            }
+            GENERATORS = Collections.unmodifiableList(generators);
+        }
+
+        /**
+         * Private constructor.
+         */
+        private Defaults() {
+            // Holder class
+        }
+    }
+
+    /**
+     * Immutable snapshot of the registered generators. Resolves and caches
+     * the generator to use for each value type.
+     * <p>
+     * Typed generators declaring their exact supported value types are
+     * indexed by value type. Resolution looks up the value type in the index
+     * and only evaluates {@code supports(Class)} for generators without
+     * declared types with higher priority than the indexed generator.
+     * <p>
+     * Instances are never modified once published. Registered generators
+     * modifications create a new instance, discarding the cached
+     * resolutions.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.3
+     */
+    @API(status=Status.INTERNAL, since="0.3")
+    static final class Registry {
+
+        /** The registered generators, sorted by priority. */
+        private final @NotNull List<Generator> generators;
+        /** The position of the first generator declaring each value type. */
+        private final @NotNull Map<Class<?>, Integer> index;
+        /** The generators without declared value types, sorted by priority. */
+        private final @NotNull Generator[] scanned;
+        /** The positions of the generators without declared value types. */
+        private final @NotNull int[] scannedPositions;
+        /** The by class generator cache. */
+        private final @NotNull ClassValue<Generator> cache =
+                new ClassValue<Generator>() {
+            @Override
+            protected Generator computeValue(
+                    final Class<?> type) {
+                return Registry.this.findGenerator(type);
+            }
+        };
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param generators The registered generators
+         */
+        Registry(
+                final @NotNull Collection<Generator> generators) {
+            super();
+            final List<Generator> sorted = new ArrayList<>(generators);
+            Collections.sort(sorted, COMPARATOR);
+            this.generators = Collections.unmodifiableList(sorted);
+            this.index = new HashMap<>();
+            final List<Generator> scannedList = new ArrayList<>();
+            final List<Integer> positions = new ArrayList<>();
+            for (int i = 0; i < sorted.size(); i++) {
+                final Generator generator = sorted.get(i);
+                final Set<Class<?>> types = getExactTypes(generator);
+                if (types.isEmpty()) {
+                    scannedList.add(generator);
+                    positions.add(i);
+                } else {
+                    for (final Class<?> type : types) {
+                        this.index.putIfAbsent(type, i);
+                    }
+                }
+            }
+            this.scanned = scannedList.toArray(new Generator[0]);
+            this.scannedPositions = new int[positions.size()];
+            for (int i = 0; i < this.scannedPositions.length; i++) {
+                this.scannedPositions[i] = positions.get(i);
+            }
+        }
+
+        /**
+         * Returns the registered generators, sorted by priority.
+         * 
+         * @return The registered generators
+         */
+        @NotNull List<Generator> getGenerators() {
+            return this.generators;
+        }
+
+        /**
+         * Returns the generator to use for the specified value type.
+         * 
+         * @param type The value type to generate
+         * @return The generator to use. Returns
+         * {@code MissingGenerator.INSTANCE} if no one is suitable.
+         */
+        @NotNull Generator getGenerator(
+                final @NotNull Class<?> type) {
+            return this.cache.get(type);
+        }
+
+        /**
+         * Finds the generator to use for the specified value type.
+         * 
+         * @param type The value type to generate
+         * @return The generator to use. Returns
+         * {@code MissingGenerator.INSTANCE} if no one is suitable.
+         */
+        @NotNull Generator findGenerator(
+                final @NotNull Class<?> type) {
+            final Integer indexed = this.index.get(type);
+            final int limit = indexed == null ? this.generators.size() : indexed;
+            for (int i = 0; i < this.scanned.length && this.scannedPositions[i] < limit; i++) {
+                if (this.scanned[i].supports(type)) {
+                    return this.scanned[i];
+                }
+            }
+            return indexed == null ?
+                    MissingGenerator.INSTANCE :
+                    this.generators.get(indexed);
+        }
+
+        /**
+         * Returns the exact value types supported by the specified generator.
+         * Only {@code TypedGenerator} instances can declare exact value types.
+         * <p>
+         * Declared types are ignored if {@code supports(Class)} is
+         * overridden in a subclass of the class declaring
+         * {@code getSupportedTypes()}, as the overriding class could
+         * support additional types.
+         * 
+         * @param generator The generator
+         * @return The exact supported value types, or an empty set if
+         * supported types must be evaluated through {@code supports(Class)}
+         * @see TypedGenerator#getSupportedTypes()
+         */
+        static @NotNull Set<Class<?>> getExactTypes(
+                final @NotNull Generator generator) {
+            if (!(generator instanceof TypedGenerator)) {
+                return Collections.emptySet();
+            }
+            final Set<Class<?>> types =
+                    ((TypedGenerator<?>) generator).getSupportedTypes();
+            if (types == null || types.isEmpty()) {
+                return Collections.emptySet();
+            }
+            final Class<?> generatorType = generator.getClass();
+            try {
+                final Class<?> typesDeclarer = generatorType
+                        .getMethod("getSupportedTypes")
+                        .getDeclaringClass();
+                final Class<?> supportsDeclarer = generatorType
+                        .getMethod("supports", Class.class)
+                        .getDeclaringClass();
+                if (!supportsDeclarer.isAssignableFrom(typesDeclarer)) {
+                    return Collections.emptySet();
+                }
+            } catch (final NoSuchMethodException e) {
+                return Collections.emptySet();
+            }
+            return types;
+        }
+    }
+
     /**
      * Cache value for missing generators for a value type.
      * 
@@ -713,5 +1163,24 @@ public final class Generators {
                 final @NotNull Class<T> type) {
             throw new GeneratorNotFoundException(ERR_MSG);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T> @NotNull List<T> randomValues(
+                final @NotNull Class<T> type,
+                final @Min(0) int count) {
+            throw new GeneratorNotFoundException(ERR_MSG);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T> @NotNull Stream<T> stream(
+                final @NotNull Class<T> type) {
+            throw new GeneratorNotFoundException(ERR_MSG);
+        }
     }
 }
@@ -0,0 +1,170 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Random;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Random source positioned at the start of a stream of a
+ * {@code GenerationSession}.
+ * <p>
+ * The values of a stream are the SplitMix64 sequence of the stream seed,
+ * each value derived directly from the stream seed and the value index.
+ * Positioning the source at another stream only resets the stream seed
+ * and the value index, without allocating new generators.
+ * Instances are not thread safe and must be confined to a single thread.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @since 0.3
+ * @see SplitMix64
+ */
+@API(status=Status.INTERNAL, since="0.3")
+final class IndexedRandomSource
+implements RandomSource {
+
+    /** The generation session. */
+    private final @NotNull GenerationSession session;
+    /** The seed of the current stream. */
+    private long streamSeed;
+    /** The index of the next value of the current stream. */
+    private long index;
+    /** The {@code java.util.Random} view of this instance, created lazily. */
+    private Random random;
+
+    /**
+     * Creates a new instance positioned at the start of the default
+     * stream of the specified session.
+     * 
+     * @param session The generation session
+     */
+    IndexedRandomSource(
+            final @NotNull GenerationSession session) {
+        this(session, GenerationSession.DEFAULT_STREAM);
+    }
+
+    /**
+     * Creates a new instance positioned at the start of the specified
+     * stream of the specified session.
+     * 
+     * @param session The generation session
+     * @param stream The stream identifier
+     */
+    IndexedRandomSource(
+            final @NotNull GenerationSession session,
+            final long stream) {
+        super();
+        this.session = Validate.notNull(session);
+        position(stream);
+    }
+
+    /**
+     * Positions this source at the start of the specified stream.
+     * 
+     * @param stream The stream identifier
+     */
+    void position(
+            final long stream) {
+        this.streamSeed = this.session.getStreamSeed(stream);
+        this.index = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong() {
+        return SplitMix64.valueAt(this.streamSeed, this.index++);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> Integer.SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(
+            final int bound) {
+        Validate.isTrue(bound > 0, "Bound must be positive");
+        final int mask = bound - 1;
+        int result = nextInt();
+        if ((bound & mask) == 0) {
+            return result & mask;
+        }
+        int u = result >>> 1;
+        while (u + mask - (result = u % bound) < 0) {
+            u = nextInt() >>> 1;
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong(
+            final long bound) {
+        Validate.isTrue(bound > 0, "Bound must be positive");
+        final long mask = bound - 1;
+        long result = nextLong();
+        if ((bound & mask) == 0L) {
+            return result & mask;
+        }
+        long u = result >>> 1;
+        while (u + mask - (result = u % bound) < 0L) {
+            u = nextLong() >>> 1;
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Random asRandom() {
+        if (this.random == null) {
+            this.random = new RandomSourceAdapter(this);
+        }
+        return this.random;
+    }
+}
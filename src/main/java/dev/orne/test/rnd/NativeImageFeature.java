@@ -0,0 +1,104 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.graalvm.nativeimage.hosted.Feature;
+import org.graalvm.nativeimage.hosted.RuntimeReflection;
+
+import dev.orne.test.rnd.params.ParametersExtractors;
+import dev.orne.test.rnd.params.ParametersSourceExtractor;
+
+/**
+ * GraalVM native image feature that sorts the SPI generators and generation
+ * parameters source extractors at image build time.
+ * <p>
+ * Before analysis the providers declared in the application class path,
+ * including the ones of other libraries and the ones generated by
+ * annotation processors, are loaded and sorted by priority. The sorted
+ * provider types are stored in {@link ProviderSnapshots} and registered
+ * for reflective instantiation, so native executables create the default
+ * generators and extractors without {@code ServiceLoader} discovery or
+ * sorting.
+ * <p>
+ * Enabled through the {@code native-image.properties} shipped with the
+ * library. Only used by the image builder.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see ProviderSnapshots
+ */
+@API(status=Status.INTERNAL, since="0.3")
+public class NativeImageFeature
+implements Feature {
+
+    /**
+     * Creates a new instance.
+     */
+    public NativeImageFeature() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beforeAnalysis(
+            final BeforeAnalysisAccess access) {
+        final ClassLoader loader = access.getApplicationClassLoader();
+        register(ProviderSnapshots.take(
+                Generator.class,
+                Generators.COMPARATOR,
+                loader));
+        register(ProviderSnapshots.take(
+                ParametersSourceExtractor.class,
+                ParametersExtractors.COMPARATOR,
+                loader));
+    }
+
+    /**
+     * Registers the public no arguments constructors of the specified
+     * provider types for reflective invocation.
+     * 
+     * @param types The provider types
+     */
+    private static void register(
+            final List<Class<?>> types) {
+        for (final Class<?> type : types) {
+            try {
+                final Constructor<?> constructor = type.getConstructor();
+                RuntimeReflection.register(type);
+                RuntimeReflection.register(constructor);
+            } catch (final NoSuchMethodException e) {
+                throw new IllegalStateException(
+                        "SPI provider without public no arguments constructor: " + type.getName(),
+                        e);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.stream.DoubleStream;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Generator of random primitive {@code double} values.
+ * <p>
+ * Allows generation of {@code double} values, arrays and streams without
+ * boxing the generated values.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see Generators#doubleGenerator()
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+@FunctionalInterface
+public interface PrimitiveDoubleGenerator {
+
+    /**
+     * Returns a random {@code double} value.
+     * 
+     * @return A random {@code double} value
+     */
+    double nextDouble();
+
+    /**
+     * Fills the specified array with random {@code double} values.
+     * 
+     * @param array The array to fill
+     */
+    default void fill(
+            final @NotNull double[] array) {
+        Validate.notNull(array);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = nextDouble();
+        }
+    }
+
+    /**
+     * Returns a sequential stream of the specified number of random
+     * {@code double} values.
+     * 
+     * @param size The number of values to generate
+     * @return The stream of random {@code double} values
+     * @throws IllegalArgumentException If the size is negative
+     */
+    default @NotNull DoubleStream doubles(
+            final @Min(0) long size) {
+        Validate.isTrue(size >= 0, "The number of values must be non negative");
+        return DoubleStream.generate(this::nextDouble).limit(size);
+    }
+}
@@ -22,6 +22,8 @@ package dev.orne.test.rnd;
  * #L%
  */
 
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.ElementType.TYPE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
@@ -34,14 +36,18 @@ import org.apiguardian.api.API.Status;
 
 /**
  * Annotation for generators priority.
+ * <p>
+ * Constructors and factory methods annotated with {@code GeneratorMethod}
+ * can be annotated to set the priority of the generators created for them
+ * by {@code GeneratorMethodProcessor}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @Documented
 @Retention(RUNTIME)
-@Target({ TYPE })
+@Target({ TYPE, METHOD, CONSTRUCTOR })
 @API(status=Status.STABLE, since="0.1")
 public @interface Priority {
 
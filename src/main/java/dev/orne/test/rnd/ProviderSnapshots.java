@@ -0,0 +1,145 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Snapshots of the SPI provider types of the library services, sorted by
+ * priority at native image build time.
+ * <p>
+ * Snapshots are taken by {@link NativeImageFeature} while building a native
+ * image and stored in the image heap. Native executables create the
+ * providers in the snapshot order, without scanning the class path or
+ * sorting the providers. Providers are created at run time, so their
+ * classes are initialized at run time.
+ * <p>
+ * No snapshots exist in the JVM, where providers are loaded through
+ * {@code ServiceLoader}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see NativeImageFeature
+ */
+@API(status=Status.INTERNAL, since="0.3")
+public final class ProviderSnapshots {
+
+    /** The sorted provider types of each service. */
+    private static final ConcurrentMap<Class<?>, List<Class<?>>> SNAPSHOTS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor.
+     */
+    private ProviderSnapshots() {
+        // Utility class
+    }
+
+    /**
+     * Loads the providers of the specified service declared through SPI in
+     * the specified class loader, sorts them with the specified comparator
+     * and stores their types as the snapshot of the service.
+     * 
+     * @param <S> The service type
+     * @param service The service type
+     * @param comparator The providers comparator
+     * @param loader The class loader to load the providers from
+     * @return The sorted provider types
+     */
+    public static <S> @NotNull List<Class<?>> take(
+            final @NotNull Class<S> service,
+            final @NotNull Comparator<? super S> comparator,
+            final @NotNull ClassLoader loader) {
+        Validate.notNull(service);
+        Validate.notNull(comparator);
+        Validate.notNull(loader);
+        final List<S> providers = new ArrayList<>();
+        final Iterator<S> it = ServiceLoader.load(service, loader).iterator();
+        while (it.hasNext()) {
+            providers.add(it.next());
+        }
+        Collections.sort(providers, comparator);
+        final List<Class<?>> types = new ArrayList<>(providers.size());
+        for (final S provider : providers) {
+            types.add(provider.getClass());
+        }
+        final List<Class<?>> result = Collections.unmodifiableList(types);
+        SNAPSHOTS.put(service, result);
+        return result;
+    }
+
+    /**
+     * Returns new instances of the providers of the specified service, in
+     * the order of its snapshot.
+     * 
+     * @param <S> The service type
+     * @param service The service type
+     * @return The new providers, sorted by priority, or {@code null} if no
+     * snapshot of the service exists
+     * @throws ServiceConfigurationError If a provider cannot be created
+     */
+    public static <S> List<S> newProviders(
+            final @NotNull Class<S> service) {
+        final List<Class<?>> types = SNAPSHOTS.get(service);
+        if (types == null) {
+            return null;
+        }
+        final List<S> result = new ArrayList<>(types.size());
+        for (final Class<?> type : types) {
+            try {
+                result.add(service.cast(type.getConstructor().newInstance()));
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                throw new ServiceConfigurationError(String.format(
+                        "%s: Provider %s could not be instantiated",
+                        service.getName(),
+                        type.getName()), e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the snapshot of the specified service.
+     * 
+     * @param service The service type
+     */
+    static void remove(
+            final @NotNull Class<?> service) {
+        SNAPSHOTS.remove(service);
+    }
+}
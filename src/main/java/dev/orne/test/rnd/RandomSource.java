@@ -0,0 +1,212 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Random;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Source of random values used by the generators.
+ * <p>
+ * Generators must obtain the random source to use through
+ * {@link RandomSources#current()} instead of using shared
+ * {@code java.util.Random} instances. This allows selecting the source
+ * of randomness globally (see {@link RandomSources#setDefault(RandomSource)})
+ * or for a concrete call (see
+ * {@link RandomSources#withSource(RandomSource, java.util.function.Supplier)}).
+ * <p>
+ * Implementations that can be used as the default source must be
+ * thread safe. Sources selected for a concrete call are only used by the
+ * thread executing the call, so they can be thread confined, as the
+ * sources created by {@link GenerationSession#createSource(long)}.
+ * Thread confined sources must not be set as the default source nor
+ * shared between threads.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see RandomSources
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public interface RandomSource {
+
+    /**
+     * Returns a random {@code int} value between {@code Integer.MIN_VALUE}
+     * and {@code Integer.MAX_VALUE} both included.
+     * 
+     * @return A random {@code int} value
+     */
+    int nextInt();
+
+    /**
+     * Returns a random {@code int} value between zero (included) and the
+     * specified bound (excluded).
+     * 
+     * @param bound The upper bound (excluded). Must be positive.
+     * @return A random {@code int} value
+     * @throws IllegalArgumentException If the bound is not positive
+     */
+    int nextInt(
+            int bound);
+
+    /**
+     * Returns a random {@code int} value between the specified origin
+     * (included) and the specified bound (excluded). If both values are
+     * equal returns the origin.
+     * 
+     * @param origin The lower bound (included)
+     * @param bound The upper bound (excluded). Must be greater or equal to
+     * origin.
+     * @return A random {@code int} value
+     * @throws IllegalArgumentException If the bound is lower than origin
+     */
+    default int nextInt(
+            final int origin,
+            final int bound) {
+        Validate.isTrue(origin <= bound, "Bound must be greater or equal than origin");
+        if (origin == bound) {
+            return origin;
+        }
+        final int range = bound - origin;
+        if (range > 0) {
+            return origin + nextInt(range);
+        } else {
+            int result;
+            do {
+                result = nextInt();
+            } while (result < origin || result >= bound);
+            return result;
+        }
+    }
+
+    /**
+     * Returns a random {@code long} value between {@code Long.MIN_VALUE}
+     * and {@code Long.MAX_VALUE} both included.
+     * 
+     * @return A random {@code long} value
+     */
+    long nextLong();
+
+    /**
+     * Returns a random {@code long} value between zero (included) and the
+     * specified bound (excluded).
+     * 
+     * @param bound The upper bound (excluded). Must be positive.
+     * @return A random {@code long} value
+     * @throws IllegalArgumentException If the bound is not positive
+     */
+    long nextLong(
+            long bound);
+
+    /**
+     * Returns a random {@code long} value between the specified origin
+     * (included) and the specified bound (excluded). If both values are
+     * equal returns the origin.
+     * 
+     * @param origin The lower bound (included)
+     * @param bound The upper bound (excluded). Must be greater or equal to
+     * origin.
+     * @return A random {@code long} value
+     * @throws IllegalArgumentException If the bound is lower than origin
+     */
+    default long nextLong(
+            final long origin,
+            final long bound) {
+        Validate.isTrue(origin <= bound, "Bound must be greater or equal than origin");
+        if (origin == bound) {
+            return origin;
+        }
+        final long range = bound - origin;
+        if (range > 0) {
+            return origin + nextLong(range);
+        } else {
+            long result;
+            do {
+                result = nextLong();
+            } while (result < origin || result >= bound);
+            return result;
+        }
+    }
+
+    /**
+     * Returns a random {@code double} value between zero (included) and one
+     * (excluded).
+     * 
+     * @return A random {@code double} value
+     */
+    double nextDouble();
+
+    /**
+     * Returns a random {@code float} value between zero (included) and one
+     * (excluded).
+     * 
+     * @return A random {@code float} value
+     */
+    default float nextFloat() {
+        return (nextInt() >>> 8) * 0x1.0p-24f;
+    }
+
+    /**
+     * Returns a random {@code boolean} value.
+     * 
+     * @return A random {@code boolean} value
+     */
+    default boolean nextBoolean() {
+        return nextInt() < 0;
+    }
+
+    /**
+     * Fills the specified array with random bytes.
+     * 
+     * @param bytes The array to fill
+     */
+    default void nextBytes(
+            final @NotNull byte[] bytes) {
+        Validate.notNull(bytes);
+        int i = 0;
+        final int len = bytes.length;
+        while (i < len) {
+            long rnd = nextLong();
+            for (int n = Math.min(len - i, Long.BYTES); n-- > 0; rnd >>>= Byte.SIZE) {
+                bytes[i++] = (byte) rnd;
+            }
+        }
+    }
+
+    /**
+     * Returns a view of this random source as a {@code java.util.Random}
+     * instance, for integration with third party random utilities.
+     * <p>
+     * Seeding the returned instance has no effect.
+     * 
+     * @return A {@code Random} backed by this random source
+     */
+    default @NotNull Random asRandom() {
+        return new RandomSourceAdapter(this);
+    }
+}
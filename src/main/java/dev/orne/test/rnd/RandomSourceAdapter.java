@@ -0,0 +1,150 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Random;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Adapter of {@code RandomSource} to {@code java.util.Random}.
+ * All the random values are obtained from the adapted source.
+ * Seeding has no effect.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see RandomSource#asRandom()
+ */
+@API(status=Status.INTERNAL, since="0.3")
+class RandomSourceAdapter
+extends Random {
+
+    /** The Serial Version UID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The adapted random source. */
+    private final transient @NotNull RandomSource source;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param source The adapted random source
+     */
+    RandomSourceAdapter(
+            final @NotNull RandomSource source) {
+        super(0L);
+        this.source = Validate.notNull(source);
+    }
+
+    /**
+     * Returns the adapted random source.
+     * 
+     * @return The adapted random source
+     */
+    @NotNull RandomSource getSource() {
+        return this.source;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Seeding has no effect on the adapted random source.
+     */
+    @Override
+    public synchronized void setSeed(
+            final long seed) {
+        // Seeding not supported
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int next(
+            final int bits) {
+        return this.source.nextInt() >>> (Integer.SIZE - bits);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt() {
+        return this.source.nextInt();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(
+            final int bound) {
+        return this.source.nextInt(bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong() {
+        return this.source.nextLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double nextDouble() {
+        return this.source.nextDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float nextFloat() {
+        return this.source.nextFloat();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean nextBoolean() {
+        return this.source.nextBoolean();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void nextBytes(
+            final @NotNull byte[] bytes) {
+        this.source.nextBytes(bytes);
+    }
+}
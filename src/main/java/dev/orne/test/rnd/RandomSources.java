@@ -0,0 +1,241 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Registry of the random sources used by the generators.
+ * <p>
+ * The default random source is used by all threads unless a random source
+ * has been selected for the current thread with
+ * {@link #withSource(RandomSource, Supplier)} or
+ * {@link #withSource(RandomSource, Runnable)}.
+ * <p>
+ * The default random source is the first random source declared in
+ * {@code /META-INF/services/dev.orne.test.rnd.RandomSource}
+ * SPI files in the class path, or {@link ThreadLocalRandomSource} if
+ * no random source is declared. It can be changed with
+ * {@link #setDefault(RandomSource)} and restored with {@link #reset()}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see RandomSource
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public final class RandomSources {
+
+    /** The random sources selected for each thread. */
+    private static final ThreadLocal<RandomSource> SELECTED =
+            new ThreadLocal<>();
+    /** The default random source. */
+    private static volatile RandomSource defaultSource;
+
+    /**
+     * Private constructor.
+     */
+    private RandomSources() {
+        // Utility class
+    }
+
+    /**
+     * Returns the random source to use in the current thread.
+     * 
+     * @return The random source to use in the current thread
+     */
+    public static @NotNull RandomSource current() {
+        final RandomSource selected = SELECTED.get();
+        if (selected == null) {
+            return getDefault();
+        }
+        return selected;
+    }
+
+    /**
+     * Returns the default random source.
+     * 
+     * @return The default random source
+     */
+    public static @NotNull RandomSource getDefault() {
+        RandomSource result = defaultSource;
+        if (result == null) {
+            synchronized (RandomSources.class) {
+                result = defaultSource;
+                if (result == null) {
+                    result = loadSpiSource();
+                    defaultSource = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sets the default random source. The random source must be thread
+     * safe.
+     * 
+     * @param source The new default random source
+     */
+    public static void setDefault(
+            final @NotNull RandomSource source) {
+        Validate.notNull(source);
+        synchronized (RandomSources.class) {
+            defaultSource = source;
+        }
+    }
+
+    /**
+     * Resets the default random source. Next call will reload the
+     * default random source (including SPI declared random sources).
+     */
+    public static void reset() {
+        synchronized (RandomSources.class) {
+            defaultSource = null;
+        }
+    }
+
+    /**
+     * Executes the specified task using the specified random source in
+     * the current thread. The previously selected random source is
+     * restored after the execution.
+     * <p>
+     * The random source is only used by the current thread, so it can be
+     * thread confined.
+     * 
+     * @param <T> The type of the task result
+     * @param source The random source to use
+     * @param task The task to execute
+     * @return The result of the task
+     */
+    public static <T> T withSource(
+            final @NotNull RandomSource source,
+            final @NotNull Supplier<T> task) {
+        Validate.notNull(source);
+        Validate.notNull(task);
+        final RandomSource previous = SELECTED.get();
+        SELECTED.set(source);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                SELECTED.remove();
+            } else {
+                SELECTED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Executes the specified task using the specified random source in
+     * the current thread. The previously selected random source is
+     * restored after the execution.
+     * <p>
+     * The random source is only used by the current thread, so it can be
+     * thread confined.
+     * 
+     * @param source The random source to use
+     * @param task The task to execute
+     */
+    public static void withSource(
+            final @NotNull RandomSource source,
+            final @NotNull Runnable task) {
+        Validate.notNull(task);
+        withSource(source, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the random source backed by {@code ThreadLocalRandom}.
+     * 
+     * @return The {@code ThreadLocalRandom} random source
+     * @see ThreadLocalRandomSource
+     */
+    public static @NotNull RandomSource threadLocal() {
+        return ThreadLocalRandomSource.INSTANCE;
+    }
+
+    /**
+     * Creates a new unseeded random source backed by
+     * {@code SplittableRandom}.
+     * 
+     * @return The new random source
+     * @see SplittableRandomSource
+     */
+    public static @NotNull RandomSource splittable() {
+        return new SplittableRandomSource();
+    }
+
+    /**
+     * Creates a new seeded random source backed by
+     * {@code SplittableRandom}.
+     * 
+     * @param seed The random source seed
+     * @return The new random source
+     * @see SplittableRandomSource
+     */
+    public static @NotNull RandomSource splittable(
+            final long seed) {
+        return new SplittableRandomSource(seed);
+    }
+
+    /**
+     * Creates a new seeded random source backed by {@code java.util.Random}.
+     * 
+     * @param seed The random source seed
+     * @return The new random source
+     * @see SeededRandomSource
+     */
+    public static @NotNull RandomSource seeded(
+            final long seed) {
+        return new SeededRandomSource(seed);
+    }
+
+    /**
+     * Loads the first random source declared through SPI for interface
+     * {@code dev.orne.test.rnd.RandomSource}. If no random source is
+     * declared returns {@link ThreadLocalRandomSource#INSTANCE}.
+     * 
+     * @return The SPI declared random source
+     * @see ServiceLoader
+     */
+    static @NotNull RandomSource loadSpiSource() {
+        final ServiceLoader<RandomSource> loader =
+                ServiceLoader.load(RandomSource.class);
+        final Iterator<RandomSource> it = loader.iterator();
+        if (it.hasNext()) {
+            return it.next();
+        }
+        return ThreadLocalRandomSource.INSTANCE;
+    }
+}
@@ -0,0 +1,165 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Random;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Random source backed by a seeded {@code java.util.Random} instance.
+ * <p>
+ * The generated values are reproducible for single threaded generation.
+ * The random generator is shared between threads, so this source is
+ * thread safe but not suitable for high concurrency scenarios.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see Random
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public class SeededRandomSource
+implements RandomSource {
+
+    /** The seed. */
+    private final long seed;
+    /** The random generator. */
+    private final @NotNull Random random;
+    /** The {@code java.util.Random} view of this instance. */
+    private final @NotNull Random view;
+
+    /**
+     * Creates a new instance with the specified seed.
+     * 
+     * @param seed The seed of the random generator
+     */
+    public SeededRandomSource(
+            final long seed) {
+        super();
+        this.seed = seed;
+        this.random = new Random(seed);
+        this.view = new RandomSourceAdapter(this);
+    }
+
+    /**
+     * Returns the seed of the random generator.
+     * 
+     * @return The seed of the random generator
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt() {
+        return this.random.nextInt();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(
+            final int bound) {
+        return this.random.nextInt(bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong() {
+        return this.random.nextLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong(
+            final long bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive");
+        }
+        final long mask = bound - 1;
+        long result = this.random.nextLong();
+        if ((bound & mask) == 0L) {
+            result &= mask;
+        } else {
+            for (long u = result >>> 1;
+                    u + mask - (result = u % bound) < 0L;
+                    u = this.random.nextLong() >>> 1) {
+                // Reject overflowing values
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double nextDouble() {
+        return this.random.nextDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float nextFloat() {
+        return this.random.nextFloat();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean nextBoolean() {
+        return this.random.nextBoolean();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void nextBytes(
+            final @NotNull byte[] bytes) {
+        this.random.nextBytes(bytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Random asRandom() {
+        return this.view;
+    }
+}
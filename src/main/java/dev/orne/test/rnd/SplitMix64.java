@@ -0,0 +1,76 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Utility class with the SplitMix64 mixing functions used to derive
+ * independent seeds from a root seed.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ */
+@API(status=Status.INTERNAL, since="0.3")
+final class SplitMix64 {
+
+    /** The SplitMix64 increment (odd approximation of golden ratio). */
+    static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Private constructor.
+     */
+    private SplitMix64() {
+        // Utility class
+    }
+
+    /**
+     * Returns the SplitMix64 64 bits finalizer of the specified value.
+     * 
+     * @param value The value to mix
+     * @return The mixed value
+     */
+    static long mix64(
+            final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the value at the specified position of the SplitMix64
+     * sequence for the specified seed.
+     * 
+     * @param seed The sequence seed
+     * @param index The position in the sequence
+     * @return The value at the specified position
+     */
+    static long valueAt(
+            final long seed,
+            final long index) {
+        return mix64(seed + GOLDEN_GAMMA * (index + 1));
+    }
+}
@@ -0,0 +1,216 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Random source backed by {@code SplittableRandom}.
+ * <p>
+ * Each thread uses its own {@code SplittableRandom} instance, split from
+ * a root instance the first time the thread uses this source. No
+ * contention exists between threads once the thread's stream has been
+ * created.
+ * <p>
+ * When created with a seed the values generated by the first thread
+ * using this source are reproducible. For reproducible multi-threaded
+ * generation use {@link GenerationSession}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see SplittableRandom
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public class SplittableRandomSource
+implements RandomSource {
+
+    /** The root random generator. Guarded by itself. */
+    private final @NotNull SplittableRandom root;
+    /** The per thread random generators. */
+    private final @NotNull ThreadLocal<SplittableRandom> streams;
+    /** The {@code java.util.Random} view of this instance. */
+    private final @NotNull Random random;
+
+    /**
+     * Creates a new unseeded instance.
+     */
+    public SplittableRandomSource() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a new instance with the specified seed.
+     * 
+     * @param seed The seed of the root random generator
+     */
+    public SplittableRandomSource(
+            final long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates a new instance with the specified root random generator.
+     * 
+     * @param root The root random generator
+     */
+    protected SplittableRandomSource(
+            final @NotNull SplittableRandom root) {
+        super();
+        this.root = Validate.notNull(root);
+        this.streams = ThreadLocal.withInitial(this::split);
+        this.random = new RandomSourceAdapter(this);
+    }
+
+    /**
+     * Returns a new random generator split from the root random
+     * generator.
+     * 
+     * @return A new independent random generator
+     */
+    protected @NotNull SplittableRandom split() {
+        synchronized (this.root) {
+            return this.root.split();
+        }
+    }
+
+    /**
+     * Returns the random generator of the current thread.
+     * 
+     * @return The random generator of the current thread
+     */
+    protected @NotNull SplittableRandom current() {
+        return this.streams.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt() {
+        return current().nextInt();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(
+            final int bound) {
+        return current().nextInt(bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(
+            final int origin,
+            final int bound) {
+        Validate.isTrue(origin <= bound, "Bound must be greater or equal than origin");
+        if (origin == bound) {
+            return origin;
+        }
+        return current().nextInt(origin, bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong() {
+        return current().nextLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong(
+            final long bound) {
+        return current().nextLong(bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong(
+            final long origin,
+            final long bound) {
+        Validate.isTrue(origin <= bound, "Bound must be greater or equal than origin");
+        if (origin == bound) {
+            return origin;
+        }
+        return current().nextLong(origin, bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double nextDouble() {
+        return current().nextDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean nextBoolean() {
+        return current().nextBoolean();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void nextBytes(
+            final @NotNull byte[] bytes) {
+        Validate.notNull(bytes);
+        final SplittableRandom rnd = current();
+        int i = 0;
+        final int len = bytes.length;
+        while (i < len) {
+            long value = rnd.nextLong();
+            for (int n = Math.min(len - i, Long.BYTES); n-- > 0; value >>>= Byte.SIZE) {
+                bytes[i++] = (byte) value;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Random asRandom() {
+        return this.random;
+    }
+}
@@ -0,0 +1,174 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Random source backed by {@code ThreadLocalRandom}.
+ * <p>
+ * Each thread uses its own random generator, so no contention exists
+ * between threads. The generated values are not reproducible.
+ * This is the default random source.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see ThreadLocalRandom
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public final class ThreadLocalRandomSource
+implements RandomSource {
+
+    /** The shared instance. */
+    public static final ThreadLocalRandomSource INSTANCE =
+            new ThreadLocalRandomSource();
+
+    /**
+     * Private constructor.
+     */
+    private ThreadLocalRandomSource() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt() {
+        return ThreadLocalRandom.current().nextInt();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(
+            final int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(
+            final int origin,
+            final int bound) {
+        Validate.isTrue(origin <= bound, "Bound must be greater or equal than origin");
+        if (origin == bound) {
+            return origin;
+        }
+        return ThreadLocalRandom.current().nextInt(origin, bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong(
+            final long bound) {
+        return ThreadLocalRandom.current().nextLong(bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong(
+            final long origin,
+            final long bound) {
+        Validate.isTrue(origin <= bound, "Bound must be greater or equal than origin");
+        if (origin == bound) {
+            return origin;
+        }
+        return ThreadLocalRandom.current().nextLong(origin, bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double nextDouble() {
+        return ThreadLocalRandom.current().nextDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float nextFloat() {
+        return ThreadLocalRandom.current().nextFloat();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean nextBoolean() {
+        return ThreadLocalRandom.current().nextBoolean();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void nextBytes(
+            final @NotNull byte[] bytes) {
+        ThreadLocalRandom.current().nextBytes(bytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns the {@code ThreadLocalRandom} of the current thread.
+     * The returned instance must not be shared between threads.
+     */
+    @Override
+    public @NotNull Random asRandom() {
+        return ThreadLocalRandom.current();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ThreadLocalRandomSource";
+    }
+}
@@ -22,8 +22,16 @@ package dev.orne.test.rnd;
  * #L%
  */
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -32,7 +40,7 @@ import org.apiguardian.api.API.Status;
  * only provide one type of values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2021-03
+ * @version 1.1, 2026-10
  * @param <T> The type of generated values
  * @since 0.1
  */
@@ -75,4 +83,81 @@ extends Generator {
      * @see #randomValue()
      */
     T nullableRandomValue();
+
+    /**
+     * Returns a list of random values of the supported type.
+     * 
+     * @param count The number of values to generate.
+     * @return A list of random values.
+     * @see #randomValue()
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default @NotNull List<T> randomValues(
+            final @Min(0) int count) {
+        Validate.isTrue(count >= 0, "The number of values must be non negative");
+        final List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(randomValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns an infinite sequential stream of random values of the
+     * supported type.
+     * 
+     * @return An infinite stream of random values.
+     * @see #randomValue()
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default @NotNull Stream<T> stream() {
+        return Stream.generate(this::randomValue);
+    }
+
+    /**
+     * Returns the random value at the specified position of the sequence
+     * of random values for the specified seed.
+     * <p>
+     * The value is generated directly, without generating the previous
+     * values of the sequence.
+     * 
+     * @param seed The sequence seed.
+     * @param index The position of the value in the sequence.
+     * @return The random value at the specified position.
+     * @see #randomValue()
+     * @see Generator#randomValue(Class, long, long)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default @NotNull T randomValue(
+            final long seed,
+            final @Min(0) long index) {
+        Validate.isTrue(index >= 0, "The value index must be non negative");
+        return new GenerationSession(seed).call(index, this::randomValue);
+    }
+
+    /**
+     * Returns the exact value types supported by this generator.
+     * <p>
+     * Generators that support a fixed set of value types can declare them
+     * to be resolved through a direct by type lookup. The returned types
+     * must be exactly the types for which {@link #supports(Class)} returns
+     * {@code true}.
+     * <p>
+     * Generators that support value types based on other conditions
+     * return an empty set and are resolved evaluating
+     * {@link #supports(Class)} in priority order.
+     * Declared types are ignored if {@code supports(Class)} is overridden
+     * in a subclass of the class declaring this method.
+     * 
+     * @return The exact supported value types, or an empty set if
+     * supported types cannot be enumerated
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default @NotNull Set<Class<?>> getSupportedTypes() {
+        return Collections.emptySet();
+    }
 }
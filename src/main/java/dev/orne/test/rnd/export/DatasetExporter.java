@@ -0,0 +1,463 @@
+package dev.orne.test.rnd.export;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.groups.Default;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.test.rnd.GenerationSession;
+import dev.orne.test.rnd.RandomSources;
+import dev.orne.test.rnd.params.ExecutableGenerator;
+import dev.orne.test.rnd.params.PropertyTypeGenerator;
+import dev.orne.test.rnd.params.TargetedGenerator;
+
+/**
+ * Streaming exporter of generated datasets to byte channels.
+ * <p>
+ * Each record is a row of random values generated by a targeted generator
+ * per column, such as the properties of a bean class or the parameters of
+ * a constructor or factory method. Records are encoded directly into
+ * reusable byte buffers in the configured {@code ExportFormat}, without
+ * creating the bean instances, and written to the channel in chunks, so
+ * the memory used does not depend on the number of exported records.
+ * <p>
+ * The record at each position is generated in a {@code GenerationSession}
+ * with the stream of that position, so the exported bytes only depend on
+ * the seed, not on the chunk size or the parallelism. When the
+ * parallelism is greater than one the chunks are generated concurrently
+ * in a bounded window and written in order.
+ * <pre>
+ * try (FileChannel channel = FileChannel.open(path, CREATE, WRITE)) {
+ *     DatasetExporter.forType(MyBean.class)
+ *         .withFormat(ExportFormat.JSON_LINES)
+ *         .withParallelism(4)
+ *         .export(channel, 1_000_000, seed);
+ * }
+ * </pre>
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @since 0.3
+ * @see ExportFormat
+ * @see GenerationSession
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public class DatasetExporter {
+
+    /** The default number of records per chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+    /** The validation groups used when generating values. */
+    private static final Class<?>[] DEFAULT_GROUPS = { Default.class };
+    /** The initial capacity of the record buffers. */
+    private static final int BUFFER_CAPACITY = 64 * 1024;
+
+    /** The column names. */
+    private final @NotNull String[] names;
+    /** The column value generators. */
+    private final @NotNull TargetedGenerator<?>[] generators;
+    /** The export format. */
+    private @NotNull ExportFormat format = ExportFormat.CSV;
+    /** If the header line must be written, when supported by the format. */
+    private boolean header = true;
+    /** The number of records per chunk. */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    /** The number of threads generating chunks. */
+    private int parallelism = 1;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param names The column names
+     * @param generators The column value generators
+     */
+    protected DatasetExporter(
+            final @NotNull String[] names,
+            final @NotNull TargetedGenerator<?>[] generators) {
+        super();
+        Validate.notNull(names);
+        Validate.noNullElements(names);
+        Validate.notNull(generators);
+        Validate.noNullElements(generators);
+        Validate.isTrue(names.length == generators.length,
+                "The number of column names and generators must match");
+        this.names = names.clone();
+        this.generators = generators.clone();
+    }
+
+    /**
+     * Creates a new exporter with the specified columns.
+     * 
+     * @param names The column names
+     * @param generators The column value generators
+     * @return The created exporter
+     */
+    public static @NotNull DatasetExporter of(
+            final @NotNull String[] names,
+            final @NotNull TargetedGenerator<?>[] generators) {
+        return new DatasetExporter(names, generators);
+    }
+
+    /**
+     * Creates a new exporter with a column per non static field of the
+     * specified class, including inherited fields. Superclass fields are
+     * exported first.
+     * 
+     * @param type The exported bean class
+     * @return The created exporter
+     */
+    public static @NotNull DatasetExporter forType(
+            final @NotNull Class<?> type) {
+        Validate.notNull(type);
+        final List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            hierarchy.add(0, cls);
+        }
+        final List<String> names = new ArrayList<>();
+        final List<TargetedGenerator<?>> generators = new ArrayList<>();
+        for (final Class<?> cls : hierarchy) {
+            for (final Field field : cls.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    names.add(field.getName());
+                    generators.add(PropertyTypeGenerator.targeting(type, field));
+                }
+            }
+        }
+        return new DatasetExporter(
+                names.toArray(new String[0]),
+                generators.toArray(new TargetedGenerator<?>[0]));
+    }
+
+    /**
+     * Creates a new exporter with a column per parameter of the executable
+     * of the specified generator.
+     * <p>
+     * Column names are the parameter names, that are only available if the
+     * classes are compiled with the {@code -parameters} option.
+     * 
+     * @param generator The executable generator
+     * @return The created exporter
+     */
+    public static @NotNull DatasetExporter forExecutable(
+            final @NotNull ExecutableGenerator<?> generator) {
+        Validate.notNull(generator);
+        final Executable executable = generator.getExecutable();
+        final Parameter[] params = executable.getParameters();
+        final String[] names = new String[params.length];
+        for (int i = 0; i < params.length; i++) {
+            names[i] = params[i].getName();
+        }
+        return new DatasetExporter(names, generator.getParameterGenerators());
+    }
+
+    /**
+     * Returns the column names.
+     * 
+     * @return The column names
+     */
+    public @NotNull String[] getNames() {
+        return this.names.clone();
+    }
+
+    /**
+     * Returns the export format.
+     * 
+     * @return The export format
+     */
+    public @NotNull ExportFormat getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Sets the export format. Defaults to {@link ExportFormat#CSV}.
+     * 
+     * @param format The export format
+     * @return This instance, for method chaining
+     */
+    public @NotNull DatasetExporter withFormat(
+            final @NotNull ExportFormat format) {
+        this.format = Validate.notNull(format);
+        return this;
+    }
+
+    /**
+     * Returns {@code true} if the header line is written when supported
+     * by the export format.
+     * 
+     * @return If the header line is written
+     */
+    public boolean isHeader() {
+        return this.header;
+    }
+
+    /**
+     * Sets if the header line is written when supported by the export
+     * format. Defaults to {@code true}.
+     * 
+     * @param header If the header line is written
+     * @return This instance, for method chaining
+     */
+    public @NotNull DatasetExporter withHeader(
+            final boolean header) {
+        this.header = header;
+        return this;
+    }
+
+    /**
+     * Returns the number of records per chunk.
+     * 
+     * @return The number of records per chunk
+     */
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * Sets the number of records per chunk. Defaults to
+     * {@link #DEFAULT_CHUNK_SIZE}.
+     * 
+     * @param chunkSize The number of records per chunk
+     * @return This instance, for method chaining
+     */
+    public @NotNull DatasetExporter withChunkSize(
+            final @Min(1) int chunkSize) {
+        Validate.isTrue(chunkSize > 0, "The chunk size must be positive");
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Returns the number of threads generating chunks.
+     * 
+     * @return The number of threads generating chunks
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Sets the number of threads generating chunks. Defaults to
+     * {@code 1}, generating the chunks in the calling thread.
+     * 
+     * @param parallelism The number of threads generating chunks
+     * @return This instance, for method chaining
+     */
+    public @NotNull DatasetExporter withParallelism(
+            final @Min(1) int parallelism) {
+        Validate.isTrue(parallelism > 0, "The parallelism must be positive");
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Exports the specified number of random records to the specified
+     * channel, using a random seed.
+     * 
+     * @param channel The channel to write to
+     * @param count The number of records to export
+     * @return The number of bytes written
+     * @throws IOException If an I/O error occurs
+     * @see #export(WritableByteChannel, long, long)
+     */
+    public long export(
+            final @NotNull WritableByteChannel channel,
+            final @Min(0) long count)
+    throws IOException {
+        return export(channel, count, RandomSources.current().nextLong());
+    }
+
+    /**
+     * Exports the specified number of random records to the specified
+     * channel. The exported bytes only depend on the columns, the format,
+     * the header flag and the seed.
+     * <p>
+     * The channel is not closed.
+     * 
+     * @param channel The channel to write to
+     * @param count The number of records to export
+     * @param seed The generation session seed
+     * @return The number of bytes written
+     * @throws IOException If an I/O error occurs
+     * @throws dev.orne.test.rnd.GenerationException If an error occurs
+     * generating the values
+     */
+    public long export(
+            final @NotNull WritableByteChannel channel,
+            final @Min(0) long count,
+            final long seed)
+    throws IOException {
+        Validate.notNull(channel);
+        Validate.isTrue(count >= 0, "The number of records must be non negative");
+        final GenerationSession session = new GenerationSession(seed);
+        final RecordBuffer buffer = new RecordBuffer(BUFFER_CAPACITY);
+        long written = 0;
+        if (this.header && this.format.supportsHeader()) {
+            this.format.encodeHeader(this.names, buffer);
+            written += buffer.size();
+            buffer.writeTo(channel);
+            buffer.clear();
+        }
+        if (this.parallelism == 1) {
+            for (long start = 0; start < count; start += this.chunkSize) {
+                encodeChunk(session, start, Math.min(count, start + this.chunkSize), buffer);
+                written += buffer.size();
+                buffer.writeTo(channel);
+                buffer.clear();
+            }
+        } else {
+            written += exportParallel(channel, count, session);
+        }
+        return written;
+    }
+
+    /**
+     * Exports the specified number of random records to the specified
+     * channel generating the chunks in a pool of threads. At most twice
+     * the parallelism chunks are held in memory.
+     * 
+     * @param channel The channel to write to
+     * @param count The number of records to export
+     * @param session The generation session
+     * @return The number of bytes written
+     * @throws IOException If an I/O error occurs
+     */
+    protected long exportParallel(
+            final @NotNull WritableByteChannel channel,
+            final long count,
+            final @NotNull GenerationSession session)
+    throws IOException {
+        final int window = this.parallelism * 2;
+        final Queue<RecordBuffer> pool = new ConcurrentLinkedQueue<>();
+        final Deque<Future<RecordBuffer>> pending = new ArrayDeque<>(window);
+        final ExecutorService executor = Executors.newFixedThreadPool(this.parallelism);
+        long written = 0;
+        try {
+            long next = 0;
+            while (next < count || !pending.isEmpty()) {
+                while (next < count && pending.size() < window) {
+                    final long start = next;
+                    final long end = Math.min(count, start + this.chunkSize);
+                    pending.add(executor.submit(() -> {
+                        RecordBuffer chunk = pool.poll();
+                        if (chunk == null) {
+                            chunk = new RecordBuffer(BUFFER_CAPACITY);
+                        }
+                        encodeChunk(session, start, end, chunk);
+                        return chunk;
+                    }));
+                    next = end;
+                }
+                final RecordBuffer chunk = await(pending.poll());
+                written += chunk.size();
+                chunk.writeTo(channel);
+                chunk.clear();
+                pool.add(chunk);
+            }
+        } finally {
+            for (final Future<RecordBuffer> future : pending) {
+                future.cancel(true);
+            }
+            executor.shutdownNow();
+        }
+        return written;
+    }
+
+    /**
+     * Waits for the encoding of a chunk to finish.
+     * 
+     * @param future The chunk encoding future
+     * @return The buffer containing the encoded chunk
+     * @throws IOException If an I/O error occurs or the calling thread
+     * is interrupted
+     */
+    private static @NotNull RecordBuffer await(
+            final @NotNull Future<RecordBuffer> future)
+    throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException ioe = new InterruptedIOException(
+                    "Interrupted while exporting dataset");
+            ioe.initCause(e);
+            throw ioe;
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException("Error exporting dataset", cause);
+        }
+    }
+
+    /**
+     * Generates the records between the specified positions and encodes
+     * them into the specified buffer. Each record is generated into its
+     * own values array, so the records don't depend on the stream being
+     * consumed sequentially.
+     * 
+     * @param session The generation session
+     * @param start The position of the first record, inclusive
+     * @param end The position of the last record, exclusive
+     * @param buffer The buffer to encode the records into
+     */
+    private void encodeChunk(
+            final @NotNull GenerationSession session,
+            final long start,
+            final long end,
+            final @NotNull RecordBuffer buffer) {
+        session.parallelStream(start, end, () -> {
+                    final Object[] values = new Object[this.generators.length];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = this.generators[i].nullableRandomValue(DEFAULT_GROUPS);
+                    }
+                    return values;
+                })
+                .sequential()
+                .forEach(record -> this.format.encodeRecord(this.names, record, buffer));
+    }
+}
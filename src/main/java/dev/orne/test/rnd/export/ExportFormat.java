@@ -0,0 +1,385 @@
+package dev.orne.test.rnd.export;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Text formats supported by {@code DatasetExporter}.
+ * <p>
+ * Records are encoded as UTF-8 and terminated by a line feed. Integral
+ * numbers, booleans and character sequences are encoded directly into the
+ * record buffer. Other values are encoded through the string returned by
+ * their {@code toString()} method.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @since 0.3
+ * @see DatasetExporter
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public enum ExportFormat {
+
+    /**
+     * Comma separated values, as defined by RFC 4180.
+     * <p>
+     * Fields containing commas, double quotes or line breaks are enclosed
+     * in double quotes. {@code null} values are written as empty fields.
+     * Arrays are written as quoted fields with the text representation of
+     * {@code Arrays.deepToString(Object[])}. Other values are written
+     * through their {@code toString()} method.
+     */
+    CSV {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        boolean supportsHeader() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void encodeHeader(
+                final @NotNull String[] names,
+                final @NotNull RecordBuffer buffer) {
+            for (int i = 0; i < names.length; i++) {
+                if (i > 0) {
+                    buffer.ascii(',');
+                }
+                encodeField(names[i], buffer);
+            }
+            buffer.ascii('\n');
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void encodeRecord(
+                final @NotNull String[] names,
+                final @NotNull Object[] values,
+                final @NotNull RecordBuffer buffer) {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.ascii(',');
+                }
+                final Object value = values[i];
+                if (value == null) {
+                    continue;
+                }
+                if (value instanceof Long
+                        || value instanceof Integer
+                        || value instanceof Short
+                        || value instanceof Byte) {
+                    buffer.append(((Number) value).longValue());
+                } else if (value.getClass().isArray()) {
+                    buffer.ascii('"');
+                    encodeArray(value, buffer);
+                    buffer.ascii('"');
+                } else if (value instanceof CharSequence) {
+                    encodeField((CharSequence) value, buffer);
+                } else {
+                    encodeField(value.toString(), buffer);
+                }
+            }
+            buffer.ascii('\n');
+        }
+
+        /**
+         * Encodes the specified field, quoting it if required.
+         * 
+         * @param field The field text
+         * @param buffer The buffer to append the field to
+         */
+        private void encodeField(
+                final @NotNull CharSequence field,
+                final @NotNull RecordBuffer buffer) {
+            final int length = field.length();
+            boolean quote = false;
+            for (int i = 0; i < length && !quote; i++) {
+                final char c = field.charAt(i);
+                quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+            }
+            if (!quote) {
+                buffer.append(field);
+                return;
+            }
+            buffer.ascii('"');
+            encodeQuoted(field, buffer);
+            buffer.ascii('"');
+        }
+
+        /**
+         * Encodes the specified text inside a quoted field, doubling the
+         * double quotes.
+         * 
+         * @param text The text
+         * @param buffer The buffer to append the text to
+         */
+        private void encodeQuoted(
+                final @NotNull CharSequence text,
+                final @NotNull RecordBuffer buffer) {
+            final int length = text.length();
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                if (text.charAt(i) == '"') {
+                    buffer.append(text, start, i + 1);
+                    buffer.ascii('"');
+                    start = i + 1;
+                }
+            }
+            buffer.append(text, start, length);
+        }
+
+        /**
+         * Encodes the text representation of the specified array inside
+         * a quoted field.
+         * 
+         * @param array The array
+         * @param buffer The buffer to append the array to
+         */
+        private void encodeArray(
+                final @NotNull Object array,
+                final @NotNull RecordBuffer buffer) {
+            final int length = Array.getLength(array);
+            buffer.ascii('[');
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    buffer.ascii(',').ascii(' ');
+                }
+                final Object element = Array.get(array, i);
+                if (element == null) {
+                    buffer.append("null");
+                } else if (element.getClass().isArray()) {
+                    encodeArray(element, buffer);
+                } else if (element instanceof Long
+                        || element instanceof Integer
+                        || element instanceof Short
+                        || element instanceof Byte) {
+                    buffer.append(((Number) element).longValue());
+                } else if (element instanceof CharSequence) {
+                    encodeQuoted((CharSequence) element, buffer);
+                } else {
+                    encodeQuoted(element.toString(), buffer);
+                }
+            }
+            buffer.ascii(']');
+        }
+    },
+
+    /**
+     * JSON Lines, one JSON object per record.
+     * <p>
+     * Numbers and booleans are written as JSON literals, except non finite
+     * floating point values, that are written as strings. Arrays and
+     * {@code Iterable} instances are written as JSON arrays and {@code Map}
+     * instances as JSON objects. Other values are written as strings
+     * through their {@code toString()} method.
+     */
+    JSON_LINES {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        boolean supportsHeader() {
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void encodeHeader(
+                final @NotNull String[] names,
+                final @NotNull RecordBuffer buffer) {
+            // No header
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void encodeRecord(
+                final @NotNull String[] names,
+                final @NotNull Object[] values,
+                final @NotNull RecordBuffer buffer) {
+            buffer.ascii('{');
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.ascii(',');
+                }
+                encodeString(names[i], buffer);
+                buffer.ascii(':');
+                encodeValue(values[i], buffer);
+            }
+            buffer.ascii('}').ascii('\n');
+        }
+
+        /**
+         * Encodes the specified value as a JSON value.
+         * 
+         * @param value The value
+         * @param buffer The buffer to append the value to
+         */
+        private void encodeValue(
+                final Object value,
+                final @NotNull RecordBuffer buffer) {
+            if (value == null) {
+                buffer.append("null");
+            } else if (value instanceof Long
+                    || value instanceof Integer
+                    || value instanceof Short
+                    || value instanceof Byte) {
+                buffer.append(((Number) value).longValue());
+            } else if (value instanceof Boolean) {
+                buffer.append((Boolean) value ? "true" : "false");
+            } else if (value instanceof BigInteger
+                    || value instanceof BigDecimal) {
+                buffer.append(value.toString());
+            } else if (value instanceof Double || value instanceof Float) {
+                final double number = ((Number) value).doubleValue();
+                if (Double.isNaN(number) || Double.isInfinite(number)) {
+                    encodeString(value.toString(), buffer);
+                } else {
+                    buffer.append(value.toString());
+                }
+            } else if (value instanceof CharSequence) {
+                encodeString((CharSequence) value, buffer);
+            } else if (value.getClass().isArray()) {
+                buffer.ascii('[');
+                final int length = Array.getLength(value);
+                for (int i = 0; i < length; i++) {
+                    if (i > 0) {
+                        buffer.ascii(',');
+                    }
+                    encodeValue(Array.get(value, i), buffer);
+                }
+                buffer.ascii(']');
+            } else if (value instanceof Iterable) {
+                buffer.ascii('[');
+                final Iterator<?> it = ((Iterable<?>) value).iterator();
+                while (it.hasNext()) {
+                    encodeValue(it.next(), buffer);
+                    if (it.hasNext()) {
+                        buffer.ascii(',');
+                    }
+                }
+                buffer.ascii(']');
+            } else if (value instanceof Map) {
+                buffer.ascii('{');
+                final Iterator<? extends Map.Entry<?, ?>> it =
+                        ((Map<?, ?>) value).entrySet().iterator();
+                while (it.hasNext()) {
+                    final Map.Entry<?, ?> entry = it.next();
+                    encodeString(String.valueOf(entry.getKey()), buffer);
+                    buffer.ascii(':');
+                    encodeValue(entry.getValue(), buffer);
+                    if (it.hasNext()) {
+                        buffer.ascii(',');
+                    }
+                }
+                buffer.ascii('}');
+            } else {
+                encodeString(value.toString(), buffer);
+            }
+        }
+
+        /**
+         * Encodes the specified text as a JSON string.
+         * 
+         * @param text The text
+         * @param buffer The buffer to append the string to
+         */
+        private void encodeString(
+                final @NotNull CharSequence text,
+                final @NotNull RecordBuffer buffer) {
+            buffer.ascii('"');
+            final int length = text.length();
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                final char c = text.charAt(i);
+                if (c == '"' || c == '\\' || c < 0x20) {
+                    buffer.append(text, start, i);
+                    buffer.ascii('\\');
+                    if (c == '"' || c == '\\') {
+                        buffer.ascii(c);
+                    } else {
+                        buffer.ascii('u').ascii('0').ascii('0')
+                                .ascii(HEX_DIGITS[c >> 4])
+                                .ascii(HEX_DIGITS[c & 0xF]);
+                    }
+                    start = i + 1;
+                }
+            }
+            buffer.append(text, start, length);
+            buffer.ascii('"');
+        }
+    };
+
+    /** The hexadecimal digits used in escape sequences. */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Returns {@code true} if this format writes a header line with the
+     * column names.
+     * 
+     * @return If this format supports header lines
+     */
+    abstract boolean supportsHeader();
+
+    /**
+     * Encodes the header line with the specified column names.
+     * 
+     * @param names The column names
+     * @param buffer The buffer to append the header to
+     */
+    abstract void encodeHeader(
+            @NotNull String[] names,
+            @NotNull RecordBuffer buffer);
+
+    /**
+     * Encodes the record with the specified column values.
+     * 
+     * @param names The column names
+     * @param values The column values
+     * @param buffer The buffer to append the record to
+     */
+    abstract void encodeRecord(
+            @NotNull String[] names,
+            @NotNull Object[] values,
+            @NotNull RecordBuffer buffer);
+}
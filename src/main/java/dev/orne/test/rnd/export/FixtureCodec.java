@@ -0,0 +1,629 @@
+package dev.orne.test.rnd.export;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.test.rnd.UnsupportedValueTypeException;
+
+/**
+ * Binary encoding of the values stored in fixture files.
+ * <p>
+ * Each value is encoded as a type tag byte followed by the big-endian
+ * binary representation of the value, {@code Short} and
+ * {@code Character} values in two bytes. Strings are encoded as their UTF-8
+ * byte count followed by the UTF-8 bytes. Lists, sets, maps and primitive
+ * arrays are encoded as their size followed by their elements.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @since 0.3
+ * @see FixtureFile
+ */
+@API(status=Status.INTERNAL, since="0.3")
+final class FixtureCodec {
+
+    /** The tag of {@code null} values. */
+    private static final byte NULL = 0;
+    /** The tag of {@code Boolean.FALSE} values. */
+    private static final byte FALSE = 1;
+    /** The tag of {@code Boolean.TRUE} values. */
+    private static final byte TRUE = 2;
+    /** The tag of {@code Byte} values. */
+    private static final byte BYTE = 3;
+    /** The tag of {@code Short} values. */
+    private static final byte SHORT = 4;
+    /** The tag of {@code Integer} values. */
+    private static final byte INT = 5;
+    /** The tag of {@code Long} values. */
+    private static final byte LONG = 6;
+    /** The tag of {@code Float} values. */
+    private static final byte FLOAT = 7;
+    /** The tag of {@code Double} values. */
+    private static final byte DOUBLE = 8;
+    /** The tag of {@code Character} values. */
+    private static final byte CHAR = 9;
+    /** The tag of {@code String} values. */
+    private static final byte STRING = 10;
+    /** The tag of {@code UUID} values. */
+    private static final byte UUID_VALUE = 11;
+    /** The tag of {@code BigInteger} values. */
+    private static final byte BIG_INTEGER = 12;
+    /** The tag of {@code BigDecimal} values. */
+    private static final byte BIG_DECIMAL = 13;
+    /** The tag of {@code Instant} values. */
+    private static final byte INSTANT = 14;
+    /** The tag of {@code LocalDate} values. */
+    private static final byte LOCAL_DATE = 15;
+    /** The tag of {@code LocalTime} values. */
+    private static final byte LOCAL_TIME = 16;
+    /** The tag of {@code LocalDateTime} values. */
+    private static final byte LOCAL_DATE_TIME = 17;
+    /** The tag of {@code OffsetTime} values. */
+    private static final byte OFFSET_TIME = 18;
+    /** The tag of {@code OffsetDateTime} values. */
+    private static final byte OFFSET_DATE_TIME = 19;
+    /** The tag of {@code ZonedDateTime} values. */
+    private static final byte ZONED_DATE_TIME = 20;
+    /** The tag of {@code Duration} values. */
+    private static final byte DURATION = 21;
+    /** The tag of {@code Period} values. */
+    private static final byte PERIOD = 22;
+    /** The tag of {@code Year} values. */
+    private static final byte YEAR = 23;
+    /** The tag of {@code YearMonth} values. */
+    private static final byte YEAR_MONTH = 24;
+    /** The tag of {@code MonthDay} values. */
+    private static final byte MONTH_DAY = 25;
+    /** The tag of {@code ZoneOffset} values. */
+    private static final byte ZONE_OFFSET = 26;
+    /** The tag of region based {@code ZoneId} values. */
+    private static final byte ZONE_ID = 27;
+    /** The tag of {@code List} values. */
+    private static final byte LIST = 28;
+    /** The tag of {@code Set} values. */
+    private static final byte SET = 29;
+    /** The tag of {@code Map} values. */
+    private static final byte MAP = 30;
+    /** The tag of {@code byte[]} values. */
+    private static final byte BYTE_ARRAY = 31;
+    /** The tag of {@code int[]} values. */
+    private static final byte INT_ARRAY = 32;
+    /** The tag of {@code long[]} values. */
+    private static final byte LONG_ARRAY = 33;
+    /** The tag of {@code double[]} values. */
+    private static final byte DOUBLE_ARRAY = 34;
+
+    /**
+     * Private constructor.
+     */
+    private FixtureCodec() {
+        // Utility class
+    }
+
+    /**
+     * Encodes the specified value into the specified buffer.
+     * 
+     * @param value The value to encode
+     * @param buffer The buffer to encode the value into
+     * @throws UnsupportedValueTypeException If the type of the value, or of
+     * any of its elements, is not supported
+     */
+    static void encode(
+            final Object value,
+            final @NotNull RecordBuffer buffer) {
+        if (value == null) {
+            buffer.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            buffer.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Number) {
+            encodeNumber((Number) value, buffer);
+        } else if (value instanceof Character) {
+            buffer.writeByte(CHAR).writeShort((Character) value);
+        } else if (value instanceof String) {
+            encodeString(STRING, (String) value, buffer);
+        } else if (value instanceof UUID) {
+            final UUID uuid = (UUID) value;
+            buffer.writeByte(UUID_VALUE)
+                    .writeLong(uuid.getMostSignificantBits())
+                    .writeLong(uuid.getLeastSignificantBits());
+        } else if (value instanceof Collection || value instanceof Map) {
+            encodeContainer(value, buffer);
+        } else if (value.getClass().isArray()) {
+            encodeArray(value, buffer);
+        } else {
+            encodeTemporal(value, buffer);
+        }
+    }
+
+    /**
+     * Encodes the specified number into the specified buffer.
+     * 
+     * @param value The value to encode
+     * @param buffer The buffer to encode the value into
+     * @throws UnsupportedValueTypeException If the type of the value is not
+     * supported
+     */
+    private static void encodeNumber(
+            final @NotNull Number value,
+            final @NotNull RecordBuffer buffer) {
+        if (value instanceof Integer) {
+            buffer.writeByte(INT).writeInt(value.intValue());
+        } else if (value instanceof Long) {
+            buffer.writeByte(LONG).writeLong(value.longValue());
+        } else if (value instanceof Double) {
+            buffer.writeByte(DOUBLE).writeLong(Double.doubleToRawLongBits(value.doubleValue()));
+        } else if (value instanceof Float) {
+            buffer.writeByte(FLOAT).writeInt(Float.floatToRawIntBits(value.floatValue()));
+        } else if (value instanceof Short) {
+            buffer.writeByte(SHORT).writeShort(value.shortValue());
+        } else if (value instanceof Byte) {
+            buffer.writeByte(BYTE).writeByte(value.byteValue());
+        } else if (value instanceof BigInteger) {
+            encodeBytes(BIG_INTEGER, ((BigInteger) value).toByteArray(), buffer);
+        } else if (value instanceof BigDecimal) {
+            final BigDecimal decimal = (BigDecimal) value;
+            buffer.writeByte(BIG_DECIMAL).writeInt(decimal.scale());
+            encodeBytes(BIG_INTEGER, decimal.unscaledValue().toByteArray(), buffer);
+        } else {
+            throw unsupported(value);
+        }
+    }
+
+    /**
+     * Encodes the specified collection or map into the specified buffer.
+     * 
+     * @param value The value to encode
+     * @param buffer The buffer to encode the value into
+     * @throws UnsupportedValueTypeException If the type of the value, or of
+     * any of its elements, is not supported
+     */
+    private static void encodeContainer(
+            final @NotNull Object value,
+            final @NotNull RecordBuffer buffer) {
+        if (value instanceof List) {
+            encodeElements(LIST, (List<?>) value, buffer);
+        } else if (value instanceof Set) {
+            encodeElements(SET, (Set<?>) value, buffer);
+        } else if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            buffer.writeByte(MAP).writeInt(map.size());
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                encode(entry.getKey(), buffer);
+                encode(entry.getValue(), buffer);
+            }
+        } else {
+            throw unsupported(value);
+        }
+    }
+
+    /**
+     * Encodes the specified collection elements into the specified buffer.
+     * 
+     * @param tag The collection tag
+     * @param value The collection to encode
+     * @param buffer The buffer to encode the value into
+     * @throws UnsupportedValueTypeException If the type of any element is
+     * not supported
+     */
+    private static void encodeElements(
+            final byte tag,
+            final @NotNull Collection<?> value,
+            final @NotNull RecordBuffer buffer) {
+        buffer.writeByte(tag).writeInt(value.size());
+        for (final Object element : value) {
+            encode(element, buffer);
+        }
+    }
+
+    /**
+     * Encodes the specified primitive array into the specified buffer.
+     * 
+     * @param value The array to encode
+     * @param buffer The buffer to encode the value into
+     * @throws UnsupportedValueTypeException If the type of the array is not
+     * supported
+     */
+    private static void encodeArray(
+            final @NotNull Object value,
+            final @NotNull RecordBuffer buffer) {
+        if (value instanceof byte[]) {
+            encodeBytes(BYTE_ARRAY, (byte[]) value, buffer);
+        } else if (value instanceof int[]) {
+            final int[] array = (int[]) value;
+            buffer.writeByte(INT_ARRAY).writeInt(array.length);
+            for (final int element : array) {
+                buffer.writeInt(element);
+            }
+        } else if (value instanceof long[]) {
+            final long[] array = (long[]) value;
+            buffer.writeByte(LONG_ARRAY).writeInt(array.length);
+            for (final long element : array) {
+                buffer.writeLong(element);
+            }
+        } else if (value instanceof double[]) {
+            final double[] array = (double[]) value;
+            buffer.writeByte(DOUBLE_ARRAY).writeInt(array.length);
+            for (final double element : array) {
+                buffer.writeLong(Double.doubleToRawLongBits(element));
+            }
+        } else {
+            throw unsupported(value);
+        }
+    }
+
+    /**
+     * Encodes the specified {@code java.time} value into the specified buffer.
+     * 
+     * @param value The value to encode
+     * @param buffer The buffer to encode the value into
+     * @throws UnsupportedValueTypeException If the type of the value is not
+     * supported
+     */
+    private static void encodeTemporal(
+            final @NotNull Object value,
+            final @NotNull RecordBuffer buffer) {
+        if (value instanceof Instant) {
+            final Instant instant = (Instant) value;
+            buffer.writeByte(INSTANT)
+                    .writeLong(instant.getEpochSecond())
+                    .writeInt(instant.getNano());
+        } else if (value instanceof LocalDate) {
+            buffer.writeByte(LOCAL_DATE).writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            buffer.writeByte(LOCAL_TIME).writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            buffer.writeByte(LOCAL_DATE_TIME);
+            writeDateTime((LocalDateTime) value, buffer);
+        } else if (value instanceof OffsetTime) {
+            final OffsetTime time = (OffsetTime) value;
+            buffer.writeByte(OFFSET_TIME)
+                    .writeLong(time.toLocalTime().toNanoOfDay())
+                    .writeInt(time.getOffset().getTotalSeconds());
+        } else if (value instanceof OffsetDateTime) {
+            final OffsetDateTime dateTime = (OffsetDateTime) value;
+            buffer.writeByte(OFFSET_DATE_TIME);
+            writeDateTime(dateTime.toLocalDateTime(), buffer);
+            buffer.writeInt(dateTime.getOffset().getTotalSeconds());
+        } else if (value instanceof ZonedDateTime) {
+            final ZonedDateTime dateTime = (ZonedDateTime) value;
+            buffer.writeByte(ZONED_DATE_TIME);
+            writeDateTime(dateTime.toLocalDateTime(), buffer);
+            encode(dateTime.getZone(), buffer);
+            buffer.writeInt(dateTime.getOffset().getTotalSeconds());
+        } else {
+            encodeAmount(value, buffer);
+        }
+    }
+
+    /**
+     * Encodes the specified {@code java.time} amount, partial or zone value
+     * into the specified buffer.
+     * 
+     * @param value The value to encode
+     * @param buffer The buffer to encode the value into
+     * @throws UnsupportedValueTypeException If the type of the value is not
+     * supported
+     */
+    private static void encodeAmount(
+            final @NotNull Object value,
+            final @NotNull RecordBuffer buffer) {
+        if (value instanceof Duration) {
+            final Duration duration = (Duration) value;
+            buffer.writeByte(DURATION)
+                    .writeLong(duration.getSeconds())
+                    .writeInt(duration.getNano());
+        } else if (value instanceof Period) {
+            final Period period = (Period) value;
+            buffer.writeByte(PERIOD)
+                    .writeInt(period.getYears())
+                    .writeInt(period.getMonths())
+                    .writeInt(period.getDays());
+        } else if (value instanceof Year) {
+            buffer.writeByte(YEAR).writeInt(((Year) value).getValue());
+        } else if (value instanceof YearMonth) {
+            final YearMonth yearMonth = (YearMonth) value;
+            buffer.writeByte(YEAR_MONTH)
+                    .writeInt(yearMonth.getYear())
+                    .writeByte(yearMonth.getMonthValue());
+        } else if (value instanceof MonthDay) {
+            final MonthDay monthDay = (MonthDay) value;
+            buffer.writeByte(MONTH_DAY)
+                    .writeByte(monthDay.getMonthValue())
+                    .writeByte(monthDay.getDayOfMonth());
+        } else if (value instanceof ZoneOffset) {
+            buffer.writeByte(ZONE_OFFSET).writeInt(((ZoneOffset) value).getTotalSeconds());
+        } else if (value instanceof ZoneId) {
+            encodeString(ZONE_ID, ((ZoneId) value).getId(), buffer);
+        } else {
+            throw unsupported(value);
+        }
+    }
+
+    /**
+     * Writes the specified date time into the specified buffer, as its
+     * epoch day and nano of day.
+     * 
+     * @param value The value to write
+     * @param buffer The buffer to write the value into
+     */
+    private static void writeDateTime(
+            final @NotNull LocalDateTime value,
+            final @NotNull RecordBuffer buffer) {
+        buffer.writeLong(value.toLocalDate().toEpochDay())
+                .writeLong(value.toLocalTime().toNanoOfDay());
+    }
+
+    /**
+     * Encodes the specified text into the specified buffer as its UTF-8
+     * byte count followed by its UTF-8 bytes.
+     * 
+     * @param tag The value tag
+     * @param value The text to encode
+     * @param buffer The buffer to encode the value into
+     */
+    private static void encodeString(
+            final byte tag,
+            final @NotNull String value,
+            final @NotNull RecordBuffer buffer) {
+        buffer.writeByte(tag);
+        final int position = buffer.size();
+        buffer.writeInt(0).append(value);
+        buffer.setInt(position, buffer.size() - position - 4);
+    }
+
+    /**
+     * Encodes the specified bytes into the specified buffer as their count
+     * followed by the bytes.
+     * 
+     * @param tag The value tag
+     * @param value The bytes to encode
+     * @param buffer The buffer to encode the value into
+     */
+    private static void encodeBytes(
+            final byte tag,
+            final @NotNull byte[] value,
+            final @NotNull RecordBuffer buffer) {
+        buffer.writeByte(tag).writeInt(value.length);
+        for (final byte element : value) {
+            buffer.writeByte(element);
+        }
+    }
+
+    /**
+     * Decodes the value at the position of the specified buffer, advancing
+     * the position after the value.
+     * 
+     * @param buffer The buffer to decode the value from
+     * @return The decoded value
+     * @throws IllegalStateException If the encoded value is not valid
+     */
+    static Object decode(
+            final @NotNull ByteBuffer buffer) {
+        final byte tag = buffer.get();
+        switch (tag) {
+            case NULL: return null;
+            case FALSE: return Boolean.FALSE;
+            case TRUE: return Boolean.TRUE;
+            case BYTE: return buffer.get();
+            case SHORT: return buffer.getShort();
+            case INT: return buffer.getInt();
+            case LONG: return buffer.getLong();
+            case FLOAT: return Float.intBitsToFloat(buffer.getInt());
+            case DOUBLE: return Double.longBitsToDouble(buffer.getLong());
+            case CHAR: return buffer.getChar();
+            case STRING: return decodeString(buffer);
+            case UUID_VALUE: return new UUID(buffer.getLong(), buffer.getLong());
+            case BIG_INTEGER: return new BigInteger(decodeBytes(buffer));
+            case BIG_DECIMAL:
+                final int scale = buffer.getInt();
+                return new BigDecimal((BigInteger) decode(buffer), scale);
+            case INSTANT: return Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            case LOCAL_DATE: return LocalDate.ofEpochDay(buffer.getLong());
+            case LOCAL_TIME: return LocalTime.ofNanoOfDay(buffer.getLong());
+            case LOCAL_DATE_TIME: return readDateTime(buffer);
+            case OFFSET_TIME:
+                return OffsetTime.of(
+                        LocalTime.ofNanoOfDay(buffer.getLong()),
+                        ZoneOffset.ofTotalSeconds(buffer.getInt()));
+            case OFFSET_DATE_TIME:
+                return OffsetDateTime.of(
+                        readDateTime(buffer),
+                        ZoneOffset.ofTotalSeconds(buffer.getInt()));
+            case ZONED_DATE_TIME:
+                return ZonedDateTime.ofLocal(
+                        readDateTime(buffer),
+                        (ZoneId) decode(buffer),
+                        ZoneOffset.ofTotalSeconds(buffer.getInt()));
+            default: return decodeOther(tag, buffer);
+        }
+    }
+
+    /**
+     * Decodes the value with the specified tag, that is not a scalar or
+     * date time value, at the position of the specified buffer.
+     * 
+     * @param tag The value tag
+     * @param buffer The buffer to decode the value from
+     * @return The decoded value
+     * @throws IllegalStateException If the encoded value is not valid
+     */
+    private static Object decodeOther(
+            final byte tag,
+            final @NotNull ByteBuffer buffer) {
+        switch (tag) {
+            case DURATION: return Duration.ofSeconds(buffer.getLong(), buffer.getInt());
+            case PERIOD: return Period.of(buffer.getInt(), buffer.getInt(), buffer.getInt());
+            case YEAR: return Year.of(buffer.getInt());
+            case YEAR_MONTH: return YearMonth.of(buffer.getInt(), buffer.get());
+            case MONTH_DAY: return MonthDay.of(buffer.get(), buffer.get());
+            case ZONE_OFFSET: return ZoneOffset.ofTotalSeconds(buffer.getInt());
+            case ZONE_ID: return ZoneId.of(decodeString(buffer));
+            case LIST: return decodeElements(buffer, new ArrayList<>());
+            case SET: return decodeElements(buffer, new LinkedHashSet<>());
+            case MAP:
+                final int size = buffer.getInt();
+                final Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(decode(buffer), decode(buffer));
+                }
+                return map;
+            case BYTE_ARRAY: return decodeBytes(buffer);
+            case INT_ARRAY:
+                final int[] ints = new int[buffer.getInt()];
+                buffer.asIntBuffer().get(ints);
+                skip(buffer, ints.length * 4);
+                return ints;
+            case LONG_ARRAY:
+                final long[] longs = new long[buffer.getInt()];
+                buffer.asLongBuffer().get(longs);
+                skip(buffer, longs.length * 8);
+                return longs;
+            case DOUBLE_ARRAY:
+                final double[] doubles = new double[buffer.getInt()];
+                buffer.asDoubleBuffer().get(doubles);
+                skip(buffer, doubles.length * 8);
+                return doubles;
+            default:
+                throw new IllegalStateException("Invalid fixture value tag " + tag);
+        }
+    }
+
+    /**
+     * Reads a date time, written as its epoch day and nano of day, at the
+     * position of the specified buffer.
+     * 
+     * @param buffer The buffer to read the value from
+     * @return The read date time
+     */
+    private static @NotNull LocalDateTime readDateTime(
+            final @NotNull ByteBuffer buffer) {
+        return LocalDateTime.of(
+                LocalDate.ofEpochDay(buffer.getLong()),
+                LocalTime.ofNanoOfDay(buffer.getLong()));
+    }
+
+    /**
+     * Decodes an UTF-8 string, preceded by its byte count, at the position
+     * of the specified buffer.
+     * 
+     * @param buffer The buffer to decode the value from
+     * @return The decoded string
+     */
+    private static @NotNull String decodeString(
+            final @NotNull ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        final ByteBuffer bytes = buffer.slice();
+        ((Buffer) bytes).limit(length);
+        skip(buffer, length);
+        return StandardCharsets.UTF_8.decode(bytes).toString();
+    }
+
+    /**
+     * Decodes a byte array, preceded by its length, at the position of the
+     * specified buffer.
+     * 
+     * @param buffer The buffer to decode the value from
+     * @return The decoded bytes
+     */
+    private static @NotNull byte[] decodeBytes(
+            final @NotNull ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Decodes the elements of a collection, preceded by their count, at
+     * the position of the specified buffer.
+     * 
+     * @param <C> The type of the collection
+     * @param buffer The buffer to decode the value from
+     * @param result The collection to add the elements to
+     * @return The collection with the decoded elements
+     */
+    private static <C extends Collection<Object>> @NotNull C decodeElements(
+            final @NotNull ByteBuffer buffer,
+            final @NotNull C result) {
+        final int size = buffer.getInt();
+        for (int i = 0; i < size; i++) {
+            result.add(decode(buffer));
+        }
+        return result;
+    }
+
+    /**
+     * Advances the position of the specified buffer.
+     * 
+     * @param buffer The buffer
+     * @param length The number of bytes to skip
+     */
+    private static void skip(
+            final @NotNull ByteBuffer buffer,
+            final int length) {
+        ((Buffer) buffer).position(buffer.position() + length);
+    }
+
+    /**
+     * Creates a new exception for an unsupported value.
+     * 
+     * @param value The unsupported value
+     * @return The created exception
+     */
+    private static @NotNull UnsupportedValueTypeException unsupported(
+            final @NotNull Object value) {
+        return new UnsupportedValueTypeException(
+                "Unsupported fixture value type " + value.getClass().getName());
+    }
+}
@@ -0,0 +1,470 @@
+package dev.orne.test.rnd.export;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.test.rnd.GenerationSession;
+
+/**
+ * Read only, memory mapped, fixture file of generated values.
+ * <p>
+ * Fixture files store a sequence of values of the built-in types in a
+ * compact binary format, with an offset index that allows reading the
+ * value at any position in constant time. Supported values are
+ * {@code null}, boxed primitives, {@code String}, {@code UUID},
+ * {@code BigInteger}, {@code BigDecimal}, the {@code java.time} value
+ * types, {@code List}, {@code Set} and {@code Map} instances of supported
+ * values and {@code byte[]}, {@code int[]}, {@code long[]} and
+ * {@code double[]} arrays.
+ * <p>
+ * Fixture files are mapped read only, so a corpus generated once can be
+ * shared between test processes through the operating system page cache.
+ * Opening a fixture file only validates its header and the bounds of its
+ * offset index; the index entries of each value are validated when the
+ * value is read. Each read returns a new instance of the value.
+ * <p>
+ * The memory mappings of a fixture file cannot be released explicitly.
+ * They are released when the instance is garbage collected. Rewriting a
+ * fixture file through {@link #write(Path, long, Iterator)} replaces the
+ * file atomically, so open instances keep reading the previous contents.
+ * <pre>
+ * FixtureFile.write(path, 1_000_000, seed, () -&gt; Generators.randomValue(UUID.class));
+ * FixtureFile fixture = FixtureFile.open(path);
+ * Generators.register(fixture.generator(UUID.class));
+ * </pre>
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.2, 2026-10
+ * @since 0.3
+ * @see FixtureGenerator
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public final class FixtureFile {
+
+    /** The fixture file magic number, {@code "ORNEFIX1"}. */
+    private static final long MAGIC = 0x4F524E4546495831L;
+    /** The fixture file format version. */
+    private static final int VERSION = 2;
+    /** The size of the fixture file header. */
+    private static final int HEADER_SIZE = 24;
+    /** The bits of the file offsets addressing the mapped segments. */
+    private static final int SEGMENT_SHIFT = 30;
+    /** The distance between the starts of consecutive mapped segments. */
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    /**
+     * The maximum size of the mapped segments. Segments overlap, so values
+     * starting in a segment are entirely contained in that segment.
+     */
+    private static final long MAPPING_SIZE = 2 * SEGMENT_SIZE - 1;
+    /** The maximum size of an encoded value. */
+    private static final int MAX_VALUE_SIZE = (int) SEGMENT_SIZE - 1;
+    /** The number of index entries written at once. */
+    private static final int INDEX_BATCH = 8192;
+    /** The size of the encoded values written at once. */
+    private static final int FLUSH_SIZE = 64 * 1024;
+
+    /** The fixture file path. */
+    private final @NotNull Path path;
+    /** The number of values in the fixture. */
+    private final long size;
+    /** The size of the fixture file. */
+    private final long fileSize;
+    /** The mapped segments of the file. */
+    private final @NotNull ByteBuffer[] segments;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param path The fixture file path
+     * @param size The number of values in the fixture
+     * @param fileSize The size of the fixture file
+     * @param segments The mapped segments of the file
+     */
+    private FixtureFile(
+            final @NotNull Path path,
+            final long size,
+            final long fileSize,
+            final @NotNull ByteBuffer[] segments) {
+        super();
+        this.path = path;
+        this.size = size;
+        this.fileSize = fileSize;
+        this.segments = segments;
+    }
+
+    /**
+     * Writes a fixture file with the specified number of values generated
+     * in a {@code GenerationSession} with the specified seed.
+     * <p>
+     * The value at each position is the value generated by the specified
+     * generator for the same position of
+     * {@link GenerationSession#parallelStream(long, Supplier)}.
+     * 
+     * @param path The fixture file path
+     * @param count The number of values to write
+     * @param seed The generation session seed
+     * @param generator The values generator
+     * @return The size of the written file, in bytes
+     * @throws IOException If an I/O error occurs
+     * @throws dev.orne.test.rnd.UnsupportedValueTypeException If the type
+     * of any generated value is not supported
+     */
+    public static long write(
+            final @NotNull Path path,
+            final @Min(0) long count,
+            final long seed,
+            final @NotNull Supplier<?> generator)
+    throws IOException {
+        Validate.isTrue(count >= 0, "The number of values must be non negative");
+        Validate.notNull(generator);
+        return write(
+                path,
+                count,
+                new GenerationSession(seed)
+                    .parallelStream(count, generator)
+                    .sequential()
+                    .iterator());
+    }
+
+    /**
+     * Writes a fixture file with the specified number of values of the
+     * specified iterator.
+     * <p>
+     * The values are written to a temporary file in the same directory,
+     * that atomically replaces the existing file, if any, once complete.
+     * Processes with the previous file mapped keep reading its contents,
+     * instead of failing when the mapped file is truncated.
+     * 
+     * @param path The fixture file path
+     * @param count The number of values to write
+     * @param values The values to write
+     * @return The size of the written file, in bytes
+     * @throws IOException If an I/O error occurs
+     * @throws IllegalArgumentException If the iterator returns less values
+     * than the specified count or any value is too large
+     * @throws dev.orne.test.rnd.UnsupportedValueTypeException If the type
+     * of any value is not supported
+     */
+    public static long write(
+            final @NotNull Path path,
+            final @Min(0) long count,
+            final @NotNull Iterator<?> values)
+    throws IOException {
+        Validate.notNull(path);
+        Validate.isTrue(count >= 0, "The number of values must be non negative");
+        Validate.isTrue(count < (Long.MAX_VALUE - HEADER_SIZE) / Long.BYTES,
+                "The number of values is too large");
+        Validate.notNull(values);
+        final Path directory = path.toAbsolutePath().getParent();
+        final Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            final long result = writeValues(temp, count, values);
+            Files.move(temp, path,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            return result;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes the specified number of values of the specified iterator to
+     * the specified file.
+     * <p>
+     * The header is written last, so partially written files are rejected
+     * by {@link #open(Path)}.
+     * 
+     * @param path The file path
+     * @param count The number of values to write
+     * @param values The values to write
+     * @return The size of the written file, in bytes
+     * @throws IOException If an I/O error occurs
+     * @throws IllegalArgumentException If the iterator returns less values
+     * than the specified count or any value is too large
+     */
+    private static long writeValues(
+            final @NotNull Path path,
+            final long count,
+            final @NotNull Iterator<?> values)
+    throws IOException {
+        try (final FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer index = ByteBuffer.allocate(INDEX_BATCH * Long.BYTES);
+            long indexPosition = HEADER_SIZE;
+            long offset = HEADER_SIZE + (count + 1) * Long.BYTES;
+            final RecordBuffer data = new RecordBuffer(FLUSH_SIZE * 2);
+            channel.position(offset);
+            for (long i = 0; i < count; i++) {
+                Validate.isTrue(values.hasNext(), "Expected %d values but got %d", count, i);
+                index.putLong(offset);
+                if (!index.hasRemaining()) {
+                    indexPosition = writeAt(channel, index, indexPosition);
+                }
+                final int start = data.size();
+                FixtureCodec.encode(values.next(), data);
+                final int length = data.size() - start;
+                Validate.isTrue(length <= MAX_VALUE_SIZE, "Value %d is too large", i);
+                offset += length;
+                if (data.size() >= FLUSH_SIZE) {
+                    data.writeTo(channel);
+                    data.clear();
+                }
+            }
+            data.writeTo(channel);
+            index.putLong(offset);
+            writeAt(channel, index, indexPosition);
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putLong(MAGIC).putInt(VERSION).putInt(0).putLong(count);
+            writeAt(channel, header, 0);
+            return offset;
+        }
+    }
+
+    /**
+     * Writes the content of the specified buffer to the specified position
+     * of the channel, clearing the buffer.
+     * 
+     * @param channel The channel to write to
+     * @param buffer The buffer to write
+     * @param position The file position to write at
+     * @return The file position after the written bytes
+     * @throws IOException If an I/O error occurs
+     */
+    private static long writeAt(
+            final @NotNull FileChannel channel,
+            final @NotNull ByteBuffer buffer,
+            final long position)
+    throws IOException {
+        ((Buffer) buffer).flip();
+        long next = position;
+        while (buffer.hasRemaining()) {
+            next += channel.write(buffer, next);
+        }
+        ((Buffer) buffer).clear();
+        return next;
+    }
+
+    /**
+     * Opens the specified fixture file, mapping it in memory.
+     * <p>
+     * The file is mapped read only and must not be modified while in use.
+     * The mapping is released when the returned instance is garbage
+     * collected.
+     * <p>
+     * Only the header and the bounds of the offset index are validated,
+     * so opening a file takes constant time and does not read the whole
+     * index. The index entries of each value are validated when the value
+     * is read.
+     * 
+     * @param path The fixture file path
+     * @return The opened fixture file
+     * @throws IOException If an I/O error occurs or the file is not a
+     * valid fixture file
+     */
+    public static @NotNull FixtureFile open(
+            final @NotNull Path path)
+    throws IOException {
+        Validate.notNull(path);
+        final ByteBuffer[] segments;
+        final long fileSize;
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            fileSize = channel.size();
+            if (fileSize < HEADER_SIZE + Long.BYTES) {
+                throw new IOException("Not a fixture file: " + path);
+            }
+            segments = new ByteBuffer[(int) ((fileSize + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT)];
+            for (int i = 0; i < segments.length; i++) {
+                final long start = (long) i << SEGMENT_SHIFT;
+                segments[i] = channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        start,
+                        Math.min(fileSize - start, MAPPING_SIZE));
+            }
+        }
+        final ByteBuffer header = segments[0];
+        if (header.getLong(0) != MAGIC) {
+            throw new IOException("Not a fixture file: " + path);
+        }
+        if (header.getInt(8) != VERSION) {
+            throw new IOException("Unsupported fixture file version: " + header.getInt(8));
+        }
+        final long count = header.getLong(16);
+        if (count < 0 || count > (fileSize - HEADER_SIZE) / Long.BYTES - 1) {
+            throw new IOException("Corrupted fixture file: " + path);
+        }
+        final FixtureFile result = new FixtureFile(path, count, fileSize, segments);
+        if (result.offset(0) != result.dataOffset()
+                || result.offset(count) != fileSize) {
+            throw new IOException("Corrupted fixture file: " + path);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the fixture file path.
+     * 
+     * @return The fixture file path
+     */
+    public @NotNull Path getPath() {
+        return this.path;
+    }
+
+    /**
+     * Returns the number of values in the fixture.
+     * 
+     * @return The number of values in the fixture
+     */
+    public long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns a new instance of the value at the specified position.
+     * 
+     * @param index The position of the value
+     * @return The value at the specified position
+     * @throws IllegalArgumentException If the position is out of bounds
+     * @throws IllegalStateException If the index entries or the encoded
+     * value are corrupted
+     */
+    public Object get(
+            final @Min(0) long index) {
+        Validate.isTrue(index >= 0 && index < this.size,
+                "Index %d out of fixture bounds", index);
+        final long offset = offset(index);
+        final long end = offset(index + 1);
+        if (offset < dataOffset() || end <= offset || end > this.fileSize
+                || end - offset > MAX_VALUE_SIZE) {
+            throw new IllegalStateException(String.format(
+                    "Corrupted fixture file index at position %d: %s", index, this.path));
+        }
+        final ByteBuffer view = this.segments[(int) (offset >>> SEGMENT_SHIFT)].duplicate();
+        final int position = (int) (offset & (SEGMENT_SIZE - 1));
+        ((Buffer) view).limit(position + (int) (end - offset));
+        ((Buffer) view).position(position);
+        final Object result;
+        try {
+            result = FixtureCodec.decode(view);
+        } catch (final BufferUnderflowException e) {
+            throw new IllegalStateException(String.format(
+                    "Corrupted fixture file value at position %d: %s", index, this.path), e);
+        }
+        if (view.hasRemaining()) {
+            throw new IllegalStateException(String.format(
+                    "Corrupted fixture file value at position %d: %s", index, this.path));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new instance of the value at the specified position.
+     * 
+     * @param <T> The expected type of the value
+     * @param index The position of the value
+     * @param type The expected type of the value, primitive types
+     * are accepted for their boxed values
+     * @return The value at the specified position
+     * @throws IllegalArgumentException If the position is out of bounds
+     * @throws ClassCastException If the value is not of the expected type
+     */
+    public <T> T get(
+            final @Min(0) long index,
+            final @NotNull Class<T> type) {
+        Validate.notNull(type);
+        @SuppressWarnings("unchecked")
+        final Class<T> valueType = (Class<T>) ClassUtils.primitiveToWrapper(type);
+        return valueType.cast(get(index));
+    }
+
+    /**
+     * Returns a new generator of values of the specified type that returns
+     * the values of this fixture.
+     * 
+     * @param <T> The type of the generated values
+     * @param type The type of the generated values
+     * @return The created generator
+     * @see FixtureGenerator
+     */
+    public <T> @NotNull FixtureGenerator<T> generator(
+            final @NotNull Class<T> type) {
+        return new FixtureGenerator<>(type, this);
+    }
+
+    /**
+     * Returns the file offset of the first value, after the offset index.
+     * 
+     * @return The file offset of the first value
+     */
+    private long dataOffset() {
+        return HEADER_SIZE + (this.size + 1) * Long.BYTES;
+    }
+
+    /**
+     * Returns the file offset of the value at the specified position,
+     * or the size of the file for the position after the last value.
+     * 
+     * @param index The position of the value
+     * @return The file offset of the value
+     */
+    private long offset(
+            final long index) {
+        final long position = HEADER_SIZE + index * Long.BYTES;
+        return this.segments[(int) (position >>> SEGMENT_SHIFT)]
+                .getLong((int) (position & (SEGMENT_SIZE - 1)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("path", this.path)
+                .append("size", this.size)
+                .toString();
+    }
+}
@@ -0,0 +1,171 @@
+package dev.orne.test.rnd.export;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.test.rnd.AbstractTypedGenerator;
+import dev.orne.test.rnd.RandomSources;
+
+/**
+ * Generator of values read from a {@code FixtureFile}.
+ * <p>
+ * Random values are read from a random position of the fixture, chosen
+ * with the current {@code RandomSource}, so the values are reproducible
+ * inside a {@code GenerationSession}. The default value is the first
+ * non {@code null} value of the fixture. Positions holding {@code null}
+ * values are skipped, returning the next non {@code null} value of the
+ * fixture. Values are returned as stored in the fixture.
+ * <p>
+ * Instances are not registered through SPI. Register them explicitly
+ * to serve the values of the fixture from {@code Generators}:
+ * <pre>
+ * Generators.register(FixtureFile.open(path).generator(UUID.class));
+ * </pre>
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @param <T> The type of generated values
+ * @since 0.3
+ * @see FixtureFile
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public class FixtureGenerator<T>
+extends AbstractTypedGenerator<T> {
+
+    /** The fixture file to read the values from. */
+    private final @NotNull FixtureFile fixture;
+    /** The position of the first non {@code null} value of the fixture. */
+    private final long defaultIndex;
+
+    /**
+     * Creates a new instance.
+     * <p>
+     * The first non {@code null} value of the fixture is read to validate
+     * the type of the fixture values.
+     * 
+     * @param type The type of generated values
+     * @param fixture The fixture file to read the values from
+     * @throws IllegalArgumentException If the fixture has no non
+     * {@code null} values or its first non {@code null} value is not of
+     * the specified type
+     */
+    public FixtureGenerator(
+            final @NotNull Class<T> type,
+            final @NotNull FixtureFile fixture) {
+        super(type);
+        this.fixture = Validate.notNull(fixture);
+        Validate.isTrue(fixture.getSize() > 0, "The fixture file is empty");
+        this.defaultIndex = firstValueIndex();
+        Validate.isTrue(this.defaultIndex >= 0, "The fixture file has no non null values");
+        Validate.isInstanceOf(
+                ClassUtils.primitiveToWrapper(type),
+                fixture.get(this.defaultIndex),
+                "The fixture values are not of type %s",
+                type);
+    }
+
+    /**
+     * Returns the fixture file to read the values from.
+     * 
+     * @return The fixture file to read the values from
+     */
+    public @NotNull FixtureFile getFixture() {
+        return this.fixture;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull T defaultValue() {
+        return this.fixture.get(this.defaultIndex, getValueType());
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws ClassCastException If the value read from the fixture is
+     * not of the type of generated values
+     */
+    @Override
+    public @NotNull T randomValue() {
+        final long size = this.fixture.getSize();
+        long index = RandomSources.current().nextLong(size);
+        T value = this.fixture.get(index, getValueType());
+        while (value == null) {
+            index = (index + 1) % size;
+            value = this.fixture.get(index, getValueType());
+        }
+        return value;
+    }
+
+    /**
+     * Returns the position of the first non {@code null} value of the
+     * fixture.
+     * 
+     * @return The position of the value, or {@code -1} if all the values
+     * of the fixture are {@code null}
+     */
+    private long firstValueIndex() {
+        for (long i = 0; i < this.fixture.getSize(); i++) {
+            if (this.fixture.get(i) != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .appendSuper(super.hashCode())
+                .append(this.fixture)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        if (obj.getClass() != getClass()) { return false; }
+        final FixtureGenerator<?> other = (FixtureGenerator<?>) obj;
+        return new EqualsBuilder()
+                .appendSuper(super.equals(obj))
+                .append(this.fixture, other.fixture)
+                .build();
+    }
+}
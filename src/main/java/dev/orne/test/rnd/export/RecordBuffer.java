@@ -0,0 +1,314 @@
+package dev.orne.test.rnd.export;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Growable byte buffer that encodes appended text as UTF-8 and binary
+ * values as big-endian bytes directly into its backing array, without
+ * intermediate {@code byte[]} instances.
+ * <p>
+ * Instances are reused between chunks of records and are not thread safe.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.2, 2026-10
+ * @since 0.3
+ */
+@API(status=Status.INTERNAL, since="0.3")
+final class RecordBuffer {
+
+    /** The encoded bytes. */
+    private byte[] bytes;
+    /** The number of encoded bytes. */
+    private int size;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param capacity The initial capacity, in bytes
+     */
+    RecordBuffer(
+            final int capacity) {
+        super();
+        this.bytes = new byte[Math.max(16, capacity)];
+    }
+
+    /**
+     * Returns the number of encoded bytes.
+     * 
+     * @return The number of encoded bytes
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Discards the encoded bytes, keeping the allocated capacity.
+     */
+    void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Returns a copy of the encoded bytes.
+     * 
+     * @return The encoded bytes
+     */
+    @NotNull byte[] toByteArray() {
+        return Arrays.copyOf(this.bytes, this.size);
+    }
+
+    /**
+     * Appends the specified ASCII character.
+     * 
+     * @param c The ASCII character
+     * @return This instance, for method chaining
+     */
+    @NotNull RecordBuffer ascii(
+            final char c) {
+        ensureCapacity(1);
+        this.bytes[this.size++] = (byte) c;
+        return this;
+    }
+
+    /**
+     * Appends the specified character encoded as UTF-8. Unpaired
+     * surrogates are encoded as {@code '?'}.
+     * 
+     * @param c The character
+     * @return This instance, for method chaining
+     */
+    @NotNull RecordBuffer append(
+            final char c) {
+        ensureCapacity(3);
+        encode(c);
+        return this;
+    }
+
+    /**
+     * Appends the specified text encoded as UTF-8. Unpaired surrogates
+     * are encoded as {@code '?'}.
+     * 
+     * @param text The text
+     * @return This instance, for method chaining
+     */
+    @NotNull RecordBuffer append(
+            final @NotNull CharSequence text) {
+        return append(text, 0, text.length());
+    }
+
+    /**
+     * Appends the specified range of the specified text encoded as UTF-8.
+     * Unpaired surrogates are encoded as {@code '?'}.
+     * 
+     * @param text The text
+     * @param start The index of the first character, inclusive
+     * @param end The index of the last character, exclusive
+     * @return This instance, for method chaining
+     */
+    @NotNull RecordBuffer append(
+            final @NotNull CharSequence text,
+            final int start,
+            final int end) {
+        ensureCapacity((end - start) * 3);
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < end
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, text.charAt(++i));
+                this.bytes[this.size++] = (byte) (0xF0 | (cp >> 18));
+                this.bytes[this.size++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                this.bytes[this.size++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                this.bytes[this.size++] = (byte) (0x80 | (cp & 0x3F));
+            } else {
+                encode(c);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Appends the decimal representation of the specified value.
+     * 
+     * @param value The value
+     * @return This instance, for method chaining
+     */
+    @NotNull RecordBuffer append(
+            final long value) {
+        if (value == Long.MIN_VALUE) {
+            return append(Long.toString(value));
+        }
+        ensureCapacity(20);
+        long remaining = value;
+        if (remaining < 0) {
+            this.bytes[this.size++] = '-';
+            remaining = -remaining;
+        }
+        final int start = this.size;
+        do {
+            this.bytes[this.size++] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        for (int i = start, j = this.size - 1; i < j; i++, j--) {
+            final byte tmp = this.bytes[i];
+            this.bytes[i] = this.bytes[j];
+            this.bytes[j] = tmp;
+        }
+        return this;
+    }
+
+    /**
+     * Appends the specified byte.
+     * 
+     * @param value The byte value, as an {@code int}
+     * @return This instance, for method chaining
+     */
+    @NotNull RecordBuffer writeByte(
+            final int value) {
+        ensureCapacity(1);
+        this.bytes[this.size++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Appends the lower sixteen bits of the specified value as two
+     * big-endian bytes.
+     * 
+     * @param value The value
+     * @return This instance, for method chaining
+     */
+    @NotNull RecordBuffer writeShort(
+            final int value) {
+        ensureCapacity(2);
+        this.bytes[this.size++] = (byte) (value >>> 8);
+        this.bytes[this.size++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Appends the specified value as four big-endian bytes.
+     * 
+     * @param value The value
+     * @return This instance, for method chaining
+     */
+    @NotNull RecordBuffer writeInt(
+            final int value) {
+        ensureCapacity(4);
+        setInt(this.size, value);
+        this.size += 4;
+        return this;
+    }
+
+    /**
+     * Appends the specified value as eight big-endian bytes.
+     * 
+     * @param value The value
+     * @return This instance, for method chaining
+     */
+    @NotNull RecordBuffer writeLong(
+            final long value) {
+        return writeInt((int) (value >>> 32)).writeInt((int) value);
+    }
+
+    /**
+     * Replaces the four bytes at the specified position with the
+     * big-endian bytes of the specified value.
+     * 
+     * @param position The position of the first byte
+     * @param value The value
+     */
+    void setInt(
+            final int position,
+            final int value) {
+        this.bytes[position] = (byte) (value >>> 24);
+        this.bytes[position + 1] = (byte) (value >>> 16);
+        this.bytes[position + 2] = (byte) (value >>> 8);
+        this.bytes[position + 3] = (byte) value;
+    }
+
+    /**
+     * Writes the encoded bytes to the specified channel.
+     * 
+     * @param channel The channel to write to
+     * @throws IOException If an I/O error occurs
+     */
+    void writeTo(
+            final @NotNull WritableByteChannel channel)
+    throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(this.bytes, 0, this.size);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Encodes the specified character, that is not part of a surrogate
+     * pair. The capacity must have been ensured.
+     * 
+     * @param c The character
+     */
+    private void encode(
+            final char c) {
+        if (c < 0x80) {
+            this.bytes[this.size++] = (byte) c;
+        } else if (c < 0x800) {
+            this.bytes[this.size++] = (byte) (0xC0 | (c >> 6));
+            this.bytes[this.size++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+            this.bytes[this.size++] = '?';
+        } else {
+            this.bytes[this.size++] = (byte) (0xE0 | (c >> 12));
+            this.bytes[this.size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            this.bytes[this.size++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    /**
+     * Ensures that the specified number of bytes can be appended.
+     * 
+     * @param length The number of bytes to append
+     */
+    private void ensureCapacity(
+            final int length) {
+        final int required = this.size + length;
+        if (required < 0) {
+            throw new OutOfMemoryError("Record buffer too large");
+        }
+        if (required > this.bytes.length) {
+            int capacity = this.bytes.length << 1;
+            if (capacity < required || capacity < 0) {
+                capacity = required;
+            }
+            this.bytes = Arrays.copyOf(this.bytes, capacity);
+        }
+    }
+}
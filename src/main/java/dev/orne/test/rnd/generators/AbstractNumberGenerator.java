@@ -0,0 +1,589 @@
+package dev.orne.test.rnd.generators;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.test.rnd.params.NumberGenerationParameters;
+import dev.orne.test.rnd.params.NumberParameters;
+import dev.orne.test.rnd.params.ParametersExtractor;
+import dev.orne.test.rnd.params.ParametersExtractors;
+import dev.orne.test.rnd.params.ParametersGenerator;
+import dev.orne.test.rnd.params.TypedParameterizableGenerator;
+
+/**
+ * Abstract generator implementation for numeric types that supports
+ * generation parameters of type {@code NumberGenerationParameters}.
+ * <p>
+ * Random values are sampled directly in the range defined by the
+ * generation parameters, so constrained values generation costs the
+ * same as unconstrained values generation.
+ * Default values are the nearest value in that range to the unconstrained
+ * default value.
+ * <p>
+ * Primitive types handling of {@code AbstractPrimitiveGenerator} has no
+ * effect for non primitive numeric types.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @param <T> The numeric type
+ * @since 0.3
+ * @see NumberGenerationParameters
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public abstract class AbstractNumberGenerator<T extends Number>
+extends AbstractPrimitiveGenerator<T>
+implements TypedParameterizableGenerator<T>, ParametersGenerator<NumberGenerationParameters> {
+
+    /** The minimum {@code long} value as {@code BigDecimal}. */
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    /** The maximum {@code long} value as {@code BigDecimal}. */
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    /**
+     * Crates a new instance.
+     * <p>
+     * Infers generated values type from the generic type arguments of this
+     * instance class.
+     * 
+     * @see AbstractPrimitiveGenerator#AbstractPrimitiveGenerator()
+     */
+    protected AbstractNumberGenerator() {
+        super();
+    }
+
+    /**
+     * Crates a new instance.
+     * 
+     * @param valueType The type of generated values
+     */
+    protected AbstractNumberGenerator(
+            final @NotNull Class<T> valueType) {
+        super(valueType);
+    }
+
+    /**
+     * Returns the generation parameters extractor for this instance.
+     * 
+     * @return The generation parameters extractor.
+     */
+    public @NotNull ParametersExtractor<NumberGenerationParameters> getExtractor() {
+        return ParametersExtractors.getExtractor(NumberGenerationParameters.class);
+    }
+
+    /**
+     * Creates a new empty instance of generation parameters.
+     * 
+     * @return The new generation parameters.
+     */
+    public @NotNull NumberGenerationParameters createEmptyParams() {
+        return new NumberGenerationParameters();
+    }
+
+    /**
+     * Creates a new instance of generation parameters populated from the
+     * specified parameter sources.
+     * 
+     * @param sources The generation parameter sources.
+     * @return The new generation parameters.
+     */
+    @Override
+    public @NotNull NumberGenerationParameters createParams(
+            final @NotNull Object... sources) {
+        final NumberGenerationParameters result = createEmptyParams();
+        getExtractor().extractParameters(result, sources);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> @NotNull R defaultValue(
+            final @NotNull Class<R> type,
+            final @NotNull Object... sources) {
+        return defaultValue(type, createParams(sources));
+    }
+
+    /**
+     * Returns the default value of the specified type for the specified
+     * generation parameters.
+     * 
+     * @param <R> The requested value type.
+     * @param type The requested value type.
+     * @param parameters The generation parameters.
+     * @return The default value for the specified type.
+     * @throws IllegalArgumentException If the specified type is not supported.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> @NotNull R defaultValue(
+            final @NotNull Class<R> type,
+            final @NotNull NumberGenerationParameters parameters) {
+        assertSupported(type);
+        return (R) defaultValue(parameters);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull T defaultValue(
+            final @NotNull Object... sources) {
+        return defaultValue(createParams(sources));
+    }
+
+    /**
+     * Returns the default value for the specified generation parameters.
+     * 
+     * @param parameters The generation parameters.
+     * @return The default value.
+     * @throws IllegalArgumentException If the parameters define an empty
+     * range of values.
+     */
+    public abstract @NotNull T defaultValue(
+            @NotNull NumberGenerationParameters parameters);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> R nullableDefaultValue(
+            final @NotNull Class<R> type,
+            final @NotNull Object... sources) {
+        return nullableDefaultValue(type, createParams(sources));
+    }
+
+    /**
+     * Returns the default value of the specified type for the specified
+     * generation parameters allowing {@code null} values.
+     * <p>
+     * Returns {@code null} for nullable non primitive types.
+     * 
+     * @param <R> The requested value type.
+     * @param type The requested value type.
+     * @param parameters The generation parameters.
+     * @return The nullable default value for the specified type.
+     * @throws IllegalArgumentException If the specified type is not supported.
+     */
+    @Override
+    public <R> R nullableDefaultValue(
+            final @NotNull Class<R> type,
+            final @NotNull NumberGenerationParameters parameters) {
+        assertSupported(type);
+        final R value;
+        if (!type.isPrimitive() && parameters.isNullable()) {
+            value = null;
+        } else {
+            value = defaultValue(type, parameters);
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T nullableDefaultValue(
+            final @NotNull Object... sources) {
+        return nullableDefaultValue(getValueType(), createParams(sources));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> @NotNull R randomValue(
+            final @NotNull Class<R> type,
+            final @NotNull Object... sources) {
+        return randomValue(type, createParams(sources));
+    }
+
+    /**
+     * Returns a random value of the specified type for the specified
+     * generation parameters.
+     * 
+     * @param <R> The requested value type.
+     * @param type The requested value type.
+     * @param parameters The generation parameters.
+     * @return A random value for the specified type.
+     * @throws IllegalArgumentException If the specified type is not supported.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> @NotNull R randomValue(
+            final @NotNull Class<R> type,
+            final @NotNull NumberGenerationParameters parameters) {
+        assertSupported(type);
+        return (R) randomValue(parameters);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull T randomValue(
+            final @NotNull Object... sources) {
+        return randomValue(createParams(sources));
+    }
+
+    /**
+     * Returns a random value for the specified generation parameters.
+     * 
+     * @param parameters The generation parameters.
+     * @return A random value.
+     * @throws IllegalArgumentException If the parameters define an empty
+     * range of values.
+     */
+    public abstract @NotNull T randomValue(
+            @NotNull NumberGenerationParameters parameters);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> R nullableRandomValue(
+            final @NotNull Class<R> type,
+            final @NotNull Object... sources) {
+        return nullableRandomValue(type, createParams(sources));
+    }
+
+    /**
+     * Returns a random value of the specified type for the specified
+     * generation parameters allowing {@code null} values.
+     * <p>
+     * Only nullable non primitive types can return {@code null} values.
+     * 
+     * @param <R> The requested value type.
+     * @param type The requested value type.
+     * @param parameters The generation parameters.
+     * @return A random value for the specified type.
+     * @throws IllegalArgumentException If the specified type is not supported.
+     */
+    @Override
+    public <R> R nullableRandomValue(
+            final @NotNull Class<R> type,
+            final @NotNull NumberGenerationParameters parameters) {
+        assertSupported(type);
+        final R value;
+        if (!type.isPrimitive() && parameters.isNullable() && randomNull(type)) {
+            value = null;
+        } else {
+            value = randomValue(type, parameters);
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T nullableRandomValue(
+            final @NotNull Object... sources) {
+        return nullableRandomValue(getValueType(), createParams(sources));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> @NotNull List<R> randomValues(
+            final @NotNull Class<R> type,
+            final @Min(0) int count,
+            final @NotNull Object... sources) {
+        assertSupported(type);
+        return (List<R>) randomValues(count, createParams(sources));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull List<T> randomValues(
+            final @Min(0) int count,
+            final @NotNull Object... sources) {
+        return randomValues(count, createParams(sources));
+    }
+
+    /**
+     * Returns a list of random values for the specified generation
+     * parameters.
+     * 
+     * @param count The number of values to generate.
+     * @param parameters The generation parameters.
+     * @return A list of random values.
+     * @throws IllegalArgumentException If the parameters define an empty
+     * range of values.
+     */
+    public @NotNull List<T> randomValues(
+            final @Min(0) int count,
+            final @NotNull NumberGenerationParameters parameters) {
+        Validate.isTrue(count >= 0, "The number of values must be non negative");
+        final List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(randomValue(parameters));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> @NotNull Stream<R> stream(
+            final @NotNull Class<R> type,
+            final @NotNull Object... sources) {
+        assertSupported(type);
+        return (Stream<R>) stream(createParams(sources));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Stream<T> stream(
+            final @NotNull Object... sources) {
+        return stream(createParams(sources));
+    }
+
+    /**
+     * Returns an infinite sequential stream of random values for the
+     * specified generation parameters.
+     * 
+     * @param parameters The generation parameters.
+     * @return An infinite stream of random values.
+     */
+    public @NotNull Stream<T> stream(
+            final @NotNull NumberGenerationParameters parameters) {
+        return Stream.generate(() -> randomValue(parameters));
+    }
+
+    /**
+     * Returns the minimum integral value allowed by the specified generation
+     * parameters, limited to the specified type minimum value.
+     * 
+     * @param parameters The generation parameters.
+     * @param typeMin The minimum value of the generated type.
+     * @return The minimum integral value allowed.
+     */
+    protected static long getMinLong(
+            final @NotNull NumberParameters parameters,
+            final long typeMin) {
+        return Math.max(typeMin, ceilLong(parameters.getMin()));
+    }
+
+    /**
+     * Returns the maximum integral value allowed by the specified generation
+     * parameters, limited to the specified type maximum value.
+     * 
+     * @param parameters The generation parameters.
+     * @param typeMax The maximum value of the generated type.
+     * @return The maximum integral value allowed.
+     */
+    protected static long getMaxLong(
+            final @NotNull NumberParameters parameters,
+            final long typeMax) {
+        return Math.min(typeMax, floorLong(parameters.getMax()));
+    }
+
+    /**
+     * Returns the value in the specified range nearest to the specified
+     * value.
+     * 
+     * @param value The value.
+     * @param min The minimum value (inclusive).
+     * @param max The maximum value (inclusive).
+     * @return The value in the range nearest to the specified value.
+     * @throws IllegalArgumentException If the range is empty.
+     */
+    protected static long clamp(
+            final long value,
+            final long min,
+            final long max) {
+        Validate.isTrue(min <= max, "Empty range of values [%s, %s]", min, max);
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * Returns the minimum {@code long} value greater or equal to the
+     * specified value. Values out of the {@code long} range are
+     * saturated to {@code Long.MIN_VALUE} or {@code Long.MAX_VALUE}.
+     * 
+     * @param value The value.
+     * @return The minimum {@code long} value greater or equal to the value.
+     */
+    protected static long ceilLong(
+            final @NotNull Number value) {
+        final long result;
+        if (isIntegral(value)) {
+            result = value.longValue();
+        } else if (value instanceof Double || value instanceof Float) {
+            result = (long) Math.ceil(value.doubleValue());
+        } else {
+            result = toLong(toBigDecimal(value).setScale(0, RoundingMode.CEILING));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum {@code long} value lower or equal to the
+     * specified value. Values out of the {@code long} range are
+     * saturated to {@code Long.MIN_VALUE} or {@code Long.MAX_VALUE}.
+     * 
+     * @param value The value.
+     * @return The maximum {@code long} value lower or equal to the value.
+     */
+    protected static long floorLong(
+            final @NotNull Number value) {
+        final long result;
+        if (isIntegral(value)) {
+            result = value.longValue();
+        } else if (value instanceof Double || value instanceof Float) {
+            result = (long) Math.floor(value.doubleValue());
+        } else {
+            result = toLong(toBigDecimal(value).setScale(0, RoundingMode.FLOOR));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value of the specified number as {@code BigDecimal}.
+     * 
+     * @param value The value.
+     * @return The value as {@code BigDecimal}.
+     * @throws NumberFormatException If the value is infinite or NaN.
+     */
+    protected static @NotNull BigDecimal toBigDecimal(
+            final @NotNull Number value) {
+        final BigDecimal result;
+        if (value instanceof BigDecimal) {
+            result = (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            result = new BigDecimal((BigInteger) value);
+        } else if (isIntegral(value)) {
+            result = BigDecimal.valueOf(value.longValue());
+        } else {
+            result = BigDecimal.valueOf(value.doubleValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the minimum value of the specified generation parameters as
+     * {@code BigDecimal}, or {@code null} if the parameters have the
+     * default minimum value or an infinite minimum value.
+     * 
+     * @param parameters The generation parameters.
+     * @return The minimum value, or {@code null} if unbounded.
+     */
+    protected static BigDecimal getMinBound(
+            final @NotNull NumberParameters parameters) {
+        return toBound(parameters.getMin(), NumberParameters.DEFAULT_MIN);
+    }
+
+    /**
+     * Returns the maximum value of the specified generation parameters as
+     * {@code BigDecimal}, or {@code null} if the parameters have the
+     * default maximum value or an infinite maximum value.
+     * 
+     * @param parameters The generation parameters.
+     * @return The maximum value, or {@code null} if unbounded.
+     */
+    protected static BigDecimal getMaxBound(
+            final @NotNull NumberParameters parameters) {
+        return toBound(parameters.getMax(), NumberParameters.DEFAULT_MAX);
+    }
+
+    /**
+     * Returns the specified bound value as {@code BigDecimal}, or
+     * {@code null} if equal to the default bound value or infinite.
+     * 
+     * @param value The bound value.
+     * @param defaultValue The default bound value.
+     * @return The bound value, or {@code null} if unbounded.
+     */
+    private static BigDecimal toBound(
+            final @NotNull Number value,
+            final @NotNull Number defaultValue) {
+        final BigDecimal result;
+        if (defaultValue.equals(value) || Double.isInfinite(value.doubleValue())) {
+            result = null;
+        } else {
+            result = toBigDecimal(value);
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if the specified value is of an integral
+     * numeric type that fits in a {@code long}.
+     * 
+     * @param value The value.
+     * @return If the value is of an integral type that fits in a {@code long}.
+     */
+    private static boolean isIntegral(
+            final @NotNull Number value) {
+        return value instanceof Long
+                || value instanceof Integer
+                || value instanceof Short
+                || value instanceof Byte
+                || value instanceof AtomicLong
+                || value instanceof AtomicInteger;
+    }
+
+    /**
+     * Returns the specified integral value as {@code long}, saturating
+     * values out of the {@code long} range.
+     * 
+     * @param value The integral value.
+     * @return The value as {@code long}.
+     */
+    private static long toLong(
+            final @NotNull BigDecimal value) {
+        final long result;
+        if (value.compareTo(MIN_LONG) <= 0) {
+            result = Long.MIN_VALUE;
+        } else if (value.compareTo(MAX_LONG) >= 0) {
+            result = Long.MAX_VALUE;
+        } else {
+            result = value.longValue();
+        }
+        return result;
+    }
+}
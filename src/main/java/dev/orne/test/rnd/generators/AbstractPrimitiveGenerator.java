@@ -22,6 +22,9 @@ package dev.orne.test.rnd.generators;
  * #L%
  */
 
+import java.util.HashSet;
+import java.util.Set;
+
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.ClassUtils;
@@ -34,7 +37,7 @@ import dev.orne.test.rnd.AbstractTypedGenerator;
  * Abstract generator implementation for primitive types.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @param <T> The primitive wrapper type
  * @since 0.1
  */
@@ -81,6 +84,19 @@ extends AbstractTypedGenerator<T> {
         return super.supports(ClassUtils.primitiveToWrapper(type));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Set<Class<?>> getSupportedTypes() {
+        final Set<Class<?>> result = new HashSet<>(super.getSupportedTypes());
+        final Class<?> primitive = ClassUtils.wrapperToPrimitive(getValueType());
+        if (primitive != null) {
+            result.add(primitive);
+        }
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -24,9 +24,12 @@ package dev.orne.test.rnd.generators;
 
 import java.lang.reflect.Array;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -34,14 +37,26 @@ import dev.orne.test.rnd.AbstractGenerator;
 import dev.orne.test.rnd.GenerationException;
 import dev.orne.test.rnd.Generator;
 import dev.orne.test.rnd.Generators;
+import dev.orne.test.rnd.PrimitiveDoubleGenerator;
+import dev.orne.test.rnd.PrimitiveIntGenerator;
+import dev.orne.test.rnd.PrimitiveLongGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of array values.
  * Requires supported component type generation in {@code Generators}.
+ * <p>
+ * Arrays of {@code int}, {@code long}, {@code double} and {@code byte}
+ * values are filled in bulk, without boxing the component values,
+ * when the component generator supports it.
+ * <p>
+ * The size range of the generated arrays can be changed through
+ * {@link #setSizeRange(int, int)}. Both bounds are replaced atomically,
+ * so concurrent generations always use a consistent range.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.2, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -54,6 +69,9 @@ extends AbstractGenerator {
     /** The maximum generated array size. */
     public static final int MAX_SIZE = 10;
 
+    /** The size range of the generated arrays. */
+    private volatile @NotNull SizeRange sizeRange = new SizeRange(MIN_SIZE, MAX_SIZE);
+
     /**
      * Creates a new instance.
      */
@@ -61,6 +79,48 @@ extends AbstractGenerator {
         super();
     }
 
+    /**
+     * Returns the minimum size of the generated arrays.
+     * 
+     * @return The minimum size of the generated arrays
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @Min(0) int getMinSize() {
+        return this.sizeRange.min;
+    }
+
+    /**
+     * Returns the maximum size (excluded) of the generated arrays.
+     * If equal to the minimum size all the generated arrays have
+     * the minimum size.
+     * 
+     * @return The maximum size of the generated arrays
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @Min(0) int getMaxSize() {
+        return this.sizeRange.max;
+    }
+
+    /**
+     * Sets the minimum size (included) and the maximum size (excluded)
+     * of the generated arrays. If both sizes are equal all the generated
+     * arrays have the minimum size.
+     * 
+     * @param minSize The minimum size of the generated arrays
+     * @param maxSize The maximum size of the generated arrays
+     * @throws IllegalArgumentException If the minimum size is negative
+     * or greater than the maximum size
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public void setSizeRange(
+            final @Min(0) int minSize,
+            final @Min(0) int maxSize) {
+        this.sizeRange = new SizeRange(minSize, maxSize);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -104,10 +164,72 @@ extends AbstractGenerator {
     protected @NotNull Object randomArray(
             final @NotNull Class<?> componentType,
             final @NotNull Generator generator) {
-        final int size = RandomUtils.nextInt(MIN_SIZE, MAX_SIZE);
-        final Object result = Array.newInstance(componentType, size);
-        for (int i = 0; i < size; i++) {
-            Array.set(result, i, generator.randomValue(componentType));
+        final int size = randomSize();
+        Object result = randomPrimitiveArray(componentType, generator, size);
+        if (result == null) {
+            result = Array.newInstance(componentType, size);
+            for (int i = 0; i < size; i++) {
+                Array.set(result, i, generator.randomValue(componentType));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a random array size between the configured minimum size
+     * (included) and maximum size (excluded).
+     * 
+     * @return The random array size
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    protected int randomSize() {
+        final SizeRange range = this.sizeRange;
+        return RandomSources.current().nextInt(range.min, range.max);
+    }
+
+    /**
+     * Returns an array of the specified primitive component type and size
+     * filled in bulk by the specified component generator.
+     * <p>
+     * Supports {@code int}, {@code long} and {@code double} component
+     * generators implementing the corresponding primitive generator
+     * interface and {@code byte} component generators extending
+     * {@code ByteGenerator}.
+     * 
+     * @param componentType The requested component type.
+     * @param generator The generator to use to generate the array values.
+     * @param size The size of the array.
+     * @return The random array, or {@code null} if bulk generation is not
+     * supported for the component type and generator.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    protected Object randomPrimitiveArray(
+            final @NotNull Class<?> componentType,
+            final @NotNull Generator generator,
+            final @Min(0) int size) {
+        Object result = null;
+        if (int.class.equals(componentType)
+                && generator instanceof PrimitiveIntGenerator) {
+            final int[] array = new int[size];
+            ((PrimitiveIntGenerator) generator).fill(array);
+            result = array;
+        } else if (long.class.equals(componentType)
+                && generator instanceof PrimitiveLongGenerator) {
+            final long[] array = new long[size];
+            ((PrimitiveLongGenerator) generator).fill(array);
+            result = array;
+        } else if (double.class.equals(componentType)
+                && generator instanceof PrimitiveDoubleGenerator) {
+            final double[] array = new double[size];
+            ((PrimitiveDoubleGenerator) generator).fill(array);
+            result = array;
+        } else if (byte.class.equals(componentType)
+                && generator instanceof ByteGenerator) {
+            final byte[] array = new byte[size];
+            ((ByteGenerator) generator).fill(array);
+            result = array;
         }
         return result;
     }
@@ -142,11 +264,76 @@ extends AbstractGenerator {
     protected Object randomNullablesArray(
             final @NotNull Class<?> componentType,
             final @NotNull Generator generator) {
-        final int size = RandomUtils.nextInt(MIN_SIZE, MAX_SIZE);
-        final Object result = Array.newInstance(componentType, size);
-        for (int i = 0; i < size; i++) {
-            Array.set(result, i, generator.nullableRandomValue(componentType));
+        final int size = randomSize();
+        Object result = randomPrimitiveArray(componentType, generator, size);
+        if (result == null) {
+            result = Array.newInstance(componentType, size);
+            for (int i = 0; i < size; i++) {
+                Array.set(result, i, generator.nullableRandomValue(componentType));
+            }
         }
         return result;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .appendSuper(super.hashCode())
+                .append(this.sizeRange.min)
+                .append(this.sizeRange.max)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        if (obj.getClass() != getClass()) { return false; }
+        final ArrayGenerator other = (ArrayGenerator) obj;
+        final SizeRange range = this.sizeRange;
+        final SizeRange otherRange = other.sizeRange;
+        return new EqualsBuilder()
+                .appendSuper(super.equals(obj))
+                .append(range.min, otherRange.min)
+                .append(range.max, otherRange.max)
+                .build();
+    }
+
+    /**
+     * Immutable size range of the generated arrays.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.3
+     */
+    private static final class SizeRange {
+
+        /** The minimum size (included). */
+        private final int min;
+        /** The maximum size (excluded). */
+        private final int max;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param min The minimum size (included)
+         * @param max The maximum size (excluded)
+         * @throws IllegalArgumentException If the minimum size is negative
+         * or greater than the maximum size
+         */
+        private SizeRange(
+                final int min,
+                final int max) {
+            Validate.isTrue(min >= 0, "The minimum size must be non negative");
+            Validate.isTrue(min <= max, "The minimum size must not be greater than the maximum size");
+            this.min = min;
+            this.max = max;
+        }
+    }
 }
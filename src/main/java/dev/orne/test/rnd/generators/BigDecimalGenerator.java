@@ -24,29 +24,39 @@ package dev.orne.test.rnd.generators;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.Set;
 
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
-import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Generator of {@code BigDecimal} and {@code Number} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
 @Priority(Priority.NATIVE_GENERATORS)
 public class BigDecimalGenerator
-extends AbstractTypedGenerator<BigDecimal> {
+extends AbstractNumberGenerator<BigDecimal> {
 
     /** The default value. */
     public static final BigDecimal DEFAULT_VALUE = BigDecimal.ZERO;
+    /**
+     * The decimal digits added to the scale of the bounds when generating
+     * values between two bounds.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public static final int EXTRA_SCALE = 16;
 
     /**
      * Creates a new instance.
@@ -64,6 +74,16 @@ extends AbstractTypedGenerator<BigDecimal> {
         return super.supports(type) || Number.class.equals(type);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Set<Class<?>> getSupportedTypes() {
+        final Set<Class<?>> result = new HashSet<>(super.getSupportedTypes());
+        result.add(Number.class);
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -80,6 +100,45 @@ extends AbstractTypedGenerator<BigDecimal> {
         return randomBigDecimal();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Default minimum and maximum values of the generation parameters
+     * are interpreted as no bound.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull BigDecimal defaultValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        final BigDecimal min = getMinBound(parameters);
+        final BigDecimal max = getMaxBound(parameters);
+        BigDecimal result = DEFAULT_VALUE;
+        if (min != null && max != null) {
+            Validate.isTrue(min.compareTo(max) <= 0, "Empty range of values [%s, %s]", min, max);
+        }
+        if (min != null && result.compareTo(min) < 0) {
+            result = min;
+        } else if (max != null && result.compareTo(max) > 0) {
+            result = max;
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Default minimum and maximum values of the generation parameters
+     * are interpreted as no bound.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull BigDecimal randomValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        return randomBigDecimal(getMinBound(parameters), getMaxBound(parameters));
+    }
+
     /**
      * Generates a random {@code BigDecimal} with unescaled value between
      * -10<sup>32</sup> and 10<sup>32</sup> (both excluded) and scale
@@ -92,4 +151,45 @@ extends AbstractTypedGenerator<BigDecimal> {
         final int scale = IntegerGenerator.randomInt(Double.MIN_EXPONENT, Double.MAX_EXPONENT);
         return new BigDecimal(value, scale);
     }
+
+    /**
+     * Generates a random {@code BigDecimal} between {@code min}
+     * and {@code max} both included.
+     * <p>
+     * If both bounds are specified the value is uniformly distributed
+     * between the bounds, with {@value #EXTRA_SCALE} more decimal digits
+     * than the greatest scale of the bounds.
+     * <p>
+     * If only one bound is specified the value is generated adding
+     * (or subtracting) the absolute value of {@link #randomBigDecimal()}
+     * to the bound. If no bound is specified is equivalent to
+     * {@link #randomBigDecimal()}.
+     * 
+     * @param min The minimal value, or {@code null} for no lower bound
+     * @param max The maximum value, or {@code null} for no upper bound
+     * @return A random {@code BigDecimal} value
+     * @throws IllegalArgumentException If {@code min} is greater than
+     * {@code max}
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public static BigDecimal randomBigDecimal(
+            final BigDecimal min,
+            final BigDecimal max) {
+        final BigDecimal result;
+        if (min == null && max == null) {
+            result = randomBigDecimal();
+        } else if (max == null) {
+            result = min.add(randomBigDecimal().abs());
+        } else if (min == null) {
+            result = max.subtract(randomBigDecimal().abs());
+        } else {
+            Validate.isTrue(min.compareTo(max) <= 0, "Empty range of values [%s, %s]", min, max);
+            final int scale = Math.max(min.scale(), max.scale()) + EXTRA_SCALE;
+            final BigInteger range = max.subtract(min).movePointRight(scale).toBigIntegerExact();
+            final BigInteger offset = BigIntegerGenerator.randomBigInteger(BigInteger.ZERO, range);
+            result = min.add(new BigDecimal(offset, scale));
+        }
+        return result;
+    }
 }
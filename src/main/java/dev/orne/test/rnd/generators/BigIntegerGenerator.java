@@ -22,34 +22,43 @@ package dev.orne.test.rnd.generators;
  * #L%
  */
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
 
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.lang3.RandomUtils;
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
-import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSource;
+import dev.orne.test.rnd.RandomSources;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Generator of {@code BigInteger} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
 @Priority(Priority.NATIVE_GENERATORS)
 public class BigIntegerGenerator
-extends AbstractTypedGenerator<BigInteger> {
+extends AbstractNumberGenerator<BigInteger> {
 
     /** The default value. */
     public static final BigInteger DEFAULT_VALUE = BigInteger.ZERO;
     /** The maximum 10 base exponent of generated values. */
     private static final int MAX_EXPONENT = 32;
+    /**
+     * The extra random bits used in bounded generation to make the modulo
+     * bias negligible.
+     */
+    private static final int EXTRA_BITS = 64;
 
     /**
      * Creates a new instance.
@@ -74,6 +83,71 @@ extends AbstractTypedGenerator<BigInteger> {
         return randomBigInteger();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Default minimum and maximum values of the generation parameters
+     * are interpreted as no bound.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull BigInteger defaultValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        final BigInteger min = getMin(parameters);
+        final BigInteger max = getMax(parameters);
+        BigInteger result = DEFAULT_VALUE;
+        if (min != null && max != null) {
+            Validate.isTrue(min.compareTo(max) <= 0, "Empty range of values [%s, %s]", min, max);
+        }
+        if (min != null && result.compareTo(min) < 0) {
+            result = min;
+        } else if (max != null && result.compareTo(max) > 0) {
+            result = max;
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Default minimum and maximum values of the generation parameters
+     * are interpreted as no bound.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull BigInteger randomValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        return randomBigInteger(getMin(parameters), getMax(parameters));
+    }
+
+    /**
+     * Returns the minimum value allowed by the specified generation
+     * parameters.
+     * 
+     * @param parameters The generation parameters
+     * @return The minimum value allowed, or {@code null} if unbounded
+     */
+    private static BigInteger getMin(
+            final @NotNull NumberGenerationParameters parameters) {
+        final BigDecimal bound = getMinBound(parameters);
+        return bound == null ? null : bound.setScale(0, RoundingMode.CEILING).toBigInteger();
+    }
+
+    /**
+     * Returns the maximum value allowed by the specified generation
+     * parameters.
+     * 
+     * @param parameters The generation parameters
+     * @return The maximum value allowed, or {@code null} if unbounded
+     */
+    private static BigInteger getMax(
+            final @NotNull NumberGenerationParameters parameters) {
+        final BigDecimal bound = getMaxBound(parameters);
+        return bound == null ? null : bound.setScale(0, RoundingMode.FLOOR).toBigInteger();
+    }
+
     /**
      * Generates a random {@code BigInteger} between -10<sup>32</sup>
      * and 10<sup>32</sup> both excluded.
@@ -81,11 +155,51 @@ extends AbstractTypedGenerator<BigInteger> {
      * @return A random {@code BigInteger} value
      */
     public static BigInteger randomBigInteger() {
-        final int size = RandomUtils.nextInt(1, MAX_EXPONENT + 1);
-        BigInteger result = new BigInteger(RandomStringUtils.randomNumeric(size));
-        if (RandomUtils.nextBoolean()) {
+        final RandomSource random = RandomSources.current();
+        final int size = random.nextInt(1, MAX_EXPONENT + 1);
+        BigInteger result = new BigInteger(RandomStringUtils.random(size, 0, 0, false, true,
+                null, random.asRandom()));
+        if (random.nextBoolean()) {
             result = result.negate();
         }
         return result;
     }
+
+    /**
+     * Generates a random {@code BigInteger} between {@code min}
+     * and {@code max} both included.
+     * <p>
+     * If only one bound is specified the value is generated adding
+     * (or subtracting) the absolute value of {@link #randomBigInteger()}
+     * to the bound. If no bound is specified is equivalent to
+     * {@link #randomBigInteger()}.
+     * 
+     * @param min The minimal value, or {@code null} for no lower bound
+     * @param max The maximum value, or {@code null} for no upper bound
+     * @return A random {@code BigInteger} value
+     * @throws IllegalArgumentException If {@code min} is greater than
+     * {@code max}
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public static BigInteger randomBigInteger(
+            final BigInteger min,
+            final BigInteger max) {
+        final BigInteger result;
+        if (min == null && max == null) {
+            result = randomBigInteger();
+        } else if (max == null) {
+            result = min.add(randomBigInteger().abs());
+        } else if (min == null) {
+            result = max.subtract(randomBigInteger().abs());
+        } else {
+            Validate.isTrue(min.compareTo(max) <= 0, "Empty range of values [%s, %s]", min, max);
+            final BigInteger range = max.subtract(min).add(BigInteger.ONE);
+            final BigInteger value = new BigInteger(
+                    range.bitLength() + EXTRA_BITS,
+                    RandomSources.current().asRandom());
+            result = min.add(value.mod(range));
+        }
+        return result;
+    }
 }
@@ -24,17 +24,17 @@ package dev.orne.test.rnd.generators;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code boolean} and {@code Boolean} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -65,6 +65,6 @@ extends AbstractPrimitiveGenerator<Boolean> {
      */
     @Override
     public @NotNull Boolean randomValue() {
-        return RandomUtils.nextBoolean();
+        return RandomSources.current().nextBoolean();
     }
 }
@@ -0,0 +1,246 @@
+package dev.orne.test.rnd.generators;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.test.rnd.GenerationException;
+import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSource;
+import dev.orne.test.rnd.RandomSources;
+import dev.orne.test.rnd.params.AbstractTypedParameterizableGenerator;
+import dev.orne.test.rnd.params.Alphabet;
+import dev.orne.test.rnd.params.StringGenerationParameters;
+
+/**
+ * Generator of {@code ByteBuffer} payload values.
+ * <p>
+ * Follows the size and alphabet rules of {@code StringGenerator}:
+ * <ul>
+ * <li>If the generation parameters specify a regular expression the
+ * payload is a matching string, UTF-8 encoded.</li>
+ * <li>If the generation parameters specify an {@code Alphabet} the payload
+ * contains random characters of the alphabet, UTF-8 encoded. Sizes are
+ * measured in characters.</li>
+ * <li>Otherwise the payload contains random binary data. Sizes are
+ * measured in bytes.</li>
+ * </ul>
+ * <p>
+ * Payloads can be written directly into caller supplied heap or direct
+ * buffers with {@link #fill(ByteBuffer, StringGenerationParameters)},
+ * without intermediate {@code String} or {@code byte[]} instances.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see StringGenerator
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+@Priority(Priority.NATIVE_GENERATORS)
+public class ByteBufferGenerator
+extends AbstractTypedParameterizableGenerator<ByteBuffer, StringGenerationParameters> {
+
+    /** The generator of regular expression matching strings. */
+    private final @NotNull StringGenerator strings = new StringGenerator();
+
+    /**
+     * Creates a new instance.
+     */
+    public ByteBufferGenerator() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns an empty heap buffer.
+     */
+    @Override
+    public @NotNull ByteBuffer defaultValue(
+            final @NotNull StringGenerationParameters parameters) {
+        return ByteBuffer.allocate(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a heap buffer positioned at zero with its limit at the end
+     * of the payload.
+     */
+    @Override
+    public @NotNull ByteBuffer randomValue(
+            final @NotNull StringGenerationParameters parameters) {
+        if (parameters.getPattern() != null) {
+            return ByteBuffer.wrap(randomPatternBytes(parameters));
+        }
+        final int size = StringGenerator.randomSize(parameters, Integer.MAX_VALUE);
+        final Alphabet alphabet = parameters.getAlphabet();
+        final int capacity = alphabet == null ? size :
+                Math.multiplyExact(size, alphabet.maxEncodedLength());
+        final ByteBuffer result = ByteBuffer.allocate(capacity);
+        write(result, size, alphabet, RandomSources.current());
+        ((Buffer) result).flip();
+        return result;
+    }
+
+    /**
+     * Writes a random payload into the specified buffer, starting at its
+     * position. The buffer position is advanced by the number of bytes
+     * written.
+     * <p>
+     * The payload size is limited to the buffer remaining space.
+     * 
+     * @param target The buffer to write to.
+     * @param parameters The generation parameters.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException If the minimum size does not fit in
+     * the buffer remaining space
+     * @throws BufferOverflowException If the string matching the regular
+     * expression does not fit in the buffer remaining space
+     * @throws GenerationException If an error occurs generating the value
+     */
+    public int fill(
+            final @NotNull ByteBuffer target,
+            final @NotNull StringGenerationParameters parameters) {
+        Validate.notNull(target);
+        Validate.notNull(parameters);
+        if (parameters.getPattern() != null) {
+            final byte[] bytes = randomPatternBytes(parameters);
+            target.put(bytes);
+            return bytes.length;
+        }
+        final Alphabet alphabet = parameters.getAlphabet();
+        final int limit = alphabet == null ? target.remaining() :
+                target.remaining() / alphabet.maxEncodedLength();
+        final int size = StringGenerator.randomSize(parameters, limit);
+        return write(target, size, alphabet, RandomSources.current());
+    }
+
+    /**
+     * Writes a random payload into the specified array, starting at the
+     * specified offset.
+     * <p>
+     * The payload size is limited to the array space after the offset.
+     * 
+     * @param target The array to write to.
+     * @param offset The position of the first byte to write.
+     * @param parameters The generation parameters.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException If the minimum size does not fit in
+     * the array space after the offset
+     * @throws BufferOverflowException If the string matching the regular
+     * expression does not fit in the array space after the offset
+     * @throws GenerationException If an error occurs generating the value
+     * @see #fill(ByteBuffer, StringGenerationParameters)
+     */
+    public int fill(
+            final @NotNull byte[] target,
+            final int offset,
+            final @NotNull StringGenerationParameters parameters) {
+        Validate.notNull(target);
+        Validate.isTrue(offset >= 0 && offset <= target.length, "Invalid offset");
+        return fill(ByteBuffer.wrap(target, offset, target.length - offset), parameters);
+    }
+
+    /**
+     * Writes the specified number of random characters or bytes into the
+     * buffer.
+     * 
+     * @param target The buffer to write to.
+     * @param size The number of characters or bytes.
+     * @param alphabet The alphabet of the characters, or {@code null} for
+     * binary data.
+     * @param source The random source to use.
+     * @return The number of bytes written.
+     */
+    private static int write(
+            final @NotNull ByteBuffer target,
+            final int size,
+            final Alphabet alphabet,
+            final @NotNull RandomSource source) {
+        if (alphabet == null) {
+            randomBytes(target, size, source);
+            return size;
+        }
+        return alphabet.fill(target, size, source);
+    }
+
+    /**
+     * Writes the specified number of random bytes into the buffer, eight
+     * bytes per random {@code long}.
+     * 
+     * @param target The buffer to write to.
+     * @param length The number of bytes.
+     * @param source The random source to use.
+     */
+    protected static void randomBytes(
+            final @NotNull ByteBuffer target,
+            final int length,
+            final @NotNull RandomSource source) {
+        int remaining = length;
+        while (remaining >= Long.BYTES) {
+            target.putLong(source.nextLong());
+            remaining -= Long.BYTES;
+        }
+        if (remaining > 0) {
+            long value = source.nextLong();
+            for (; remaining > 0; remaining--) {
+                target.put((byte) value);
+                value >>>= Byte.SIZE;
+            }
+        }
+    }
+
+    /**
+     * Returns the UTF-8 encoded bytes of a random string matching the
+     * regular expression of the generation parameters.
+     * 
+     * @param parameters The generation parameters.
+     * @return The encoded random string.
+     * @throws GenerationException If an error occurs generating the value
+     */
+    private @NotNull byte[] randomPatternBytes(
+            final @NotNull StringGenerationParameters parameters) {
+        return this.strings.randomPatternString(parameters)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a new instance of generation parameters.
+     * 
+     * @return The generation parameters.
+     * @see StringGenerationParameters
+     */
+    public static @NotNull StringGenerationParameters createParameters() {
+        return new StringGenerationParameters();
+    }
+}
@@ -24,22 +24,25 @@ package dev.orne.test.rnd.generators;
 
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Generator of {@code byte} and {@code Byte} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
 @Priority(Priority.NATIVE_GENERATORS)
 public class ByteGenerator
-extends AbstractPrimitiveGenerator<Byte> {
+extends AbstractNumberGenerator<Byte> {
 
     /** The default value. */
     public static final byte DEFAULT_VALUE = 0;
@@ -67,6 +70,33 @@ extends AbstractPrimitiveGenerator<Byte> {
         return randomByte();
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull Byte defaultValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        return (byte) clamp(
+                DEFAULT_VALUE,
+                getMinLong(parameters, Byte.MIN_VALUE),
+                getMaxLong(parameters, Byte.MAX_VALUE));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull Byte randomValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        final long min = getMinLong(parameters, Byte.MIN_VALUE);
+        final long max = getMaxLong(parameters, Byte.MAX_VALUE);
+        return (byte) LongGenerator.randomLong(min, max);
+    }
+
     /**
      * Generates a random {@code byte} between {@code Byte.MIN_VALUE}
      * and {@code Byte.MAX_VALUE} both included.
@@ -76,4 +106,19 @@ extends AbstractPrimitiveGenerator<Byte> {
     public static byte randomByte() {
         return (byte) IntegerGenerator.randomInt(Byte.MIN_VALUE, Byte.MAX_VALUE);
     }
+
+    /**
+     * Fills the specified array with random {@code byte} values.
+     * <p>
+     * The values are generated in bulk by the current random source.
+     * 
+     * @param array The array to fill
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public void fill(
+            final @NotNull byte[] array) {
+        Validate.notNull(array);
+        RandomSources.current().nextBytes(array);
+    }
 }
@@ -28,19 +28,19 @@ import java.util.TimeZone;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Generators;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code Calendar} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -73,7 +73,7 @@ extends AbstractTypedGenerator<Calendar> {
         final Calendar result = Calendar.getInstance(
                 Generators.randomValue(TimeZone.class),
                 Generators.randomValue(Locale.class));
-        result.setTimeInMillis(RandomUtils.nextLong());
+        result.setTimeInMillis(RandomSources.current().nextLong(Long.MAX_VALUE));
         return result;
     }
 }
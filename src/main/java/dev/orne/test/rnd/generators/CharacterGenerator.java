@@ -24,17 +24,17 @@ package dev.orne.test.rnd.generators;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code char} and {@code Character} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -75,7 +75,7 @@ extends AbstractPrimitiveGenerator<Character> {
      * @return A random {@code byte} value
      */
     public static char randomChar() {
-        return (char) RandomUtils.nextInt(Character.MIN_VALUE,
+        return (char) RandomSources.current().nextInt(Character.MIN_VALUE,
                 Character.MAX_VALUE + 1);
     }
 }
@@ -29,12 +29,12 @@ import java.util.List;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code Charset} values.
@@ -42,7 +42,7 @@ import dev.orne.test.rnd.Priority;
  * Use {@link #randomDecodeOnlyValue()} for values without encoding support.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.1, 2023-10
+ * @version 1.2, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -88,7 +88,7 @@ extends AbstractTypedGenerator<Charset> {
      */
     @Override
     public @NotNull Charset randomValue() {
-        final int index = RandomUtils.nextInt(0, CHARSETS.size());
+        final int index = RandomSources.current().nextInt(0, CHARSETS.size());
         return CHARSETS.get(index);
     }
 
@@ -98,7 +98,7 @@ extends AbstractTypedGenerator<Charset> {
      * @return A random {@code Charset} that does not support encoding.
      */
     public @NotNull Charset randomDecodeOnlyValue() {
-        final int index = RandomUtils.nextInt(0, DECODE_ONLY_CHARSETS.size());
+        final int index = RandomSources.current().nextInt(0, DECODE_ONLY_CHARSETS.size());
         return DECODE_ONLY_CHARSETS.get(index);
     }
 }
@@ -26,18 +26,18 @@ import java.util.Date;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code Date} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -65,6 +65,6 @@ extends AbstractTypedGenerator<Date> {
      */
     @Override
     public @NotNull Date randomValue() {
-        return new Date(RandomUtils.nextLong());
+        return new Date(RandomSources.current().nextLong(Long.MAX_VALUE));
     }
 }
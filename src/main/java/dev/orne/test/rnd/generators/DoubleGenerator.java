@@ -22,24 +22,35 @@ package dev.orne.test.rnd.generators;
  * #L%
  */
 
+import java.math.BigDecimal;
+import java.util.stream.DoubleStream;
+
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import dev.orne.test.rnd.PrimitiveDoubleGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSource;
+import dev.orne.test.rnd.RandomSources;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
+import dev.orne.test.rnd.params.NumberParameters;
 
 /**
  * Generator of {@code double} and {@code Double} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
 @Priority(Priority.NATIVE_GENERATORS)
 public class DoubleGenerator
-extends AbstractPrimitiveGenerator<Double> {
+extends AbstractNumberGenerator<Double>
+implements PrimitiveDoubleGenerator {
 
     /** The default value. */
     public static final double DEFAULT_VALUE = 0;
@@ -77,6 +88,106 @@ extends AbstractPrimitiveGenerator<Double> {
         return randomDouble();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Default minimum and maximum values of the generation parameters
+     * are interpreted as no bound.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull Double defaultValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        final double min = getMinDouble(parameters);
+        final double max = getMaxDouble(parameters);
+        Validate.isTrue(min <= max, "Empty range of values [%s, %s]", min, max);
+        return Math.max(min, Math.min(max, DEFAULT_VALUE));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Default minimum and maximum values of the generation parameters
+     * are interpreted as no bound.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull Double randomValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        return randomDouble(getMinDouble(parameters), getMaxDouble(parameters));
+    }
+
+    /**
+     * Returns the minimum value allowed by the specified generation
+     * parameters.
+     * 
+     * @param parameters The generation parameters
+     * @return The minimum value allowed
+     */
+    private static double getMinDouble(
+            final @NotNull NumberParameters parameters) {
+        final BigDecimal bound = getMinBound(parameters);
+        return bound == null ? Double.NEGATIVE_INFINITY : bound.doubleValue();
+    }
+
+    /**
+     * Returns the maximum value allowed by the specified generation
+     * parameters.
+     * 
+     * @param parameters The generation parameters
+     * @return The maximum value allowed
+     */
+    private static double getMaxDouble(
+            final @NotNull NumberParameters parameters) {
+        final BigDecimal bound = getMaxBound(parameters);
+        return bound == null ? Double.POSITIVE_INFINITY : bound.doubleValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public double nextDouble() {
+        return randomDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The current random source is retrieved once for all the values.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public void fill(
+            final @NotNull double[] array) {
+        Validate.notNull(array);
+        final RandomSource source = RandomSources.current();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = randomDouble(source);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The random source current when this method is called is used for all
+     * the values.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull DoubleStream doubles(
+            final @Min(0) long size) {
+        Validate.isTrue(size >= 0, "The number of values must be non negative");
+        final RandomSource source = RandomSources.current();
+        return DoubleStream.generate(() -> randomDouble(source)).limit(size);
+    }
+
     /**
      * Generates a random {@code double} between {@code Double.NEGATIVE_INFINITY}
      * and {@code Double.POSITIVE_INFINITY} both included.
@@ -84,10 +195,23 @@ extends AbstractPrimitiveGenerator<Double> {
      * @return A random {@code double} value
      */
     public static double randomDouble() {
-        long bits = LongGenerator.randomLong();
+        return randomDouble(RandomSources.current());
+    }
+
+    /**
+     * Generates a random {@code double} between {@code Double.NEGATIVE_INFINITY}
+     * and {@code Double.POSITIVE_INFINITY} both included using the specified
+     * random source.
+     * 
+     * @param source The random source to use
+     * @return A random {@code double} value
+     */
+    static double randomDouble(
+            final @NotNull RandomSource source) {
+        long bits = source.nextLong();
         // We ignore NaN values
         while (isNaN(bits) && !isInfinity(bits)) {
-            bits = LongGenerator.randomLong();
+            bits = source.nextLong();
         }
         return Double.longBitsToDouble(bits);
     }
@@ -107,6 +231,58 @@ extends AbstractPrimitiveGenerator<Double> {
         return Double.longBitsToDouble(bits);
     }
 
+    /**
+     * Generates a random {@code double} between {@code min}
+     * and {@code max} both included.
+     * <p>
+     * All the {@code double} values in the range have the same probability,
+     * as in {@link #randomDouble()}. The value is selected with a single
+     * bounded random draw over the ordered bit representations of the
+     * values in the range.
+     * 
+     * @param min The minimal value
+     * @param max The maximum value
+     * @return A random {@code double} value
+     * @throws IllegalArgumentException If any bound is NaN or if
+     * {@code min} is greater than {@code max}
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public static double randomDouble(
+            final double min,
+            final double max) {
+        Validate.isTrue(min <= max, "Empty range of values [%s, %s]", min, max);
+        // Negative zero is the lower of the zeros
+        final long from = toOrderedBits(min == 0 ? -0.0 : min);
+        final long to = toOrderedBits(max == 0 ? 0.0 : max);
+        return fromOrderedBits(LongGenerator.randomLong(from, to));
+    }
+
+    /**
+     * Returns the bit representation of the specified value transformed to
+     * preserve the order of the values in signed integer comparisons.
+     * 
+     * @param value The value
+     * @return The ordered bit representation of the value
+     */
+    static long toOrderedBits(
+            final double value) {
+        final long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the value of the specified ordered bit representation.
+     * 
+     * @param bits The ordered bit representation of the value
+     * @return The value
+     * @see #toOrderedBits(double)
+     */
+    static double fromOrderedBits(
+            final long bits) {
+        return Double.longBitsToDouble(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+    }
+
     /**
      * Returns true if the bit representation of the double value results in
      * a NaN. This includes both {@code Double.POSITIVE_INFINITY} and
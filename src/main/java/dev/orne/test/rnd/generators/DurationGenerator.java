@@ -27,19 +27,19 @@ import java.time.temporal.ChronoUnit;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Generators;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code Duration} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -71,6 +71,6 @@ extends AbstractTypedGenerator<Duration> {
         while (unit.isDurationEstimated()) {
             unit = Generators.randomValue(ChronoUnit.class);
         }
-        return Duration.of(RandomUtils.nextInt(), unit);
+        return Duration.of(RandomSources.current().nextInt(Integer.MAX_VALUE), unit);
     }
 }
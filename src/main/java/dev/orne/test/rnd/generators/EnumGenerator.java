@@ -24,13 +24,13 @@ package dev.orne.test.rnd.generators;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of enumeration types values.
@@ -38,7 +38,7 @@ import dev.orne.test.rnd.Priority;
  * Requires that the enumeration type contain constants.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -80,7 +80,7 @@ extends AbstractGenerator {
             final @NotNull Class<T> type) {
         assertSupported(type);
         final T[] values = type.getEnumConstants();
-        return values[RandomUtils.nextInt(0, values.length)];
+        return values[RandomSources.current().nextInt(0, values.length)];
     }
 
     /**
@@ -97,6 +97,6 @@ extends AbstractGenerator {
         Validate.isTrue(type.isEnum(), "The specified class is not an enumeration");
         final T[] values = type.getEnumConstants();
         Validate.isTrue(values.length > 0, "The specified enumeration has no values");
-        return values[RandomUtils.nextInt(0, values.length)];
+        return values[RandomSources.current().nextInt(0, values.length)];
     }
 }
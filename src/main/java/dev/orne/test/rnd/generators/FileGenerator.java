@@ -27,18 +27,18 @@ import java.io.File;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code File} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -137,7 +137,7 @@ extends AbstractTypedGenerator<File> {
      * @return The generated random path
      */
     public static @NotNull String randomPath() {
-        final int segments = RandomUtils.nextInt(1, 5);
+        final int segments = RandomSources.current().nextInt(1, 5);
         final StringBuilder path = new StringBuilder()
                 .append(randomPathSegment());
         for (int i = 1; i < segments; i++) {
@@ -153,7 +153,8 @@ extends AbstractTypedGenerator<File> {
      * @return The generated random path
      */
     public static @NotNull String randomPathSegment() {
-        return RandomStringUtils.randomAlphanumeric(5);
+        return RandomStringUtils.random(5, 0, 0, true, true,
+                null, RandomSources.current().asRandom());
     }
 
     /**
@@ -22,24 +22,29 @@ package dev.orne.test.rnd.generators;
  * #L%
  */
 
+import java.math.BigDecimal;
+
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
+import dev.orne.test.rnd.params.NumberParameters;
 
 /**
  * Generator of {@code float} and {@code Float} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
 @Priority(Priority.NATIVE_GENERATORS)
 public class FloatGenerator
-extends AbstractPrimitiveGenerator<Float> {
+extends AbstractNumberGenerator<Float> {
 
     /** The default value. */
     public static final float DEFAULT_VALUE = 0;
@@ -77,6 +82,63 @@ extends AbstractPrimitiveGenerator<Float> {
         return randomFloat();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Default minimum and maximum values of the generation parameters
+     * are interpreted as no bound.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull Float defaultValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        final float min = getMinFloat(parameters);
+        final float max = getMaxFloat(parameters);
+        Validate.isTrue(min <= max, "Empty range of values [%s, %s]", min, max);
+        return Math.max(min, Math.min(max, DEFAULT_VALUE));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Default minimum and maximum values of the generation parameters
+     * are interpreted as no bound.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull Float randomValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        return randomFloat(getMinFloat(parameters), getMaxFloat(parameters));
+    }
+
+    /**
+     * Returns the minimum value allowed by the specified generation
+     * parameters.
+     * 
+     * @param parameters The generation parameters
+     * @return The minimum value allowed
+     */
+    private static float getMinFloat(
+            final @NotNull NumberParameters parameters) {
+        final BigDecimal bound = getMinBound(parameters);
+        return bound == null ? Float.NEGATIVE_INFINITY : bound.floatValue();
+    }
+
+    /**
+     * Returns the maximum value allowed by the specified generation
+     * parameters.
+     * 
+     * @param parameters The generation parameters
+     * @return The maximum value allowed
+     */
+    private static float getMaxFloat(
+            final @NotNull NumberParameters parameters) {
+        final BigDecimal bound = getMaxBound(parameters);
+        return bound == null ? Float.POSITIVE_INFINITY : bound.floatValue();
+    }
+
     /**
      * Generates a random {@code float} between {@code Float.NEGATIVE_INFINITY}
      * and {@code Float.POSITIVE_INFINITY} both included.
@@ -107,6 +169,58 @@ extends AbstractPrimitiveGenerator<Float> {
         return Float.intBitsToFloat(bits);
     }
 
+    /**
+     * Generates a random {@code float} between {@code min}
+     * and {@code max} both included.
+     * <p>
+     * All the {@code float} values in the range have the same probability,
+     * as in {@link #randomFloat()}. The value is selected with a single
+     * bounded random draw over the ordered bit representations of the
+     * values in the range.
+     * 
+     * @param min The minimal value
+     * @param max The maximum value
+     * @return A random {@code float} value
+     * @throws IllegalArgumentException If any bound is NaN or if
+     * {@code min} is greater than {@code max}
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public static float randomFloat(
+            final float min,
+            final float max) {
+        Validate.isTrue(min <= max, "Empty range of values [%s, %s]", min, max);
+        // Negative zero is the lower of the zeros
+        final int from = toOrderedBits(min == 0 ? -0.0f : min);
+        final int to = toOrderedBits(max == 0 ? 0.0f : max);
+        return fromOrderedBits(IntegerGenerator.randomInt(from, to));
+    }
+
+    /**
+     * Returns the bit representation of the specified value transformed to
+     * preserve the order of the values in signed integer comparisons.
+     * 
+     * @param value The value
+     * @return The ordered bit representation of the value
+     */
+    static int toOrderedBits(
+            final float value) {
+        final int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the value of the specified ordered bit representation.
+     * 
+     * @param bits The ordered bit representation of the value
+     * @return The value
+     * @see #toOrderedBits(float)
+     */
+    static float fromOrderedBits(
+            final int bits) {
+        return Float.intBitsToFloat(bits ^ ((bits >> 31) & Integer.MAX_VALUE));
+    }
+
     /**
      * Returns true if the bit representation of the float value results in
      * a NaN. This includes both {@code Float.POSITIVE_INFINITY} and
@@ -26,18 +26,18 @@ import java.time.Instant;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code Instant} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -65,6 +65,6 @@ extends AbstractTypedGenerator<Instant> {
      */
     @Override
     public @NotNull Instant randomValue() {
-        return Instant.ofEpochMilli(RandomUtils.nextLong());
+        return Instant.ofEpochMilli(RandomSources.current().nextLong(Long.MAX_VALUE));
     }
 }
@@ -22,25 +22,33 @@ package dev.orne.test.rnd.generators;
  * #L%
  */
 
+import java.util.stream.IntStream;
+
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import dev.orne.test.rnd.PrimitiveIntGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSource;
+import dev.orne.test.rnd.RandomSources;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Generator of {@code int} and {@code Integer} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
 @Priority(Priority.NATIVE_GENERATORS)
 public class IntegerGenerator
-extends AbstractPrimitiveGenerator<Integer> {
+extends AbstractNumberGenerator<Integer>
+implements PrimitiveIntGenerator {
 
     /** The default value. */
     public static final int DEFAULT_VALUE = 0;
@@ -68,6 +76,76 @@ extends AbstractPrimitiveGenerator<Integer> {
         return randomInt();
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull Integer defaultValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        return (int) clamp(
+                DEFAULT_VALUE,
+                getMinLong(parameters, Integer.MIN_VALUE),
+                getMaxLong(parameters, Integer.MAX_VALUE));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull Integer randomValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        final long min = getMinLong(parameters, Integer.MIN_VALUE);
+        final long max = getMaxLong(parameters, Integer.MAX_VALUE);
+        return (int) LongGenerator.randomLong(min, max);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public int nextInt() {
+        return randomInt();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The current random source is retrieved once for all the values.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public void fill(
+            final @NotNull int[] array) {
+        Validate.notNull(array);
+        final RandomSource source = RandomSources.current();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = source.nextInt();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The random source current when this method is called is used for all
+     * the values.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull IntStream ints(
+            final @Min(0) long size) {
+        Validate.isTrue(size >= 0, "The number of values must be non negative");
+        final RandomSource source = RandomSources.current();
+        return IntStream.generate(() -> source.nextInt()).limit(size);
+    }
+
     /**
      * Generates a random {@code int} between {@code Integer.MIN_VALUE}
      * and {@code Integer.MAX_VALUE} both included.
@@ -75,11 +153,7 @@ extends AbstractPrimitiveGenerator<Integer> {
      * @return A random {@code int} value
      */
     public static int randomInt() {
-        int result = RandomUtils.nextInt();
-        if (RandomUtils.nextBoolean()) {
-            result *= -1;
-        }
-        return result;
+        return RandomSources.current().nextInt();
     }
 
     /**
@@ -93,6 +167,6 @@ extends AbstractPrimitiveGenerator<Integer> {
     public static int randomInt(
             final int min,
             final int max) {
-        return (int) (RandomUtils.nextLong(0, (long) max - min + 1) + min);
+        return (int) RandomSources.current().nextLong(min, (long) max + 1);
     }
 }
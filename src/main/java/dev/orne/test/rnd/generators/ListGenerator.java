@@ -23,12 +23,14 @@ package dev.orne.test.rnd.generators;
  */
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apiguardian.api.API;
@@ -36,6 +38,7 @@ import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.GenerationException;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 import dev.orne.test.rnd.params.AbstractTypedParameterizableGenerator;
 import dev.orne.test.rnd.params.CollectionGenerationParameters;
 
@@ -44,7 +47,7 @@ import dev.orne.test.rnd.params.CollectionGenerationParameters;
  * Requires supported component type generation in {@code Generators}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-12
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -72,6 +75,14 @@ extends AbstractTypedParameterizableGenerator<List<?>, CollectionGenerationParam
         return super.supports(type) || Collection.class.equals(type);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Set<Class<?>> getSupportedTypes() {
+        return new HashSet<>(Arrays.asList(List.class, Collection.class));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -183,7 +194,7 @@ extends AbstractTypedParameterizableGenerator<List<?>, CollectionGenerationParam
      */
     protected int randomSize(
             final @NotNull CollectionGenerationParameters parameters) {
-        return RandomUtils.nextInt(
+        return RandomSources.current().nextInt(
                 NumberUtils.max(MIN_SIZE, parameters.getMinSize()),
                 NumberUtils.min(MAX_SIZE, parameters.getMaxSize()) + 1);
     }
@@ -27,19 +27,19 @@ import java.time.Year;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Generators;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code LocalDate} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -70,6 +70,6 @@ extends AbstractTypedGenerator<LocalDate> {
         final Year year = Generators.randomValue(Year.class);
         return LocalDate.ofYearDay(
                 year.getValue(),
-                RandomUtils.nextInt(1, year.isLeap() ? 367 : 366));
+                RandomSources.current().nextInt(1, year.isLeap() ? 367 : 366));
     }
 }
@@ -26,18 +26,18 @@ import java.time.LocalTime;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code LocalTime} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -66,9 +66,9 @@ extends AbstractTypedGenerator<LocalTime> {
     @Override
     public @NotNull LocalTime randomValue() {
         return LocalTime.of(
-                RandomUtils.nextInt(0, 24),
-                RandomUtils.nextInt(0, 60),
-                RandomUtils.nextInt(0, 60),
-                RandomUtils.nextInt(0, 1000000000));
+                RandomSources.current().nextInt(0, 24),
+                RandomSources.current().nextInt(0, 60),
+                RandomSources.current().nextInt(0, 60),
+                RandomSources.current().nextInt(0, 1000000000));
     }
 }
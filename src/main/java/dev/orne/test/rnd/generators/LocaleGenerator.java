@@ -26,18 +26,18 @@ import java.util.Locale;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code Locale} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -68,7 +68,7 @@ extends AbstractTypedGenerator<Locale> {
      */
     @Override
     public @NotNull Locale randomValue() {
-        final int index = RandomUtils.nextInt(0, LOCALES.length);
+        final int index = RandomSources.current().nextInt(0, LOCALES.length);
         return LOCALES[index];
     }
 }
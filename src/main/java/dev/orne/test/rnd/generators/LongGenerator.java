@@ -22,25 +22,33 @@ package dev.orne.test.rnd.generators;
  * #L%
  */
 
+import java.util.stream.LongStream;
+
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import dev.orne.test.rnd.PrimitiveLongGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSource;
+import dev.orne.test.rnd.RandomSources;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Generator of {@code long} and {@code Long} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
 @Priority(Priority.NATIVE_GENERATORS)
 public class LongGenerator
-extends AbstractPrimitiveGenerator<Long> {
+extends AbstractNumberGenerator<Long>
+implements PrimitiveLongGenerator {
 
     /** The default value. */
     public static final long DEFAULT_VALUE = 0L;
@@ -68,6 +76,76 @@ extends AbstractPrimitiveGenerator<Long> {
         return randomLong();
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull Long defaultValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        return clamp(
+                DEFAULT_VALUE,
+                getMinLong(parameters, Long.MIN_VALUE),
+                getMaxLong(parameters, Long.MAX_VALUE));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull Long randomValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        final long min = getMinLong(parameters, Long.MIN_VALUE);
+        final long max = getMaxLong(parameters, Long.MAX_VALUE);
+        return randomLong(min, max);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public long nextLong() {
+        return randomLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The current random source is retrieved once for all the values.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public void fill(
+            final @NotNull long[] array) {
+        Validate.notNull(array);
+        final RandomSource source = RandomSources.current();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = source.nextLong();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The random source current when this method is called is used for all
+     * the values.
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull LongStream longs(
+            final @Min(0) long size) {
+        Validate.isTrue(size >= 0, "The number of values must be non negative");
+        final RandomSource source = RandomSources.current();
+        return LongStream.generate(() -> source.nextLong()).limit(size);
+    }
+
     /**
      * Generates a random {@code long} between {@code Long.MIN_VALUE}
      * and {@code Long.MAX_VALUE} both included.
@@ -75,9 +153,33 @@ extends AbstractPrimitiveGenerator<Long> {
      * @return A random {@code long} value
      */
     public static long randomLong() {
-        long result = RandomUtils.nextLong();
-        if (RandomUtils.nextBoolean()) {
-            result *= -1;
+        return RandomSources.current().nextLong();
+    }
+
+    /**
+     * Generates a random {@code long} between {@code min}
+     * and {@code max} both included.
+     * 
+     * @param min The minimal value
+     * @param max The maximum value
+     * @return A random {@code long} value
+     * @throws IllegalArgumentException If {@code min} is greater than
+     * {@code max}
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public static long randomLong(
+            final long min,
+            final long max) {
+        Validate.isTrue(min <= max, "Empty range of values [%s, %s]", min, max);
+        final RandomSource source = RandomSources.current();
+        final long result;
+        if (max < Long.MAX_VALUE) {
+            result = source.nextLong(min, max + 1);
+        } else if (min > Long.MIN_VALUE) {
+            result = source.nextLong(min - 1, max) + 1;
+        } else {
+            result = source.nextLong();
         }
         return result;
     }
@@ -27,7 +27,6 @@ import java.util.Map;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apiguardian.api.API;
@@ -35,6 +34,7 @@ import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.GenerationException;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 import dev.orne.test.rnd.params.AbstractTypedParameterizableGenerator;
 import dev.orne.test.rnd.params.MapGenerationParameters;
 
@@ -43,7 +43,7 @@ import dev.orne.test.rnd.params.MapGenerationParameters;
  * Requires supported component type generation in {@code Generators}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-12
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -181,7 +181,7 @@ extends AbstractTypedParameterizableGenerator<Map<?, ?>, MapGenerationParameters
      */
     protected int randomSize(
             final @NotNull MapGenerationParameters parameters) {
-        return RandomUtils.nextInt(
+        return RandomSources.current().nextInt(
                 NumberUtils.max(MIN_SIZE, parameters.getMinSize()),
                 NumberUtils.min(MAX_SIZE, parameters.getMaxSize()) + 1);
     }
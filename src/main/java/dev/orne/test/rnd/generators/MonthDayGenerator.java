@@ -27,19 +27,19 @@ import java.time.MonthDay;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Generators;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code MonthDay} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-12
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -76,13 +76,13 @@ extends AbstractTypedGenerator<MonthDay> {
             case JUNE:
             case SEPTEMBER:
             case NOVEMBER:
-                day = RandomUtils.nextInt(1, 31);
+                day = RandomSources.current().nextInt(1, 31);
                 break;
             case FEBRUARY:
-                day = RandomUtils.nextInt(1, 30);
+                day = RandomSources.current().nextInt(1, 30);
                 break;
             default:
-                day = RandomUtils.nextInt(1, 32);
+                day = RandomSources.current().nextInt(1, 32);
         }
         return MonthDay.of(month, day);
     }
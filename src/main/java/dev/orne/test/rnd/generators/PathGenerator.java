@@ -29,18 +29,18 @@ import java.nio.file.Paths;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code Path} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -141,7 +141,7 @@ extends AbstractTypedGenerator<Path> {
      * @return The generated random path
      */
     public static @NotNull String randomPath() {
-        final int segments = RandomUtils.nextInt(1, 5);
+        final int segments = RandomSources.current().nextInt(1, 5);
         final StringBuilder path = new StringBuilder()
                 .append(randomPathSegment());
         for (int i = 1; i < segments; i++) {
@@ -157,7 +157,8 @@ extends AbstractTypedGenerator<Path> {
      * @return The generated random path
      */
     public static @NotNull String randomPathSegment() {
-        return RandomStringUtils.randomAlphanumeric(5);
+        return RandomStringUtils.random(5, 0, 0, true, true,
+                null, RandomSources.current().asRandom());
     }
 
     /**
@@ -0,0 +1,1542 @@
+package dev.orne.test.rnd.generators;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.test.rnd.GenerationException;
+import dev.orne.test.rnd.RandomSource;
+
+/**
+ * Finite automaton compiled from a regular expression, used to generate
+ * random strings matching the expression.
+ * <p>
+ * The regular expression is parsed once into an epsilon free NFA. For each
+ * string length the set of states from which an accepting state can be
+ * reached in exactly that number of characters is precomputed. As the
+ * sequence of those sets is eventually periodic only its prefix and first
+ * period are stored, within a bounded number of state bits. The accepted
+ * lengths of the prefix and first period are precomputed too, so the
+ * accepted lengths between any bounds are counted and selected without
+ * scanning the bounds. Strings are generated by random walks that only
+ * take transitions leading to states from which the string can be
+ * completed with the remaining length, so there is no rejection loop and
+ * the cost per string is linear in its length.
+ * <p>
+ * Supports the most common {@code java.util.regex.Pattern} constructs:
+ * literals and escapes, character classes (including ranges, negation,
+ * unions, intersections, predefined and POSIX classes), {@code .},
+ * capturing and non capturing groups, alternation, greedy, reluctant and
+ * possessive quantifiers, inline flags (except {@code x}) and boundary
+ * anchors {@code ^}, {@code $}, {@code \A}, {@code \z}, {@code \Z} and
+ * {@code \G}, which are ignored as the whole string must match.
+ * Leading positive look-ahead groups anchored at the end of the input, as
+ * in {@code (?=X\z)Y}, are compiled as the intersection of the automatons
+ * of {@code X} and {@code Y}, so the generated strings match both
+ * expressions. Other look-around constructs, back references, atomic
+ * groups and word boundaries are not supported.
+ * <p>
+ * The complement of negated classes, negated predefined classes and
+ * {@code .} are restricted to printable ASCII characters.
+ * <p>
+ * Compiled automatons are cached by regular expression in a bounded
+ * cache.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.2, 2026-10
+ * @since 0.3
+ * @see java.util.regex.Pattern
+ */
+@API(status=Status.INTERNAL, since="0.3")
+public final class PatternAutomaton {
+
+    /** The maximum number of cached automatons. */
+    private static final int MAX_CACHED = 256;
+    /** The maximum number of NFA states of a regular expression. */
+    private static final int MAX_STATES = 10000;
+    /** The maximum number of precomputed string lengths. */
+    private static final int MAX_LENGTHS = 100000;
+    /** The maximum number of precomputed state bits for all lengths. */
+    private static final long MAX_REACH_BITS = 1L << 26;
+    /** The characters used for negated classes and {@code .}. */
+    private static final int[] UNIVERSE = { ' ', '~' };
+    /** The compiled automatons cache. */
+    private static final ConcurrentMap<String, PatternAutomaton> CACHE =
+            new ConcurrentHashMap<>();
+
+    /** The regular expression. */
+    private final @NotNull String pattern;
+    /** The transition target states by state. */
+    private final @NotNull int[][] targets;
+    /** The transition characters ranges by state. */
+    private final @NotNull int[][][] chars;
+    /**
+     * The states from which an accepting state can be reached by length,
+     * up to the end of the first period.
+     */
+    private final @NotNull BitSet[] reach;
+    /** The first length of the periodic part of {@code reach}. */
+    private final int periodStart;
+    /** The accepted lengths up to the end of the first period, sorted. */
+    private final @NotNull int[] lengths;
+    /** The index of the first accepted length of the periodic part. */
+    private final int periodicIndex;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param pattern The regular expression.
+     * @param targets The transition target states by state.
+     * @param chars The transition characters ranges by state.
+     * @param accepting The accepting states.
+     */
+    private PatternAutomaton(
+            final @NotNull String pattern,
+            final @NotNull int[][] targets,
+            final @NotNull int[][][] chars,
+            final @NotNull BitSet accepting) {
+        super();
+        this.pattern = pattern;
+        this.targets = targets;
+        this.chars = chars;
+        final int[][] predecessors = predecessors(targets);
+        final List<BitSet> levels = new ArrayList<>();
+        final Map<BitSet, Integer> indexes = new HashMap<>();
+        BitSet level = accepting;
+        Integer repeated = null;
+        while (repeated == null) {
+            Validate.isTrue(levels.size() < MAX_LENGTHS
+                    && (long) (levels.size() + 1) * targets.length <= MAX_REACH_BITS,
+                    "Regular expression too complex: %s", pattern);
+            indexes.put(level, levels.size());
+            levels.add(level);
+            final BitSet next = new BitSet(targets.length);
+            for (int t = level.nextSetBit(0); t >= 0; t = level.nextSetBit(t + 1)) {
+                for (final int p : predecessors[t]) {
+                    next.set(p);
+                }
+            }
+            repeated = indexes.get(next);
+            level = next;
+        }
+        this.reach = levels.toArray(new BitSet[levels.size()]);
+        this.periodStart = repeated;
+        this.lengths = IntStream.range(0, this.reach.length)
+                .filter(length -> this.reach[length].get(0))
+                .toArray();
+        this.periodicIndex = insertionPoint(this.periodStart);
+    }
+
+    /**
+     * Returns the automaton for the specified regular expression,
+     * compiling it if not cached.
+     * 
+     * @param pattern The regular expression.
+     * @return The automaton.
+     * @throws IllegalArgumentException If the regular expression is not
+     * valid or not supported
+     */
+    public static @NotNull PatternAutomaton of(
+            final @NotNull String pattern) {
+        Validate.notNull(pattern);
+        PatternAutomaton result = CACHE.get(pattern);
+        if (result == null) {
+            result = compile(pattern);
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            final PatternAutomaton previous = CACHE.putIfAbsent(pattern, result);
+            if (previous != null) {
+                result = previous;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compiles the specified regular expression.
+     * 
+     * @param pattern The regular expression.
+     * @return The compiled automaton.
+     * @throws IllegalArgumentException If the regular expression is not
+     * valid or not supported
+     */
+    static @NotNull PatternAutomaton compile(
+            final @NotNull String pattern) {
+        Validate.notNull(pattern);
+        PatternAutomaton result = null;
+        for (final Node root : new Parser(pattern).parseIntersection()) {
+            final Builder builder = new Builder(pattern);
+            final int[] fragment = root.build(builder);
+            final PatternAutomaton automaton = builder.build(fragment[0], fragment[1]);
+            result = result == null ? automaton : result.intersection(automaton);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the product automaton accepting the strings accepted by both
+     * this automaton and the specified one.
+     * 
+     * @param other The other automaton.
+     * @return The intersection automaton.
+     * @throws IllegalArgumentException If the product automaton has too
+     * many states
+     */
+    private @NotNull PatternAutomaton intersection(
+            final @NotNull PatternAutomaton other) {
+        final Map<Long, Integer> indexes = new HashMap<>();
+        final List<Long> states = new ArrayList<>();
+        final List<int[]> productTargets = new ArrayList<>();
+        final List<int[][]> productChars = new ArrayList<>();
+        final BitSet accepting = new BitSet();
+        indexes.put(0L, 0);
+        states.add(0L);
+        for (int i = 0; i < states.size(); i++) {
+            final int a = (int) (states.get(i) >>> Integer.SIZE);
+            final int b = states.get(i).intValue();
+            if (this.reach[0].get(a) && other.reach[0].get(b)) {
+                accepting.set(i);
+            }
+            final Map<Integer, int[]> merged = new LinkedHashMap<>();
+            for (int ta = 0; ta < this.targets[a].length; ta++) {
+                for (int tb = 0; tb < other.targets[b].length; tb++) {
+                    final int[] ranges = Ranges.intersection(
+                            this.chars[a][ta],
+                            other.chars[b][tb]);
+                    if (ranges.length == 0) {
+                        continue;
+                    }
+                    final long state = (long) this.targets[a][ta] << Integer.SIZE
+                            | other.targets[b][tb];
+                    Integer index = indexes.get(state);
+                    if (index == null) {
+                        Validate.isTrue(states.size() < MAX_STATES,
+                                "Regular expression too complex: %s", this.pattern);
+                        index = states.size();
+                        indexes.put(state, index);
+                        states.add(state);
+                    }
+                    merged.merge(index, ranges, Ranges::union);
+                }
+            }
+            productTargets.add(merged.keySet().stream().mapToInt(Integer::intValue).toArray());
+            productChars.add(merged.values().toArray(new int[merged.size()][]));
+        }
+        return new PatternAutomaton(
+                this.pattern,
+                productTargets.toArray(new int[productTargets.size()][]),
+                productChars.toArray(new int[productChars.size()][][]),
+                accepting);
+    }
+
+    /**
+     * Returns the regular expression of this automaton.
+     * 
+     * @return The regular expression.
+     */
+    public @NotNull String getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Returns {@code true} if any string of the specified length matches
+     * the regular expression.
+     * 
+     * @param length The string length.
+     * @return If any string of the specified length matches
+     */
+    public boolean accepts(
+            final int length) {
+        return length >= 0 && reach(length).get(0);
+    }
+
+    /**
+     * Returns the minimum length not lower than the specified length of the
+     * strings matching the regular expression.
+     * 
+     * @param from The minimum length.
+     * @return The minimum length of matching strings, or {@code -1} if
+     * no string of length equal or greater than the specified length
+     * matches
+     */
+    public int minLength(
+            final int from) {
+        final long index = countBelow(Math.max(0, from));
+        if (index >= this.lengths.length && this.periodicIndex == this.lengths.length) {
+            return -1;
+        }
+        final long result = acceptedLength(index);
+        return result > Integer.MAX_VALUE ? -1 : (int) result;
+    }
+
+    /**
+     * Returns a random string matching the regular expression with a
+     * length between the specified bounds.
+     * 
+     * @param source The random source.
+     * @param minLength The minimum length, inclusive.
+     * @param maxLength The maximum length, inclusive.
+     * @return A random matching string.
+     * @throws GenerationException If no string with length between the
+     * specified bounds matches the regular expression
+     */
+    public @NotNull String randomString(
+            final @NotNull RandomSource source,
+            final int minLength,
+            final int maxLength) {
+        Validate.notNull(source);
+        final int min = Math.max(0, minLength);
+        final long first = countBelow(min);
+        final long count = countBelow(maxLength + 1L) - first;
+        if (count <= 0) {
+            throw new GenerationException(String.format(
+                    "No string with length between %d and %d matches the regular expression: %s",
+                    min, maxLength, this.pattern));
+        }
+        final long length = acceptedLength(first + source.nextLong(count));
+        return randomString(source, (int) length);
+    }
+
+    /**
+     * Returns the number of accepted lengths lower than the specified
+     * length.
+     * 
+     * @param length The length, not negative.
+     * @return The number of accepted lengths lower than the length.
+     */
+    private long countBelow(
+            final long length) {
+        if (length <= this.reach.length) {
+            return insertionPoint((int) length);
+        }
+        final int period = this.reach.length - this.periodStart;
+        final long periodic = this.lengths.length - this.periodicIndex;
+        final long offset = length - this.reach.length;
+        final int partial = insertionPoint(this.periodStart + (int) (offset % period))
+                - this.periodicIndex;
+        return this.lengths.length + offset / period * periodic + partial;
+    }
+
+    /**
+     * Returns the accepted length with the specified index in ascending
+     * order. The index must be lower than the number of accepted lengths.
+     * 
+     * @param index The index of the accepted length.
+     * @return The accepted length.
+     */
+    private long acceptedLength(
+            final long index) {
+        if (index < this.lengths.length) {
+            return this.lengths[(int) index];
+        }
+        final int period = this.reach.length - this.periodStart;
+        final int periodic = this.lengths.length - this.periodicIndex;
+        final long offset = index - this.lengths.length;
+        return this.reach.length
+                + offset / periodic * period
+                + this.lengths[this.periodicIndex + (int) (offset % periodic)]
+                - this.periodStart;
+    }
+
+    /**
+     * Returns the number of precomputed accepted lengths lower than the
+     * specified length.
+     * 
+     * @param length The length, not greater than the number of
+     * precomputed lengths.
+     * @return The number of precomputed accepted lengths lower than the
+     * length.
+     */
+    private int insertionPoint(
+            final int length) {
+        final int index = Arrays.binarySearch(this.lengths, length);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    /**
+     * Returns a random string matching the regular expression with the
+     * specified length, that must be accepted.
+     * 
+     * @param source The random source.
+     * @param length The string length.
+     * @return A random matching string.
+     */
+    private @NotNull String randomString(
+            final @NotNull RandomSource source,
+            final int length) {
+        final char[] buffer = new char[length];
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            final BitSet next = reach(length - i - 1);
+            final int[] stateTargets = this.targets[state];
+            int count = 0;
+            for (final int target : stateTargets) {
+                if (next.get(target)) {
+                    count++;
+                }
+            }
+            int choice = source.nextInt(count);
+            int transition = 0;
+            while (choice > 0 || !next.get(stateTargets[transition])) {
+                if (next.get(stateTargets[transition])) {
+                    choice--;
+                }
+                transition++;
+            }
+            buffer[i] = randomChar(source, this.chars[state][transition]);
+            state = stateTargets[transition];
+        }
+        return new String(buffer);
+    }
+
+    /**
+     * Returns the states from which an accepting state can be reached
+     * with strings of the specified length.
+     * 
+     * @param length The string length.
+     * @return The states.
+     */
+    private @NotNull BitSet reach(
+            final int length) {
+        if (length < this.reach.length) {
+            return this.reach[length];
+        }
+        final int period = this.reach.length - this.periodStart;
+        return this.reach[this.periodStart + (length - this.periodStart) % period];
+    }
+
+    /**
+     * Returns a random character of the specified characters ranges.
+     * 
+     * @param source The random source.
+     * @param ranges The characters ranges.
+     * @return A random character.
+     */
+    private static char randomChar(
+            final @NotNull RandomSource source,
+            final @NotNull int[] ranges) {
+        int index = source.nextInt(Ranges.size(ranges));
+        int i = 0;
+        while (index > ranges[i + 1] - ranges[i]) {
+            index -= ranges[i + 1] - ranges[i] + 1;
+            i += 2;
+        }
+        return (char) (ranges[i] + index);
+    }
+
+    /**
+     * Returns the distinct predecessor states of each state.
+     * 
+     * @param targets The transition target states by state.
+     * @return The predecessor states by state.
+     */
+    private static @NotNull int[][] predecessors(
+            final @NotNull int[][] targets) {
+        final BitSet[] sets = new BitSet[targets.length];
+        for (int s = 0; s < targets.length; s++) {
+            sets[s] = new BitSet();
+        }
+        for (int s = 0; s < targets.length; s++) {
+            for (final int t : targets[s]) {
+                sets[t].set(s);
+            }
+        }
+        final int[][] result = new int[targets.length][];
+        for (int s = 0; s < targets.length; s++) {
+            result[s] = sets[s].stream().toArray();
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "PatternAutomaton[" + this.pattern + "]";
+    }
+
+    /**
+     * Operations on sorted, non overlapping and non adjacent inclusive
+     * character ranges, stored as {@code [first0, last0, first1, last1...]}.
+     */
+    static final class Ranges {
+
+        /** The empty ranges. */
+        static final int[] EMPTY = new int[0];
+        /** The decimal digits. */
+        static final int[] DIGITS = { '0', '9' };
+        /** The word characters. */
+        static final int[] WORD = { '0', '9', 'A', 'Z', '_', '_', 'a', 'z' };
+        /** The whitespace characters. */
+        static final int[] SPACE = { '\t', '\r', ' ', ' ' };
+        /** The horizontal whitespace characters. */
+        static final int[] HORIZONTAL_SPACE = { '\t', '\t', ' ', ' ' };
+        /** The vertical whitespace characters. */
+        static final int[] VERTICAL_SPACE = { '\n', '\r' };
+
+        /**
+         * Private constructor.
+         */
+        private Ranges() {
+            // Utility class
+        }
+
+        /**
+         * Returns the ranges containing only the specified character.
+         * 
+         * @param c The character.
+         * @return The ranges.
+         */
+        static @NotNull int[] of(
+                final int c) {
+            return new int[] { c, c };
+        }
+
+        /**
+         * Returns the number of characters in the specified ranges.
+         * 
+         * @param ranges The ranges.
+         * @return The number of characters.
+         */
+        static int size(
+                final @NotNull int[] ranges) {
+            int size = 0;
+            for (int i = 0; i < ranges.length; i += 2) {
+                size += ranges[i + 1] - ranges[i] + 1;
+            }
+            return size;
+        }
+
+        /**
+         * Returns the union of the specified ranges.
+         * 
+         * @param a The first ranges.
+         * @param b The second ranges.
+         * @return The union ranges.
+         */
+        static @NotNull int[] union(
+                final @NotNull int[] a,
+                final @NotNull int[] b) {
+            final int[][] pairs = new int[(a.length + b.length) / 2][];
+            int n = 0;
+            for (int i = 0; i < a.length; i += 2) {
+                pairs[n++] = new int[] { a[i], a[i + 1] };
+            }
+            for (int i = 0; i < b.length; i += 2) {
+                pairs[n++] = new int[] { b[i], b[i + 1] };
+            }
+            Arrays.sort(pairs, (x, y) -> Integer.compare(x[0], y[0]));
+            final int[] result = new int[pairs.length * 2];
+            int size = 0;
+            for (final int[] pair : pairs) {
+                if (size > 0 && pair[0] <= result[size - 1] + 1) {
+                    result[size - 1] = Math.max(result[size - 1], pair[1]);
+                } else {
+                    result[size++] = pair[0];
+                    result[size++] = pair[1];
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        /**
+         * Returns the intersection of the specified ranges.
+         * 
+         * @param a The first ranges.
+         * @param b The second ranges.
+         * @return The intersection ranges.
+         */
+        static @NotNull int[] intersection(
+                final @NotNull int[] a,
+                final @NotNull int[] b) {
+            final int[] result = new int[a.length + b.length];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                final int first = Math.max(a[i], b[j]);
+                final int last = Math.min(a[i + 1], b[j + 1]);
+                if (first <= last) {
+                    result[size++] = first;
+                    result[size++] = last;
+                }
+                if (a[i + 1] < b[j + 1]) {
+                    i += 2;
+                } else {
+                    j += 2;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        /**
+         * Returns the characters of the generation universe not contained
+         * in the specified ranges.
+         * 
+         * @param ranges The ranges.
+         * @return The complement ranges.
+         */
+        static @NotNull int[] complement(
+                final @NotNull int[] ranges) {
+            final int[] result = new int[ranges.length + 2];
+            int size = 0;
+            int next = Character.MIN_VALUE;
+            for (int i = 0; i < ranges.length; i += 2) {
+                if (ranges[i] > next) {
+                    result[size++] = next;
+                    result[size++] = ranges[i] - 1;
+                }
+                next = ranges[i + 1] + 1;
+            }
+            if (next <= Character.MAX_VALUE) {
+                result[size++] = next;
+                result[size++] = Character.MAX_VALUE;
+            }
+            return intersection(Arrays.copyOf(result, size), UNIVERSE);
+        }
+    }
+
+    /**
+     * Regular expression syntax tree node.
+     */
+    private abstract static class Node {
+
+        /**
+         * Adds the NFA states and transitions of this node to the
+         * specified builder.
+         * 
+         * @param builder The NFA builder.
+         * @return The start and end states of the node fragment.
+         */
+        abstract @NotNull int[] build(
+                @NotNull Builder builder);
+    }
+
+    /**
+     * Single character node.
+     */
+    private static final class CharsNode
+    extends Node {
+
+        /** The character ranges. */
+        private final @NotNull int[] ranges;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param ranges The character ranges.
+         */
+        CharsNode(
+                final @NotNull int[] ranges) {
+            super();
+            this.ranges = ranges;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @NotNull int[] build(
+                final @NotNull Builder builder) {
+            final int start = builder.state();
+            final int end = builder.state();
+            if (this.ranges.length > 0) {
+                builder.transition(start, this.ranges, end);
+            }
+            return new int[] { start, end };
+        }
+    }
+
+    /**
+     * Node sequence node.
+     */
+    private static final class SequenceNode
+    extends Node {
+
+        /** The nodes. */
+        private final @NotNull List<Node> nodes;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param nodes The nodes.
+         */
+        SequenceNode(
+                final @NotNull List<Node> nodes) {
+            super();
+            this.nodes = nodes;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @NotNull int[] build(
+                final @NotNull Builder builder) {
+            if (this.nodes.isEmpty()) {
+                final int state = builder.state();
+                return new int[] { state, state };
+            }
+            final int[] result = this.nodes.get(0).build(builder);
+            for (int i = 1; i < this.nodes.size(); i++) {
+                final int[] next = this.nodes.get(i).build(builder);
+                builder.epsilon(result[1], next[0]);
+                result[1] = next[1];
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Node alternation node.
+     */
+    private static final class AlternationNode
+    extends Node {
+
+        /** The alternative nodes. */
+        private final @NotNull List<Node> nodes;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param nodes The alternative nodes.
+         */
+        AlternationNode(
+                final @NotNull List<Node> nodes) {
+            super();
+            this.nodes = nodes;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @NotNull int[] build(
+                final @NotNull Builder builder) {
+            final int start = builder.state();
+            final int end = builder.state();
+            for (final Node node : this.nodes) {
+                final int[] fragment = node.build(builder);
+                builder.epsilon(start, fragment[0]);
+                builder.epsilon(fragment[1], end);
+            }
+            return new int[] { start, end };
+        }
+    }
+
+    /**
+     * Node repetition node.
+     */
+    private static final class RepeatNode
+    extends Node {
+
+        /** The repeated node. */
+        private final @NotNull Node node;
+        /** The minimum number of repetitions. */
+        private final int min;
+        /** The maximum number of repetitions, or {@code -1} if unbounded. */
+        private final int max;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param node The repeated node.
+         * @param min The minimum number of repetitions.
+         * @param max The maximum number of repetitions, or {@code -1} if
+         * unbounded.
+         */
+        RepeatNode(
+                final @NotNull Node node,
+                final int min,
+                final int max) {
+            super();
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @NotNull int[] build(
+                final @NotNull Builder builder) {
+            final int start = builder.state();
+            int end = start;
+            for (int i = 0; i < this.min; i++) {
+                final int[] fragment = this.node.build(builder);
+                builder.epsilon(end, fragment[0]);
+                end = fragment[1];
+            }
+            if (this.max == -1) {
+                final int[] fragment = this.node.build(builder);
+                final int loopEnd = builder.state();
+                builder.epsilon(end, fragment[0]);
+                builder.epsilon(end, loopEnd);
+                builder.epsilon(fragment[1], fragment[0]);
+                builder.epsilon(fragment[1], loopEnd);
+                end = loopEnd;
+            } else {
+                for (int i = this.min; i < this.max; i++) {
+                    final int[] fragment = this.node.build(builder);
+                    final int optionalEnd = builder.state();
+                    builder.epsilon(end, fragment[0]);
+                    builder.epsilon(end, optionalEnd);
+                    builder.epsilon(fragment[1], optionalEnd);
+                    end = optionalEnd;
+                }
+            }
+            return new int[] { start, end };
+        }
+    }
+
+    /**
+     * Builder of NFA with epsilon transitions.
+     */
+    private static final class Builder {
+
+        /** The regular expression. */
+        private final @NotNull String pattern;
+        /** The epsilon transitions by state. */
+        private final @NotNull List<List<Integer>> epsilons = new ArrayList<>();
+        /** The character transitions by state. */
+        private final @NotNull List<List<int[]>> transitions = new ArrayList<>();
+        /** The character transition targets by state. */
+        private final @NotNull List<List<Integer>> transitionTargets = new ArrayList<>();
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param pattern The regular expression.
+         */
+        Builder(
+                final @NotNull String pattern) {
+            super();
+            this.pattern = pattern;
+        }
+
+        /**
+         * Creates a new state.
+         * 
+         * @return The new state.
+         */
+        int state() {
+            Validate.isTrue(this.epsilons.size() < MAX_STATES,
+                    "Regular expression too complex: %s", this.pattern);
+            this.epsilons.add(new ArrayList<>());
+            this.transitions.add(new ArrayList<>());
+            this.transitionTargets.add(new ArrayList<>());
+            return this.epsilons.size() - 1;
+        }
+
+        /**
+         * Adds an epsilon transition.
+         * 
+         * @param from The source state.
+         * @param to The target state.
+         */
+        void epsilon(
+                final int from,
+                final int to) {
+            this.epsilons.get(from).add(to);
+        }
+
+        /**
+         * Adds a character transition.
+         * 
+         * @param from The source state.
+         * @param ranges The transition characters.
+         * @param to The target state.
+         */
+        void transition(
+                final int from,
+                final @NotNull int[] ranges,
+                final int to) {
+            this.transitions.get(from).add(ranges);
+            this.transitionTargets.get(from).add(to);
+        }
+
+        /**
+         * Builds the epsilon free automaton with the states reachable
+         * from the specified start state.
+         * 
+         * @param start The start state.
+         * @param end The accepting state.
+         * @return The automaton.
+         */
+        @NotNull PatternAutomaton build(
+                final int start,
+                final int end) {
+            final Map<Integer, Integer> indexes = new HashMap<>();
+            final List<Integer> states = new ArrayList<>();
+            final List<int[]> targets = new ArrayList<>();
+            final List<int[][]> chars = new ArrayList<>();
+            final BitSet accepting = new BitSet();
+            indexes.put(start, 0);
+            states.add(start);
+            for (int i = 0; i < states.size(); i++) {
+                final BitSet closure = closure(states.get(i));
+                if (closure.get(end)) {
+                    accepting.set(i);
+                }
+                final Map<Integer, int[]> merged = new LinkedHashMap<>();
+                for (int s = closure.nextSetBit(0); s >= 0; s = closure.nextSetBit(s + 1)) {
+                    final List<int[]> stateTransitions = this.transitions.get(s);
+                    for (int t = 0; t < stateTransitions.size(); t++) {
+                        merged.merge(
+                                this.transitionTargets.get(s).get(t),
+                                stateTransitions.get(t),
+                                Ranges::union);
+                    }
+                }
+                final int[] stateTargets = new int[merged.size()];
+                final int[][] stateChars = new int[merged.size()][];
+                int t = 0;
+                for (final Map.Entry<Integer, int[]> entry : merged.entrySet()) {
+                    Integer index = indexes.get(entry.getKey());
+                    if (index == null) {
+                        index = states.size();
+                        indexes.put(entry.getKey(), index);
+                        states.add(entry.getKey());
+                    }
+                    stateTargets[t] = index;
+                    stateChars[t] = entry.getValue();
+                    t++;
+                }
+                targets.add(stateTargets);
+                chars.add(stateChars);
+            }
+            return new PatternAutomaton(
+                    this.pattern,
+                    targets.toArray(new int[targets.size()][]),
+                    chars.toArray(new int[chars.size()][][]),
+                    accepting);
+        }
+
+        /**
+         * Returns the states reachable from the specified state through
+         * epsilon transitions, including itself.
+         * 
+         * @param state The state.
+         * @return The epsilon closure.
+         */
+        private @NotNull BitSet closure(
+                final int state) {
+            final BitSet result = new BitSet();
+            final List<Integer> pending = new ArrayList<>();
+            result.set(state);
+            pending.add(state);
+            while (!pending.isEmpty()) {
+                final int current = pending.remove(pending.size() - 1);
+                for (final int next : this.epsilons.get(current)) {
+                    if (!result.get(next)) {
+                        result.set(next);
+                        pending.add(next);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Regular expression parser.
+     */
+    private static final class Parser {
+
+        /** The regular expression. */
+        private final @NotNull String pattern;
+        /** The current parse position. */
+        private int pos;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param pattern The regular expression.
+         */
+        Parser(
+                final @NotNull String pattern) {
+            super();
+            this.pattern = pattern;
+        }
+
+        /**
+         * Parses the regular expression as the intersection of its leading
+         * positive look-ahead groups anchored at the end of the input and
+         * the rest of the expression, that cannot be an alternation.
+         * 
+         * @return The syntax tree root nodes of the intersected expressions.
+         */
+        @NotNull List<Node> parseIntersection() {
+            final List<Node> result = new ArrayList<>();
+            while (this.pattern.startsWith("(?=", this.pos)) {
+                this.pos += 3;
+                final Node node = parseAlternation();
+                if (!isAfterEndAnchor()) {
+                    throw error("Unsupported look-ahead not anchored at the end of input");
+                }
+                expect(')');
+                result.add(node);
+            }
+            if (result.isEmpty()) {
+                result.add(parse());
+            } else {
+                result.add(parseSequence());
+                if (peek('|')) {
+                    throw error("Unsupported look-ahead followed by alternation");
+                } else if (this.pos < this.pattern.length()) {
+                    throw error("Unmatched closing ')'");
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns {@code true} if the last parsed construct is the
+         * {@code \z} end of input anchor.
+         * 
+         * @return If the last parsed construct is the end of input anchor
+         */
+        private boolean isAfterEndAnchor() {
+            if (this.pos < 2 || !this.pattern.startsWith("\\z", this.pos - 2)) {
+                return false;
+            }
+            int escapes = 0;
+            for (int i = this.pos - 3; i >= 0 && this.pattern.charAt(i) == '\\'; i--) {
+                escapes++;
+            }
+            return escapes % 2 == 0;
+        }
+
+        /**
+         * Parses the regular expression.
+         * 
+         * @return The syntax tree root node.
+         */
+        @NotNull Node parse() {
+            final Node result = parseAlternation();
+            if (this.pos < this.pattern.length()) {
+                throw error("Unmatched closing ')'");
+            }
+            return result;
+        }
+
+        /**
+         * Parses an alternation.
+         * 
+         * @return The parsed node.
+         */
+        private @NotNull Node parseAlternation() {
+            final List<Node> nodes = new ArrayList<>();
+            nodes.add(parseSequence());
+            while (peek('|')) {
+                this.pos++;
+                nodes.add(parseSequence());
+            }
+            return nodes.size() == 1 ? nodes.get(0) : new AlternationNode(nodes);
+        }
+
+        /**
+         * Parses a sequence.
+         * 
+         * @return The parsed node.
+         */
+        private @NotNull Node parseSequence() {
+            final List<Node> nodes = new ArrayList<>();
+            while (this.pos < this.pattern.length() && !peek('|') && !peek(')')) {
+                Node node = parseAtom(nodes);
+                if (node != null) {
+                    node = parseQuantifiers(node);
+                    nodes.add(node);
+                }
+            }
+            return nodes.size() == 1 ? nodes.get(0) : new SequenceNode(nodes);
+        }
+
+        /**
+         * Parses an atom.
+         * 
+         * @param sequence The nodes of the sequence being parsed, to which
+         * the leading characters of quoted sequences are added.
+         * @return The parsed node, or {@code null} for ignored constructs.
+         */
+        private Node parseAtom(
+                final @NotNull List<Node> sequence) {
+            final char c = this.pattern.charAt(this.pos++);
+            switch (c) {
+                case '(':
+                    return parseGroup();
+                case '[':
+                    return new CharsNode(parseClass());
+                case '.':
+                    return new CharsNode(UNIVERSE);
+                case '^':
+                case '$':
+                    return new SequenceNode(new ArrayList<>());
+                case '\\':
+                    return parseEscapeAtom(sequence);
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw error("Dangling meta character '" + c + "'");
+                default:
+                    return new CharsNode(Ranges.of(c));
+            }
+        }
+
+        /**
+         * Parses a group, after the opening parenthesis.
+         * 
+         * @return The parsed node, or {@code null} for inline flags.
+         */
+        private Node parseGroup() {
+            if (peek('?')) {
+                this.pos++;
+                if (peek(':')) {
+                    this.pos++;
+                } else if (peek('<') && this.pos + 1 < this.pattern.length()
+                        && Character.isLetter(this.pattern.charAt(this.pos + 1))) {
+                    final int close = this.pattern.indexOf('>', this.pos);
+                    if (close == -1) {
+                        throw error("Unclosed group name");
+                    }
+                    this.pos = close + 1;
+                } else {
+                    final int flagsStart = this.pos;
+                    while (this.pos < this.pattern.length()
+                            && (Character.isLetter(this.pattern.charAt(this.pos)) || peek('-'))) {
+                        this.pos++;
+                    }
+                    if (this.pos == flagsStart) {
+                        throw error("Unsupported group construct");
+                    }
+                    if (this.pattern.substring(flagsStart, this.pos).indexOf('x') != -1) {
+                        throw error("Unsupported comments flag");
+                    }
+                    if (peek(')')) {
+                        this.pos++;
+                        return null;
+                    }
+                    expect(':');
+                }
+            }
+            final Node result = parseAlternation();
+            expect(')');
+            return result;
+        }
+
+        /**
+         * Parses the quantifiers of the specified node.
+         * 
+         * @param node The quantified node.
+         * @return The parsed node.
+         */
+        private @NotNull Node parseQuantifiers(
+                final @NotNull Node node) {
+            Node result = node;
+            while (this.pos < this.pattern.length()) {
+                final int min;
+                final int max;
+                final char c = this.pattern.charAt(this.pos);
+                if (c == '*') {
+                    this.pos++;
+                    min = 0;
+                    max = -1;
+                } else if (c == '+') {
+                    this.pos++;
+                    min = 1;
+                    max = -1;
+                } else if (c == '?') {
+                    this.pos++;
+                    min = 0;
+                    max = 1;
+                } else if (c == '{') {
+                    this.pos++;
+                    min = parseNumber();
+                    if (peek(',')) {
+                        this.pos++;
+                        max = peek('}') ? -1 : parseNumber();
+                    } else {
+                        max = min;
+                    }
+                    expect('}');
+                    if (max != -1 && max < min) {
+                        throw error("Illegal repetition range");
+                    }
+                } else {
+                    break;
+                }
+                if (peek('?') || peek('+')) {
+                    this.pos++;
+                }
+                result = new RepeatNode(result, min, max);
+            }
+            return result;
+        }
+
+        /**
+         * Parses a decimal number.
+         * 
+         * @return The parsed number.
+         */
+        private int parseNumber() {
+            final int start = this.pos;
+            while (this.pos < this.pattern.length()
+                    && Character.isDigit(this.pattern.charAt(this.pos))) {
+                this.pos++;
+            }
+            if (start == this.pos || this.pos - start > 5) {
+                throw error("Illegal repetition");
+            }
+            return Integer.parseInt(this.pattern.substring(start, this.pos));
+        }
+
+        /**
+         * Parses an escape sequence out of character classes, after the
+         * backslash. For quoted sequences only the last character is
+         * returned, as quantifiers apply to it.
+         * 
+         * @param sequence The nodes of the sequence being parsed, to which
+         * the leading characters of quoted sequences are added.
+         * @return The parsed node, or {@code null} for ignored constructs.
+         */
+        private Node parseEscapeAtom(
+                final @NotNull List<Node> sequence) {
+            if (this.pos >= this.pattern.length()) {
+                throw error("Unexpected end of pattern");
+            }
+            final char c = this.pattern.charAt(this.pos);
+            switch (c) {
+                case 'Q':
+                    this.pos++;
+                    int end = this.pattern.indexOf("\\E", this.pos);
+                    if (end == -1) {
+                        end = this.pattern.length();
+                    }
+                    Node last = null;
+                    for (int i = this.pos; i < end; i++) {
+                        if (last != null) {
+                            sequence.add(last);
+                        }
+                        last = new CharsNode(Ranges.of(this.pattern.charAt(i)));
+                    }
+                    this.pos = Math.min(end + 2, this.pattern.length());
+                    return last;
+                case 'A':
+                case 'z':
+                case 'Z':
+                case 'G':
+                    this.pos++;
+                    return null;
+                default:
+                    return new CharsNode(parseEscape());
+            }
+        }
+
+        /**
+         * Parses a character class, after the opening bracket.
+         * 
+         * @return The class characters.
+         */
+        private @NotNull int[] parseClass() {
+            final boolean negated = peek('^');
+            if (negated) {
+                this.pos++;
+            }
+            final int[] result = parseClassUnion();
+            expect(']');
+            return negated ? Ranges.complement(result) : result;
+        }
+
+        /**
+         * Parses the union of the items of a character class.
+         * 
+         * @return The class characters.
+         */
+        private @NotNull int[] parseClassUnion() {
+            int[] result = Ranges.EMPTY;
+            while (true) {
+                if (this.pos >= this.pattern.length()) {
+                    throw error("Unclosed character class");
+                }
+                final char c = this.pattern.charAt(this.pos);
+                if (c == ']') {
+                    return result;
+                } else if (c == '&' && this.pattern.startsWith("&&", this.pos)) {
+                    this.pos += 2;
+                    return Ranges.intersection(result, parseClassUnion());
+                } else if (c == '[') {
+                    this.pos++;
+                    result = Ranges.union(result, parseClass());
+                } else {
+                    int[] item = parseClassChar();
+                    if (item.length == 2 && item[0] == item[1] && peek('-')
+                            && this.pos + 1 < this.pattern.length()
+                            && this.pattern.charAt(this.pos + 1) != ']') {
+                        this.pos++;
+                        final int[] last = parseClassChar();
+                        if (last.length != 2 || last[0] != last[1] || last[0] < item[0]) {
+                            throw error("Illegal character range");
+                        }
+                        item = new int[] { item[0], last[0] };
+                    }
+                    result = Ranges.union(result, item);
+                }
+            }
+        }
+
+        /**
+         * Parses a character or escape sequence of a character class.
+         * 
+         * @return The parsed characters.
+         */
+        private @NotNull int[] parseClassChar() {
+            final char c = this.pattern.charAt(this.pos++);
+            if (c == '\\') {
+                return parseEscape();
+            }
+            return Ranges.of(c);
+        }
+
+        /**
+         * Parses a character escape sequence, after the backslash.
+         * 
+         * @return The parsed characters.
+         */
+        private @NotNull int[] parseEscape() {
+            if (this.pos >= this.pattern.length()) {
+                throw error("Unexpected end of pattern");
+            }
+            final char c = this.pattern.charAt(this.pos++);
+            switch (c) {
+                case 'd': return Ranges.DIGITS;
+                case 'D': return Ranges.complement(Ranges.DIGITS);
+                case 'w': return Ranges.WORD;
+                case 'W': return Ranges.complement(Ranges.WORD);
+                case 's': return Ranges.SPACE;
+                case 'S': return Ranges.complement(Ranges.SPACE);
+                case 'h': return Ranges.HORIZONTAL_SPACE;
+                case 'H': return Ranges.complement(Ranges.HORIZONTAL_SPACE);
+                case 'v': return Ranges.VERTICAL_SPACE;
+                case 'V': return Ranges.complement(Ranges.VERTICAL_SPACE);
+                case 't': return Ranges.of('\t');
+                case 'n': return Ranges.of('\n');
+                case 'r': return Ranges.of('\r');
+                case 'f': return Ranges.of('\f');
+                case 'a': return Ranges.of('\u0007');
+                case 'e': return Ranges.of('\u001B');
+                case '0': return Ranges.of(parseOctal());
+                case 'x': return Ranges.of(parseHexEscape());
+                case 'u': return Ranges.of(parseHex(4));
+                case 'c':
+                    if (this.pos >= this.pattern.length()) {
+                        throw error("Illegal control escape sequence");
+                    }
+                    return Ranges.of(this.pattern.charAt(this.pos++) ^ 64);
+                case 'p': return parseProperty();
+                case 'P': return Ranges.complement(parseProperty());
+                default:
+                    if (Character.isLetterOrDigit(c)) {
+                        throw error("Unsupported escape sequence '\\" + c + "'");
+                    }
+                    return Ranges.of(c);
+            }
+        }
+
+        /**
+         * Parses an octal escape sequence value, after {@code \0}.
+         * 
+         * @return The character value.
+         */
+        private int parseOctal() {
+            int value = 0;
+            int digits = 0;
+            while (digits < 3 && this.pos < this.pattern.length()) {
+                final int digit = Character.digit(this.pattern.charAt(this.pos), 8);
+                if (digit == -1 || value * 8 + digit > 0377) {
+                    break;
+                }
+                value = value * 8 + digit;
+                digits++;
+                this.pos++;
+            }
+            if (digits == 0) {
+                throw error("Illegal octal escape sequence");
+            }
+            return value;
+        }
+
+        /**
+         * Parses a hexadecimal escape sequence value, after {@code \x}.
+         * 
+         * @return The character value.
+         */
+        private int parseHexEscape() {
+            if (peek('{')) {
+                this.pos++;
+                final int end = this.pattern.indexOf('}', this.pos);
+                if (end == -1 || end == this.pos || end - this.pos > 4) {
+                    throw error("Unsupported hexadecimal escape sequence");
+                }
+                final int value = parseHex(end - this.pos);
+                this.pos++;
+                return value;
+            }
+            return parseHex(2);
+        }
+
+        /**
+         * Parses the specified number of hexadecimal digits.
+         * 
+         * @param digits The number of digits.
+         * @return The parsed value.
+         */
+        private int parseHex(
+                final int digits) {
+            if (this.pos + digits > this.pattern.length()) {
+                throw error("Illegal hexadecimal escape sequence");
+            }
+            int value = 0;
+            for (int i = 0; i < digits; i++) {
+                final int digit = Character.digit(this.pattern.charAt(this.pos++), 16);
+                if (digit == -1) {
+                    throw error("Illegal hexadecimal escape sequence");
+                }
+                value = value * 16 + digit;
+            }
+            return value;
+        }
+
+        /**
+         * Parses a character property name, after {@code \p} or
+         * {@code \P}. Only ASCII characters of the supported properties
+         * are generated.
+         * 
+         * @return The property characters.
+         */
+        private @NotNull int[] parseProperty() {
+            String name;
+            if (peek('{')) {
+                final int end = this.pattern.indexOf('}', this.pos);
+                if (end == -1) {
+                    throw error("Unclosed character property name");
+                }
+                name = this.pattern.substring(this.pos + 1, end);
+                this.pos = end + 1;
+            } else if (this.pos < this.pattern.length()) {
+                name = String.valueOf(this.pattern.charAt(this.pos++));
+            } else {
+                throw error("Unexpected end of pattern");
+            }
+            if (name.startsWith("Is")) {
+                name = name.substring(2);
+            }
+            switch (name) {
+                case "Lower": case "Ll": case "Lowercase":
+                    return new int[] { 'a', 'z' };
+                case "Upper": case "Lu": case "Uppercase":
+                    return new int[] { 'A', 'Z' };
+                case "ASCII":
+                    return new int[] { 0, 0x7F };
+                case "Alpha": case "L": case "Alphabetic": case "Letter":
+                    return new int[] { 'A', 'Z', 'a', 'z' };
+                case "Digit": case "N": case "Nd":
+                    return Ranges.DIGITS;
+                case "Alnum":
+                    return new int[] { '0', '9', 'A', 'Z', 'a', 'z' };
+                case "Punct": case "P":
+                    return new int[] { '!', '/', ':', '@', '[', '`', '{', '~' };
+                case "Graph":
+                    return new int[] { '!', '~' };
+                case "Print":
+                    return new int[] { ' ', '~' };
+                case "Blank":
+                    return Ranges.HORIZONTAL_SPACE;
+                case "Space": case "White_Space":
+                    return Ranges.SPACE;
+                case "XDigit":
+                    return new int[] { '0', '9', 'A', 'F', 'a', 'f' };
+                case "Cntrl":
+                    return new int[] { 0, 0x1F, 0x7F, 0x7F };
+                default:
+                    throw error("Unsupported character property '" + name + "'");
+            }
+        }
+
+        /**
+         * Returns {@code true} if the current character is the specified
+         * character.
+         * 
+         * @param c The expected character.
+         * @return If the current character is the specified one
+         */
+        private boolean peek(
+                final char c) {
+            return this.pos < this.pattern.length() && this.pattern.charAt(this.pos) == c;
+        }
+
+        /**
+         * Consumes the specified expected character.
+         * 
+         * @param c The expected character.
+         */
+        private void expect(
+                final char c) {
+            if (!peek(c)) {
+                throw error("Expected '" + c + "'");
+            }
+            this.pos++;
+        }
+
+        /**
+         * Creates a new parse error exception.
+         * 
+         * @param message The error description.
+         * @return The exception.
+         */
+        private @NotNull IllegalArgumentException error(
+                final @NotNull String message) {
+            return new IllegalArgumentException(String.format(
+                    "%s near index %d of regular expression: %s",
+                    message, this.pos, this.pattern));
+        }
+    }
+}
@@ -26,18 +26,18 @@ import java.time.Period;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code Period} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -66,8 +66,8 @@ extends AbstractTypedGenerator<Period> {
     @Override
     public @NotNull Period randomValue() {
         return Period.of(
-                RandomUtils.nextInt(0, Short.MAX_VALUE + 1 - Short.MIN_VALUE) + Short.MIN_VALUE,
-                RandomUtils.nextInt(0, Short.MAX_VALUE + 1 - Short.MIN_VALUE) + Short.MIN_VALUE,
-                RandomUtils.nextInt(0, Short.MAX_VALUE + 1 - Short.MIN_VALUE) + Short.MIN_VALUE);
+                RandomSources.current().nextInt(0, Short.MAX_VALUE + 1 - Short.MIN_VALUE) + Short.MIN_VALUE,
+                RandomSources.current().nextInt(0, Short.MAX_VALUE + 1 - Short.MIN_VALUE) + Short.MIN_VALUE,
+                RandomSources.current().nextInt(0, Short.MAX_VALUE + 1 - Short.MIN_VALUE) + Short.MIN_VALUE);
     }
 }
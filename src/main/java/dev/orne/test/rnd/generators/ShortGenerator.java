@@ -28,18 +28,19 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Generator of {@code short} and {@code Short} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
 @Priority(Priority.NATIVE_GENERATORS)
 public class ShortGenerator
-extends AbstractPrimitiveGenerator<Short> {
+extends AbstractNumberGenerator<Short> {
 
     /** The default value. */
     public static final short DEFAULT_VALUE = 0;
@@ -67,6 +68,33 @@ extends AbstractPrimitiveGenerator<Short> {
         return randomShort();
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull Short defaultValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        return (short) clamp(
+                DEFAULT_VALUE,
+                getMinLong(parameters, Short.MIN_VALUE),
+                getMaxLong(parameters, Short.MAX_VALUE));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 0.3
+     */
+    @Override
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull Short randomValue(
+            final @NotNull NumberGenerationParameters parameters) {
+        final long min = getMinLong(parameters, Short.MIN_VALUE);
+        final long max = getMaxLong(parameters, Short.MAX_VALUE);
+        return (short) LongGenerator.randomLong(min, max);
+    }
+
     /**
      * Generates a random {@code short} between {@code Short.MIN_VALUE}
      * and {@code Short.MAX_VALUE} both included.
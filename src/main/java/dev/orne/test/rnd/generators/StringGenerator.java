@@ -22,10 +22,13 @@ package dev.orne.test.rnd.generators;
  * #L%
  */
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.lang3.RandomUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apiguardian.api.API;
@@ -33,14 +36,26 @@ import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.GenerationException;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 import dev.orne.test.rnd.params.AbstractTypedParameterizableGenerator;
+import dev.orne.test.rnd.params.Alphabet;
+import dev.orne.test.rnd.params.SizeParameters;
 import dev.orne.test.rnd.params.StringGenerationParameters;
 
 /**
  * Generator of {@code String} and {@code CharSequence} values.
+ * <p>
+ * If the generation parameters specify a regular expression the strings
+ * are generated by random walks on its cached compiled automaton.
+ * If the generation parameters specify an {@code Alphabet} the characters
+ * are generated in bulk into a reusable per thread buffer. Otherwise random
+ * Unicode strings are generated.
+ * <p>
+ * Generated strings are at most {@link #MAX_SIZE} characters long unless
+ * a greater maximum size is specified in the generation parameters.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.3, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -54,6 +69,16 @@ extends AbstractTypedParameterizableGenerator<String, StringGenerationParameters
     public static final int MIN_SIZE = 1;
     /** The maximum generated string length. */
     public static final int MAX_SIZE = 40;
+    /**
+     * The size of the reusable per thread character buffers.
+     * @since 0.3
+     */
+    @API(status=Status.INTERNAL, since="0.3")
+    protected static final int BUFFER_SIZE = 8192;
+
+    /** The reusable per thread character buffers. */
+    private static final ThreadLocal<char[]> BUFFERS =
+            ThreadLocal.withInitial(() -> new char[BUFFER_SIZE]);
 
     /**
      * Creates a new instance.
@@ -73,6 +98,14 @@ extends AbstractTypedParameterizableGenerator<String, StringGenerationParameters
                 CharSequence.class.equals(type);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Set<Class<?>> getSupportedTypes() {
+        return new HashSet<>(Arrays.asList(String.class, CharSequence.class));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -113,21 +146,107 @@ extends AbstractTypedParameterizableGenerator<String, StringGenerationParameters
      */
     protected @NotNull String randomString(
             final @NotNull StringGenerationParameters parameters) {
+        if (parameters.getPattern() != null) {
+            return randomPatternString(parameters);
+        }
         final int size = randomSize(parameters);
-        return RandomStringUtils.random(size);
+        final Alphabet alphabet = parameters.getAlphabet();
+        if (alphabet == null) {
+            return RandomStringUtils.random(size, 0, 0, false, false,
+                    null, RandomSources.current().asRandom());
+        }
+        return randomString(alphabet, size);
+    }
+
+    /**
+     * Returns a random string of the specified length with characters of
+     * the specified alphabet.
+     * 
+     * @param alphabet The alphabet of the string characters.
+     * @param size The string length.
+     * @return A random string.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    protected @NotNull String randomString(
+            final @NotNull Alphabet alphabet,
+            final int size) {
+        final char[] buffer = size <= BUFFER_SIZE ? BUFFERS.get() : new char[size];
+        alphabet.fill(buffer, 0, size, RandomSources.current());
+        return new String(buffer, 0, size);
+    }
+
+    /**
+     * Returns a random string matching the regular expression of the
+     * generation parameters.
+     * <p>
+     * If no maximum size is specified in the generation parameters the
+     * length is limited to {@link #MAX_SIZE}, or to the minimum length
+     * of the matching strings if greater.
+     * 
+     * @param parameters The generation parameters.
+     * @return A random matching string.
+     * @throws GenerationException If the regular expression is not supported
+     * or no string with valid size matches it
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    protected @NotNull String randomPatternString(
+            final @NotNull StringGenerationParameters parameters) {
+        final PatternAutomaton automaton;
+        try {
+            automaton = PatternAutomaton.of(parameters.getPattern());
+        } catch (final IllegalArgumentException e) {
+            throw new GenerationException(e.getMessage(), e);
+        }
+        final int min = NumberUtils.max(0, parameters.getMinSize());
+        int max = parameters.getMaxSize();
+        if (max == SizeParameters.DEFAULT_MAX_SIZE) {
+            max = NumberUtils.max(min, MAX_SIZE, automaton.minLength(min));
+        }
+        return automaton.randomString(RandomSources.current(), min, max);
     }
 
     /**
      * Returns a random string length.
+     * <p>
+     * If no maximum size is specified in the generation parameters the
+     * length is limited to {@link #MAX_SIZE}, or to the minimum size
+     * if greater.
      * 
      * @param parameters The generation parameters.
      * @return The string length.
      */
     protected int randomSize(
             final @NotNull StringGenerationParameters parameters) {
-        return RandomUtils.nextInt(
-                NumberUtils.max(MIN_SIZE, parameters.getMinSize()),
-                NumberUtils.min(MAX_SIZE, parameters.getMaxSize()) + 1);
+        return randomSize(parameters, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a random length for the specified size parameters, not
+     * greater than the specified limit.
+     * <p>
+     * If no maximum size is specified the length is limited to
+     * {@link #MAX_SIZE}, or to the minimum size if greater.
+     * 
+     * @param parameters The size parameters.
+     * @param limit The maximum allowed length.
+     * @return The length.
+     * @throws IllegalArgumentException If the minimum size is greater than
+     * the maximum size or the limit
+     */
+    static int randomSize(
+            final @NotNull SizeParameters parameters,
+            final int limit) {
+        final int min = NumberUtils.max(MIN_SIZE, parameters.getMinSize());
+        int max = parameters.getMaxSize();
+        if (max == SizeParameters.DEFAULT_MAX_SIZE) {
+            max = NumberUtils.max(min, MAX_SIZE);
+        }
+        Validate.isTrue(min <= max, "Minimum size %d is greater than maximum size %d", min, max);
+        Validate.isTrue(min <= limit, "Minimum size %d exceeds the limit %d", min, limit);
+        max = NumberUtils.min(max, limit);
+        return RandomSources.current().nextInt(min, max + 1);
     }
 
     /**
@@ -26,18 +26,18 @@ import java.util.TimeZone;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code TimeZone} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -68,7 +68,7 @@ extends AbstractTypedGenerator<TimeZone> {
      */
     @Override
     public @NotNull TimeZone randomValue() {
-        final int index = RandomUtils.nextInt(0, IDS.length);
+        final int index = RandomSources.current().nextInt(0, IDS.length);
         return TimeZone.getTimeZone(IDS[index]);
     }
 }
@@ -28,19 +28,19 @@ import java.net.URISyntaxException;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.GenerationException;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code URI} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see <a href="https://datatracker.ietf.org/doc/html/rfc2732">RFC 2732</a>
  * @see <a href="https://datatracker.ietf.org/doc/html/rfc2373">RFC 2373</a>
@@ -155,12 +155,12 @@ extends AbstractTypedGenerator<URI> {
      * @return The random scheme
      */
     public static @NotNull String randomScheme() {
-        final int length = RandomUtils.nextInt(
+        final int length = RandomSources.current().nextInt(
                 SCHEME_MIN_LENGTH,
                 SCHEME_MAX_LENGTH + 1);
         final StringBuilder buffer = new StringBuilder();
-        buffer.append(RandomStringUtils.randomAlphabetic(1));
-        buffer.append(RandomStringUtils.random(length - 1, SCHEME_REST_C));
+        buffer.append(randomAlphabetic(1));
+        buffer.append(randomChars(length - 1, SCHEME_REST_C));
         return buffer.toString();
     }
 
@@ -170,15 +170,15 @@ extends AbstractTypedGenerator<URI> {
      * @return The random user info
      */
     public static @NotNull String randomUserInfo() {
-        final int length = RandomUtils.nextInt(
+        final int length = RandomSources.current().nextInt(
                 USERINFO_MIN_LENGTH,
                 USERINFO_MAX_LENGTH + 1);
         final StringBuilder buffer = new StringBuilder();
         for (int i = 0; i < length; i++) {
-            if (RandomUtils.nextFloat(0, 1) < ESCAPED_CHAR_P) {
-                buffer.append((char) RandomUtils.nextInt('\u0080', '\uFFFF'));
+            if (RandomSources.current().nextFloat() < ESCAPED_CHAR_P) {
+                buffer.append((char) RandomSources.current().nextInt('\u0080', '\uFFFF'));
             } else {
-                buffer.append(RandomStringUtils.random(1, UNESCAPED_USERINFO_C));
+                buffer.append(randomChars(1, UNESCAPED_USERINFO_C));
             }
         }
         return buffer.toString();
@@ -190,7 +190,7 @@ extends AbstractTypedGenerator<URI> {
      * @return The random user info, or {@code null}
      */
     public static String randomOptionalUserInfo() {
-        if (RandomUtils.nextFloat(0, 1) < USERINFO_P) {
+        if (RandomSources.current().nextFloat() < USERINFO_P) {
             return randomUserInfo();
         } else {
             return null;
@@ -204,15 +204,15 @@ extends AbstractTypedGenerator<URI> {
      */
     protected static @NotNull String randomDomainLabel() {
         final StringBuilder buffer = new StringBuilder();
-        final int length = RandomUtils.nextInt(
+        final int length = RandomSources.current().nextInt(
                 DOMAIN_LABEL_MIN_LENGTH,
                 DOMAIN_LABEL_MAX_LENGTH + 1);
-        buffer.append(RandomStringUtils.randomAlphanumeric(1));
+        buffer.append(randomAlphanumeric(1));
         if (length > 1) {
             if (length > 2) {
-                buffer.append(RandomStringUtils.random(length - 2, DOMAIN_LABEL_MIDDLE_C));
+                buffer.append(randomChars(length - 2, DOMAIN_LABEL_MIDDLE_C));
             }
-            buffer.append(RandomStringUtils.randomAlphanumeric(1));
+            buffer.append(randomAlphanumeric(1));
         }
         return buffer.toString();
     }
@@ -224,15 +224,15 @@ extends AbstractTypedGenerator<URI> {
      */
     protected static @NotNull String randomTopLabel() {
         final StringBuilder buffer = new StringBuilder();
-        final int length = RandomUtils.nextInt(
+        final int length = RandomSources.current().nextInt(
                 TOP_LABEL_MIN_LENGTH,
                 TOP_LABEL_MAX_LENGTH + 1);
-        buffer.append(RandomStringUtils.randomAlphabetic(1));
+        buffer.append(randomAlphabetic(1));
         if (length > 1) {
             if (length > 2) {
-                buffer.append(RandomStringUtils.random(length - 2, TOP_LABEL_MIDDLE_C));
+                buffer.append(randomChars(length - 2, TOP_LABEL_MIDDLE_C));
             }
-            buffer.append(RandomStringUtils.randomAlphanumeric(1));
+            buffer.append(randomAlphanumeric(1));
         }
         return buffer.toString();
     }
@@ -244,14 +244,14 @@ extends AbstractTypedGenerator<URI> {
      */
     public static @NotNull String randomHostName() {
         final StringBuilder buffer = new StringBuilder();
-        final int domainLevels = RandomUtils.nextInt(
+        final int domainLevels = RandomSources.current().nextInt(
                 HOSTNAME_MIN_DOMAIN_LEVELS,
                 HOSTNAME_MAX_DOMAIN_LEVELS + 1);
         for (int i = 0; i < domainLevels; i++) {
             buffer.append(randomDomainLabel()).append(DOMAIN_LABEL_SEPARATOR);
         }
         buffer.append(randomTopLabel());
-        if (RandomUtils.nextFloat(0, 1) < TOP_LABEL_SUFFIX_P) {
+        if (RandomSources.current().nextFloat() < TOP_LABEL_SUFFIX_P) {
             buffer.append(TOP_LABEL_SUFFIX);
         }
         return buffer.toString();
@@ -265,10 +265,10 @@ extends AbstractTypedGenerator<URI> {
     public static @NotNull String randomIp4Address() {
         return String.format(
                 "%d.%d.%d.%d",
-                RandomUtils.nextInt(IP4_ADDRESS_MIN_NUM, IP4_ADDRESS_MAX_NUM + 1),
-                RandomUtils.nextInt(IP4_ADDRESS_MIN_NUM, IP4_ADDRESS_MAX_NUM + 1),
-                RandomUtils.nextInt(IP4_ADDRESS_MIN_NUM, IP4_ADDRESS_MAX_NUM + 1),
-                RandomUtils.nextInt(IP4_ADDRESS_MIN_NUM, IP4_ADDRESS_MAX_NUM + 1));
+                RandomSources.current().nextInt(IP4_ADDRESS_MIN_NUM, IP4_ADDRESS_MAX_NUM + 1),
+                RandomSources.current().nextInt(IP4_ADDRESS_MIN_NUM, IP4_ADDRESS_MAX_NUM + 1),
+                RandomSources.current().nextInt(IP4_ADDRESS_MIN_NUM, IP4_ADDRESS_MAX_NUM + 1),
+                RandomSources.current().nextInt(IP4_ADDRESS_MIN_NUM, IP4_ADDRESS_MAX_NUM + 1));
     }
 
     /**
@@ -277,10 +277,10 @@ extends AbstractTypedGenerator<URI> {
      * @return The random IP6 address piece
      */
     protected static @NotNull String randomIp6Piece() {
-        final int length = RandomUtils.nextInt(
+        final int length = RandomSources.current().nextInt(
                 IP6_PIECE_MIN_LENGTH,
                 IP6_PIECE_MAX_LENGTH + 1);
-        return RandomStringUtils.random(length, HEXDIG);
+        return randomChars(length, HEXDIG);
     }
 
     /**
@@ -308,14 +308,14 @@ extends AbstractTypedGenerator<URI> {
      */
     public static @NotNull String randomAbbreviatedIp6Address() {
         final StringBuilder buffer = new StringBuilder();
-        final int pieces = RandomUtils.nextInt(
+        final int pieces = RandomSources.current().nextInt(
                 IP6_ADDRESS_MIN_LENGTH,
                 IP6_ADDRESS_MAX_LENGTH);
         if (pieces == 0) {
             buffer.append(IP6_ADDRESS_SEPARATOR)
                     .append(IP6_ADDRESS_SEPARATOR);
         } else {
-            final int prePieces = RandomUtils.nextInt(0, pieces + 1);
+            final int prePieces = RandomSources.current().nextInt(0, pieces + 1);
             if (prePieces > 0) {
                 buffer.append(randomIp6Piece());
                 for (int i = 1 ; i < prePieces; i++) {
@@ -341,7 +341,7 @@ extends AbstractTypedGenerator<URI> {
      * @return The IP6 address
      */
     public static @NotNull String randomIp6Address() {
-        if (RandomUtils.nextFloat(0, 1) < IP6_ABRV_P) {
+        if (RandomSources.current().nextFloat() < IP6_ABRV_P) {
             return randomAbbreviatedIp6Address();
         } else {
             return randomFullIp6Address();
@@ -354,9 +354,9 @@ extends AbstractTypedGenerator<URI> {
      * @return The host part
      */
     public static @NotNull String randomHost() {
-        if (RandomUtils.nextFloat(0, 1) < HOSTNAME_P) {
+        if (RandomSources.current().nextFloat() < HOSTNAME_P) {
             return randomHostName();
-        } else if (RandomUtils.nextFloat(0, 1) < IP4_P) {
+        } else if (RandomSources.current().nextFloat() < IP4_P) {
             return randomIp4Address();
         } else {
             return IP6_ADDRESS_PREFIX + randomIp6Address() + IP6_ADDRESS_SUFFIX;
@@ -369,7 +369,7 @@ extends AbstractTypedGenerator<URI> {
      * @return The port
      */
     public static int randomPort() {
-        return RandomUtils.nextInt(PORT_MIN, PORT_MAX + 1);
+        return RandomSources.current().nextInt(PORT_MIN, PORT_MAX + 1);
     }
 
     /**
@@ -378,7 +378,7 @@ extends AbstractTypedGenerator<URI> {
      * @return The port, or {@code -1}
      */
     public static int randomOptionalPort() {
-        if (RandomUtils.nextFloat(0, 1) < PORT_P) {
+        if (RandomSources.current().nextFloat() < PORT_P) {
             return randomPort();
         } else {
             return -1;
@@ -412,14 +412,14 @@ extends AbstractTypedGenerator<URI> {
      */
     public static @NotNull String randomRegistryBasedNamedAuthority() {
         final StringBuilder buffer = new StringBuilder();
-        final int length = RandomUtils.nextInt(
+        final int length = RandomSources.current().nextInt(
                 REG_NAME_MIN_LENGTH,
                 REG_NAME_MAX_LENGTH + 1);
         for (int i = 0; i < length; i++) {
-            if (RandomUtils.nextFloat(0, 1) < ESCAPED_CHAR_P) {
-                buffer.append((char) RandomUtils.nextInt('\u0080', '\uFFFF'));
+            if (RandomSources.current().nextFloat() < ESCAPED_CHAR_P) {
+                buffer.append((char) RandomSources.current().nextInt('\u0080', '\uFFFF'));
             } else {
-                buffer.append(RandomStringUtils.random(1, UNESCAPED_REG_NAME_C));
+                buffer.append(randomChars(1, UNESCAPED_REG_NAME_C));
             }
         }
         return buffer.toString();
@@ -431,7 +431,7 @@ extends AbstractTypedGenerator<URI> {
      * @return The authority part
      */
     public static @NotNull String randomAuthority() {
-        if (RandomUtils.nextFloat(0, 1) < SERVER_P) {
+        if (RandomSources.current().nextFloat() < SERVER_P) {
             return randomServerAuthority();
         } else {
             return randomRegistryBasedNamedAuthority();
@@ -445,27 +445,27 @@ extends AbstractTypedGenerator<URI> {
      */
     protected static @NotNull String randomPathSegment() {
         final StringBuilder buffer = new StringBuilder();
-        final int length = RandomUtils.nextInt(
+        final int length = RandomSources.current().nextInt(
                 SEGMENT_PATH_MIN_LENGTH,
                 SEGMENT_PATH_MAX_LENGTH + 1);
-        buffer.append(RandomStringUtils.randomAlphabetic(1));
+        buffer.append(randomAlphabetic(1));
         for (int i = 1; i < length; i++) {
-            if (RandomUtils.nextFloat(0, 1) < ESCAPED_CHAR_P) {
-                buffer.append((char) RandomUtils.nextInt('\u0080', '\uFFFF'));
+            if (RandomSources.current().nextFloat() < ESCAPED_CHAR_P) {
+                buffer.append((char) RandomSources.current().nextInt('\u0080', '\uFFFF'));
             } else {
-                buffer.append(RandomStringUtils.random(1, UNESCAPED_PATH_C));
+                buffer.append(randomChars(1, UNESCAPED_PATH_C));
             }
         }
-        if (RandomUtils.nextFloat(0, 1) < SEGMENT_PARAM_P) {
+        if (RandomSources.current().nextFloat() < SEGMENT_PARAM_P) {
             buffer.append(SEGMENT_PARAM_SEPARATOR);
-            final int paramLength = RandomUtils.nextInt(
+            final int paramLength = RandomSources.current().nextInt(
                     PARAM_MIN_LENGTH,
                     PARAM_MAX_LENGTH + 1);
             for (int i = 0; i < paramLength; i++) {
-                if (RandomUtils.nextFloat(0, 1) < ESCAPED_CHAR_P) {
-                    buffer.append((char) RandomUtils.nextInt('\u0080', '\uFFFF'));
+                if (RandomSources.current().nextFloat() < ESCAPED_CHAR_P) {
+                    buffer.append((char) RandomSources.current().nextInt('\u0080', '\uFFFF'));
                 } else {
-                    buffer.append(RandomStringUtils.random(1, UNESCAPED_PATH_C));
+                    buffer.append(randomChars(1, UNESCAPED_PATH_C));
                 }
             }
         }
@@ -480,7 +480,7 @@ extends AbstractTypedGenerator<URI> {
     public static @NotNull String randomAbsolutePath() {
         final StringBuilder buffer = new StringBuilder();
         buffer.append(ABSOLUTE_PATH_PREFIX);
-        final int length = RandomUtils.nextInt(
+        final int length = RandomSources.current().nextInt(
                 PATH_SEGMENTS_MIN_SEGMENTS,
                 PATH_SEGMENTS_MAX_SEGMENTS + 1);
         if (length > 0) {
@@ -499,17 +499,17 @@ extends AbstractTypedGenerator<URI> {
      */
     public static @NotNull String randomRelativePath() {
         final StringBuilder buffer = new StringBuilder();
-        final int length = RandomUtils.nextInt(
+        final int length = RandomSources.current().nextInt(
                 RELATIVE_SEGMENT_MIN_LENGTH,
                 RELATIVE_SEGMENT_MAX_LENGTH + 1);
         for (int i = 0; i < length; i++) {
-            if (RandomUtils.nextFloat(0, 1) < ESCAPED_CHAR_P) {
-                buffer.append((char) RandomUtils.nextInt('\u0080', '\uFFFF'));
+            if (RandomSources.current().nextFloat() < ESCAPED_CHAR_P) {
+                buffer.append((char) RandomSources.current().nextInt('\u0080', '\uFFFF'));
             } else {
-                buffer.append(RandomStringUtils.random(1, UNESCAPED_RELATIVE_SEGMENT_C));
+                buffer.append(randomChars(1, UNESCAPED_RELATIVE_SEGMENT_C));
             }
         }
-        if (RandomUtils.nextFloat(0, 1) < RELATIVE_PATH_ABSOLUTE_PATH_P) {
+        if (RandomSources.current().nextFloat() < RELATIVE_PATH_ABSOLUTE_PATH_P) {
             buffer.append(randomAbsolutePath());
         }
         return buffer.toString();
@@ -522,7 +522,7 @@ extends AbstractTypedGenerator<URI> {
      * @return The path part
      */
     public static @NotNull String randomPath() {
-        if (RandomUtils.nextFloat(0, 1) < PATH_ABSOLUTE_P) {
+        if (RandomSources.current().nextFloat() < PATH_ABSOLUTE_P) {
             return randomAbsolutePath();
         } else {
             return randomRelativePath();
@@ -536,14 +536,14 @@ extends AbstractTypedGenerator<URI> {
      */
     public static @NotNull String randomQuery() {
         final StringBuilder buffer = new StringBuilder();
-        final int length = RandomUtils.nextInt(
+        final int length = RandomSources.current().nextInt(
                 QUERY_MIN_LENGTH,
                 QUERY_MAX_LENGTH + 1);
         for (int i = 0; i < length; i++) {
-            if (RandomUtils.nextFloat(0, 1) < ESCAPED_CHAR_P) {
-                buffer.append((char) RandomUtils.nextInt('\u0080', '\uFFFF'));
+            if (RandomSources.current().nextFloat() < ESCAPED_CHAR_P) {
+                buffer.append((char) RandomSources.current().nextInt('\u0080', '\uFFFF'));
             } else {
-                buffer.append(RandomStringUtils.random(1, UNESCAPED_URIC));
+                buffer.append(randomChars(1, UNESCAPED_URIC));
             }
         }
         return buffer.toString();
@@ -555,7 +555,7 @@ extends AbstractTypedGenerator<URI> {
      * @return The query part, or {@code null}
      */
     public static String randomOptionalQuery() {
-        if (RandomUtils.nextFloat(0, 1) < QUERY_P) {
+        if (RandomSources.current().nextFloat() < QUERY_P) {
             return randomQuery();
         } else {
             return null;
@@ -569,14 +569,14 @@ extends AbstractTypedGenerator<URI> {
      */
     public static @NotNull String randomFragment() {
         final StringBuilder buffer = new StringBuilder();
-        final int length = RandomUtils.nextInt(
+        final int length = RandomSources.current().nextInt(
                 FRAGMENT_MIN_LENGTH,
                 FRAGMENT_MAX_LENGTH + 1);
         for (int i = 0; i < length; i++) {
-            if (RandomUtils.nextFloat(0, 1) < ESCAPED_CHAR_P) {
-                buffer.append((char) RandomUtils.nextInt('\u0080', '\uFFFF'));
+            if (RandomSources.current().nextFloat() < ESCAPED_CHAR_P) {
+                buffer.append((char) RandomSources.current().nextInt('\u0080', '\uFFFF'));
             } else {
-                buffer.append(RandomStringUtils.random(1, UNESCAPED_URIC));
+                buffer.append(randomChars(1, UNESCAPED_URIC));
             }
         }
         return buffer.toString();
@@ -588,7 +588,7 @@ extends AbstractTypedGenerator<URI> {
      * @return The fragment part, or {@code null}
      */
     public static String randomOptionalFragment() {
-        if (RandomUtils.nextFloat(0, 1) < FRAGMENT_P) {
+        if (RandomSources.current().nextFloat() < FRAGMENT_P) {
             return randomFragment();
         } else {
             return null;
@@ -602,7 +602,7 @@ extends AbstractTypedGenerator<URI> {
      */
     public static @NotNull URI randomRelativeURI() {
         final String path;
-        if (RandomUtils.nextFloat(0, 1) < PATH_ABSOLUTE_P) {
+        if (RandomSources.current().nextFloat() < PATH_ABSOLUTE_P) {
             path = randomAbsolutePath();
         } else {
             path = randomRelativePath();
@@ -643,10 +643,51 @@ extends AbstractTypedGenerator<URI> {
      * @return The URI
      */
     public static @NotNull URI randomURI() {
-        if (RandomUtils.nextFloat(0, 1) < PATH_ABSOLUTE_P) {
+        if (RandomSources.current().nextFloat() < PATH_ABSOLUTE_P) {
             return randomAbsoluteURI();
         } else {
             return randomRelativeURI();
         }
     }
+
+    /**
+     * Returns a random string of the specified length composed of the
+     * specified characters.
+     * 
+     * @param count The length of the string
+     * @param chars The characters to use
+     * @return The random string
+     */
+    protected static @NotNull String randomChars(
+            final int count,
+            final @NotNull String chars) {
+        return RandomStringUtils.random(count, 0, chars.length(), false, false,
+                chars.toCharArray(), RandomSources.current().asRandom());
+    }
+
+    /**
+     * Returns a random string of the specified length composed of
+     * alphabetic characters.
+     * 
+     * @param count The length of the string
+     * @return The random string
+     */
+    protected static @NotNull String randomAlphabetic(
+            final int count) {
+        return RandomStringUtils.random(count, 0, 0, true, false,
+                null, RandomSources.current().asRandom());
+    }
+
+    /**
+     * Returns a random string of the specified length composed of
+     * alphabetic and numeric characters.
+     * 
+     * @param count The length of the string
+     * @return The random string
+     */
+    protected static @NotNull String randomAlphanumeric(
+            final int count) {
+        return RandomStringUtils.random(count, 0, 0, true, true,
+                null, RandomSources.current().asRandom());
+    }
 }
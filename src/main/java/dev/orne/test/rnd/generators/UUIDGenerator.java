@@ -31,12 +31,14 @@ import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSource;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code UUID} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -47,6 +49,14 @@ extends AbstractTypedGenerator<UUID> {
     /** The default value. */
     public static final UUID DEFAULT_VALUE = UUID.fromString(
             "00000000-0000-0000-00-000000000000");
+    /** The mask of the version bits. */
+    private static final long VERSION_MASK = 0xFFFFFFFFFFFF0FFFL;
+    /** The version 4 (random) bits. */
+    private static final long VERSION_4 = 0x0000000000004000L;
+    /** The mask of the variant bits. */
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    /** The IETF variant bits. */
+    private static final long VARIANT_IETF = 0x8000000000000000L;
 
     /**
      * Creates a new instance.
@@ -68,6 +78,19 @@ extends AbstractTypedGenerator<UUID> {
      */
     @Override
     public @NotNull UUID randomValue() {
-        return UUID.randomUUID();
+        return randomUUID();
+    }
+
+    /**
+     * Generates a random version 4 (random) {@code UUID} using the
+     * current random source.
+     * 
+     * @return A random {@code UUID} value
+     */
+    public static @NotNull UUID randomUUID() {
+        final RandomSource random = RandomSources.current();
+        final long mostSigBits = (random.nextLong() & VERSION_MASK) | VERSION_4;
+        final long leastSigBits = (random.nextLong() & VARIANT_MASK) | VARIANT_IETF;
+        return new UUID(mostSigBits, leastSigBits);
     }
 }
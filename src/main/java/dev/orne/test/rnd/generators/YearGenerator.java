@@ -26,18 +26,18 @@ import java.time.Year;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code Year} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -65,6 +65,6 @@ extends AbstractTypedGenerator<Year> {
      */
     @Override
     public @NotNull Year randomValue() {
-        return Year.of(RandomUtils.nextInt(0, Year.MAX_VALUE - Year.MIN_VALUE) + Year.MIN_VALUE);
+        return Year.of(RandomSources.current().nextInt(0, Year.MAX_VALUE - Year.MIN_VALUE) + Year.MIN_VALUE);
     }
 }
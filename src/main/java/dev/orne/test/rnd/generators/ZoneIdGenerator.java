@@ -28,18 +28,18 @@ import java.util.List;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code ZoneId} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -71,7 +71,7 @@ extends AbstractTypedGenerator<ZoneId> {
      */
     @Override
     public @NotNull ZoneId randomValue() {
-        final int index = RandomUtils.nextInt(0, IDS.size());
+        final int index = RandomSources.current().nextInt(0, IDS.size());
         return ZoneId.of(IDS.get(index));
     }
 }
@@ -26,18 +26,18 @@ import java.time.ZoneOffset;
 
 import javax.validation.constraints.NotNull;
 
-import org.apache.commons.lang3.RandomUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
 
 /**
  * Generator of {@code ZoneOffset} values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.STABLE, since="0.1")
@@ -65,7 +65,7 @@ extends AbstractTypedGenerator<ZoneOffset> {
      */
     @Override
     public @NotNull ZoneOffset randomValue() {
-        final long seconds = RandomUtils.nextLong(
+        final long seconds = RandomSources.current().nextLong(
                 0,
                 (long) ZoneOffset.MAX.getTotalSeconds() - (long) ZoneOffset.MIN.getTotalSeconds())
                 + ZoneOffset.MIN.getTotalSeconds();
@@ -22,6 +22,11 @@ package dev.orne.test.rnd.params;
  * #L%
  */
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.Validate;
@@ -37,7 +42,7 @@ import dev.orne.test.rnd.AbstractGenerator;
  * Abstract implementation of {@code ParameterizableGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.2, 2026-10
  * @param <P> The parameters type
  * @since 0.1
  */
@@ -45,7 +50,7 @@ import dev.orne.test.rnd.AbstractGenerator;
 public abstract class AbstractParameterizableGenerator<
         P extends GenerationParameters>
 extends AbstractGenerator
-implements ParameterizableGenerator {
+implements ParametersGenerator<P> {
 
     /** The type of generation parameters. */
     private final @NotNull Class<P> parametersType;
@@ -122,6 +127,7 @@ implements ParameterizableGenerator {
      * @return The default value for the specified type.
      * @throws IllegalArgumentException If the specified type is not supported.
      */
+    @Override
     public abstract @NotNull <T> T defaultValue(
             @NotNull Class<T> type,
             @NotNull P parameters);
@@ -158,6 +164,7 @@ implements ParameterizableGenerator {
      * @return The nullable default value for the specified type.
      * @throws IllegalArgumentException If the specified type is not supported.
      */
+    @Override
     public <T> T nullableDefaultValue(
             final @NotNull Class<T> type,
             final @NotNull P parameters) {
@@ -201,6 +208,7 @@ implements ParameterizableGenerator {
      * @return A random value for the specified type.
      * @throws IllegalArgumentException If the specified type is not supported.
      */
+    @Override
     public abstract @NotNull <T> T randomValue(
             @NotNull Class<T> type,
             @NotNull P parameters);
@@ -238,6 +246,7 @@ implements ParameterizableGenerator {
      * @throws IllegalArgumentException If the specified type is not supported.
      * @see #randomValue(Class, GenerationParameters)
      */
+    @Override
     public <T> T nullableRandomValue(
             final @NotNull Class<T> type,
             final @NotNull P parameters) {
@@ -253,6 +262,93 @@ implements ParameterizableGenerator {
         return value;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> @NotNull List<T> randomValues(
+            final @NotNull Class<T> type,
+            final @Min(0) int count) {
+        return randomValues(type, count, createEmptyParams());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> @NotNull List<T> randomValues(
+            final @NotNull Class<T> type,
+            final @Min(0) int count,
+            final @NotNull Object... sources) {
+        return randomValues(type, count, createParams(sources));
+    }
+
+    /**
+     * Returns a list of random values of the specified type and generation
+     * parameters.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param count The number of values to generate.
+     * @param parameters The generation parameters
+     * @return A list of random values for the specified type.
+     * @throws IllegalArgumentException If the specified type is not supported.
+     * @see #randomValue(Class, GenerationParameters)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public <T> @NotNull List<T> randomValues(
+            final @NotNull Class<T> type,
+            final @Min(0) int count,
+            final @NotNull P parameters) {
+        Validate.isTrue(count >= 0, "The number of values must be non negative");
+        assertSupported(type);
+        final List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(randomValue(type, parameters));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> @NotNull Stream<T> stream(
+            final @NotNull Class<T> type) {
+        return stream(type, createEmptyParams());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> @NotNull Stream<T> stream(
+            final @NotNull Class<T> type,
+            final @NotNull Object... sources) {
+        return stream(type, createParams(sources));
+    }
+
+    /**
+     * Returns an infinite sequential stream of random values of the
+     * specified type and generation parameters.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param parameters The generation parameters
+     * @return An infinite stream of random values for the specified type.
+     * @throws IllegalArgumentException If the specified type is not supported.
+     * @see #randomValue(Class, GenerationParameters)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public <T> @NotNull Stream<T> stream(
+            final @NotNull Class<T> type,
+            final @NotNull P parameters) {
+        assertSupported(type);
+        return Stream.generate(() -> randomValue(type, parameters));
+    }
+
     /**
      * Creates a new empty instance of generation parameters.
      * 
@@ -273,6 +369,7 @@ implements ParameterizableGenerator {
      * @param sources The sources to extract the parameters values from
      * @return A new instance of generation parameters.
      */
+    @Override
     public @NotNull P createParams(
             final @NotNull Object... sources) {
         final P result = createEmptyParams();
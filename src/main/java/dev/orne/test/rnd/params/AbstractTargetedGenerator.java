@@ -25,9 +25,15 @@ package dev.orne.test.rnd.params;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.Validate;
@@ -41,9 +47,16 @@ import dev.orne.test.rnd.Generators;
 
 /**
  * Abstract implementation of {@code TargetedGenerator}.
+ * <p>
+ * The generation parameter sources of the target are cached by validation
+ * groups, until the {@code ConstraintIntrospector} configuration changes.
+ * When the generator of the target type is a
+ * {@code ParametersGenerator} the extracted generation
+ * parameters are cached too, until the parameter sources or the
+ * {@code ParametersExtractors} configuration change.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.3, 2026-10
  * @param <T> The type of generated values
  * @since 0.1
  */
@@ -55,6 +68,12 @@ implements TargetedGenerator<T> {
     private final @NotNull Class<T> valueType;
     /** The generator for the type of the target. */
     private final @NotNull Generator generator;
+    /** The parameter sources cache by validation groups. */
+    private final @NotNull Map<List<Class<?>>, CachedSources> sourcesCache =
+            new ConcurrentHashMap<>();
+    /** The generation parameters cache by validation groups. */
+    private final @NotNull Map<List<Class<?>>, CachedParameters> parametersCache =
+            new ConcurrentHashMap<>();
 
     /**
      * Creates a new instance.
@@ -110,10 +129,15 @@ implements TargetedGenerator<T> {
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
     public @NotNull T defaultValue(
             final @NotNull Class<?>... groups) {
         final T result;
-        if (this.generator instanceof ParameterizableGenerator) {
+        if (this.generator instanceof ParametersGenerator) {
+            result = (T) ((ParametersGenerator) this.generator).defaultValue(
+                    getValueType(),
+                    getGenerationParameters(groups));
+        } else if (this.generator instanceof ParameterizableGenerator) {
             result = ((ParameterizableGenerator) this.generator).defaultValue(
                     getValueType(),
                     getParameterSources(groups));
@@ -128,10 +152,15 @@ implements TargetedGenerator<T> {
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
     public T nullableDefaultValue(
             final @NotNull Class<?>... groups) {
         final T result;
-        if (this.generator instanceof ParameterizableGenerator) {
+        if (this.generator instanceof ParametersGenerator) {
+            result = (T) ((ParametersGenerator) this.generator).nullableDefaultValue(
+                    getValueType(),
+                    getGenerationParameters(groups));
+        } else if (this.generator instanceof ParameterizableGenerator) {
             result = ((ParameterizableGenerator) this.generator).nullableDefaultValue(
                     getValueType(),
                     getParameterSources(groups));
@@ -146,10 +175,15 @@ implements TargetedGenerator<T> {
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
     public @NotNull T randomValue(
             final @NotNull Class<?>... groups) {
         final T result;
-        if (this.generator instanceof ParameterizableGenerator) {
+        if (this.generator instanceof ParametersGenerator) {
+            result = (T) ((ParametersGenerator) this.generator).randomValue(
+                    getValueType(),
+                    getGenerationParameters(groups));
+        } else if (this.generator instanceof ParameterizableGenerator) {
             result = ((ParameterizableGenerator) this.generator).randomValue(
                     getValueType(),
                     getParameterSources(groups));
@@ -164,10 +198,15 @@ implements TargetedGenerator<T> {
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
     public T nullableRandomValue(
             final @NotNull Class<?>... groups) {
         final T result;
-        if (this.generator instanceof ParameterizableGenerator) {
+        if (this.generator instanceof ParametersGenerator) {
+            result = (T) ((ParametersGenerator) this.generator).nullableRandomValue(
+                    getValueType(),
+                    getGenerationParameters(groups));
+        } else if (this.generator instanceof ParameterizableGenerator) {
             result = ((ParameterizableGenerator) this.generator).nullableRandomValue(
                     getValueType(),
                     getParameterSources(groups));
@@ -182,10 +221,116 @@ implements TargetedGenerator<T> {
      * {@inheritDoc}
      */
     @Override
+    public @NotNull List<T> randomValues(
+            final @Min(0) int count,
+            final @NotNull Class<?>... groups) {
+        Validate.isTrue(count >= 0, "The number of values must be non negative");
+        final Supplier<T> supplier = createRandomValueSupplier(groups);
+        final List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(supplier.get());
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Stream<T> stream(
+            final @NotNull Class<?>... groups) {
+        return Stream.generate(createRandomValueSupplier(groups));
+    }
+
+    /**
+     * Creates a supplier of random values for the specified validation
+     * groups. The parameter sources and generation parameters are
+     * resolved once, when the supplier is created.
+     * 
+     * @param groups The validation groups to use when extracting the
+     * constraints of the target.
+     * @return The supplier of random values
+     * @since 0.3
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    protected @NotNull Supplier<T> createRandomValueSupplier(
+            final @NotNull Class<?>... groups) {
+        final Supplier<T> result;
+        if (this.generator instanceof ParametersGenerator) {
+            final ParametersGenerator paramsGenerator =
+                    (ParametersGenerator) this.generator;
+            final GenerationParameters params = getGenerationParameters(groups);
+            result = () -> (T) paramsGenerator.randomValue(this.valueType, params);
+        } else if (this.generator instanceof ParameterizableGenerator) {
+            final ParameterizableGenerator paramsGenerator =
+                    (ParameterizableGenerator) this.generator;
+            final Object[] sources = getParameterSources(groups);
+            result = () -> paramsGenerator.randomValue(this.valueType, sources);
+        } else {
+            result = () -> this.generator.randomValue(this.valueType);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the generation parameters extracted from the parameter sources
+     * of the target for the specified validation groups.
+     * <p>
+     * The generation parameters are cached by validation groups until the
+     * {@code ParametersExtractors} or the {@code ConstraintIntrospector}
+     * configuration changes. The returned instance is shared and must not
+     * be modified.
+     * 
+     * @param groups The validation groups to use when extracting the
+     * constraints of the target.
+     * @return The generation parameters
+     * @throws ClassCastException If the generator of the target type is not
+     * a {@code ParametersGenerator}
+     * @see ParametersExtractors#getConfigurationVersion()
+     * @see ConstraintIntrospector#getConfigurationVersion()
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    protected @NotNull GenerationParameters getGenerationParameters(
+            final @NotNull Class<?>... groups) {
+        final long version = ParametersExtractors.getConfigurationVersion();
+        final long constraintsVersion = ConstraintIntrospector.getConfigurationVersion();
+        CachedParameters cached = this.parametersCache.get(Arrays.asList(groups));
+        if (cached == null
+                || cached.version != version
+                || cached.constraintsVersion != constraintsVersion) {
+            final ParametersGenerator<?> paramsGenerator =
+                    (ParametersGenerator<?>) this.generator;
+            cached = new CachedParameters(
+                    version,
+                    constraintsVersion,
+                    paramsGenerator.createParams(getParameterSources(groups)));
+            this.parametersCache.put(Arrays.asList(groups.clone()), cached);
+        }
+        return cached.parameters;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The parameter sources are cached by validation groups until the
+     * {@code ConstraintIntrospector} configuration changes.
+     * 
+     * @see ConstraintIntrospector#getConfigurationVersion()
+     */
+    @Override
     public @NotNull Object[] getParameterSources(
             @NotNull Class<?>... groups) {
-        final List<Object> list = getParameterSourceList(groups);
-        return list.toArray(new Object[list.size()]);
+        final long version = ConstraintIntrospector.getConfigurationVersion();
+        CachedSources cached = this.sourcesCache.get(Arrays.asList(groups));
+        if (cached == null || cached.version != version) {
+            final List<Object> list = getParameterSourceList(groups);
+            cached = new CachedSources(
+                    version,
+                    list.toArray(new Object[list.size()]));
+            this.sourcesCache.put(Arrays.asList(groups.clone()), cached);
+        }
+        return cached.sources.clone();
     }
 
     /**
@@ -245,4 +390,68 @@ implements TargetedGenerator<T> {
                 .append(this.generator, other.generator)
                 .build();
     }
+
+    /**
+     * Generation parameters cache entry.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.1, 2026-10
+     * @since 0.3
+     */
+    private static final class CachedParameters {
+
+        /** The {@code ParametersExtractors} configuration version. */
+        private final long version;
+        /** The {@code ConstraintIntrospector} configuration version. */
+        private final long constraintsVersion;
+        /** The extracted generation parameters. */
+        private final @NotNull GenerationParameters parameters;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param version The {@code ParametersExtractors} configuration
+         * version
+         * @param constraintsVersion The {@code ConstraintIntrospector}
+         * configuration version
+         * @param parameters The extracted generation parameters
+         */
+        private CachedParameters(
+                final long version,
+                final long constraintsVersion,
+                final @NotNull GenerationParameters parameters) {
+            this.version = version;
+            this.constraintsVersion = constraintsVersion;
+            this.parameters = parameters;
+        }
+    }
+
+    /**
+     * Generation parameter sources cache entry.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.3
+     */
+    private static final class CachedSources {
+
+        /** The {@code ConstraintIntrospector} configuration version. */
+        private final long version;
+        /** The generation parameter sources. */
+        private final @NotNull Object[] sources;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param version The {@code ConstraintIntrospector} configuration
+         * version
+         * @param sources The generation parameter sources
+         */
+        private CachedSources(
+                final long version,
+                final @NotNull Object[] sources) {
+            this.version = version;
+            this.sources = sources;
+        }
+    }
 }
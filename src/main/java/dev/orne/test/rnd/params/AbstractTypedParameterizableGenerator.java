@@ -24,7 +24,13 @@ package dev.orne.test.rnd.params;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.Validate;
@@ -38,7 +44,7 @@ import org.apiguardian.api.API.Status;
  * Abstract implementation of {@code TypedParameterizableGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @param <T> The type of generated values
  * @param <P> The parameters type
  * @since 0.1
@@ -102,6 +108,14 @@ implements TypedParameterizableGenerator<T> {
         return Validate.notNull(type).equals(this.valueType);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Set<Class<?>> getSupportedTypes() {
+        return Collections.singleton(this.valueType);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -258,6 +272,104 @@ implements TypedParameterizableGenerator<T> {
         return value;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> @NotNull List<V> randomValues(
+            final @NotNull Class<V> type,
+            final @Min(0) int count,
+            final @NotNull P parameters) {
+        assertSupported(type);
+        return (List<V>) randomValues(count, parameters);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull List<T> randomValues(
+            final @Min(0) int count) {
+        return randomValues(count, createEmptyParams());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull List<T> randomValues(
+            final @Min(0) int count,
+            final @NotNull Object... sources) {
+        return randomValues(count, createParams(sources));
+    }
+
+    /**
+     * Returns a list of random values of the supported type for the
+     * specified parameters.
+     * 
+     * @param count The number of values to generate.
+     * @param parameters The generation parameters
+     * @return A list of random values.
+     * @see #randomValue(GenerationParameters)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull List<T> randomValues(
+            final @Min(0) int count,
+            final @NotNull P parameters) {
+        Validate.isTrue(count >= 0, "The number of values must be non negative");
+        final List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(randomValue(parameters));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> @NotNull Stream<V> stream(
+            final @NotNull Class<V> type,
+            final @NotNull P parameters) {
+        assertSupported(type);
+        return (Stream<V>) stream(parameters);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Stream<T> stream() {
+        return stream(createEmptyParams());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Stream<T> stream(
+            final @NotNull Object... sources) {
+        return stream(createParams(sources));
+    }
+
+    /**
+     * Returns an infinite sequential stream of random values of the
+     * supported type for the specified parameters.
+     * 
+     * @param parameters The generation parameters
+     * @return An infinite stream of random values.
+     * @see #randomValue(GenerationParameters)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull Stream<T> stream(
+            final @NotNull P parameters) {
+        return Stream.generate(() -> randomValue(parameters));
+    }
+
     /**
      * {@inheritDoc}
      */
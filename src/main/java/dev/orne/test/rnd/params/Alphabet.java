@@ -0,0 +1,384 @@
+package dev.orne.test.rnd.params;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.test.rnd.RandomSource;
+
+/**
+ * Set of characters used to generate random strings.
+ * <p>
+ * Random characters are drawn several at a time from each random
+ * {@code long}, using as many bits per character as required to index
+ * the alphabet. Alphabets with a power of two size never reject random
+ * bits.
+ * <p>
+ * Random characters can be written as UTF-8 encoded bytes directly into
+ * byte buffers, without intermediate {@code String} instances.
+ * <p>
+ * Instances are immutable.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see StringGenerationParameters#setAlphabet(Alphabet)
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public final class Alphabet {
+
+    /** The printable ASCII characters, from {@code ' '} to {@code '~'}. */
+    public static final Alphabet ASCII = new Alphabet(range(' ', '~'));
+    /** The ASCII digits and letters. */
+    public static final Alphabet ALPHANUMERIC = new Alphabet(concat(
+            range('0', '9'),
+            range('A', 'Z'),
+            range('a', 'z')));
+    /** The lower case hexadecimal digits. */
+    public static final Alphabet HEX = new Alphabet(concat(
+            range('0', '9'),
+            range('a', 'f')));
+    /** The printable ISO-8859-1 characters. */
+    public static final Alphabet LATIN_1 = new Alphabet(concat(
+            range(' ', '~'),
+            range('\u00A0', '\u00FF')));
+
+    /** The alphabet characters. */
+    private final @NotNull char[] chars;
+    /** The number of random bits used per character. */
+    private final int bits;
+    /** The mask of the random bits used per character. */
+    private final int mask;
+    /** The UTF-8 encoded characters. */
+    private final @NotNull byte[][] encoded;
+    /** The maximum number of bytes of the UTF-8 encoded characters. */
+    private final int maxEncodedLength;
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param chars The alphabet characters, without duplicates
+     */
+    private Alphabet(
+            final @NotNull char[] chars) {
+        super();
+        this.chars = chars;
+        this.bits = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(chars.length - 1));
+        this.mask = (1 << this.bits) - 1;
+        this.encoded = new byte[chars.length][];
+        int maxLength = 0;
+        for (int i = 0; i < chars.length; i++) {
+            this.encoded[i] = String.valueOf(chars[i]).getBytes(StandardCharsets.UTF_8);
+            maxLength = Math.max(maxLength, this.encoded[i].length);
+        }
+        this.maxEncodedLength = maxLength;
+    }
+
+    /**
+     * Creates a new alphabet with the specified characters. Duplicated
+     * characters are ignored.
+     * 
+     * @param chars The alphabet characters
+     * @return The new alphabet
+     * @throws IllegalArgumentException If no character is specified or
+     * any character is a surrogate code unit
+     */
+    public static @NotNull Alphabet of(
+            final @NotNull CharSequence chars) {
+        Validate.notNull(chars);
+        final StringBuilder distinct = new StringBuilder(chars.length());
+        final BitSet seen = new BitSet();
+        for (int i = 0; i < chars.length(); i++) {
+            final char c = chars.charAt(i);
+            Validate.isTrue(!Character.isSurrogate(c),
+                    "Surrogate characters are not supported: \\u%04X", (int) c);
+            if (!seen.get(c)) {
+                seen.set(c);
+                distinct.append(c);
+            }
+        }
+        Validate.isTrue(distinct.length() > 0, "The alphabet must contain at least one character");
+        return new Alphabet(distinct.toString().toCharArray());
+    }
+
+    /**
+     * Returns the number of characters of this alphabet.
+     * 
+     * @return The number of characters
+     */
+    public int size() {
+        return this.chars.length;
+    }
+
+    /**
+     * Returns the character at the specified position of this alphabet.
+     * 
+     * @param index The character position
+     * @return The character
+     */
+    public char charAt(
+            final int index) {
+        return this.chars[index];
+    }
+
+    /**
+     * Returns {@code true} if this alphabet contains the specified
+     * character.
+     * 
+     * @param c The character
+     * @return If this alphabet contains the character
+     */
+    public boolean contains(
+            final char c) {
+        for (final char candidate : this.chars) {
+            if (candidate == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fills the specified range of the buffer with random characters of
+     * this alphabet.
+     * 
+     * @param buffer The buffer to fill
+     * @param offset The position of the first character to fill
+     * @param length The number of characters to fill
+     * @param source The random source to use
+     */
+    public void fill(
+            final @NotNull char[] buffer,
+            final int offset,
+            final int length,
+            final @NotNull RandomSource source) {
+        Validate.notNull(buffer);
+        Validate.notNull(source);
+        Validate.isTrue(offset >= 0 && length >= 0 && offset + length <= buffer.length,
+                "Invalid buffer range");
+        final int size = this.chars.length;
+        final int end = offset + length;
+        if (size == 1) {
+            Arrays.fill(buffer, offset, end, this.chars[0]);
+            return;
+        }
+        final int perLong = Long.SIZE / this.bits;
+        int i = offset;
+        while (i < end) {
+            long value = source.nextLong();
+            for (int n = perLong; n > 0 && i < end; n--) {
+                final int index = (int) value & this.mask;
+                if (index < size) {
+                    buffer[i++] = this.chars[index];
+                }
+                value >>>= this.bits;
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum number of bytes of the UTF-8 encoded characters
+     * of this alphabet.
+     * 
+     * @return The maximum number of bytes per character
+     */
+    public int maxEncodedLength() {
+        return this.maxEncodedLength;
+    }
+
+    /**
+     * Writes the specified number of random characters of this alphabet
+     * into the buffer, UTF-8 encoded, starting at the buffer position.
+     * The buffer position is advanced by the number of bytes written.
+     * <p>
+     * The buffer remaining space is checked before writing any character,
+     * conservatively, against the maximum encoded length of the specified
+     * number of characters. The check fails if the remaining space is
+     * lower than {@code length * maxEncodedLength()}, even if the encoded
+     * random characters would fit.
+     * 
+     * @param target The buffer to write to
+     * @param length The number of characters to write
+     * @param source The random source to use
+     * @return The number of bytes written
+     * @throws BufferOverflowException If the buffer remaining space is
+     * lower than {@code length * maxEncodedLength()}, without writing any
+     * byte
+     */
+    public int fill(
+            final @NotNull ByteBuffer target,
+            final int length,
+            final @NotNull RandomSource source) {
+        Validate.notNull(target);
+        Validate.notNull(source);
+        Validate.isTrue(length >= 0, "Invalid length");
+        if ((long) length * this.maxEncodedLength > target.remaining()) {
+            throw new BufferOverflowException();
+        }
+        final int start = target.position();
+        if (target.hasArray()) {
+            final byte[] array = target.array();
+            final int offset = target.arrayOffset();
+            final int end = fill(array, offset + start, length, source);
+            ((Buffer) target).position(end - offset);
+        } else if (this.chars.length == 1) {
+            final byte[] bytes = this.encoded[0];
+            for (int i = 0; i < length; i++) {
+                target.put(bytes);
+            }
+        } else {
+            final int perLong = Long.SIZE / this.bits;
+            int i = 0;
+            while (i < length) {
+                long value = source.nextLong();
+                for (int n = perLong; n > 0 && i < length; n--) {
+                    final int index = (int) value & this.mask;
+                    if (index < this.chars.length) {
+                        target.put(this.encoded[index]);
+                        i++;
+                    }
+                    value >>>= this.bits;
+                }
+            }
+        }
+        return target.position() - start;
+    }
+
+    /**
+     * Writes the specified number of random characters of this alphabet
+     * into the array, UTF-8 encoded.
+     * 
+     * @param array The array to write to
+     * @param offset The position of the first byte to write
+     * @param length The number of characters to write
+     * @param source The random source to use
+     * @return The position after the last byte written
+     */
+    private int fill(
+            final @NotNull byte[] array,
+            final int offset,
+            final int length,
+            final @NotNull RandomSource source) {
+        int pos = offset;
+        if (this.chars.length == 1) {
+            final byte[] bytes = this.encoded[0];
+            for (int i = 0; i < length; i++) {
+                System.arraycopy(bytes, 0, array, pos, bytes.length);
+                pos += bytes.length;
+            }
+            return pos;
+        }
+        final int perLong = Long.SIZE / this.bits;
+        int i = 0;
+        while (i < length) {
+            long value = source.nextLong();
+            for (int n = perLong; n > 0 && i < length; n--) {
+                final int index = (int) value & this.mask;
+                if (index < this.chars.length) {
+                    final byte[] bytes = this.encoded[index];
+                    if (bytes.length == 1) {
+                        array[pos++] = bytes[0];
+                    } else {
+                        System.arraycopy(bytes, 0, array, pos, bytes.length);
+                        pos += bytes.length;
+                    }
+                    i++;
+                }
+                value >>>= this.bits;
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Returns the characters between the specified characters, both
+     * inclusive.
+     * 
+     * @param first The first character
+     * @param last The last character
+     * @return The characters of the range
+     */
+    private static @NotNull char[] range(
+            final char first,
+            final char last) {
+        final char[] result = new char[last - first + 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (char) (first + i);
+        }
+        return result;
+    }
+
+    /**
+     * Concatenates the specified character arrays.
+     * 
+     * @param parts The character arrays to concatenate
+     * @return The concatenated characters
+     */
+    private static @NotNull char[] concat(
+            final @NotNull char[]... parts) {
+        final StringBuilder builder = new StringBuilder();
+        for (final char[] part : parts) {
+            builder.append(part);
+        }
+        return builder.toString().toCharArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.chars);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(
+            final Object obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        if (obj.getClass() != getClass()) { return false; }
+        return Arrays.equals(this.chars, ((Alphabet) obj).chars);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "Alphabet[" + new String(this.chars) + "]";
+    }
+}
@@ -0,0 +1,356 @@
+package dev.orne.test.rnd.params;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.validation.Constraint;
+import javax.validation.constraints.NotNull;
+import javax.validation.groups.Default;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.reflect.MethodUtils;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Reads Bean Validation constraint annotations directly from the annotated
+ * elements through reflection, without a Bean Validation provider.
+ * <p>
+ * Supports validation groups (including group inheritance), composed
+ * constraints and repeated constraint containers. Property constraints are
+ * read from the property field and getter methods of the bean type and its
+ * super types. Method return value and parameter constraints include the
+ * constraints declared in overridden methods. Static members are not
+ * constrained.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @since 0.3
+ */
+@API(status=Status.INTERNAL, since="0.3")
+final class AnnotationConstraintReader {
+
+    /** The groups of constraints without explicit groups. */
+    private static final Class<?>[] DEFAULT_GROUPS = new Class<?>[] {
+        Default.class
+    };
+    /** The getter methods prefixes. */
+    private static final String[] GETTER_PREFIXES = { "get", "is", "has" };
+    /** The annotation groups attribute name. */
+    private static final String GROUPS_ATTR = "groups";
+    /** The annotation value attribute name. */
+    private static final String VALUE_ATTR = "value";
+
+    /**
+     * Private constructor.
+     */
+    private AnnotationConstraintReader() {
+        // Utility class
+    }
+
+    /**
+     * Reads the constraint annotations of the specified property
+     * for the specified validation groups.
+     * 
+     * @param type The bean type.
+     * @param property The property name.
+     * @param groups The validation groups, not empty.
+     * @return The constraint annotations of the specified property.
+     */
+    static @NotNull Set<Annotation> findPropertyConstrains(
+            final @NotNull Class<?> type,
+            final @NotNull String property,
+            final @NotNull Class<?>... groups) {
+        final Set<Annotation> result = new HashSet<>();
+        final String capitalized = StringUtils.capitalize(property);
+        for (final Class<?> current : ClassUtils.hierarchy(type, ClassUtils.Interfaces.INCLUDE)) {
+            for (final Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())
+                        && field.getName().equals(property)) {
+                    extractConstraints(field, groups, result);
+                }
+            }
+            for (final Method method : current.getDeclaredMethods()) {
+                if (isGetter(method, capitalized)) {
+                    extractConstraints(method, groups, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the return value constraint annotations of the specified method
+     * and the methods it overrides for the specified validation groups.
+     * 
+     * @param method The method.
+     * @param groups The validation groups, not empty.
+     * @return The return value constraint annotations of the method.
+     */
+    static @NotNull Set<Annotation> findMethodResultConstrains(
+            final @NotNull Method method,
+            final @NotNull Class<?>... groups) {
+        final Set<Annotation> result = new HashSet<>();
+        if (!Modifier.isStatic(method.getModifiers())) {
+            for (final Method current : MethodUtils.getOverrideHierarchy(
+                    method, ClassUtils.Interfaces.INCLUDE)) {
+                extractConstraints(current, groups, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the constraint annotations of the specified method parameter
+     * and the parameter of the methods it overrides for the specified
+     * validation groups.
+     * 
+     * @param method The method.
+     * @param index The parameter index.
+     * @param groups The validation groups, not empty.
+     * @return The constraint annotations of the method parameter.
+     */
+    static @NotNull Set<Annotation> findMethodParameterConstrains(
+            final @NotNull Method method,
+            final int index,
+            final @NotNull Class<?>... groups) {
+        final Set<Annotation> result = new HashSet<>();
+        if (!Modifier.isStatic(method.getModifiers())) {
+            for (final Method current : MethodUtils.getOverrideHierarchy(
+                    method, ClassUtils.Interfaces.INCLUDE)) {
+                extractConstraints(current.getParameters()[index], groups, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the constraint annotations of the specified element
+     * for the specified validation groups.
+     * 
+     * @param element The annotated element.
+     * @param groups The validation groups, not empty.
+     * @return The constraint annotations of the specified element.
+     */
+    static @NotNull Set<Annotation> findElementConstrains(
+            final @NotNull AnnotatedElement element,
+            final @NotNull Class<?>... groups) {
+        final Set<Annotation> result = new HashSet<>();
+        extractConstraints(element, groups, result);
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if the specified method is a getter of the
+     * specified property.
+     * 
+     * @param method The method.
+     * @param capitalized The capitalized property name.
+     * @return If the method is a getter of the property
+     */
+    static boolean isGetter(
+            final @NotNull Method method,
+            final @NotNull String capitalized) {
+        if (Modifier.isStatic(method.getModifiers())
+                || method.isSynthetic()
+                || method.getParameterCount() != 0
+                || Void.TYPE.equals(method.getReturnType())) {
+            return false;
+        }
+        final String name = method.getName();
+        for (final String prefix : GETTER_PREFIXES) {
+            if (name.length() == prefix.length() + capitalized.length()
+                    && name.startsWith(prefix)
+                    && name.endsWith(capitalized)) {
+                return "get".equals(prefix)
+                        || Boolean.TYPE.equals(method.getReturnType());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the constraint annotations of the specified element that
+     * match the specified validation groups, including their composing
+     * constraints, to the passed annotation set.
+     * 
+     * @param element The annotated element.
+     * @param groups The validation groups, not empty.
+     * @param result The set to add the annotations to.
+     */
+    static void extractConstraints(
+            final @NotNull AnnotatedElement element,
+            final @NotNull Class<?>[] groups,
+            final @NotNull Set<Annotation> result) {
+        for (final Annotation annotation : element.getDeclaredAnnotations()) {
+            if (isConstraint(annotation)) {
+                if (matchesGroups(annotation, groups)) {
+                    addConstraint(annotation, result);
+                }
+            } else {
+                for (final Annotation repeated : getRepeatedConstraints(annotation)) {
+                    if (matchesGroups(repeated, groups)) {
+                        addConstraint(repeated, result);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the specified constraint annotation and its composing
+     * constraints to the passed annotation set. Composing constraints
+     * inherit the groups of the composed constraint.
+     * 
+     * @param constraint The constraint annotation.
+     * @param result The set to add the annotations to.
+     */
+    private static void addConstraint(
+            final @NotNull Annotation constraint,
+            final @NotNull Set<Annotation> result) {
+        if (!result.add(constraint)) {
+            return;
+        }
+        for (final Annotation annotation : constraint.annotationType().getDeclaredAnnotations()) {
+            if (isConstraint(annotation)) {
+                addConstraint(annotation, result);
+            } else {
+                for (final Annotation repeated : getRepeatedConstraints(annotation)) {
+                    addConstraint(repeated, result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified annotation is a constraint.
+     * 
+     * @param annotation The annotation.
+     * @return If the annotation is a constraint
+     */
+    static boolean isConstraint(
+            final @NotNull Annotation annotation) {
+        return annotation.annotationType().isAnnotationPresent(Constraint.class);
+    }
+
+    /**
+     * Returns the constraints contained in the specified annotation if it
+     * is a repeated constraints container.
+     * 
+     * @param annotation The annotation.
+     * @return The contained constraints, empty if the annotation is not
+     * a constraints container
+     */
+    static @NotNull Annotation[] getRepeatedConstraints(
+            final @NotNull Annotation annotation) {
+        if (isConstraintContainer(annotation.annotationType())) {
+            final Object value = getAttribute(annotation, VALUE_ATTR);
+            if (value instanceof Annotation[]) {
+                return (Annotation[]) value;
+            }
+        }
+        return new Annotation[0];
+    }
+
+    /**
+     * Returns {@code true} if the specified annotation type is a repeated
+     * constraints container, declaring a {@code value} attribute of
+     * constraint annotation array type. The check only inspects the
+     * annotation type, so no attribute is read from annotations that are
+     * not constraint containers.
+     * 
+     * @param type The annotation type.
+     * @return If the annotation type is a constraints container
+     */
+    private static boolean isConstraintContainer(
+            final @NotNull Class<? extends Annotation> type) {
+        final Class<?> valueType;
+        try {
+            valueType = type.getDeclaredMethod(VALUE_ATTR).getReturnType();
+        } catch (final NoSuchMethodException | RuntimeException e) {
+            return false;
+        }
+        return valueType.isArray()
+                && valueType.getComponentType().isAnnotation()
+                && valueType.getComponentType().isAnnotationPresent(Constraint.class);
+    }
+
+    /**
+     * Returns {@code true} if the specified constraint belongs to any of
+     * the specified validation groups, directly or through group
+     * inheritance. Constraints without explicit groups belong to the
+     * {@code Default} group.
+     * 
+     * @param constraint The constraint annotation.
+     * @param groups The validation groups, not empty.
+     * @return If the constraint matches the validation groups
+     */
+    static boolean matchesGroups(
+            final @NotNull Annotation constraint,
+            final @NotNull Class<?>[] groups) {
+        Class<?>[] constraintGroups = null;
+        if (isConstraint(constraint)) {
+            constraintGroups = (Class<?>[]) getAttribute(constraint, GROUPS_ATTR);
+        }
+        if (constraintGroups == null || constraintGroups.length == 0) {
+            constraintGroups = DEFAULT_GROUPS;
+        }
+        for (final Class<?> group : groups) {
+            for (final Class<?> constraintGroup : constraintGroups) {
+                if (constraintGroup.isAssignableFrom(group)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the value of the specified annotation attribute.
+     * 
+     * @param annotation The annotation.
+     * @param attribute The attribute name.
+     * @return The attribute value, or {@code null} if the annotation has no
+     * such attribute or it cannot be read, for example when the annotation
+     * type is not accessible
+     */
+    private static Object getAttribute(
+            final @NotNull Annotation annotation,
+            final @NotNull String attribute) {
+        try {
+            final Method method = annotation.annotationType().getDeclaredMethod(attribute);
+            method.setAccessible(true);
+            return method.invoke(annotation);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
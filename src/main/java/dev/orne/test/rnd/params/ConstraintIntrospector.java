@@ -23,15 +23,23 @@ package dev.orne.test.rnd.params;
  */
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import javax.validation.Validation;
+import javax.validation.ValidationException;
 import javax.validation.Validator;
 import javax.validation.constraints.NotNull;
 import javax.validation.groups.Default;
@@ -46,24 +54,67 @@ import javax.validation.metadata.ElementDescriptor.ConstraintFinder;
 import javax.validation.metadata.ExecutableDescriptor;
 
 import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Utility class for retrieving constraints annotations from generation
  * targets.
+ * <p>
+ * Resolved constraint annotations are cached by declaring class, target
+ * member, validator and validation groups. The cache is attached to the
+ * declaring class through a {@code ClassValue}, so it does not prevent
+ * class unloading, and holds a bounded number of entries per class.
+ * Validators are compared by identity and weakly referenced, so cached
+ * entries do not prevent discarded validators from being garbage collected.
+ * Returned sets are unmodifiable.
+ * <p>
+ * The default validator used when no validator is provided is created
+ * lazily on first constraint lookup, and can be replaced with
+ * {@link #setDefaultValidator(Validator)}. If no Bean Validation provider
+ * is available in the class path constraint annotations are read directly
+ * from the target members through reflection.
+ * <p>
+ * The {@link Strategy#REFLECTION} strategy can be selected with
+ * {@link #setStrategy(Strategy)} to always read the constraint annotations
+ * through reflection when no validator is provided, avoiding the Bean
+ * Validation metadata lookup.
+ * <p>
+ * Changes of the default validator or the strategy increase the
+ * configuration version returned by {@link #getConfigurationVersion()},
+ * allowing callers to invalidate constraints retrieved with a previous
+ * configuration.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.1, 2023-11
+ * @version 1.3, 2026-10
  * @since 0.1
  */
 @API(status=Status.EXPERIMENTAL, since="0.1")
 public final class ConstraintIntrospector {
 
+    /** The class logger. */
+    private static final Logger LOG = LoggerFactory.getLogger(ConstraintIntrospector.class);
     /** The default validation groups when no one is provided. */
     private static final Class<?>[] DEFAULT_GROUPS = new Class<?>[] {
         Default.class
     };
+    /** The maximum number of cached constraint sets per declaring class. */
+    static final int MAX_CACHED_TARGETS = 256;
+    /** The index used for method result targets. */
+    private static final int RESULT_INDEX = -1;
+    /** The resolved constraint annotations cache by declaring class. */
+    private static final ClassValue<ConcurrentMap<ConstraintsKey, Set<Annotation>>> CACHE =
+            new ClassValue<ConcurrentMap<ConstraintsKey, Set<Annotation>>>() {
+        @Override
+        protected ConcurrentMap<ConstraintsKey, Set<Annotation>> computeValue(
+                final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     /**
      * Private constructor.
@@ -72,9 +123,138 @@ public final class ConstraintIntrospector {
         // Utility class
     }
 
-    /** The default validator. */
-    private static final Validator DEFAULT_VALIDATOR =
-            Validation.buildDefaultValidatorFactory().getValidator();
+    /** The constraint resolution strategy when no validator is provided. */
+    private static volatile Strategy strategy = Strategy.VALIDATOR;
+    /** The default validator, {@code null} if no provider is available. */
+    private static volatile Validator defaultValidator;
+    /** If the default validator has been resolved. */
+    private static volatile boolean defaultValidatorResolved;
+    /** The configuration version. */
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    /**
+     * Returns the current configuration version. The version changes each
+     * time the default validator or the constraint resolution strategy
+     * change, allowing callers to invalidate constraints retrieved with
+     * a previous configuration.
+     * 
+     * @return The current configuration version
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public static long getConfigurationVersion() {
+        return VERSION.get();
+    }
+
+    /**
+     * Returns the default validator used when no validator is provided.
+     * Creates the validator from the default validator factory on first
+     * call if no validator has been set.
+     * 
+     * @return The default validator, or {@code null} if no Bean Validation
+     * provider is available
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public static Validator getDefaultValidator() {
+        if (!defaultValidatorResolved) {
+            synchronized (ConstraintIntrospector.class) {
+                if (!defaultValidatorResolved) {
+                    defaultValidator = createDefaultValidator();
+                    defaultValidatorResolved = true;
+                }
+            }
+        }
+        return defaultValidator;
+    }
+
+    /**
+     * Sets the default validator used when no validator is provided.
+     * If {@code null} the default validator will be created from the
+     * default validator factory on next constraint lookup.
+     * 
+     * @param validator The default validator
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public static void setDefaultValidator(
+            final Validator validator) {
+        synchronized (ConstraintIntrospector.class) {
+            defaultValidator = validator;
+            defaultValidatorResolved = validator != null;
+            VERSION.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the constraint resolution strategy used when no validator is
+     * provided.
+     * 
+     * @return The constraint resolution strategy
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public static @NotNull Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Sets the constraint resolution strategy used when no validator is
+     * provided.
+     * 
+     * @param strategy The constraint resolution strategy
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public static void setStrategy(
+            final @NotNull Strategy strategy) {
+        ConstraintIntrospector.strategy = Validate.notNull(strategy);
+        VERSION.incrementAndGet();
+    }
+
+    /**
+     * Returns the validator to use when no validator is provided, based on
+     * the current constraint resolution strategy.
+     * 
+     * @return The validator to use, or {@code null} to read the constraints
+     * through reflection
+     */
+    private static Validator getStrategyValidator() {
+        if (strategy == Strategy.REFLECTION) {
+            return null;
+        }
+        return getDefaultValidator();
+    }
+
+    /**
+     * Creates a new validator from the default validator factory.
+     * 
+     * @return The created validator, or {@code null} if no Bean Validation
+     * provider is available
+     */
+    static Validator createDefaultValidator() {
+        try {
+            return Validation.buildDefaultValidatorFactory().getValidator();
+        } catch (final ValidationException e) {
+            LOG.debug("No Bean Validation provider available. Reading constraints through reflection.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Sets the resolved default validator, including {@code null} for
+     * no Bean Validation provider available.
+     * 
+     * @param validator The resolved default validator
+     */
+    static void setResolvedDefaultValidator(
+            final Validator validator) {
+        synchronized (ConstraintIntrospector.class) {
+            defaultValidator = validator;
+            defaultValidatorResolved = true;
+            VERSION.incrementAndGet();
+        }
+    }
 
     /**
      * Retrieves the constraint annotations of the specified property
@@ -89,7 +269,20 @@ public final class ConstraintIntrospector {
             final @NotNull Class<?> type,
             final @NotNull String property,
             final @NotNull Class<?>... groups) {
-        return findPropertyConstrains(DEFAULT_VALIDATOR, type, property, groups);
+        final Validator validator = getStrategyValidator();
+        if (validator != null) {
+            return findPropertyConstrains(validator, type, property, groups);
+        }
+        Validate.notNull(type);
+        Validate.notNull(property);
+        final Class<?>[] effectiveGroups = effectiveGroups(groups);
+        return cached(
+                type,
+                new ConstraintsKey(null, property, RESULT_INDEX, effectiveGroups),
+                () -> AnnotationConstraintReader.findPropertyConstrains(
+                        type,
+                        property,
+                        effectiveGroups));
     }
 
     /**
@@ -110,13 +303,19 @@ public final class ConstraintIntrospector {
         Validate.notNull(validator);
         Validate.notNull(type);
         Validate.notNull(property);
-        final BeanDescriptor beanDesc = validator.getConstraintsForClass(type);
-        final PropertyDescriptor propDesc = beanDesc.getConstraintsForProperty(property);
-        if (propDesc == null) {
-            return Collections.emptySet();
-        } else {
-            return extractAnnotations(propDesc.findConstraints(), groups);
-        }
+        final Class<?>[] effectiveGroups = effectiveGroups(groups);
+        return cached(
+                type,
+                new ConstraintsKey(validator, property, RESULT_INDEX, effectiveGroups),
+                () -> {
+                    final BeanDescriptor beanDesc = validator.getConstraintsForClass(type);
+                    final PropertyDescriptor propDesc = beanDesc.getConstraintsForProperty(property);
+                    if (propDesc == null) {
+                        return Collections.emptySet();
+                    } else {
+                        return extractAnnotations(propDesc.findConstraints(), effectiveGroups);
+                    }
+                });
     }
 
     /**
@@ -131,7 +330,27 @@ public final class ConstraintIntrospector {
     public static @NotNull Set<Annotation> findParameterConstrains(
             final @NotNull Parameter parameter,
             final @NotNull Class<?>... groups) {
-        return findParameterConstrains(DEFAULT_VALIDATOR, parameter, groups);
+        final Validator validator = getStrategyValidator();
+        if (validator != null) {
+            return findParameterConstrains(validator, parameter, groups);
+        }
+        Validate.notNull(parameter);
+        final Executable exec = parameter.getDeclaringExecutable();
+        final Class<?>[] effectiveGroups = effectiveGroups(groups);
+        return cached(
+                exec.getDeclaringClass(),
+                new ConstraintsKey(null, parameter, RESULT_INDEX, effectiveGroups),
+                () -> {
+                    if (exec instanceof Method) {
+                        return AnnotationConstraintReader.findMethodParameterConstrains(
+                                (Method) exec,
+                                Arrays.asList(exec.getParameters()).indexOf(parameter),
+                                effectiveGroups);
+                    }
+                    return AnnotationConstraintReader.findElementConstrains(
+                            parameter,
+                            effectiveGroups);
+                });
     }
 
     /**
@@ -150,6 +369,26 @@ public final class ConstraintIntrospector {
             final @NotNull Class<?>... groups) {
         Validate.notNull(validator);
         Validate.notNull(parameter);
+        final Class<?>[] effectiveGroups = effectiveGroups(groups);
+        return cached(
+                parameter.getDeclaringExecutable().getDeclaringClass(),
+                new ConstraintsKey(validator, parameter, RESULT_INDEX, effectiveGroups),
+                () -> resolveParameterConstrains(validator, parameter, effectiveGroups));
+    }
+
+    /**
+     * Resolves the constraint annotations of the specified parameter
+     * for the specified validation groups.
+     * 
+     * @param validator The validator to use.
+     * @param parameter The target parameter.
+     * @param groups The validation groups.
+     * @return The constraint annotations of the specified parameter.
+     */
+    private static @NotNull Set<Annotation> resolveParameterConstrains(
+            final @NotNull Validator validator,
+            final @NotNull Parameter parameter,
+            final @NotNull Class<?>... groups) {
         final Executable exec = parameter.getDeclaringExecutable();
         final BeanDescriptor beanDesc = validator.getConstraintsForClass(
                 exec.getDeclaringClass());
@@ -193,7 +432,20 @@ public final class ConstraintIntrospector {
             final @NotNull Method method,
             final int parameterIndex,
             final @NotNull Class<?>... groups) {
-        return findMethodParameterConstrains(DEFAULT_VALIDATOR, method, parameterIndex, groups);
+        final Validator validator = getStrategyValidator();
+        if (validator != null) {
+            return findMethodParameterConstrains(validator, method, parameterIndex, groups);
+        }
+        Validate.notNull(method);
+        Validate.validIndex(method.getParameterTypes(), parameterIndex);
+        final Class<?>[] effectiveGroups = effectiveGroups(groups);
+        return cached(
+                method.getDeclaringClass(),
+                new ConstraintsKey(null, method, parameterIndex, effectiveGroups),
+                () -> AnnotationConstraintReader.findMethodParameterConstrains(
+                        method,
+                        parameterIndex,
+                        effectiveGroups));
     }
 
     /**
@@ -214,19 +466,21 @@ public final class ConstraintIntrospector {
         Validate.notNull(validator);
         Validate.notNull(method);
         Validate.validIndex(method.getParameterTypes(), parameterIndex);
-        final BeanDescriptor beanDesc = validator.getConstraintsForClass(
-                method.getDeclaringClass());
-        final MethodDescriptor methodDesc = beanDesc.getConstraintsForMethod(
-                method.getName(),
-                method.getParameterTypes());
-        if (methodDesc == null) {
-            return Collections.emptySet();
-        }
-        final ParameterDescriptor paramDesc =
-                methodDesc.getParameterDescriptors().get(parameterIndex);
-        return extractAnnotations(
-                paramDesc.findConstraints(),
-                groups);
+        final Class<?>[] effectiveGroups = effectiveGroups(groups);
+        return cached(
+                method.getDeclaringClass(),
+                new ConstraintsKey(validator, method, parameterIndex, effectiveGroups),
+                () -> {
+                    final MethodDescriptor methodDesc = findMethodDescriptor(validator, method);
+                    if (methodDesc == null) {
+                        return Collections.emptySet();
+                    }
+                    final ParameterDescriptor paramDesc =
+                            methodDesc.getParameterDescriptors().get(parameterIndex);
+                    return extractAnnotations(
+                            paramDesc.findConstraints(),
+                            effectiveGroups);
+                });
     }
 
     /**
@@ -240,7 +494,18 @@ public final class ConstraintIntrospector {
     public static @NotNull Set<Annotation> findMethodResultConstrains(
             final @NotNull Method method,
             final Class<?>... groups) {
-        return findMethodResultConstrains(DEFAULT_VALIDATOR, method, groups);
+        final Validator validator = getStrategyValidator();
+        if (validator != null) {
+            return findMethodResultConstrains(validator, method, groups);
+        }
+        Validate.notNull(method);
+        final Class<?>[] effectiveGroups = effectiveGroups(groups);
+        return cached(
+                method.getDeclaringClass(),
+                new ConstraintsKey(null, method, RESULT_INDEX, effectiveGroups),
+                () -> AnnotationConstraintReader.findMethodResultConstrains(
+                        method,
+                        effectiveGroups));
     }
 
     /**
@@ -258,18 +523,38 @@ public final class ConstraintIntrospector {
             final @NotNull Class<?>... groups) {
         Validate.notNull(validator);
         Validate.notNull(method);
+        final Class<?>[] effectiveGroups = effectiveGroups(groups);
+        return cached(
+                method.getDeclaringClass(),
+                new ConstraintsKey(validator, method, RESULT_INDEX, effectiveGroups),
+                () -> {
+                    final MethodDescriptor methodDesc = findMethodDescriptor(validator, method);
+                    if (methodDesc == null) {
+                        return Collections.emptySet();
+                    }
+                    final ReturnValueDescriptor returnDesc = methodDesc.getReturnValueDescriptor();
+                    return extractAnnotations(
+                            returnDesc.findConstraints(),
+                            effectiveGroups);
+                });
+    }
+
+    /**
+     * Returns the method descriptor of the specified method.
+     * 
+     * @param validator The validator to use.
+     * @param method The target method.
+     * @return The method descriptor, or {@code null} if the method is not
+     * constrained.
+     */
+    private static MethodDescriptor findMethodDescriptor(
+            final @NotNull Validator validator,
+            final @NotNull Method method) {
         final BeanDescriptor beanDesc = validator.getConstraintsForClass(
                 method.getDeclaringClass());
-        final MethodDescriptor methodDesc = beanDesc.getConstraintsForMethod(
+        return beanDesc.getConstraintsForMethod(
                 method.getName(),
                 method.getParameterTypes());
-        if (methodDesc == null) {
-            return Collections.emptySet();
-        }
-        final ReturnValueDescriptor returnDesc = methodDesc.getReturnValueDescriptor();
-        return extractAnnotations(
-                returnDesc.findConstraints(),
-                groups);
     }
 
     /**
@@ -286,7 +571,19 @@ public final class ConstraintIntrospector {
             final @NotNull Constructor<?> constructor,
             final int parameterIndex,
             final @NotNull Class<?>... groups) {
-        return findConstructorParameterConstrains(DEFAULT_VALIDATOR, constructor, parameterIndex, groups);
+        final Validator validator = getStrategyValidator();
+        if (validator != null) {
+            return findConstructorParameterConstrains(validator, constructor, parameterIndex, groups);
+        }
+        Validate.notNull(constructor);
+        Validate.validIndex(constructor.getParameterTypes(), parameterIndex);
+        final Class<?>[] effectiveGroups = effectiveGroups(groups);
+        return cached(
+                constructor.getDeclaringClass(),
+                new ConstraintsKey(null, constructor, parameterIndex, effectiveGroups),
+                () -> AnnotationConstraintReader.findElementConstrains(
+                        constructor.getParameters()[parameterIndex],
+                        effectiveGroups));
     }
 
     /**
@@ -308,18 +605,77 @@ public final class ConstraintIntrospector {
         Validate.notNull(validator);
         Validate.notNull(constructor);
         Validate.validIndex(constructor.getParameterTypes(), parameterIndex);
-        final BeanDescriptor beanDesc = validator.getConstraintsForClass(
-                constructor.getDeclaringClass());
-        final ConstructorDescriptor ctrDesc = beanDesc.getConstraintsForConstructor(
-                constructor.getParameterTypes());
-        if (ctrDesc == null) {
-            return Collections.emptySet();
+        final Class<?>[] effectiveGroups = effectiveGroups(groups);
+        return cached(
+                constructor.getDeclaringClass(),
+                new ConstraintsKey(validator, constructor, parameterIndex, effectiveGroups),
+                () -> {
+                    final BeanDescriptor beanDesc = validator.getConstraintsForClass(
+                            constructor.getDeclaringClass());
+                    final ConstructorDescriptor ctrDesc = beanDesc.getConstraintsForConstructor(
+                            constructor.getParameterTypes());
+                    if (ctrDesc == null) {
+                        return Collections.emptySet();
+                    }
+                    final ParameterDescriptor paramDesc =
+                            ctrDesc.getParameterDescriptors().get(parameterIndex);
+                    return extractAnnotations(
+                            paramDesc.findConstraints(),
+                            effectiveGroups);
+                });
+    }
+
+    /**
+     * Returns the validation groups to use, replacing an empty groups
+     * array with the default validation groups.
+     * 
+     * @param groups The requested validation groups.
+     * @return The validation groups to use.
+     */
+    private static @NotNull Class<?>[] effectiveGroups(
+            final @NotNull Class<?>... groups) {
+        if (groups.length == 0) {
+            return DEFAULT_GROUPS;
         }
-        final ParameterDescriptor paramDesc =
-                ctrDesc.getParameterDescriptors().get(parameterIndex);
-        return extractAnnotations(
-                paramDesc.findConstraints(),
-                groups);
+        return groups.clone();
+    }
+
+    /**
+     * Returns the cached constraint annotations for the specified key,
+     * resolving and caching them if required.
+     * <p>
+     * When the cache of the declaring class is full the entries of garbage
+     * collected validators are removed first, and the whole cache is
+     * cleared if it is still full. The resolved annotations are always
+     * cached, so targets first requested after the cache filled up still
+     * benefit from caching instead of resolving their constraints on every
+     * call.
+     * 
+     * @param type The declaring class of the target.
+     * @param key The cache key.
+     * @param resolver The constraint annotations resolver.
+     * @return The unmodifiable constraint annotations.
+     */
+    private static @NotNull Set<Annotation> cached(
+            final @NotNull Class<?> type,
+            final @NotNull ConstraintsKey key,
+            final @NotNull Supplier<Set<Annotation>> resolver) {
+        final ConcurrentMap<ConstraintsKey, Set<Annotation>> classCache = CACHE.get(type);
+        Set<Annotation> result = classCache.get(key);
+        if (result == null) {
+            result = Collections.unmodifiableSet(resolver.get());
+            if (classCache.size() >= MAX_CACHED_TARGETS) {
+                classCache.keySet().removeIf(ConstraintsKey::isStale);
+                if (classCache.size() >= MAX_CACHED_TARGETS) {
+                    classCache.clear();
+                }
+            }
+            final Set<Annotation> previous = classCache.putIfAbsent(key, result);
+            if (previous != null) {
+                result = previous;
+            }
+        }
+        return result;
     }
 
     /**
@@ -327,15 +683,12 @@ public final class ConstraintIntrospector {
      * for the specified validation groups.
      * 
      * @param finder The constraint finder.
-     * @param groups The validation groups.
+     * @param groups The validation groups, not empty.
      * @return The constraint annotations found.
      */
     private static @NotNull Set<Annotation> extractAnnotations(
             final @NotNull ConstraintFinder finder,
-            @NotNull Class<?>... groups) {
-        if (groups.length == 0) {
-            groups = DEFAULT_GROUPS;
-        }
+            final @NotNull Class<?>... groups) {
         finder.unorderedAndMatchingGroups(groups);
         final Set<Annotation> result = new HashSet<>();
         for (final ConstraintDescriptor<?> descriptor : finder.getConstraintDescriptors()) {
@@ -361,4 +714,122 @@ public final class ConstraintIntrospector {
             extractConstraints(nested, result);
         }
     }
+
+    /**
+     * Constraint resolution strategies.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public enum Strategy {
+        /**
+         * Constraints are resolved through the default Bean Validation
+         * validator. Falls back to {@link #REFLECTION} if no Bean Validation
+         * provider is available.
+         */
+        VALIDATOR,
+        /**
+         * Constraints annotations are read directly from the target members
+         * through reflection, without Bean Validation metadata.
+         */
+        REFLECTION;
+    }
+
+    /**
+     * Constraint annotations cache key. The validator is weakly referenced
+     * and compared by identity. Keys whose validator has been garbage
+     * collected are stale and equal to no other key.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.1, 2026-10
+     * @since 0.3
+     */
+    private static final class ConstraintsKey {
+
+        /** The reference to the validator used, {@code null} for reflection. */
+        private final WeakReference<Validator> validator;
+        /** The target member or property name. */
+        private final @NotNull Object target;
+        /** The target parameter index, or {@code -1}. */
+        private final int index;
+        /** The validation groups. */
+        private final @NotNull List<Class<?>> groups;
+        /** The precomputed hash code. */
+        private final int hashCode;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param validator The validator used, {@code null} for reflection.
+         * @param target The target member or property name.
+         * @param index The target parameter index, or {@code -1}.
+         * @param groups The validation groups.
+         */
+        private ConstraintsKey(
+                final Validator validator,
+                final @NotNull Object target,
+                final int index,
+                final @NotNull Class<?>[] groups) {
+            super();
+            this.validator = validator == null ? null : new WeakReference<>(validator);
+            this.target = target;
+            this.index = index;
+            this.groups = Arrays.asList(groups);
+            this.hashCode = new HashCodeBuilder()
+                    .append(System.identityHashCode(validator))
+                    .append(target)
+                    .append(index)
+                    .append(this.groups)
+                    .build();
+        }
+
+        /**
+         * Returns the validator used.
+         * 
+         * @return The validator used, {@code null} for reflection or if
+         * the validator has been garbage collected.
+         */
+        private Validator getValidator() {
+            return this.validator == null ? null : this.validator.get();
+        }
+
+        /**
+         * Returns {@code true} if the validator of this key has been garbage
+         * collected.
+         * 
+         * @return If this key is stale.
+         */
+        private boolean isStale() {
+            return this.validator != null && this.validator.get() == null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == null) { return false; }
+            if (obj == this) { return true; }
+            if (obj.getClass() != getClass()) { return false; }
+            final ConstraintsKey other = (ConstraintsKey) obj;
+            return !isStale()
+                    && !other.isStale()
+                    && getValidator() == other.getValidator()
+                    && new EqualsBuilder()
+                    .append(this.target, other.target)
+                    .append(this.index, other.index)
+                    .append(this.groups, other.groups)
+                    .build();
+        }
+    }
 }
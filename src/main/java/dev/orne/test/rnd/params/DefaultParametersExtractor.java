@@ -40,9 +40,13 @@ import org.apiguardian.api.API.Status;
 
 /**
  * Default implementation for {@code ParametersExtrator}.
+ * <p>
+ * The suitable source extractors for each source type are resolved once
+ * and cached in a per source class dispatch table, so extracting parameters
+ * does not depend on the number of registered source extractors.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @param <P> The target generation parameters type
  * @since 0.1
  */
@@ -52,6 +56,8 @@ implements ParametersExtractor<P> {
 
     /** The available parameters source extractors. */
     private final List<ParametersSourceExtractor<? super P, ?>> extractors;
+    /** The suitable source extractors by source type, in application order. */
+    private final ClassValue<ParametersSourceExtractor<?, ?>[]> dispatch;
 
     /**
      * Creates a new instance.
@@ -64,6 +70,12 @@ implements ParametersExtractor<P> {
         Validate.notNull(extractors);
         Validate.noNullElements(extractors);
         this.extractors = new ArrayList<>(extractors);
+        final ParametersSourceExtractor<?, ?>[] reversed =
+                new ParametersSourceExtractor<?, ?>[this.extractors.size()];
+        for (int i = 0; i < reversed.length; i++) {
+            reversed[i] = this.extractors.get(reversed.length - 1 - i);
+        }
+        this.dispatch = new DispatchTable(reversed);
     }
 
     /**
@@ -113,6 +125,7 @@ implements ParametersExtractor<P> {
      * This implementation applied the suitable source extractors in reverse
      * priority order to allow extractors with higher priority to overwrite
      * parameters extracted by lower priority extractors.
+     * The suitable extractors are resolved once per source class.
      * 
      * @param <T> The parameters type
      * @param <S> The generation parameters source type
@@ -122,17 +135,56 @@ implements ParametersExtractor<P> {
     protected <T extends P, S> void extract(
             final @NotNull T params,
             final @NotNull S source) {
-        @SuppressWarnings("unchecked")
-        final Class<S> sourceType = (Class<S>) source.getClass();
-        for (int i = this.extractors.size() - 1; i >= 0; i--) {
-            final ParametersSourceExtractor<? super P, ?> extractor =
-                    this.extractors.get(i);
-            if (extractor.getSourceType().isAssignableFrom(sourceType)) {
-                @SuppressWarnings("unchecked")
-                final ParametersSourceExtractor<? super P, ? super S> tmp =
-                (ParametersSourceExtractor<? super P, ? super S>) extractor;
-                tmp.extractParameters(source, params);
+        final ParametersSourceExtractor<?, ?>[] suitable =
+                this.dispatch.get(source.getClass());
+        for (final ParametersSourceExtractor<?, ?> extractor : suitable) {
+            @SuppressWarnings("unchecked")
+            final ParametersSourceExtractor<? super P, ? super S> tmp =
+            (ParametersSourceExtractor<? super P, ? super S>) extractor;
+            tmp.extractParameters(source, params);
+        }
+    }
+
+    /**
+     * Per source class dispatch table. Computes the source extractors
+     * suitable for each source class the first time it is requested.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.3
+     */
+    private static final class DispatchTable
+    extends ClassValue<ParametersSourceExtractor<?, ?>[]> {
+
+        /** The available source extractors, in application order. */
+        private final ParametersSourceExtractor<?, ?>[] extractors;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param extractors The available source extractors, in
+         * application order
+         */
+        private DispatchTable(
+                final @NotNull ParametersSourceExtractor<?, ?>[] extractors) {
+            super();
+            this.extractors = extractors;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected ParametersSourceExtractor<?, ?>[] computeValue(
+                final Class<?> type) {
+            final List<ParametersSourceExtractor<?, ?>> suitable =
+                    new ArrayList<>(this.extractors.length);
+            for (final ParametersSourceExtractor<?, ?> extractor : this.extractors) {
+                if (extractor.getSourceType().isAssignableFrom(type)) {
+                    suitable.add(extractor);
+                }
             }
+            return suitable.toArray(new ParametersSourceExtractor<?, ?>[0]);
         }
     }
 
@@ -166,6 +218,8 @@ implements ParametersExtractor<P> {
      */
     @Override
     public String toString() {
-        return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("extractors", this.extractors)
+                .toString();
     }
 }
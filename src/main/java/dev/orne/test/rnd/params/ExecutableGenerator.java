@@ -22,6 +22,9 @@ package dev.orne.test.rnd.params;
  * #L%
  */
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
@@ -36,13 +39,19 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.AbstractTypedGenerator;
+import dev.orne.test.rnd.GenerationException;
 
 /**
  * Abstract generator that calls an executable with generated parameters to
  * generate values of the target type.
+ * <p>
+ * The executable is compiled on first use to a {@code MethodHandle} that
+ * accepts the parameters as an {@code Object[]}, avoiding the reflective
+ * access checks and argument wrapping of {@code Constructor.newInstance()}
+ * and {@code Method.invoke()} on each call.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-12
+ * @version 1.1, 2026-10
  * @param <T> The type of generated values
  * @since 0.1
  */
@@ -50,10 +59,18 @@ import dev.orne.test.rnd.AbstractTypedGenerator;
 public abstract class ExecutableGenerator<T>
 extends AbstractTypedGenerator<T> {
 
+    /** The validation groups used when generating parameters. */
+    private static final Class<?>[] DEFAULT_GROUPS = { Default.class };
+    /** The type of the compiled executable invokers. */
+    private static final MethodType INVOKER_TYPE =
+            MethodType.methodType(Object.class, Object[].class);
+
     /** The executable to call. */
     private final @NotNull Executable executable;
     /** The generator for the executable parameters. */
     private final @NotNull TargetedGenerator<?>[] parameterGenerators;
+    /** The compiled executable invoker. */
+    private volatile MethodHandle invoker;
 
     /**
      * Creates a new instance.
@@ -125,7 +142,7 @@ extends AbstractTypedGenerator<T> {
         final Object[] params = new Object[parameterGenerators.length];
         for (int i = 0; i < params.length; i++) {
             final TargetedGenerator<?> generator = parameterGenerators[i];
-            params[i] = generator.nullableDefaultValue(Default.class);
+            params[i] = generator.nullableDefaultValue(DEFAULT_GROUPS);
         }
         return generate(params);
     }
@@ -139,7 +156,7 @@ extends AbstractTypedGenerator<T> {
         final Object[] params = new Object[parameterGenerators.length];
         for (int i = 0; i < params.length; i++) {
             final TargetedGenerator<?> generator = parameterGenerators[i];
-            params[i] = generator.nullableRandomValue(Default.class);
+            params[i] = generator.nullableRandomValue(DEFAULT_GROUPS);
         }
         return generate(params);
     }
@@ -153,6 +170,76 @@ extends AbstractTypedGenerator<T> {
     protected abstract @NotNull T generate(
             Object[] params);
 
+    /**
+     * Calls the executable with the specified parameters through the
+     * compiled executable invoker.
+     * 
+     * @param params The parameters to use when calling the executable
+     * @return The result of the executable call
+     * @throws GenerationException If the executable cannot be accessed or
+     * the call fails
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    @SuppressWarnings("java:S1181")
+    protected Object invoke(
+            final Object[] params) {
+        final MethodHandle handle = getInvoker();
+        try {
+            return handle.invokeExact(params);
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new GenerationException("Error generating new instance", e);
+        }
+    }
+
+    /**
+     * Returns the compiled executable invoker, compiling it on first call.
+     * <p>
+     * The returned invoker has type {@code (Object[])Object}.
+     * 
+     * @return The compiled executable invoker
+     * @throws GenerationException If the executable cannot be accessed
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    protected @NotNull MethodHandle getInvoker() {
+        MethodHandle result = this.invoker;
+        if (result == null) {
+            result = compileInvoker();
+            this.invoker = result;
+        }
+        return result;
+    }
+
+    /**
+     * Compiles the executable to a method handle of type
+     * {@code (Object[])Object} that spreads the array elements as the
+     * executable parameters.
+     * 
+     * @return The compiled executable invoker
+     * @throws GenerationException If the executable cannot be accessed
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    protected @NotNull MethodHandle compileInvoker() {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodHandle handle;
+        try {
+            if (this.executable instanceof Constructor) {
+                handle = lookup.unreflectConstructor((Constructor<?>) this.executable);
+            } else {
+                handle = lookup.unreflect((Method) this.executable);
+            }
+        } catch (final IllegalAccessException e) {
+            throw new GenerationException("Cannot access executable " + this.executable, e);
+        }
+        return handle.asFixedArity()
+                .asSpreader(Object[].class, this.executable.getParameterCount())
+                .asType(INVOKER_TYPE);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -30,7 +30,6 @@ import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
-import dev.orne.test.rnd.GenerationException;
 import dev.orne.test.rnd.Generators;
 
 /**
@@ -38,7 +37,7 @@ import dev.orne.test.rnd.Generators;
  * generate values of the target type.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-12
+ * @version 1.1, 2026-10
  * @param <T> The type of generated values
  * @since 0.1
  */
@@ -95,10 +94,6 @@ extends ExecutableGenerator<T> {
     @Override
     protected @NotNull T generate(
             final Object[] params) {
-        try {
-            return getValueType().cast(getExecutable().invoke(null, params));
-        } catch (Exception e) {
-            throw new GenerationException("Error generating new instance", e);
-        }
+        return getValueType().cast(invoke(params));
     }
 }
@@ -0,0 +1,167 @@
+package dev.orne.test.rnd.params;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Parameters for random numeric values generation.
+ * <p>
+ * The default minimum and maximum values are interpreted as no bound by
+ * the generators of numeric types with ranges wider than {@code long},
+ * like {@code double} or {@code BigDecimal}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public class NumberGenerationParameters
+extends NullableParametersImpl
+implements NumberParameters, NumberParameters.Builder {
+
+    /** The minimum value. */
+    private @NotNull Number min = NumberParameters.DEFAULT_MIN;
+    /** The maximum value. */
+    private @NotNull Number max = NumberParameters.DEFAULT_MAX;
+
+    /**
+     * Creates a new instance.
+     */
+    public NumberGenerationParameters() {
+        super();
+    }
+
+    /**
+     * Copy constructor.
+     * 
+     * @param copy The instance to copy.
+     */
+    public NumberGenerationParameters(
+            final @NotNull GenerationParameters copy) {
+        super(copy);
+        if (copy instanceof NumberParameters) {
+            this.min = ((NumberParameters) copy).getMin();
+            this.max = ((NumberParameters) copy).getMax();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull NumberGenerationParameters withNullable(
+            final boolean nullable) {
+        setNullable(nullable);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Number getMin() {
+        return this.min;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setMin(
+            final @NotNull Number value) {
+        this.min = Validate.notNull(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull NumberGenerationParameters withMin(
+            final @NotNull Number value) {
+        setMin(value);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Number getMax() {
+        return this.max;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setMax(
+            final @NotNull Number value) {
+        this.max = Validate.notNull(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull NumberGenerationParameters withMax(
+            final @NotNull Number value) {
+        setMax(value);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .appendSuper(super.hashCode())
+                .append(this.min)
+                .append(this.max)
+                .toHashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(
+            final Object obj) {
+        if (obj == null) { return false; }
+        if (obj == this) { return true; }
+        if (obj.getClass() != getClass()) { return false; }
+        final NumberGenerationParameters other = (NumberGenerationParameters) obj;
+        return new EqualsBuilder()
+                .appendSuper(super.equals(obj))
+                .append(this.min, other.min)
+                .append(this.max, other.max)
+                .build();
+    }
+}
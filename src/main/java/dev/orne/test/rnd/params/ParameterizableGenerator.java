@@ -22,8 +22,14 @@ package dev.orne.test.rnd.params;
  * #L%
  */
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -33,7 +39,7 @@ import dev.orne.test.rnd.Generator;
  * Interface for random value generators with optional parameters.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.EXPERIMENTAL, since="0.1")
@@ -100,4 +106,55 @@ extends Generator {
     <T> T nullableRandomValue(
             @NotNull Class<T> type,
             @NotNull Object... params);
+
+    /**
+     * Returns a list of random values of the specified type and parameter
+     * sources.
+     * <p>
+     * Implementations should extract the generation parameters once for
+     * all the values.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param count The number of values to generate.
+     * @param params The parameter sources to extract the parameters from
+     * @return A list of random values for the specified type.
+     * @throws IllegalArgumentException If the specified type is not supported.
+     * @see #randomValue(Class, Object...)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default <T> @NotNull List<T> randomValues(
+            final @NotNull Class<T> type,
+            final @Min(0) int count,
+            final @NotNull Object... params) {
+        Validate.isTrue(count >= 0, "The number of values must be non negative");
+        final List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(randomValue(type, params));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an infinite sequential stream of random values of the
+     * specified type and parameter sources.
+     * <p>
+     * Implementations should extract the generation parameters once for
+     * all the values.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param params The parameter sources to extract the parameters from
+     * @return An infinite stream of random values for the specified type.
+     * @throws IllegalArgumentException If the specified type is not supported.
+     * @see #randomValue(Class, Object...)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default <T> @NotNull Stream<T> stream(
+            final @NotNull Class<T> type,
+            final @NotNull Object... params) {
+        return Stream.generate(() -> randomValue(type, params));
+    }
 }
@@ -27,11 +27,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.validation.constraints.NotNull;
 
@@ -40,6 +42,7 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import dev.orne.test.rnd.Generators;
+import dev.orne.test.rnd.ProviderSnapshots;
 
 /**
  * Registry of generation parameters source extractors.
@@ -47,9 +50,18 @@ import dev.orne.test.rnd.Generators;
  * Registers extractors declared in
  * {@code /META-INF/services/dev.orne.test.rnd.params.ParametersSourceExtractor}
  * SPI files in the class path.
+ * <p>
+ * Registered extractors are kept in an immutable {@code Registry} snapshot
+ * with its own concurrent parameters extractor cache. Extractor resolution
+ * reads the current snapshot without locking. Configuration changes build
+ * a new snapshot that is published atomically, discarding the cached
+ * parameters extractors.
+ * <p>
+ * Extractors declared through SPI are loaded and sorted once per class
+ * loader. Native image builds sort them at build time.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.2, 2026-10
  * @since 0.1
  */
 @API(status=Status.EXPERIMENTAL, since="0.1")
@@ -79,15 +91,14 @@ public final class ParametersExtractors {
     public static final ExtractorBuilder DEFAULT_BUILDER =
             DefaultParametersExtractor::new;
 
-    /** The parameter extractors cache by parameters type. */
-    private static final Map<Class<?>, ParametersExtractor<?>> CACHE =
-            new HashMap<>();
-    /** The registered generation parameters source extractors. */
-    private static List<ParametersSourceExtractor<?, ?>> registeredSourceExtractors;
+    /** The configuration version, increased on each configuration change. */
+    private static final AtomicLong VERSION = new AtomicLong();
+    /** The current registered source extractors snapshot. */
+    private static volatile Registry registry;
     /** The generation parameters source extractors filter. */
-    private static SourceExtractorFilter filter = DEFAULT_FILTER;
+    private static volatile SourceExtractorFilter filter = DEFAULT_FILTER;
     /** The parameters extractor builder. */
-    private static ExtractorBuilder builder = DEFAULT_BUILDER;
+    private static volatile ExtractorBuilder builder = DEFAULT_BUILDER;
 
     /**
      * Private constructor.
@@ -130,10 +141,10 @@ public final class ParametersExtractors {
         Validate.notNull(extractors);
         Validate.noNullElements(extractors);
         synchronized (Generators.class) {
-            final List<ParametersSourceExtractor<?, ?>> intList = getSourceExtractorsInt();
-            intList.addAll(extractors);
-            Collections.sort(intList, COMPARATOR);
-            CACHE.clear();
+            final List<ParametersSourceExtractor<?, ?>> updated =
+                    new ArrayList<>(getSourceExtractorsInt());
+            updated.addAll(extractors);
+            publish(new Registry(updated));
         }
     }
 
@@ -160,25 +171,38 @@ public final class ParametersExtractors {
         Validate.notNull(extractors);
         Validate.noNullElements(extractors);
         synchronized (Generators.class) {
-            final List<ParametersSourceExtractor<?, ?>> intList = getSourceExtractorsInt();
-            intList.removeAll(extractors);
-            Collections.sort(intList, COMPARATOR);
-            CACHE.clear();
+            final List<ParametersSourceExtractor<?, ?>> updated =
+                    new ArrayList<>(getSourceExtractorsInt());
+            updated.removeAll(extractors);
+            publish(new Registry(updated));
         }
     }
 
     /**
-     * Resets the loaded and cached extractors. Next call will regenerate the
-     * parameter source extractors list (including SPI extractor) and restart
-     * parameter extractors caching.
+     * Resets the loaded and cached extractors. Next call will restore the
+     * default parameter source extractors list (including SPI extractor) and
+     * restart parameter extractors caching.
      */
     public static void reset() {
         synchronized (Generators.class) {
-            registeredSourceExtractors = null;
-            CACHE.clear();
+            publish(null);
         }
     }
 
+    /**
+     * Returns the current configuration version. The version changes each
+     * time the registered extractors, the filter or the builder change,
+     * allowing callers to invalidate generation parameters extracted with
+     * a previous configuration.
+     * 
+     * @return The current configuration version
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public static long getConfigurationVersion() {
+        return VERSION.get();
+    }
+
     /**
      * Returns a generation parameters extractor for the specified parameters
      * type.
@@ -190,12 +214,9 @@ public final class ParametersExtractors {
      * @param parametersType The target parameters type
      * @return The parameters extractor for the target parameters type
      */
-    @SuppressWarnings("unchecked")
     public static <P> dev.orne.test.rnd.params.ParametersExtractor<P> getExtractor(
             final @NotNull Class<P> parametersType) {
-        return (ParametersExtractor<P>) CACHE.computeIfAbsent(
-                parametersType,
-                ParametersExtractors::createExtractor);
+        return getRegistryInt().getExtractor(parametersType);
     }
 
     /**
@@ -248,11 +269,7 @@ public final class ParametersExtractors {
      */
     static <P> dev.orne.test.rnd.params.ParametersExtractor<P> createExtractor(
             final @NotNull Class<P> parametersType) {
-        final List<ParametersSourceExtractor<? super P, ?>> extractors =
-                filter.findSuitable(
-                        getRegisteredSourceExtractors(),
-                        parametersType);
-        return builder.create(extractors);
+        return getRegistryInt().createExtractor(parametersType);
     }
 
     /**
@@ -283,8 +300,8 @@ public final class ParametersExtractors {
     }
 
     /**
-     * Returns a modifiable list with the registered parameter source
-     * extractors.
+     * Returns the registered parameter source extractors of the current
+     * snapshot.
      * If extractors has not been loaded loads the default extractors,
      * including extractors registered through SPI.
      * 
@@ -292,24 +309,59 @@ public final class ParametersExtractors {
      */
     @SuppressWarnings("java:S1452")
     static @NotNull List<ParametersSourceExtractor<?, ?>> getSourceExtractorsInt() {
-        synchronized (ParametersExtractors.class) {
-            if (registeredSourceExtractors == null) {
-                registeredSourceExtractors = new ArrayList<>();
-                registeredSourceExtractors.addAll(loadSpiExtractors());
-                Collections.sort(registeredSourceExtractors, COMPARATOR);
-            }
-            return registeredSourceExtractors;
-        }
+        return getRegistryInt().getSourceExtractors();
     }
 
     /**
-     * Returns the internal by type parameters extractor cache.
+     * Returns the internal by type parameters extractor cache of the current
+     * snapshot.
      * 
      * @return The internal by type parameters extractor cache
      */
     @SuppressWarnings("java:S1452")
     static @NotNull Map<Class<?>, ParametersExtractor<?>> getCacheInt() {
-        return CACHE;
+        return getRegistryInt().getCache();
+    }
+
+    /**
+     * Returns the current registered source extractors snapshot.
+     * If extractors has not been loaded loads the default extractors,
+     * including extractors registered through SPI.
+     * 
+     * @return The current registered source extractors snapshot
+     */
+    static @NotNull Registry getRegistryInt() {
+        Registry result = registry;
+        if (result == null) {
+            synchronized (Generators.class) {
+                result = registry;
+                if (result == null) {
+                    result = new Registry(Defaults.EXTRACTORS);
+                    registry = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Publishes the specified registered source extractors snapshot and
+     * increases the configuration version. The cache of the replaced
+     * snapshot is cleared.
+     * <p>
+     * Must be called holding the registry lock.
+     * 
+     * @param next The new snapshot, or {@code null} to reload the
+     * default extractors on next access
+     */
+    private static void publish(
+            final Registry next) {
+        final Registry previous = registry;
+        registry = next;
+        VERSION.incrementAndGet();
+        if (previous != null) {
+            previous.getCache().clear();
+        }
     }
 
     /**
@@ -332,6 +384,150 @@ public final class ParametersExtractors {
         return result;
     }
 
+    /**
+     * Holder of the default generation parameters source extractors,
+     * declared through SPI and sorted by priority. Loaded once on first
+     * access.
+     * <p>
+     * In native images the extractors are created in the order sorted at
+     * image build time, stored in {@code ProviderSnapshots}.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.3
+     */
+    @API(status=Status.INTERNAL, since="0.3")
+    static final class Defaults {
+
+        /** The default source extractors, sorted by priority. */
+        static final List<ParametersSourceExtractor<?, ?>> EXTRACTORS;
+        static {
+            List<ParametersSourceExtractor<?, ?>> extractors = newSnapshotExtractors();
+            if (extractors == null) {
+                extractors = loadSpiExtractors();
+                Collections.sort(extractors, COMPARATOR);
+            }
+            EXTRACTORS = Collections.unmodifiableList(extractors);
+        }
+
+        /**
+         * Private constructor.
+         */
+        private Defaults() {
+            // Holder class
+        }
+
+        /**
+         * Returns new instances of the extractors sorted at native image
+         * build time.
+         * 
+         * @return The sorted extractors, or {@code null} outside native
+         * images
+         */
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private static List<ParametersSourceExtractor<?, ?>> newSnapshotExtractors() {
+            return (List) ProviderSnapshots.newProviders(ParametersSourceExtractor.class);
+        }
+    }
+
+    /**
+     * Immutable snapshot of the registered generation parameters source
+     * extractors. Creates and caches the parameters extractor to use for
+     * each parameters type.
+     * <p>
+     * The source extractors filter and the parameters extractor builder
+     * are captured on creation. Configuration changes create a new instance.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.0, 2026-10
+     * @since 0.3
+     */
+    @API(status=Status.INTERNAL, since="0.3")
+    static final class Registry {
+
+        /** The registered source extractors, sorted by priority. Never modified. */
+        private final @NotNull List<ParametersSourceExtractor<?, ?>> extractors;
+        /** The generation parameters source extractors filter. */
+        private final @NotNull SourceExtractorFilter filter;
+        /** The parameters extractor builder. */
+        private final @NotNull ExtractorBuilder builder;
+        /** The parameter extractors cache by parameters type. */
+        private final @NotNull ConcurrentMap<Class<?>, ParametersExtractor<?>> cache =
+                new ConcurrentHashMap<>();
+
+        /**
+         * Creates a new instance with the current filter and builder.
+         * 
+         * @param extractors The registered source extractors
+         */
+        Registry(
+                final @NotNull Collection<ParametersSourceExtractor<?, ?>> extractors) {
+            super();
+            this.extractors = new ArrayList<>(extractors);
+            Collections.sort(this.extractors, COMPARATOR);
+            this.filter = ParametersExtractors.filter;
+            this.builder = ParametersExtractors.builder;
+        }
+
+        /**
+         * Returns the registered source extractors, sorted by priority.
+         * The returned list must not be modified.
+         * 
+         * @return The registered source extractors
+         */
+        @SuppressWarnings("java:S1452")
+        @NotNull List<ParametersSourceExtractor<?, ?>> getSourceExtractors() {
+            return this.extractors;
+        }
+
+        /**
+         * Returns the parameters extractor cache by parameters type.
+         * 
+         * @return The parameters extractor cache
+         */
+        @SuppressWarnings("java:S1452")
+        @NotNull Map<Class<?>, ParametersExtractor<?>> getCache() {
+            return this.cache;
+        }
+
+        /**
+         * Returns the cached parameters extractor for the specified
+         * parameters type, creating it if required.
+         * 
+         * @param <P> The target parameters type
+         * @param parametersType The target parameters type
+         * @return The parameters extractor for the target parameters type
+         */
+        @SuppressWarnings("unchecked")
+        <P> @NotNull ParametersExtractor<P> getExtractor(
+                final @NotNull Class<P> parametersType) {
+            ParametersExtractor<?> result = this.cache.get(parametersType);
+            if (result == null) {
+                result = this.cache.computeIfAbsent(
+                        parametersType,
+                        this::createExtractor);
+            }
+            return (ParametersExtractor<P>) result;
+        }
+
+        /**
+         * Creates a new parameter extractors with all the parameter source
+         * extractors suitable for the given parameters type.
+         * 
+         * @param <P> The target parameters type
+         * @param parametersType The target parameters type
+         * @return The parameters extractor for the target parameters type
+         */
+        <P> @NotNull ParametersExtractor<P> createExtractor(
+                final @NotNull Class<P> parametersType) {
+            final List<ParametersSourceExtractor<? super P, ?>> suitable =
+                    this.filter.findSuitable(
+                            this.extractors,
+                            parametersType);
+            return this.builder.create(suitable);
+        }
+    }
+
     /**
      * Functional interface for generation parameters source extractors filter.
      * 
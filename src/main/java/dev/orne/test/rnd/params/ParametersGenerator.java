@@ -0,0 +1,111 @@
+package dev.orne.test.rnd.params;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Extension of {@code ParameterizableGenerator} for generators that
+ * accept generation parameters already extracted from the parameter
+ * sources.
+ * <p>
+ * Targeted generators extract the generation parameters of these
+ * generators once per validation groups and reuse them for every
+ * generated value.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @param <P> The parameters type
+ * @since 0.3
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public interface ParametersGenerator<P extends GenerationParameters>
+extends ParameterizableGenerator {
+
+    /**
+     * Creates a new instance of generation parameters with the values
+     * extracted from the specified sources.
+     * 
+     * @param sources The sources to extract the parameters values from
+     * @return A new instance of generation parameters.
+     */
+    @NotNull P createParams(
+            @NotNull Object... sources);
+
+    /**
+     * Returns the default value for the specified type and parameters.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param parameters The generation parameters
+     * @return The default value for the specified type.
+     * @throws IllegalArgumentException If the specified type is not supported.
+     */
+    @NotNull <T> T defaultValue(
+            @NotNull Class<T> type,
+            @NotNull P parameters);
+
+    /**
+     * Returns the default value for the specified type and parameters
+     * allowing {@code null} values.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param parameters The generation parameters
+     * @return The nullable default value for the specified type.
+     * @throws IllegalArgumentException If the specified type is not supported.
+     */
+    <T> T nullableDefaultValue(
+            @NotNull Class<T> type,
+            @NotNull P parameters);
+
+    /**
+     * Returns a random value of the specified type and parameters.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param parameters The generation parameters
+     * @return A random value for the specified type.
+     * @throws IllegalArgumentException If the specified type is not supported.
+     */
+    @NotNull <T> T randomValue(
+            @NotNull Class<T> type,
+            @NotNull P parameters);
+
+    /**
+     * Returns a random value of the specified type and parameters allowing
+     * {@code null} values.
+     * 
+     * @param <T> The requested value type.
+     * @param type The requested value type.
+     * @param parameters The generation parameters
+     * @return A random nullable value for the specified type.
+     * @throws IllegalArgumentException If the specified type is not supported.
+     */
+    <T> T nullableRandomValue(
+            @NotNull Class<T> type,
+            @NotNull P parameters);
+}
@@ -0,0 +1,152 @@
+package dev.orne.test.rnd.params;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.BitSet;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+import org.apache.commons.lang3.Validate;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Generation parameters extractor that detects {@code Pattern}
+ * constraint annotations and sets
+ * {@code StringGenerationParameters.pattern}.
+ * <p>
+ * Pattern flags are applied as embedded flags prefixed to the regular
+ * expression, so the resulting pattern matches the same strings as the
+ * constraint. {@code CANON_EQ} has no embedded form and is dropped, as
+ * it only widens the set of matching strings. Generators reject the
+ * embedded flags they don't support, such as {@code COMMENTS}.
+ * <p>
+ * Multiple {@code Pattern} constraints, as declared with
+ * {@code Pattern.List}, are combined in a single regular expression
+ * matching the strings that match all of them, prefixing the previous
+ * regular expression with a look-ahead group anchored at the end of
+ * input for each additional one, as in {@code (?=(?:Y)\z)(?:X)}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.2, 2026-10
+ * @since 0.3
+ * @see Pattern
+ * @see StringGenerationParameters
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public class PatternConstraintExtractor
+extends AbstractParametersSourceExtractor<StringGenerationParameters, Pattern> {
+
+    /** The prefix of the look-ahead groups of combined regular expressions. */
+    private static final String LOOK_AHEAD_PREFIX = "(?=(?:";
+
+    /**
+     * Creates a new instance.
+     */
+    public PatternConstraintExtractor() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void extractParameters(
+            final @NotNull Pattern from,
+            final @NotNull StringGenerationParameters target) {
+        Validate.notNull(from);
+        Validate.notNull(target);
+        final String pattern = toPattern(from.regexp(), from.flags());
+        final String current = target.getPattern();
+        if (current == null) {
+            target.setPattern(pattern);
+        } else if (!current.equals(pattern)) {
+            target.setPattern(intersection(current, pattern));
+        }
+    }
+
+    /**
+     * Returns a regular expression matching the strings that match both
+     * specified regular expressions.
+     * 
+     * @param current The current regular expression, that can be the
+     * result of a previous combination.
+     * @param pattern The additional regular expression.
+     * @return The combined regular expression.
+     */
+    static @NotNull String intersection(
+            final @NotNull String current,
+            final @NotNull String pattern) {
+        final String combined = current.startsWith(LOOK_AHEAD_PREFIX)
+                ? current
+                : "(?:" + current + ")";
+        return LOOK_AHEAD_PREFIX + pattern + ")\\z)" + combined;
+    }
+
+    /**
+     * Returns the regular expression with the specified flags applied as
+     * embedded flags.
+     * 
+     * @param regexp The regular expression.
+     * @param flags The pattern flags.
+     * @return The regular expression with embedded flags.
+     */
+    static @NotNull String toPattern(
+            final @NotNull String regexp,
+            final @NotNull Pattern.Flag... flags) {
+        final StringBuilder embedded = new StringBuilder();
+        final BitSet seen = new BitSet();
+        for (final Pattern.Flag flag : flags) {
+            final char code = embeddedFlag(flag);
+            if (code != 0 && !seen.get(code)) {
+                seen.set(code);
+                embedded.append(code);
+            }
+        }
+        if (embedded.length() == 0) {
+            return regexp;
+        }
+        return "(?" + embedded + ")" + regexp;
+    }
+
+    /**
+     * Returns the embedded flag character of the specified pattern flag.
+     * 
+     * @param flag The pattern flag.
+     * @return The embedded flag character, or {@code 0} if the flag has
+     * no embedded form.
+     */
+    private static char embeddedFlag(
+            final @NotNull Pattern.Flag flag) {
+        switch (flag) {
+            case UNIX_LINES: return 'd';
+            case CASE_INSENSITIVE: return 'i';
+            case COMMENTS: return 'x';
+            case MULTILINE: return 'm';
+            case DOTALL: return 's';
+            case UNICODE_CASE: return 'u';
+            default: return 0;
+        }
+    }
+}
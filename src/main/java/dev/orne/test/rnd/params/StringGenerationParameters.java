@@ -31,9 +31,13 @@ import org.apiguardian.api.API.Status;
 
 /**
  * Parameters for random {@code String} generation.
+ * <p>
+ * If a regular expression is configured generated strings match it.
+ * Otherwise, if no alphabet is configured random Unicode strings are
+ * generated.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 @API(status=Status.EXPERIMENTAL, since="0.1")
@@ -45,6 +49,10 @@ implements SizeParameters {
     private int minSize = SizeParameters.DEFAULT_MIN_SIZE;
     /** The maximum size. */
     private int maxSize = SizeParameters.DEFAULT_MAX_SIZE;
+    /** The alphabet of the generated strings. */
+    private Alphabet alphabet;
+    /** The regular expression the generated strings must match. */
+    private String pattern;
 
     /**
      * Creates a new instance.
@@ -65,6 +73,10 @@ implements SizeParameters {
             this.minSize = ((SizeParameters) copy).getMinSize();
             this.maxSize = ((SizeParameters) copy).getMaxSize();
         }
+        if (copy instanceof StringGenerationParameters) {
+            this.alphabet = ((StringGenerationParameters) copy).getAlphabet();
+            this.pattern = ((StringGenerationParameters) copy).getPattern();
+        }
     }
 
     /**
@@ -135,6 +147,82 @@ implements SizeParameters {
         return this;
     }
 
+    /**
+     * Returns the alphabet of the generated strings.
+     * 
+     * @return The alphabet, or {@code null} for random Unicode strings.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public Alphabet getAlphabet() {
+        return this.alphabet;
+    }
+
+    /**
+     * Sets the alphabet of the generated strings.
+     * 
+     * @param value The alphabet, or {@code null} for random Unicode strings.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public void setAlphabet(
+            final Alphabet value) {
+        this.alphabet = value;
+    }
+
+    /**
+     * Sets the alphabet of the generated strings.
+     * 
+     * @param value The alphabet, or {@code null} for random Unicode strings.
+     * @return This instance, for method chaining.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull StringGenerationParameters withAlphabet(
+            final Alphabet value) {
+        setAlphabet(value);
+        return this;
+    }
+
+    /**
+     * Returns the regular expression the generated strings must match.
+     * 
+     * @return The regular expression, or {@code null} for no restriction.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public String getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Sets the regular expression the generated strings must match.
+     * 
+     * @param value The regular expression, or {@code null} for no
+     * restriction.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public void setPattern(
+            final String value) {
+        this.pattern = value;
+    }
+
+    /**
+     * Sets the regular expression the generated strings must match.
+     * 
+     * @param value The regular expression, or {@code null} for no
+     * restriction.
+     * @return This instance, for method chaining.
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    public @NotNull StringGenerationParameters withPattern(
+            final String value) {
+        setPattern(value);
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -144,6 +232,8 @@ implements SizeParameters {
                 .appendSuper(super.hashCode())
                 .append(this.minSize)
                 .append(this.maxSize)
+                .append(this.alphabet)
+                .append(this.pattern)
                 .toHashCode();
     }
 
@@ -161,6 +251,8 @@ implements SizeParameters {
                 .appendSuper(super.equals(obj))
                 .append(this.minSize, other.minSize)
                 .append(this.maxSize, other.maxSize)
+                .append(this.alphabet, other.alphabet)
+                .append(this.pattern, other.pattern)
                 .build();
     }
 }
@@ -0,0 +1,67 @@
+package dev.orne.test.rnd.params;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Generation parameters extractor that copies the alphabet and the
+ * regular expression between {@code StringGenerationParameters} instances.
+ * <p>
+ * Target's values are only replaced if source's values are not
+ * {@code null}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see StringGenerationParameters
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+public class StringGenerationParametersExtractor
+extends AbstractParametersSourceExtractor<StringGenerationParameters, StringGenerationParameters> {
+
+    /**
+     * Creates a new instance.
+     */
+    public StringGenerationParametersExtractor() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void extractParameters(
+            final @NotNull StringGenerationParameters from,
+            final @NotNull StringGenerationParameters target) {
+        if (from.getAlphabet() != null) {
+            target.setAlphabet(from.getAlphabet());
+        }
+        if (from.getPattern() != null) {
+            target.setPattern(from.getPattern());
+        }
+    }
+}
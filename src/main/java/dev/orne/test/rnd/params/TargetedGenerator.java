@@ -22,17 +22,27 @@ package dev.orne.test.rnd.params;
  * #L%
  */
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import dev.orne.test.rnd.GenerationSession;
+import dev.orne.test.rnd.RandomSources;
+
 /**
  * Interface for generators that target a property, method or constructor
  * parameter or method return type.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @param <T> The type of the target
  * @since 0.1
  */
@@ -115,4 +125,85 @@ public interface TargetedGenerator<T> {
      */
     T nullableRandomValue(
             @NotNull Class<?>... groups);
+
+    /**
+     * Returns a list of random values.
+     * <p>
+     * If the generator for the type of the target is a
+     * {@code ParameterizableGenerator} extracts the parameters from the
+     * constraints of the target when applying the specified validation
+     * groups. Implementations should extract the generation parameters once
+     * for all the values.
+     * 
+     * @param count The number of values to generate.
+     * @param groups The validation groups to use when extracting the
+     * constraints of the target.
+     * @return A list of random values.
+     * @see #randomValue(Class...)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default @NotNull List<T> randomValues(
+            final @Min(0) int count,
+            final @NotNull Class<?>... groups) {
+        Validate.isTrue(count >= 0, "The number of values must be non negative");
+        final List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(randomValue(groups));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an infinite sequential stream of random values.
+     * <p>
+     * If the generator for the type of the target is a
+     * {@code ParameterizableGenerator} extracts the parameters from the
+     * constraints of the target when applying the specified validation
+     * groups. Implementations should extract the generation parameters once
+     * for all the values.
+     * 
+     * @param groups The validation groups to use when extracting the
+     * constraints of the target.
+     * @return An infinite stream of random values.
+     * @see #randomValue(Class...)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default @NotNull Stream<T> stream(
+            final @NotNull Class<?>... groups) {
+        return Stream.generate(() -> randomValue(groups));
+    }
+
+    /**
+     * Returns a list of random values generated in parallel.
+     * <p>
+     * If the generator for the type of the target is a
+     * {@code ParameterizableGenerator} extracts the parameters from the
+     * constraints of the target when applying the specified validation
+     * groups.
+     * <p>
+     * The values are generated with a {@code GenerationSession} seeded from
+     * the current random source, so the values are reproducible when
+     * generated inside a reproducible session, regardless of the threads
+     * generating them.
+     * 
+     * @param count The number of values to generate.
+     * @param groups The validation groups to use when extracting the
+     * constraints of the target.
+     * @return A list of random values, in generation order.
+     * @see #randomValue(Class...)
+     * @see GenerationSession#parallelStream(long, java.util.function.Supplier)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default @NotNull List<T> parallelValues(
+            final @Min(0) int count,
+            final @NotNull Class<?>... groups) {
+        Validate.isTrue(count >= 0, "The number of values must be non negative");
+        final GenerationSession session = new GenerationSession(
+                RandomSources.current().nextLong());
+        return session.parallelStream(count, () -> randomValue(groups))
+                .collect(Collectors.toList());
+    }
 }
@@ -22,8 +22,14 @@ package dev.orne.test.rnd.params;
  * #L%
  */
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.Validate;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -34,7 +40,7 @@ import dev.orne.test.rnd.TypedGenerator;
  * only provide one type of values.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @param <T> The type of generated values
  * @since 0.1
  */
@@ -89,4 +95,47 @@ extends TypedGenerator<T>, ParameterizableGenerator {
      */
     T nullableRandomValue(
             @NotNull Object... params);
+
+    /**
+     * Returns a list of random values of the supported type for the
+     * specified parameter sources.
+     * <p>
+     * Implementations should extract the generation parameters once for
+     * all the values.
+     * 
+     * @param count The number of values to generate.
+     * @param params The parameter sources to extract the parameters from
+     * @return A list of random values.
+     * @see #randomValue(Object...)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default @NotNull List<T> randomValues(
+            final @Min(0) int count,
+            final @NotNull Object... params) {
+        Validate.isTrue(count >= 0, "The number of values must be non negative");
+        final List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(randomValue(params));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an infinite sequential stream of random values of the
+     * supported type for the specified parameter sources.
+     * <p>
+     * Implementations should extract the generation parameters once for
+     * all the values.
+     * 
+     * @param params The parameter sources to extract the parameters from
+     * @return An infinite stream of random values.
+     * @see #randomValue(Object...)
+     * @since 0.3
+     */
+    @API(status=Status.EXPERIMENTAL, since="0.3")
+    default @NotNull Stream<T> stream(
+            final @NotNull Object... params) {
+        return Stream.generate(() -> randomValue(params));
+    }
 }
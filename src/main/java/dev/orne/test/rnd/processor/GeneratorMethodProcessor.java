@@ -0,0 +1,790 @@
+package dev.orne.test.rnd.processor;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import javax.validation.Constraint;
+import javax.validation.constraints.NotNull;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dev.orne.test.rnd.Priority;
+
+/**
+ * Annotation processor that generates a {@code Generator} implementation
+ * for each class with a constructor or static factory method annotated with
+ * {@code GeneratorMethod}, and registers the generated generators in
+ * {@code META-INF/services/dev.orne.test.rnd.Generator}.
+ * <p>
+ * Generated generators call the annotated constructor or factory method
+ * directly, without reflection, and take precedence over
+ * {@code AnnotatedMethodGenerator}. Parameters of generic types or with
+ * validation constraints are generated through targeted generators created
+ * on first use; other parameters are generated by type.
+ * <p>
+ * Generated generators have the priority declared with {@code Priority}
+ * in the annotated constructor or factory method, or
+ * {@link Priority#DEFAULT} if not declared.
+ * <p>
+ * The processor is not registered through SPI. It must be enabled
+ * explicitly, for example with the {@code -processor} compiler option or
+ * the {@code annotationProcessors} configuration of the Maven compiler
+ * plugin.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @since 0.3
+ * @see dev.orne.test.rnd.GeneratorMethod
+ */
+@API(status=Status.EXPERIMENTAL, since="0.3")
+@SupportedAnnotationTypes(GeneratorMethodProcessor.ANNOTATION_TYPE)
+public class GeneratorMethodProcessor
+extends AbstractProcessor {
+
+    /** The processed annotation type. */
+    public static final String ANNOTATION_TYPE = "dev.orne.test.rnd.GeneratorMethod";
+    /** The suffix of the generated generator class names. */
+    public static final String GENERATOR_SUFFIX = "_RandomGenerator";
+    /** The generators SPI file. */
+    public static final String SERVICES_FILE = "META-INF/services/dev.orne.test.rnd.Generator";
+    /** Error message for misconfigured types. */
+    private static final String ERR_MISCONFIGURED =
+            "Class '%s' generation is misconfigured: %s"
+            + " No generator will be generated.";
+    /** Error message for non accessible types. */
+    private static final String ERR_TYPE_ACCESS =
+            "Class must be public or package-private and, if nested, static.";
+    /** Error message for wrong generation constructor modifiers. */
+    private static final String ERR_GENERATOR_CONSTRUCTOR_MODIFIERS =
+            "Invalid modifiers in annotated class generation constructor '%s'."
+            + " Constructor must be public.";
+    /** Error message for wrong generation method modifiers. */
+    private static final String ERR_GENERATOR_METHOD_MODIFIERS =
+            "Invalid modifiers in annotated class generation method '%s'."
+            + " Method must be public and static.";
+    /** Error message for wrong generation method return type. */
+    private static final String ERR_GENERATOR_METHOD_RETURN_TYPE =
+            "Invalid return type in annotated class generation method '%s'."
+            + " Method must return an instance of the class.";
+
+    /** The types already processed in previous rounds. */
+    private final Set<String> processedTypes = new TreeSet<>();
+    /** The generated generator class names. */
+    private final Set<String> generatedGenerators = new TreeSet<>();
+
+    /**
+     * Creates a new instance.
+     */
+    public GeneratorMethodProcessor() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(
+            final @NotNull Set<? extends TypeElement> annotations,
+            final @NotNull RoundEnvironment roundEnv) {
+        final Map<TypeElement, List<ExecutableElement>> annotated = new LinkedHashMap<>();
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof ExecutableElement) {
+                    annotated.computeIfAbsent(
+                            (TypeElement) element.getEnclosingElement(),
+                            k -> new ArrayList<>())
+                        .add((ExecutableElement) element);
+                }
+            }
+        }
+        for (final Map.Entry<TypeElement, List<ExecutableElement>> entry : annotated.entrySet()) {
+            final TypeElement type = entry.getKey();
+            if (this.processedTypes.add(type.getQualifiedName().toString())) {
+                processType(type, selectExecutable(entry.getValue()));
+            }
+        }
+        if (roundEnv.processingOver() && !this.generatedGenerators.isEmpty()) {
+            writeServicesFile();
+        }
+        return false;
+    }
+
+    /**
+     * Selects the executable to use for generation. As in
+     * {@code AnnotatedMethodGenerator} annotated constructors take precedence
+     * over annotated factory methods.
+     * 
+     * @param executables The annotated executables of the type
+     * @return The selected executable
+     */
+    protected @NotNull ExecutableElement selectExecutable(
+            final @NotNull List<ExecutableElement> executables) {
+        for (final ExecutableElement executable : executables) {
+            if (executable.getKind() == ElementKind.CONSTRUCTOR) {
+                return executable;
+            }
+        }
+        return executables.get(0);
+    }
+
+    /**
+     * Validates the annotated executable of the specified type and generates
+     * its generator class.
+     * 
+     * @param type The target type
+     * @param executable The annotated constructor or factory method
+     */
+    protected void processType(
+            final @NotNull TypeElement type,
+            final @NotNull ExecutableElement executable) {
+        final String error = validate(type, executable);
+        if (error != null) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.WARNING,
+                    String.format(ERR_MISCONFIGURED, type.getQualifiedName(), error),
+                    executable);
+            return;
+        }
+        final String packageName = getPackage(type).getQualifiedName().toString();
+        final String simpleName = getGeneratorSimpleName(type);
+        final String className = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(className, type);
+            try (final Writer writer = file.openWriter()) {
+                writer.write(new GeneratorSourceWriter(
+                        processingEnv.getTypeUtils(),
+                        type,
+                        executable,
+                        packageName,
+                        simpleName).write());
+            }
+            this.generatedGenerators.add(className);
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    String.format("Cannot write generator %s: %s", className, e.getMessage()),
+                    type);
+        }
+    }
+
+    /**
+     * Validates the annotated executable of the specified type.
+     * 
+     * @param type The target type
+     * @param executable The annotated constructor or factory method
+     * @return The validation error message, or {@code null} if valid
+     */
+    protected String validate(
+            final @NotNull TypeElement type,
+            final @NotNull ExecutableElement executable) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            final TypeElement currentType = (TypeElement) current;
+            if (currentType.getModifiers().contains(Modifier.PRIVATE)
+                    || (currentType.getNestingKind() == NestingKind.MEMBER
+                        && !currentType.getModifiers().contains(Modifier.STATIC)
+                        && currentType.getKind() == ElementKind.CLASS)
+                    || currentType.getNestingKind() == NestingKind.LOCAL
+                    || currentType.getNestingKind() == NestingKind.ANONYMOUS) {
+                return ERR_TYPE_ACCESS;
+            }
+            current = current.getEnclosingElement();
+        }
+        final Types types = processingEnv.getTypeUtils();
+        if (executable.getKind() == ElementKind.CONSTRUCTOR) {
+            if (!executable.getModifiers().contains(Modifier.PUBLIC)
+                    || type.getModifiers().contains(Modifier.ABSTRACT)) {
+                return String.format(ERR_GENERATOR_CONSTRUCTOR_MODIFIERS, executable);
+            }
+        } else if (!executable.getModifiers().contains(Modifier.PUBLIC)
+                || !executable.getModifiers().contains(Modifier.STATIC)) {
+            return String.format(ERR_GENERATOR_METHOD_MODIFIERS, executable);
+        } else if (!types.isAssignable(
+                types.erasure(executable.getReturnType()),
+                types.erasure(type.asType()))) {
+            return String.format(ERR_GENERATOR_METHOD_RETURN_TYPE, executable);
+        }
+        return null;
+    }
+
+    /**
+     * Writes the generators SPI file, merging the generated generators with
+     * the generators already declared in the output file, if any.
+     */
+    protected void writeServicesFile() {
+        final Filer filer = processingEnv.getFiler();
+        final Set<String> services = new TreeSet<>(readServicesFile(filer));
+        services.addAll(this.generatedGenerators);
+        try {
+            final FileObject file = filer.createResource(
+                    StandardLocation.CLASS_OUTPUT,
+                    "",
+                    SERVICES_FILE);
+            try (final Writer writer = file.openWriter()) {
+                for (final String service : services) {
+                    writer.write(service);
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    String.format("Cannot write %s: %s", SERVICES_FILE, e.getMessage()));
+        }
+    }
+
+    /**
+     * Reads the generators declared in the existing generators SPI output
+     * file.
+     * 
+     * @param filer The filer
+     * @return The declared generators, empty if the file does not exist
+     */
+    protected @NotNull Set<String> readServicesFile(
+            final @NotNull Filer filer) {
+        final Set<String> result = new TreeSet<>();
+        try {
+            final FileObject file = filer.getResource(
+                    StandardLocation.CLASS_OUTPUT,
+                    "",
+                    SERVICES_FILE);
+            try (final Reader reader = file.openReader(true);
+                    final BufferedReader lines = new BufferedReader(reader)) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    final int comment = line.indexOf('#');
+                    final String service = (comment < 0 ? line : line.substring(0, comment)).trim();
+                    if (!service.isEmpty()) {
+                        result.add(service);
+                    }
+                }
+            }
+        } catch (final IOException | IllegalArgumentException e) {
+            // No previous file
+            return Collections.emptySet();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the package of the specified type.
+     * 
+     * @param type The type
+     * @return The package of the type
+     */
+    protected static @NotNull PackageElement getPackage(
+            final @NotNull TypeElement type) {
+        Element current = type;
+        while (!(current instanceof PackageElement)) {
+            current = current.getEnclosingElement();
+        }
+        return (PackageElement) current;
+    }
+
+    /**
+     * Returns the simple name of the generator class for the specified
+     * type. Nested type names are joined with underscores.
+     * 
+     * @param type The target type
+     * @return The generator class simple name
+     */
+    protected static @NotNull String getGeneratorSimpleName(
+            final @NotNull TypeElement type) {
+        final StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element current = type.getEnclosingElement();
+        while (current instanceof TypeElement) {
+            name.insert(0, '_').insert(0, current.getSimpleName());
+            current = current.getEnclosingElement();
+        }
+        return name.append(GENERATOR_SUFFIX).toString();
+    }
+
+    /**
+     * Generator class source writer.
+     * <p>
+     * Generated sources use parameterized types, so they compile without
+     * raw type warnings. Parameters whose types depend on type variables
+     * of the target type or of the factory method are passed through a
+     * type inferring cast.
+     * 
+     * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+     * @version 1.1, 2026-10
+     * @since 0.3
+     */
+    protected static class GeneratorSourceWriter {
+
+        /** The type utilities. */
+        private final @NotNull Types types;
+        /** The target type. */
+        private final @NotNull TypeElement type;
+        /** The annotated constructor or factory method. */
+        private final @NotNull ExecutableElement executable;
+        /** The generator package name. */
+        private final @NotNull String packageName;
+        /** The generator simple name. */
+        private final @NotNull String simpleName;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param types The type utilities
+         * @param type The target type
+         * @param executable The annotated constructor or factory method
+         * @param packageName The generator package name
+         * @param simpleName The generator simple name
+         */
+        public GeneratorSourceWriter(
+                final @NotNull Types types,
+                final @NotNull TypeElement type,
+                final @NotNull ExecutableElement executable,
+                final @NotNull String packageName,
+                final @NotNull String simpleName) {
+            super();
+            this.types = types;
+            this.type = type;
+            this.executable = executable;
+            this.packageName = packageName;
+            this.simpleName = simpleName;
+        }
+
+        /**
+         * Writes the generator class source.
+         * 
+         * @return The generator class source
+         */
+        public @NotNull String write() {
+            final String typeName = this.type.getQualifiedName().toString();
+            final String valueTypeName = sourceName(this.type.asType());
+            final boolean generic = !this.type.getTypeParameters().isEmpty();
+            final List<? extends VariableElement> params = this.executable.getParameters();
+            boolean targeted = false;
+            boolean inferred = false;
+            for (final VariableElement param : params) {
+                if (requiresTargetedGenerator(param)) {
+                    targeted = true;
+                    inferred |= hasTypeVariables(param.asType());
+                }
+            }
+            final Priority priority = this.executable.getAnnotation(Priority.class);
+            final StringBuilder src = new StringBuilder();
+            if (!this.packageName.isEmpty()) {
+                src.append("package ").append(this.packageName).append(";\n\n");
+            }
+            src.append("/**\n")
+                .append(" * Generator of {@code ").append(typeName).append("} instances.\n")
+                .append(" * <p>\n")
+                .append(" * Generated by {@code ").append(GeneratorMethodProcessor.class.getName())
+                .append("} from {@code ").append(signature()).append("}.\n")
+                .append(" */\n")
+                .append("@dev.orne.test.rnd.Priority(")
+                .append(priority == null ? Priority.DEFAULT : priority.value()).append(")\n")
+                .append("public final class ").append(this.simpleName).append("\n")
+                .append("extends dev.orne.test.rnd.AbstractTypedGenerator<").append(valueTypeName).append("> {\n\n");
+            if (targeted) {
+                src.append("    /** The validation groups used when generating parameters. */\n")
+                    .append("    private static final Class<?>[] DEFAULT_GROUPS = {\n")
+                    .append("        javax.validation.groups.Default.class\n")
+                    .append("    };\n")
+                    .append("    /** The parameter types of the generation executable. */\n")
+                    .append("    private static final Class<?>[] PARAMETER_TYPES = {");
+                for (int i = 0; i < params.size(); i++) {
+                    src.append(i == 0 ? "\n" : ",\n")
+                        .append("        ").append(typeName(params.get(i).asType())).append(".class");
+                }
+                src.append("\n    };\n\n")
+                    .append("    /** The targeted parameter generators, created on first use. */\n")
+                    .append("    private final dev.orne.test.rnd.params.TargetedGenerator<?>[] parameterGenerators =\n")
+                    .append("            new dev.orne.test.rnd.params.TargetedGenerator<?>[PARAMETER_TYPES.length];\n\n");
+            }
+            src.append("    /**\n")
+                .append("     * Creates a new instance.\n")
+                .append("     */\n");
+            if (generic) {
+                src.append("    @SuppressWarnings(\"unchecked\")\n")
+                    .append("    public ").append(this.simpleName).append("() {\n")
+                    .append("        super((Class<").append(valueTypeName).append(">) (Class<?>) ")
+                    .append(typeName).append(".class);\n");
+            } else {
+                src.append("    public ").append(this.simpleName).append("() {\n")
+                    .append("        super(").append(typeName).append(".class);\n");
+            }
+            src.append("    }\n\n");
+            writeValueMethod(src, "defaultValue", "defaultValue", "nullableDefaultValue");
+            writeValueMethod(src, "randomValue", "randomValue", "nullableRandomValue");
+            if (targeted) {
+                writeParameterGeneratorMethod(src, typeName);
+                if (inferred) {
+                    writeCastMethod(src);
+                }
+            } else {
+                src.setLength(src.length() - 1);
+            }
+            src.append("}\n");
+            return src.toString();
+        }
+
+        /**
+         * Writes a value generation method.
+         * 
+         * @param src The source builder
+         * @param method The method name
+         * @param valueMethod The generator method for primitive parameters
+         * @param nullableMethod The generator method for reference parameters
+         */
+        protected void writeValueMethod(
+                final @NotNull StringBuilder src,
+                final @NotNull String method,
+                final @NotNull String valueMethod,
+                final @NotNull String nullableMethod) {
+            final List<? extends VariableElement> params = this.executable.getParameters();
+            final boolean throwing = !this.executable.getThrownTypes().isEmpty();
+            boolean unchecked = false;
+            for (final VariableElement param : params) {
+                unchecked |= requiresTargetedGenerator(param)
+                        && !hasTypeVariables(param.asType())
+                        && sourceName(param.asType()).indexOf('<') >= 0;
+            }
+            src.append("    /**\n")
+                .append("     * {@inheritDoc}\n")
+                .append("     */\n")
+                .append("    @Override\n");
+            if (unchecked) {
+                src.append("    @SuppressWarnings(\"unchecked\")\n");
+            }
+            src.append("    public ").append(sourceName(this.type.asType())).append(" ").append(method).append("() {\n");
+            String indent = "        ";
+            if (throwing) {
+                src.append(indent).append("try {\n");
+                indent += "    ";
+            }
+            src.append(indent).append("return ");
+            if (this.executable.getKind() == ElementKind.CONSTRUCTOR) {
+                src.append("new ").append(this.type.getQualifiedName());
+                if (!this.type.getTypeParameters().isEmpty()) {
+                    src.append("<>");
+                }
+            } else {
+                src.append(this.type.getQualifiedName()).append('.').append(this.executable.getSimpleName());
+            }
+            src.append('(');
+            for (int i = 0; i < params.size(); i++) {
+                final VariableElement param = params.get(i);
+                final TypeMirror paramType = param.asType();
+                final boolean primitive = paramType.getKind().isPrimitive();
+                final String generatorMethod = primitive ? valueMethod : nullableMethod;
+                src.append(i == 0 ? "\n" : ",\n").append(indent).append("        ");
+                if (requiresTargetedGenerator(param) && hasTypeVariables(paramType)) {
+                    src.append("cast(parameterGenerator(")
+                        .append(i).append(").").append(generatorMethod).append("(DEFAULT_GROUPS))");
+                } else if (requiresTargetedGenerator(param)) {
+                    src.append('(').append(sourceName(paramType)).append(") parameterGenerator(")
+                        .append(i).append(").").append(generatorMethod).append("(DEFAULT_GROUPS)");
+                } else {
+                    src.append("dev.orne.test.rnd.Generators.").append(generatorMethod)
+                        .append('(').append(typeName(paramType)).append(".class)");
+                }
+            }
+            src.append(");\n");
+            if (throwing) {
+                src.append("        } catch (final RuntimeException | Error e) {\n")
+                    .append("            throw e;\n")
+                    .append("        } catch (final Throwable e) {\n")
+                    .append("            throw new dev.orne.test.rnd.GenerationException(\"Error generating new instance\", e);\n")
+                    .append("        }\n");
+            }
+            src.append("    }\n\n");
+        }
+
+        /**
+         * Writes the targeted parameter generator accessor method.
+         * 
+         * @param src The source builder
+         * @param typeName The target type name
+         */
+        protected void writeParameterGeneratorMethod(
+                final @NotNull StringBuilder src,
+                final @NotNull String typeName) {
+            src.append("    /**\n")
+                .append("     * Returns the targeted generator for the specified parameter,\n")
+                .append("     * creating it on first use.\n")
+                .append("     * \n")
+                .append("     * @param index The parameter index\n")
+                .append("     * @return The targeted parameter generator\n")
+                .append("     */\n")
+                .append("    private dev.orne.test.rnd.params.TargetedGenerator<?> parameterGenerator(\n")
+                .append("            final int index) {\n")
+                .append("        dev.orne.test.rnd.params.TargetedGenerator<?> generator = this.parameterGenerators[index];\n")
+                .append("        if (generator == null) {\n")
+                .append("            generator = dev.orne.test.rnd.Generators.forParameter(\n")
+                .append("                    ").append(typeName).append(".class,\n");
+            if (this.executable.getKind() != ElementKind.CONSTRUCTOR) {
+                src.append("                    \"").append(this.executable.getSimpleName()).append("\",\n");
+            }
+            src.append("                    PARAMETER_TYPES,\n")
+                .append("                    index);\n")
+                .append("            this.parameterGenerators[index] = generator;\n")
+                .append("        }\n")
+                .append("        return generator;\n")
+                .append("    }\n");
+        }
+
+        /**
+         * Writes the type inferring cast method, used for parameters whose
+         * types depend on type variables.
+         * 
+         * @param src The source builder
+         */
+        protected void writeCastMethod(
+                final @NotNull StringBuilder src) {
+            src.append("\n")
+                .append("    /**\n")
+                .append("     * Casts the specified value to the type inferred from the\n")
+                .append("     * invocation context.\n")
+                .append("     * \n")
+                .append("     * @param <P> The type of the value\n")
+                .append("     * @param value The value to cast\n")
+                .append("     * @return The cast value\n")
+                .append("     */\n")
+                .append("    @SuppressWarnings(\"unchecked\")\n")
+                .append("    private static <P> P cast(\n")
+                .append("            final Object value) {\n")
+                .append("        return (P) value;\n")
+                .append("    }\n");
+        }
+
+        /**
+         * Returns the signature of the generation executable, with erased
+         * parameter types.
+         * 
+         * @return The signature of the generation executable
+         */
+        protected @NotNull String signature() {
+            final StringBuilder result = new StringBuilder();
+            if (this.executable.getKind() == ElementKind.CONSTRUCTOR) {
+                result.append(this.type.getSimpleName());
+            } else {
+                result.append(this.executable.getSimpleName());
+            }
+            result.append('(');
+            final List<? extends VariableElement> params = this.executable.getParameters();
+            for (int i = 0; i < params.size(); i++) {
+                if (i > 0) {
+                    result.append(", ");
+                }
+                result.append(typeName(params.get(i).asType()));
+            }
+            return result.append(')').toString();
+        }
+
+        /**
+         * Returns {@code true} if the specified parameter must be generated
+         * through a targeted generator, because it is of a generic type or
+         * has validation constraints.
+         * 
+         * @param param The parameter
+         * @return If a targeted generator is required
+         */
+        protected boolean requiresTargetedGenerator(
+                final @NotNull VariableElement param) {
+            final TypeMirror paramType = param.asType();
+            if (!this.types.isSameType(paramType, this.types.erasure(paramType))) {
+                return true;
+            }
+            return hasConstraints(param.getAnnotationMirrors())
+                    || hasConstraints(paramType.getAnnotationMirrors());
+        }
+
+        /**
+         * Returns {@code true} if any of the specified annotations is a
+         * validation constraint or a repeated constraints container.
+         * 
+         * @param annotations The annotations
+         * @return If any annotation is a constraint
+         */
+        protected boolean hasConstraints(
+                final @NotNull List<? extends AnnotationMirror> annotations) {
+            for (final AnnotationMirror annotation : annotations) {
+                final Element annotationType = annotation.getAnnotationType().asElement();
+                if (annotationType.getAnnotation(Constraint.class) != null
+                        || annotationType.getEnclosingElement().getAnnotation(Constraint.class) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the source name of the erasure of the specified type.
+         * 
+         * @param typeMirror The type
+         * @return The source name of the type erasure
+         */
+        protected @NotNull String typeName(
+                final @NotNull TypeMirror typeMirror) {
+            final TypeMirror erasure = this.types.erasure(typeMirror);
+            if (erasure.getKind().isPrimitive()) {
+                return erasure.getKind().name().toLowerCase(Locale.ROOT);
+            } else if (erasure.getKind() == TypeKind.ARRAY) {
+                return typeName(((ArrayType) erasure).getComponentType()) + "[]";
+            } else if (erasure.getKind() == TypeKind.DECLARED) {
+                return ((TypeElement) ((DeclaredType) erasure).asElement()).getQualifiedName().toString();
+            }
+            return erasure.toString();
+        }
+
+        /**
+         * Returns the parameterized source name of the specified type.
+         * Type variables are replaced by their erasure and raw types are
+         * parameterized with unbounded wildcards.
+         * 
+         * @param typeMirror The type
+         * @return The source name of the type
+         */
+        protected @NotNull String sourceName(
+                final @NotNull TypeMirror typeMirror) {
+            if (typeMirror.getKind().isPrimitive()) {
+                return typeMirror.getKind().name().toLowerCase(Locale.ROOT);
+            } else if (typeMirror.getKind() == TypeKind.ARRAY) {
+                return sourceName(((ArrayType) typeMirror).getComponentType()) + "[]";
+            } else if (typeMirror.getKind() == TypeKind.DECLARED) {
+                final DeclaredType declared = (DeclaredType) typeMirror;
+                final TypeElement element = (TypeElement) declared.asElement();
+                final StringBuilder result = new StringBuilder(element.getQualifiedName());
+                final List<? extends TypeMirror> args = declared.getTypeArguments();
+                if (args.isEmpty()) {
+                    for (int i = 0; i < element.getTypeParameters().size(); i++) {
+                        result.append(i == 0 ? "<" : ", ").append('?');
+                    }
+                } else {
+                    for (int i = 0; i < args.size(); i++) {
+                        result.append(i == 0 ? "<" : ", ").append(typeArgumentName(args.get(i)));
+                    }
+                }
+                if (!element.getTypeParameters().isEmpty()) {
+                    result.append('>');
+                }
+                return result.toString();
+            }
+            final TypeMirror erasure = this.types.erasure(typeMirror);
+            if (erasure.getKind() == TypeKind.DECLARED) {
+                return sourceName(erasure);
+            }
+            return typeName(typeMirror);
+        }
+
+        /**
+         * Returns the source name of the specified type argument. Type
+         * variables are replaced by unbounded wildcards.
+         * 
+         * @param typeMirror The type argument
+         * @return The source name of the type argument
+         */
+        protected @NotNull String typeArgumentName(
+                final @NotNull TypeMirror typeMirror) {
+            if (typeMirror.getKind() == TypeKind.WILDCARD) {
+                final WildcardType wildcard = (WildcardType) typeMirror;
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + sourceName(wildcard.getExtendsBound());
+                } else if (wildcard.getSuperBound() != null) {
+                    return "? super " + sourceName(wildcard.getSuperBound());
+                }
+                return "?";
+            } else if (typeMirror.getKind() == TypeKind.TYPEVAR) {
+                return "?";
+            }
+            return sourceName(typeMirror);
+        }
+
+        /**
+         * Returns {@code true} if the specified type is or contains a
+         * type variable.
+         * 
+         * @param typeMirror The type
+         * @return If the type depends on type variables
+         */
+        protected boolean hasTypeVariables(
+                final @NotNull TypeMirror typeMirror) {
+            if (typeMirror.getKind() == TypeKind.TYPEVAR) {
+                return true;
+            } else if (typeMirror.getKind() == TypeKind.ARRAY) {
+                return hasTypeVariables(((ArrayType) typeMirror).getComponentType());
+            } else if (typeMirror.getKind() == TypeKind.WILDCARD) {
+                final WildcardType wildcard = (WildcardType) typeMirror;
+                return (wildcard.getExtendsBound() != null && hasTypeVariables(wildcard.getExtendsBound()))
+                        || (wildcard.getSuperBound() != null && hasTypeVariables(wildcard.getSuperBound()));
+            } else if (typeMirror.getKind() == TypeKind.DECLARED) {
+                for (final TypeMirror arg : ((DeclaredType) typeMirror).getTypeArguments()) {
+                    if (hasTypeVariables(arg)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
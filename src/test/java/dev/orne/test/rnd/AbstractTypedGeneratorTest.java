@@ -26,6 +26,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.validation.constraints.NotNull;
 
@@ -36,7 +39,7 @@ import org.junit.jupiter.api.Test;
  * Unit tests for {@code AbstractTypedGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2021-03
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see AbstractTypedGenerator
  */
@@ -94,6 +97,15 @@ class AbstractTypedGeneratorTest {
         });
     }
 
+    /**
+     * Unit test for {@link AbstractTypedGenerator#getSupportedTypes()}
+     */
+    @Test
+    void testGetSupportedTypes() {
+        final GenericChild<Serializable> generator = new GenericChild<>(Serializable.class);
+        assertEquals(Collections.singleton(Serializable.class), generator.getSupportedTypes());
+    }
+
     /**
      * Unit test for {@link AbstractTypedGenerator#defaultValue(Class)}
      */
@@ -159,6 +171,60 @@ class AbstractTypedGeneratorTest {
         then(generator).should(never()).randomValue();
     }
 
+    /**
+     * Unit test for {@link AbstractTypedGenerator#randomValues(Class, int)}
+     */
+    @Test
+    void testRandomValues() {
+        final AbstractTypedGenerator<?> generator = spy(new GenericChild<>(Object.class));
+        final Object mockResult = new Object();
+        willReturn(true).given(generator).supports(Object.class);
+        willReturn(mockResult).given(generator).randomValue();
+        final List<Object> result = generator.randomValues(Object.class, 3);
+        assertEquals(Collections.nCopies(3, mockResult), result);
+        then(generator).should(times(1)).supports(Object.class);
+        then(generator).should(times(3)).randomValue();
+        then(generator).should(never()).randomValue(Object.class);
+    }
+
+    /**
+     * Unit test for {@link AbstractTypedGenerator#randomValues(Class, int)}
+     */
+    @Test
+    void testRandomValues_Invalid() {
+        final AbstractTypedGenerator<?> generator = spy(new GenericChild<>(Object.class));
+        willReturn(false).given(generator).supports(Object.class);
+        assertThrows(UnsupportedValueTypeException.class, () -> {
+            generator.randomValues(Object.class, 3);
+        });
+        willReturn(true).given(generator).supports(Object.class);
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.randomValues(Object.class, -1);
+        });
+        then(generator).should(never()).randomValue();
+    }
+
+    /**
+     * Unit test for {@link AbstractTypedGenerator#stream(Class)}
+     */
+    @Test
+    void testStream() {
+        final AbstractTypedGenerator<?> generator = spy(new GenericChild<>(Object.class));
+        final Object mockResult = new Object();
+        willReturn(true).given(generator).supports(Object.class);
+        willReturn(mockResult).given(generator).randomValue();
+        final List<Object> result = generator.stream(Object.class)
+                .limit(3)
+                .collect(Collectors.toList());
+        assertEquals(Collections.nCopies(3, mockResult), result);
+        then(generator).should(times(1)).supports(Object.class);
+        then(generator).should(times(3)).randomValue();
+        willReturn(false).given(generator).supports(Object.class);
+        assertThrows(UnsupportedValueTypeException.class, () -> {
+            generator.stream(Object.class);
+        });
+    }
+
     /**
      * Unit test for {@link AbstractTypedGenerator#nullableRandomValue()}
      */
@@ -0,0 +1,232 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.test.rnd.params.ConstraintIntrospectionTestType;
+
+/**
+ * Unit tests for {@code GenerationSession}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see GenerationSession
+ */
+@Tag("ut")
+class GenerationSessionTest {
+
+    /**
+     * Unit test for {@link GenerationSession#GenerationSession(long)}
+     */
+    @Test
+    void testConstructor() {
+        final GenerationSession session = new GenerationSession(1234L);
+        assertEquals(1234L, session.getSeed());
+        assertNotEquals(session.getStreamSeed(0), session.getStreamSeed(1));
+        assertEquals(session.getStreamSeed(5), new GenerationSession(1234L).getStreamSeed(5));
+        assertNotEquals(session.getStreamSeed(5), new GenerationSession(1235L).getStreamSeed(5));
+    }
+
+    /**
+     * Unit test for {@link GenerationSession#createSource(long)}
+     */
+    @Test
+    void testCreateSource() {
+        final GenerationSession session = new GenerationSession(1234L);
+        final RandomSource source = session.createSource(3);
+        final RandomSource other = session.createSource(3);
+        assertNotSame(source, other);
+        final RandomSource otherStream = session.createSource(4);
+        final long value = source.nextLong();
+        assertEquals(value, other.nextLong());
+        assertNotEquals(value, otherStream.nextLong());
+    }
+
+    /**
+     * Unit test for {@link GenerationSession#call(java.util.function.Supplier)}
+     */
+    @Test
+    void testCall() {
+        final GenerationSession session = new GenerationSession(1234L);
+        final String expected = session.call(() -> Generators.randomValue(String.class));
+        assertEquals(expected, session.call(() -> Generators.randomValue(String.class)));
+        assertEquals(expected, session.call(GenerationSession.DEFAULT_STREAM,
+                () -> Generators.randomValue(String.class)));
+        assertNotEquals(expected, session.call(1, () -> Generators.randomValue(String.class)));
+        assertSame(RandomSources.getDefault(), RandomSources.current());
+    }
+
+    /**
+     * Unit test for {@link GenerationSession#run(Runnable)}
+     */
+    @Test
+    void testRun() {
+        final GenerationSession session = new GenerationSession(1234L);
+        final List<Object> values = new ArrayList<>();
+        session.run(() -> values.add(Generators.randomValue(Long.class)));
+        session.run(() -> values.add(Generators.randomValue(Long.class)));
+        session.run(7, () -> values.add(Generators.randomValue(Long.class)));
+        session.run(7, () -> values.add(Generators.randomValue(Long.class)));
+        assertEquals(values.get(0), values.get(1));
+        assertEquals(values.get(2), values.get(3));
+        assertNotEquals(values.get(0), values.get(2));
+    }
+
+    /**
+     * Unit test for reproducible generation of targeted values in
+     * {@code GenerationSession}.
+     */
+    @Test
+    void testTargetedGeneration() {
+        final GenerationSession session = new GenerationSession(1234L);
+        final Object expected = session.call(() -> Generators.forProperty(
+                ConstraintIntrospectionTestType.class, "prop2").randomValue());
+        final Object result = session.call(() -> Generators.forProperty(
+                ConstraintIntrospectionTestType.class, "prop2").randomValue());
+        assertEquals(expected, result);
+    }
+
+    /**
+     * Unit test for {@link GenerationSession#callAll(int, java.util.function.IntFunction)}
+     */
+    @Test
+    void testCallAll() {
+        final GenerationSession session = new GenerationSession(1234L);
+        final List<List<Object>> expected = session.callAll(16, index -> {
+            final List<Object> result = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                result.add(Generators.randomValue(Integer.class));
+            }
+            return result;
+        });
+        assertEquals(16, expected.size());
+        for (int i = 0; i < 5; i++) {
+            final List<List<Object>> result = session.callAll(16, index -> {
+                final List<Object> values = new ArrayList<>();
+                for (int j = 0; j < 100; j++) {
+                    values.add(Generators.randomValue(Integer.class));
+                }
+                return values;
+            });
+            assertEquals(expected, result);
+        }
+        assertNotEquals(expected.get(0), expected.get(1));
+        assertTrue(session.callAll(0, index -> index).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> {
+            session.callAll(-1, index -> index);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            session.callAll(1, null);
+        });
+    }
+
+    /**
+     * Unit test for {@link GenerationSession#parallelStream(long, java.util.function.Supplier)}
+     */
+    @Test
+    void testParallelStream() {
+        final GenerationSession session = new GenerationSession(1234L);
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            expected.add(session.call(i, () -> Generators.randomValue(Integer.class)));
+        }
+        final Stream<Integer> stream = session.parallelStream(
+                1000, () -> Generators.randomValue(Integer.class));
+        assertTrue(stream.isParallel());
+        assertEquals(expected, stream.collect(Collectors.toList()));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(expected, session.parallelStream(
+                    1000, () -> Generators.randomValue(Integer.class))
+                .collect(Collectors.toList()));
+        }
+        assertEquals(expected, session.parallelStream(
+                1000, () -> Generators.randomValue(Integer.class))
+            .sequential()
+            .collect(Collectors.toList()));
+        assertEquals(expected.subList(0, 10), session.parallelStream(
+                1000, () -> Generators.randomValue(Integer.class))
+            .limit(10)
+            .collect(Collectors.toList()));
+        assertEquals(0, session.parallelStream(0, () -> 1).count());
+        assertThrows(IllegalArgumentException.class, () -> {
+            session.parallelStream(-1, () -> 1);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            session.parallelStream(1, null);
+        });
+    }
+
+    /**
+     * Unit test for reproducible parallel generation of targeted values in
+     * {@code GenerationSession}.
+     */
+    @Test
+    void testTargetedParallelValues() {
+        final GenerationSession session = new GenerationSession(1234L);
+        final List<Object> expected = session.call(() -> Generators.forProperty(
+                ConstraintIntrospectionTestType.class, "prop2").parallelValues(500));
+        assertEquals(500, expected.size());
+        final List<Object> result = session.call(() -> Generators.forProperty(
+                ConstraintIntrospectionTestType.class, "prop2").parallelValues(500));
+        assertEquals(expected, result);
+    }
+
+    /**
+     * Unit test for {@link GenerationSession#parallelStream(long, long, java.util.function.Supplier)}
+     */
+    @Test
+    void testParallelStream_Slice() {
+        final GenerationSession session = new GenerationSession(1234L);
+        final List<String> expected = session.parallelStream(
+                300, () -> Generators.randomValue(String.class))
+            .collect(Collectors.toList());
+        final List<String> result = new ArrayList<>();
+        result.addAll(new GenerationSession(1234L).parallelStream(
+                0, 100, () -> Generators.randomValue(String.class))
+            .collect(Collectors.toList()));
+        result.addAll(new GenerationSession(1234L).parallelStream(
+                100, 250, () -> Generators.randomValue(String.class))
+            .collect(Collectors.toList()));
+        result.addAll(new GenerationSession(1234L).parallelStream(
+                250, 300, () -> Generators.randomValue(String.class))
+            .collect(Collectors.toList()));
+        assertEquals(expected, result);
+        assertEquals(0, session.parallelStream(5, 5, () -> 1).count());
+        assertThrows(IllegalArgumentException.class, () -> {
+            session.parallelStream(-1, 5, () -> 1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            session.parallelStream(5, 4, () -> 1);
+        });
+    }
+}
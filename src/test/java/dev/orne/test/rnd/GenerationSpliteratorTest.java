@@ -0,0 +1,117 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code GenerationSpliterator}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see GenerationSpliterator
+ */
+@Tag("ut")
+class GenerationSpliteratorTest {
+
+    /**
+     * Unit test for {@link GenerationSpliterator#trySplit()}
+     */
+    @Test
+    void testTrySplit() {
+        final GenerationSession session = new GenerationSession(1234L);
+        final List<Long> expected = new ArrayList<>();
+        new GenerationSpliterator<>(session, () -> RandomSources.current().nextLong(), 0, 100)
+                .forEachRemaining(expected::add);
+        assertEquals(100, expected.size());
+        final Spliterator<Long> suffix = new GenerationSpliterator<>(
+                session, () -> RandomSources.current().nextLong(), 0, 100);
+        final Spliterator<Long> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(50, prefix.estimateSize());
+        assertEquals(50, suffix.estimateSize());
+        final Spliterator<Long> suffixPrefix = suffix.trySplit();
+        assertEquals(25, suffixPrefix.estimateSize());
+        final List<Long> result = new ArrayList<>();
+        assertTrue(prefix.tryAdvance(result::add));
+        prefix.forEachRemaining(result::add);
+        assertFalse(prefix.tryAdvance(result::add));
+        suffixPrefix.forEachRemaining(result::add);
+        suffix.forEachRemaining(result::add);
+        assertEquals(expected, result);
+    }
+
+    /**
+     * Unit test for {@link GenerationSpliterator#trySplit()}
+     */
+    @Test
+    void testTrySplit_Single() {
+        final GenerationSession session = new GenerationSession(1234L);
+        final Spliterator<Long> spliterator = new GenerationSpliterator<>(
+                session, () -> RandomSources.current().nextLong(), 0, 1);
+        assertNull(spliterator.trySplit());
+        assertEquals(1, spliterator.estimateSize());
+    }
+
+    /**
+     * Unit test for {@link GenerationSpliterator#tryAdvance(java.util.function.Consumer)}
+     */
+    @Test
+    void testTryAdvance() {
+        final GenerationSession session = new GenerationSession(1234L);
+        final Spliterator<Long> spliterator = new GenerationSpliterator<>(
+                session, () -> RandomSources.current().nextLong(), 3, 5);
+        final List<Long> result = new ArrayList<>();
+        assertTrue(spliterator.tryAdvance(result::add));
+        assertEquals(1, spliterator.estimateSize());
+        assertTrue(spliterator.tryAdvance(result::add));
+        assertFalse(spliterator.tryAdvance(result::add));
+        assertEquals(0, spliterator.estimateSize());
+        assertEquals(session.call(3, () -> RandomSources.current().nextLong()), result.get(0));
+        assertEquals(session.call(4, () -> RandomSources.current().nextLong()), result.get(1));
+        assertThrows(NullPointerException.class, () -> {
+            spliterator.tryAdvance(null);
+        });
+    }
+
+    /**
+     * Unit test for {@link GenerationSpliterator#characteristics()}
+     */
+    @Test
+    void testCharacteristics() {
+        final Spliterator<Long> spliterator = new GenerationSpliterator<>(
+                new GenerationSession(1234L), () -> RandomSources.current().nextLong(), 0, 10);
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(10, spliterator.getExactSizeIfKnown());
+    }
+}
@@ -25,19 +25,34 @@ package dev.orne.test.rnd;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
-import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.validation.constraints.NotNull;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import dev.orne.test.rnd.Generators.MissingGenerator;
+import dev.orne.test.rnd.Generators.Registry;
+import dev.orne.test.rnd.generators.DoubleGenerator;
+import dev.orne.test.rnd.generators.IntegerGenerator;
+import dev.orne.test.rnd.generators.LongGenerator;
+import dev.orne.test.rnd.generators.StringGenerator;
 import dev.orne.test.rnd.params.ConstraintIntrospectionTestType;
 import dev.orne.test.rnd.params.ConstructorParameterTypeGenerator;
 import dev.orne.test.rnd.params.GenerationParameters;
@@ -53,7 +68,7 @@ import dev.orne.test.rnd.params.TargetedGenerator;
  * Unit tests for {@code Generators}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.2, 2026-10
  * @since 0.1
  * @see Generators
  */
@@ -105,13 +120,14 @@ class GeneratorsTest {
     }
 
     /**
-     * Test for {@link Generators#getCacheInt()}.
+     * Test for {@link Generators#getRegistryInt()}.
      */
     @Test
-    void testGetCacheInt() {
-        final Map<Class<?>, Generator> result = Generators.getCacheInt();
+    void testGetRegistryInt() {
+        final Registry result = Generators.getRegistryInt();
         assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertSame(result, Generators.getRegistryInt());
+        assertSame(result.getGenerators(), Generators.getGeneratorsInt());
     }
 
     /**
@@ -126,9 +142,9 @@ class GeneratorsTest {
         assertEquals(expected, result);
         final List<Generator> other = Generators.getGeneratorsInt();
         assertSame(result, other);
-        final Map<Class<?>, Generator> cache = Generators.getCacheInt();
-        assertNotNull(cache);
-        assertTrue(cache.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> {
+            result.add(new DefaultGenerator());
+        });
     }
 
     /**
@@ -138,11 +154,7 @@ class GeneratorsTest {
     void testGetRegisteredGenerators() {
         final List<Generator> result = Generators.getRegisteredGenerators();
         assertNotNull(result);
-        assertNotSame(result, Generators.getGeneratorsInt());
-        assertEquals(result, Generators.getGeneratorsInt());
-        final Map<Class<?>, Generator> cache = Generators.getCacheInt();
-        assertNotNull(cache);
-        assertTrue(cache.isEmpty());
+        assertSame(result, Generators.getGeneratorsInt());
         final Generator otherGenerator = new DefaultGenerator();
         final List<Generator> otherGenerators = Collections.singletonList(otherGenerator);
         assertThrows(UnsupportedOperationException.class, () -> {
@@ -208,15 +220,105 @@ class GeneratorsTest {
         final List<Generator> result = Generators.getGeneratorsInt();
         List<Generator> other = Generators.getGeneratorsInt();
         assertSame(result, other);
-        Generators.getGenerator(TestGenerator.Type.class);
-        final Map<Class<?>, Generator> cache = Generators.getCacheInt();
-        assertNotNull(cache);
-        assertFalse(cache.isEmpty());
+        final Registry registry = Generators.getRegistryInt();
         Generators.reset();
         other = Generators.getGeneratorsInt();
         assertNotSame(result, other);
+        assertNotSame(registry, Generators.getRegistryInt());
+    }
+
+    /**
+     * Test for {@link Generators.Defaults}.
+     */
+    @Test
+    void testDefaults() {
+        final List<Generator> expected = Generators.loadSpiGenerators();
+        Collections.sort(expected, Generators.COMPARATOR);
+        assertEquals(expected, Generators.Defaults.GENERATORS);
+        assertThrows(UnsupportedOperationException.class, () -> {
+            Generators.Defaults.GENERATORS.clear();
+        });
+        Generators.register(new ImportantGenerator());
         Generators.reset();
-        assertTrue(cache.isEmpty());
+        assertEquals(Generators.Defaults.GENERATORS, Generators.getGeneratorsInt());
+    }
+
+    /**
+     * Test for {@link Registry#getExactTypes(Generator)}.
+     */
+    @Test
+    void testRegistryExactTypes() {
+        for (final Generator generator : Generators.Defaults.GENERATORS) {
+            for (final Class<?> type : Registry.getExactTypes(generator)) {
+                assertTrue(generator.supports(type), () -> generator + " " + type);
+            }
+        }
+        assertEquals(
+                Collections.singleton(MyType.class),
+                Registry.getExactTypes(new ExactGenerator()));
+        assertEquals(
+                Collections.emptySet(),
+                Registry.getExactTypes(new ExtendedExactGenerator()));
+        assertEquals(
+                Collections.emptySet(),
+                Registry.getExactTypes(new MockGenerator()));
+    }
+
+    /**
+     * Test for {@link Registry#findGenerator(Class)}.
+     */
+    @Test
+    void testRegistryFindGenerator() {
+        final Generator predicate = spy(Generator.class);
+        willReturn(Priority.DEFAULT).given(predicate).getPriority();
+        willReturn(true).given(predicate).supports(CharSequence.class);
+        final Generator fallback = spy(Generator.class);
+        willReturn(Priority.MIN).given(fallback).getPriority();
+        willReturn(true).given(fallback).supports(any());
+        final ExtendedExactGenerator extended = new ExtendedExactGenerator();
+        final List<Generator> generators = new ArrayList<>(Generators.Defaults.GENERATORS);
+        generators.add(predicate);
+        generators.add(fallback);
+        generators.add(extended);
+        final Registry registry = new Registry(generators);
+        assertSame(predicate, registry.findGenerator(CharSequence.class));
+        assertSame(extended, registry.findGenerator(MyType.class));
+        assertSame(extended, registry.findGenerator(MyMissingType.class));
+        assertTrue(registry.findGenerator(String.class) instanceof StringGenerator);
+        assertTrue(registry.findGenerator(int.class) instanceof IntegerGenerator);
+        then(fallback).should(never()).supports(String.class);
+        then(fallback).should(never()).supports(int.class);
+        assertSame(fallback, registry.findGenerator(Object.class));
+        final Class<?>[] types = new Class<?>[] {
+            String.class, CharSequence.class, Integer.class, long.class,
+            Number.class, List.class, Collection.class, DayOfWeek.class,
+            int[].class, MyType.class, MyMissingType.class, Object.class
+        };
+        for (final Class<?> type : types) {
+            assertSame(
+                    scanGenerator(registry.getGenerators(), type),
+                    registry.findGenerator(type),
+                    type.getName());
+        }
+    }
+
+    /**
+     * Finds the first generator of the specified generators that supports
+     * the specified type.
+     * 
+     * @param generators The generators, sorted by priority
+     * @param type The value type
+     * @return The first generator supporting the type
+     */
+    private static Generator scanGenerator(
+            final List<Generator> generators,
+            final Class<?> type) {
+        for (final Generator generator : generators) {
+            if (generator.supports(type)) {
+                return generator;
+            }
+        }
+        return MissingGenerator.INSTANCE;
     }
 
     /**
@@ -224,9 +326,7 @@ class GeneratorsTest {
      */
     @Test
     void testRegister_Varargs() {
-        final Map<Class<?>, Generator> cache = Generators.getCacheInt();
-        Generators.getGenerator(TestGenerator.Type.class);
-        assertFalse(cache.isEmpty());
+        final Registry registry = Generators.getRegistryInt();
         final Generator[] newGenerators = new Generator[] {
                 new ImportantGenerator(),
                 new DefaultGenerator(),
@@ -238,7 +338,7 @@ class GeneratorsTest {
         expected.addAll(Arrays.asList(newGenerators));
         Collections.sort(expected, Generators.COMPARATOR);
         assertEquals(expected, Generators.getGeneratorsInt());
-        assertTrue(cache.isEmpty());
+        assertNotSame(registry, Generators.getRegistryInt());
         assertThrows(NullPointerException.class, () -> {
             Generators.register((Generator[]) null);
         });
@@ -259,9 +359,7 @@ class GeneratorsTest {
      */
     @Test
     void testRegister_Collection() {
-        final Map<Class<?>, Generator> cache = Generators.getCacheInt();
-        Generators.getGenerator(TestGenerator.Type.class);
-        assertFalse(cache.isEmpty());
+        final Registry registry = Generators.getRegistryInt();
         final List<Generator> newGenerators = Arrays.asList(
                 new ImportantGenerator(),
                 new DefaultGenerator(),
@@ -272,7 +370,7 @@ class GeneratorsTest {
         expected.addAll(newGenerators);
         Collections.sort(expected, Generators.COMPARATOR);
         assertEquals(expected, Generators.getGeneratorsInt());
-        assertTrue(cache.isEmpty());
+        assertNotSame(registry, Generators.getRegistryInt());
         assertThrows(NullPointerException.class, () -> {
             Generators.register((Collection<Generator>) null);
         });
@@ -292,9 +390,7 @@ class GeneratorsTest {
      */
     @Test
     void testRemove_Varargs() {
-        final Map<Class<?>, Generator> cache = Generators.getCacheInt();
-        Generators.getGenerator(TestGenerator.Type.class);
-        assertFalse(cache.isEmpty());
+        final Registry registry = Generators.getRegistryInt();
         final Generator[] oldGenerators = new Generator[] {
                 new TestTypedGenerator()
         };
@@ -304,7 +400,7 @@ class GeneratorsTest {
         expected.removeAll(Arrays.asList(oldGenerators));
         Collections.sort(expected, Generators.COMPARATOR);
         assertEquals(expected, Generators.getGeneratorsInt());
-        assertTrue(cache.isEmpty());
+        assertNotSame(registry, Generators.getRegistryInt());
         assertThrows(NullPointerException.class, () -> {
             Generators.remove((Generator[]) null);
         });
@@ -323,9 +419,7 @@ class GeneratorsTest {
      */
     @Test
     void testRemove_Collection() {
-        final Map<Class<?>, Generator> cache = Generators.getCacheInt();
-        Generators.getGenerator(TestGenerator.Type.class);
-        assertFalse(cache.isEmpty());
+        final Registry registry = Generators.getRegistryInt();
         final List<Generator> oldGenerators = Arrays.asList(
                 new TestTypedGenerator());
         Generators.remove(oldGenerators);
@@ -334,7 +428,7 @@ class GeneratorsTest {
         expected.removeAll(oldGenerators);
         Collections.sort(expected, Generators.COMPARATOR);
         assertEquals(expected, Generators.getGeneratorsInt());
-        assertTrue(cache.isEmpty());
+        assertNotSame(registry, Generators.getRegistryInt());
         assertThrows(NullPointerException.class, () -> {
             Generators.remove((Collection<Generator>) null);
         });
@@ -357,20 +451,16 @@ class GeneratorsTest {
         willThrow(GeneratorNotParameterizableException.class).given(mockGenerator).asParameterizable();
         willReturn(true).given(mockGenerator).supports(MyType.class);
         Generators.register(mockGenerator);
-        final Map<Class<?>, Generator> cache = Generators.getCacheInt();
-        assertNotNull(cache);
-        assertTrue(cache.isEmpty());
         final Generator result = Generators.getGeneratorInt(MyType.class);
         assertNotNull(result);
         assertSame(mockGenerator, result);
-        assertFalse(cache.isEmpty());
-        assertEquals(1, cache.size());
-        assertEquals(result, cache.get(MyType.class));
+        assertSame(result, Generators.getGeneratorInt(MyType.class));
+        then(mockGenerator).should(times(1)).supports(MyType.class);
         final Generator missingResult = Generators.getGeneratorInt(MyMissingType.class);
         assertNotNull(missingResult);
         assertSame(MissingGenerator.INSTANCE, missingResult);
-        assertEquals(2, cache.size());
-        assertEquals(MissingGenerator.INSTANCE, cache.get(MyMissingType.class));
+        assertSame(missingResult, Generators.getGeneratorInt(MyMissingType.class));
+        then(mockGenerator).should(times(1)).supports(MyMissingType.class);
     }
 
     /**
@@ -383,19 +473,15 @@ class GeneratorsTest {
         willThrow(GeneratorNotParameterizableException.class).given(mockGenerator).asParameterizable();
         willReturn(true).given(mockGenerator).supports(MyType.class);
         Generators.register(mockGenerator);
-        final Map<Class<?>, Generator> cache = Generators.getCacheInt();
-        assertNotNull(cache);
-        assertTrue(cache.isEmpty());
         final Generator result = Generators.getGenerator(MyType.class);
         assertNotNull(result);
         assertSame(mockGenerator, result);
-        assertFalse(cache.isEmpty());
-        assertEquals(1, cache.size());
-        assertEquals(result, cache.get(MyType.class));
+        assertSame(result, Generators.getGenerator(MyType.class));
+        then(mockGenerator).should(times(1)).supports(MyType.class);
         final Generator missingResult = Generators.getGenerator(MyMissingType.class);
         assertNull(missingResult);
-        assertEquals(2, cache.size());
-        assertEquals(MissingGenerator.INSTANCE, cache.get(MyMissingType.class));
+        assertNull(Generators.getGenerator(MyMissingType.class));
+        then(mockGenerator).should(times(1)).supports(MyMissingType.class);
     }
 
     /**
@@ -413,24 +499,16 @@ class GeneratorsTest {
         willReturn(true).given(mockGenerator).supports(MyType.class);
         Generators.register(mockParamsGenerator);
         Generators.register(mockGenerator);
-        final Map<Class<?>, Generator> cache = Generators.getCacheInt();
-        assertNotNull(cache);
-        assertTrue(cache.isEmpty());
         final Generator result = Generators.getParameterizableGenerator(MyParameterizableType.class);
         assertNotNull(result);
         assertSame(mockParamsGenerator, result);
-        assertFalse(cache.isEmpty());
-        assertEquals(1, cache.size());
-        assertEquals(result, cache.get(MyParameterizableType.class));
+        assertSame(result, Generators.getGeneratorInt(MyParameterizableType.class));
         final Generator noParamsResult = Generators.getParameterizableGenerator(MyType.class);
         assertNull(noParamsResult);
-        assertFalse(cache.isEmpty());
-        assertEquals(2, cache.size());
-        assertEquals(mockGenerator, cache.get(MyType.class));
+        assertSame(mockGenerator, Generators.getGeneratorInt(MyType.class));
         final Generator missingResult = Generators.getParameterizableGenerator(MyMissingType.class);
         assertNull(missingResult);
-        assertEquals(3, cache.size());
-        assertEquals(MissingGenerator.INSTANCE, cache.get(MyMissingType.class));
+        assertSame(MissingGenerator.INSTANCE, Generators.getGeneratorInt(MyMissingType.class));
     }
 
     /**
@@ -458,9 +536,81 @@ class GeneratorsTest {
     }
 
     /**
-     * Test for {@link Generators#defaultValue(Class)}.
+     * Test for {@link Generators#parallelStream(Class, long, long)}.
+     */
+    @Test
+    void testParallelStream() {
+        final List<Integer> expected = Generators.parallelStream(Integer.class, 1000, 1234L)
+                .collect(Collectors.toList());
+        assertEquals(1000, expected.size());
+        assertEquals(expected, Generators.parallelStream(Integer.class, 1000, 1234L)
+                .collect(Collectors.toList()));
+        assertEquals(expected, Generators.parallelStream(Integer.class, 1000, 1234L)
+                .sequential()
+                .collect(Collectors.toList()));
+        assertNotEquals(expected, Generators.parallelStream(Integer.class, 1000, 1235L)
+                .collect(Collectors.toList()));
+        assertThrows(GeneratorNotFoundException.class, () -> {
+            Generators.parallelStream(MyMissingType.class, 10, 1234L);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            Generators.parallelStream(Integer.class, -1, 1234L);
+        });
+    }
+
+    /**
+     * Test for {@link Generators#randomValue(Class, long, long)}.
      */
     @Test
+    void testRandomValue_Indexed() {
+        final Class<?>[] types = new Class<?>[] {
+            Integer.class, long.class, Double.class, Boolean.class,
+            String.class, BigDecimal.class, LocalDateTime.class,
+            Duration.class, Instant.class, UUID.class, DayOfWeek.class,
+            int[].class
+        };
+        for (final Class<?> type : types) {
+            final List<?> sequence = Generators.parallelStream(type, 50, 1234L)
+                    .collect(Collectors.toList());
+            for (int i = 0; i < sequence.size(); i++) {
+                final Object value = Generators.randomValue(type, 1234L, i);
+                assertTrue(Objects.deepEquals(sequence.get(i), value), type + " " + i);
+                assertTrue(Objects.deepEquals(value, Generators.randomValue(type, 1234L, i)));
+            }
+        }
+        assertNotEquals(
+                Generators.randomValue(Long.class, 1234L, 0),
+                Generators.randomValue(Long.class, 1234L, 1));
+        assertNotEquals(
+                Generators.randomValue(Long.class, 1234L, 0),
+                Generators.randomValue(Long.class, 1235L, 0));
+        assertEquals(
+                Generators.randomValue(Long.class, 1234L, 1_000_000_000_000L),
+                new LongGenerator().randomValue(1234L, 1_000_000_000_000L));
+        assertThrows(IllegalArgumentException.class, () -> {
+            Generators.randomValue(Long.class, 1234L, -1);
+        });
+        assertThrows(GeneratorNotFoundException.class, () -> {
+            Generators.randomValue(MyMissingType.class, 1234L, 0);
+        });
+    }
+
+    /**
+     * Test for {@link Generators#parallelStream(Class, long)}.
+    @Test
+    void testParallelStream_Session() {
+        final GenerationSession session = new GenerationSession(1234L);
+        final List<Integer> expected = session.call(() -> Generators.parallelStream(Integer.class, 1000)
+                .collect(Collectors.toList()));
+        assertEquals(1000, expected.size());
+        assertEquals(expected, session.call(() -> Generators.parallelStream(Integer.class, 1000)
+                .collect(Collectors.toList())));
+        assertTrue(Generators.parallelStream(Integer.class, 10).isParallel());
+    }
+
+    /**
+     * Test for {@link Generators#defaultValue(Class)}.
+    @Test
     void testDefaultValue() {
         final Generator mockGenerator = spy(Generator.class);
         final MyType mockValue = mock(MyType.class);
@@ -546,6 +696,171 @@ class GeneratorsTest {
         then(mockGenerator).shouldHaveNoMoreInteractions();
     }
 
+    /**
+     * Test for {@link Generators#randomValues(Class, int)}.
+     */
+    @Test
+    void testRandomValues() {
+        final Generator mockGenerator = spy(Generator.class);
+        final MyType mockValue = mock(MyType.class);
+        willReturn(Priority.DEFAULT).given(mockGenerator).getPriority();
+        willReturn(true).given(mockGenerator).supports(MyType.class);
+        willReturn(mockValue).given(mockGenerator).randomValue(MyType.class);
+        willReturn(false).given(mockGenerator).supports(MyMissingType.class);
+        Generators.register(mockGenerator);
+        final List<MyType> result = Generators.randomValues(MyType.class, 5);
+        assertEquals(Collections.nCopies(5, mockValue), result);
+        then(mockGenerator).should(times(1)).randomValues(MyType.class, 5);
+        then(mockGenerator).should(times(5)).randomValue(MyType.class);
+        assertTrue(Generators.randomValues(MyType.class, 0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> {
+            Generators.randomValues(MyType.class, -1);
+        });
+        assertThrows(GeneratorNotFoundException.class, () -> {
+            Generators.randomValues(MyMissingType.class, 5);
+        });
+    }
+
+    /**
+     * Test for {@link Generators#stream(Class)}.
+     */
+    @Test
+    void testStream() {
+        final Generator mockGenerator = spy(Generator.class);
+        final MyType mockValue = mock(MyType.class);
+        willReturn(Priority.DEFAULT).given(mockGenerator).getPriority();
+        willReturn(true).given(mockGenerator).supports(MyType.class);
+        willReturn(mockValue).given(mockGenerator).randomValue(MyType.class);
+        willReturn(false).given(mockGenerator).supports(MyMissingType.class);
+        Generators.register(mockGenerator);
+        final List<MyType> result = Generators.stream(MyType.class)
+                .limit(5)
+                .collect(Collectors.toList());
+        assertEquals(Collections.nCopies(5, mockValue), result);
+        then(mockGenerator).should(times(1)).stream(MyType.class);
+        then(mockGenerator).should(times(5)).randomValue(MyType.class);
+        assertThrows(GeneratorNotFoundException.class, () -> {
+            Generators.stream(MyMissingType.class);
+        });
+    }
+
+    /**
+     * Test for {@link Generators#intGenerator()}.
+     */
+    @Test
+    void testIntGenerator() {
+        final PrimitiveIntGenerator generator = Generators.intGenerator();
+        assertSame(Generators.getGenerator(int.class), generator);
+        assertTrue(generator instanceof IntegerGenerator);
+    }
+
+    /**
+     * Test for {@link Generators#intGenerator()}.
+     */
+    @Test
+    void testIntGenerator_Adapter() {
+        final Generator mockGenerator = spy(Generator.class);
+        willReturn(Priority.DEFAULT).given(mockGenerator).getPriority();
+        willReturn(true).given(mockGenerator).supports(int.class);
+        willReturn(1).given(mockGenerator).randomValue(int.class);
+        Generators.register(mockGenerator);
+        final PrimitiveIntGenerator generator = Generators.intGenerator();
+        assertNotSame(mockGenerator, generator);
+        final int[] result = new int[3];
+        generator.fill(result);
+        assertArrayEquals(new int[] { 1, 1, 1 }, result);
+        then(mockGenerator).should(times(3)).randomValue(int.class);
+    }
+
+    /**
+     * Test for {@link Generators#intGenerator()}.
+     */
+    @Test
+    void testIntGenerator_Missing() {
+        Generators.remove(Generators.getGenerator(int.class));
+        assertThrows(GeneratorNotFoundException.class, () -> {
+            Generators.intGenerator();
+        });
+    }
+
+    /**
+     * Test for {@link Generators#longGenerator()}.
+     */
+    @Test
+    void testLongGenerator() {
+        final PrimitiveLongGenerator generator = Generators.longGenerator();
+        assertSame(Generators.getGenerator(long.class), generator);
+        assertTrue(generator instanceof LongGenerator);
+    }
+
+    /**
+     * Test for {@link Generators#longGenerator()}.
+     */
+    @Test
+    void testLongGenerator_Adapter() {
+        final Generator mockGenerator = spy(Generator.class);
+        willReturn(Priority.DEFAULT).given(mockGenerator).getPriority();
+        willReturn(true).given(mockGenerator).supports(long.class);
+        willReturn(1L).given(mockGenerator).randomValue(long.class);
+        Generators.register(mockGenerator);
+        final PrimitiveLongGenerator generator = Generators.longGenerator();
+        assertNotSame(mockGenerator, generator);
+        final long[] result = new long[3];
+        generator.fill(result);
+        assertArrayEquals(new long[] { 1L, 1L, 1L }, result);
+        then(mockGenerator).should(times(3)).randomValue(long.class);
+    }
+
+    /**
+     * Test for {@link Generators#longGenerator()}.
+     */
+    @Test
+    void testLongGenerator_Missing() {
+        Generators.remove(Generators.getGenerator(long.class));
+        assertThrows(GeneratorNotFoundException.class, () -> {
+            Generators.longGenerator();
+        });
+    }
+
+    /**
+     * Test for {@link Generators#doubleGenerator()}.
+     */
+    @Test
+    void testDoubleGenerator() {
+        final PrimitiveDoubleGenerator generator = Generators.doubleGenerator();
+        assertSame(Generators.getGenerator(double.class), generator);
+        assertTrue(generator instanceof DoubleGenerator);
+    }
+
+    /**
+     * Test for {@link Generators#doubleGenerator()}.
+     */
+    @Test
+    void testDoubleGenerator_Adapter() {
+        final Generator mockGenerator = spy(Generator.class);
+        willReturn(Priority.DEFAULT).given(mockGenerator).getPriority();
+        willReturn(true).given(mockGenerator).supports(double.class);
+        willReturn(1.0).given(mockGenerator).randomValue(double.class);
+        Generators.register(mockGenerator);
+        final PrimitiveDoubleGenerator generator = Generators.doubleGenerator();
+        assertNotSame(mockGenerator, generator);
+        final double[] result = new double[3];
+        generator.fill(result);
+        assertArrayEquals(new double[] { 1.0, 1.0, 1.0 }, result);
+        then(mockGenerator).should(times(3)).randomValue(double.class);
+    }
+
+    /**
+     * Test for {@link Generators#doubleGenerator()}.
+     */
+    @Test
+    void testDoubleGenerator_Missing() {
+        Generators.remove(Generators.getGenerator(double.class));
+        assertThrows(GeneratorNotFoundException.class, () -> {
+            Generators.doubleGenerator();
+        });
+    }
+
     /**
      * Test for {@link Generators#nullableRandomValue(Class)}.
      */
@@ -744,6 +1059,72 @@ class GeneratorsTest {
         then(mockGenerator).shouldHaveNoMoreInteractions();
     }
 
+    /**
+     * Test for {@link Generators#randomValues(Class, int, Object...)}.
+     */
+    @Test
+    void testRandomValuesParameterizable() {
+        final ParameterizableGenerator mockParamsGenerator = spy(ParameterizableGenerator.class);
+        final GenerationParameters params = spy(GenerationParameters.class);
+        final List<MyParameterizableType> mockValues = Arrays.asList(
+                mock(MyParameterizableType.class),
+                mock(MyParameterizableType.class));
+        willReturn(Priority.DEFAULT).given(mockParamsGenerator).getPriority();
+        willReturn(mockParamsGenerator).given(mockParamsGenerator).asParameterizable();
+        willReturn(true).given(mockParamsGenerator).supports(MyParameterizableType.class);
+        willReturn(mockValues).given(mockParamsGenerator).randomValues(MyParameterizableType.class, 2, params);
+        willReturn(false).given(mockParamsGenerator).supports(MyMissingType.class);
+        Generators.register(mockParamsGenerator);
+        assertSame(mockValues, Generators.randomValues(MyParameterizableType.class, 2, params));
+        then(mockParamsGenerator).should(times(1)).asParameterizable();
+        then(mockParamsGenerator).should(times(1)).randomValues(MyParameterizableType.class, 2, params);
+        assertThrows(GeneratorNotFoundException.class, () -> {
+            Generators.randomValues(MyMissingType.class, 2, params);
+        });
+    }
+
+    /**
+     * Test for {@link Generators#randomValues(Class, int, Object...)}.
+     */
+    @Test
+    void testRandomValuesNoParameterizable() {
+        final Generator mockGenerator = spy(Generator.class);
+        final GenerationParameters params = spy(GenerationParameters.class);
+        willReturn(Priority.DEFAULT).given(mockGenerator).getPriority();
+        willThrow(GeneratorNotParameterizableException.class).given(mockGenerator).asParameterizable();
+        willReturn(true).given(mockGenerator).supports(MyType.class);
+        Generators.register(mockGenerator);
+        assertThrows(GeneratorNotParameterizableException.class, () -> {
+            Generators.randomValues(MyType.class, 2, params);
+        });
+        then(mockGenerator).should(never()).randomValue(MyType.class);
+    }
+
+    /**
+     * Test for {@link Generators#stream(Class, Object...)}.
+     */
+    @Test
+    void testStreamParameterizable() {
+        final ParameterizableGenerator mockParamsGenerator = spy(ParameterizableGenerator.class);
+        final GenerationParameters params = spy(GenerationParameters.class);
+        final MyParameterizableType mockValue = mock(MyParameterizableType.class);
+        willReturn(Priority.DEFAULT).given(mockParamsGenerator).getPriority();
+        willReturn(mockParamsGenerator).given(mockParamsGenerator).asParameterizable();
+        willReturn(true).given(mockParamsGenerator).supports(MyParameterizableType.class);
+        willReturn(mockValue).given(mockParamsGenerator).randomValue(MyParameterizableType.class, params);
+        willReturn(false).given(mockParamsGenerator).supports(MyMissingType.class);
+        Generators.register(mockParamsGenerator);
+        final List<MyParameterizableType> result = Generators.stream(MyParameterizableType.class, params)
+                .limit(3)
+                .collect(Collectors.toList());
+        assertEquals(Collections.nCopies(3, mockValue), result);
+        then(mockParamsGenerator).should(times(1)).asParameterizable();
+        then(mockParamsGenerator).should(times(3)).randomValue(MyParameterizableType.class, params);
+        assertThrows(GeneratorNotFoundException.class, () -> {
+            Generators.stream(MyMissingType.class, params);
+        });
+    }
+
     /**
      * Test for {@link Generators#nullableRandomValue(Class, Object...)}.
      */
@@ -986,6 +1367,26 @@ class GeneratorsTest {
         });
     }
 
+    /**
+     * Test for {@link MissingGenerator#randomValues(Class, int)}.
+     */
+    @Test
+    void testMissingGenerator_RandomValues() {
+        assertThrows(GeneratorNotFoundException.class, () -> {
+            MissingGenerator.INSTANCE.randomValues(Object.class, 1);
+        });
+    }
+
+    /**
+     * Test for {@link MissingGenerator#stream(Class)}.
+     */
+    @Test
+    void testMissingGenerator_Stream() {
+        assertThrows(GeneratorNotFoundException.class, () -> {
+            MissingGenerator.INSTANCE.stream(Object.class);
+        });
+    }
+
     private static class MyType {
         private MyType() {}
     }
@@ -1006,4 +1407,24 @@ class GeneratorsTest {
     @Priority(Priority.MIN)
     private static class FallbackGenerator
     extends MockGenerator {}
+    private static class ExactGenerator
+    extends AbstractTypedGenerator<MyType> {
+        @Override
+        public @NotNull MyType defaultValue() {
+            return new MyType();
+        }
+        @Override
+        public @NotNull MyType randomValue() {
+            return new MyType();
+        }
+    }
+    @Priority(Priority.MAX)
+    private static class ExtendedExactGenerator
+    extends ExactGenerator {
+        @Override
+        public boolean supports(
+                final @NotNull Class<?> type) {
+            return super.supports(type) || MyMissingType.class.equals(type);
+        }
+    }
 }
@@ -31,6 +31,8 @@ import java.util.function.Supplier;
 
 import javax.validation.constraints.NotNull;
 
+import dev.orne.test.rnd.generators.AbstractNumberGenerator;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 import dev.orne.test.rnd.params.ParameterizableGenerator;
 import dev.orne.test.rnd.params.TypedParameterizableGenerator;
 
@@ -38,7 +40,7 @@ import dev.orne.test.rnd.params.TypedParameterizableGenerator;
  * Utilities for generators test.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-12
+ * @version 1.1, 2026-10
  * @since 0.1
  */
 public final class GeneratorsTestUtils {
@@ -368,4 +370,124 @@ public final class GeneratorsTestUtils {
         });
         return results;
     }
+
+    /**
+     * Assert that the default values of the specified integral number
+     * generator honor the generation parameters range.
+     * 
+     * @param generator The integral number generator.
+     */
+    public static void assertIntegralDefaultValueRange(
+            final @NotNull AbstractNumberGenerator<?> generator) {
+        assertEquals(0, generator.defaultValue(generator.createEmptyParams()).longValue());
+        assertEquals(0, generator.defaultValue(generator.createEmptyParams()
+                .withMin(-5)
+                .withMax(5)).longValue());
+        assertEquals(3, generator.defaultValue(generator.createEmptyParams()
+                .withMin(3)
+                .withMax(5)).longValue());
+        assertEquals(-3, generator.defaultValue(generator.createEmptyParams()
+                .withMin(-5)
+                .withMax(-3)).longValue());
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.defaultValue(generator.createEmptyParams()
+                    .withMin(5)
+                    .withMax(-5));
+        });
+    }
+
+    /**
+     * Assert that the random values of the specified integral number
+     * generator honor the generation parameters range.
+     * 
+     * @param generator The integral number generator.
+     * @param minValue The minimum value of the generated type.
+     * @param maxValue The maximum value of the generated type.
+     * @param count The number of values to generate for each range.
+     */
+    public static void assertIntegralRandomValueRange(
+            final @NotNull AbstractNumberGenerator<?> generator,
+            final long minValue,
+            final long maxValue,
+            final int count) {
+        final NumberGenerationParameters params = generator.createEmptyParams()
+                .withMin(-5)
+                .withMax(5);
+        for (int i = 0; i < count; i++) {
+            final long result = generator.randomValue(params).longValue();
+            assertTrue(result >= -5 && result <= 5);
+        }
+        final NumberGenerationParameters decimalParams = generator.createEmptyParams()
+                .withMin(0.5)
+                .withMax(1.5);
+        for (int i = 0; i < count; i++) {
+            assertEquals(1, generator.randomValue(decimalParams).longValue());
+        }
+        assertEquals(3, generator.randomValue(generator.createEmptyParams()
+                .withMin(3)
+                .withMax(3)).longValue());
+        assertEquals(maxValue, generator.randomValue(generator.createEmptyParams()
+                .withMin(maxValue)
+                .withMax(Double.POSITIVE_INFINITY)).longValue());
+        assertEquals(minValue, generator.randomValue(generator.createEmptyParams()
+                .withMin(Double.NEGATIVE_INFINITY)
+                .withMax(minValue)).longValue());
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.randomValue(generator.createEmptyParams()
+                    .withMin(5)
+                    .withMax(-5));
+        });
+    }
+
+    /**
+     * Assert that the default values of the specified decimal number
+     * generator honor the generation parameters range.
+     * 
+     * @param generator The decimal number generator.
+     */
+    public static void assertDecimalDefaultValueRange(
+            final @NotNull AbstractNumberGenerator<?> generator) {
+        assertEquals(0, generator.defaultValue(generator.createEmptyParams()).doubleValue());
+        assertEquals(0, generator.defaultValue(generator.createEmptyParams()
+                .withMin(-5)
+                .withMax(5)).doubleValue());
+        assertEquals(1.5, generator.defaultValue(generator.createEmptyParams()
+                .withMin(1.5)
+                .withMax(5)).doubleValue());
+        assertEquals(-1.5, generator.defaultValue(generator.createEmptyParams()
+                .withMin(-5)
+                .withMax(-1.5)).doubleValue());
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.defaultValue(generator.createEmptyParams()
+                    .withMin(5)
+                    .withMax(-5));
+        });
+    }
+
+    /**
+     * Assert that the random values of the specified decimal number
+     * generator honor the generation parameters range.
+     * 
+     * @param generator The decimal number generator.
+     * @param count The number of values to generate.
+     */
+    public static void assertDecimalRandomValueRange(
+            final @NotNull AbstractNumberGenerator<?> generator,
+            final int count) {
+        final NumberGenerationParameters params = generator.createEmptyParams()
+                .withMin(-0.5)
+                .withMax(0.5);
+        for (int i = 0; i < count; i++) {
+            final double result = generator.randomValue(params).doubleValue();
+            assertTrue(result >= -0.5 && result <= 0.5);
+        }
+        assertEquals(1.5, generator.randomValue(generator.createEmptyParams()
+                .withMin(1.5)
+                .withMax(1.5)).doubleValue());
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.randomValue(generator.createEmptyParams()
+                    .withMin(5)
+                    .withMax(-5));
+        });
+    }
 }
@@ -0,0 +1,99 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code IndexedRandomSource}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see IndexedRandomSource
+ */
+@Tag("ut")
+class IndexedRandomSourceTest {
+
+    /** The number of iterations for bounded values tests. */
+    private static final int ITERATIONS = 1000;
+
+    /**
+     * Unit test for the values of the streams of
+     * {@code IndexedRandomSource}.
+     */
+    @Test
+    void testStreamValues() {
+        final GenerationSession session = new GenerationSession(1234L);
+        final IndexedRandomSource source = new IndexedRandomSource(session);
+        final long seed = session.getStreamSeed(GenerationSession.DEFAULT_STREAM);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(SplitMix64.valueAt(seed, i), source.nextLong());
+        }
+        source.position(7);
+        final long streamSeed = session.getStreamSeed(7);
+        assertEquals(SplitMix64.valueAt(streamSeed, 0), source.nextLong());
+        assertEquals((int) (SplitMix64.valueAt(streamSeed, 1) >>> 32), source.nextInt());
+        source.position(7);
+        assertEquals(SplitMix64.valueAt(streamSeed, 0), source.nextLong());
+        final RandomSource other = session.createSource(7);
+        source.position(7);
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(other.nextLong(), source.nextLong());
+        }
+    }
+
+    /**
+     * Unit test for bounded values of {@code IndexedRandomSource}.
+     */
+    @Test
+    void testBoundedValues() {
+        final IndexedRandomSource source = new IndexedRandomSource(new GenerationSession(1234L));
+        final boolean[] ints = new boolean[10];
+        final boolean[] longs = new boolean[10];
+        for (int i = 0; i < ITERATIONS; i++) {
+            final int intValue = source.nextInt(10);
+            assertTrue(intValue >= 0 && intValue < 10);
+            ints[intValue] = true;
+            final long longValue = source.nextLong(10L);
+            assertTrue(longValue >= 0 && longValue < 10);
+            longs[(int) longValue] = true;
+            assertTrue(source.nextInt(16) < 16);
+            assertTrue(source.nextLong(1L << 40) < 1L << 40);
+            final int rangeValue = source.nextInt(-100, 100);
+            assertTrue(rangeValue >= -100 && rangeValue < 100);
+            final double doubleValue = source.nextDouble();
+            assertTrue(doubleValue >= 0 && doubleValue < 1);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertTrue(ints[i]);
+            assertTrue(longs[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> source.nextInt(0));
+        assertThrows(IllegalArgumentException.class, () -> source.nextLong(-1L));
+        assertSame(source.asRandom(), source.asRandom());
+    }
+}
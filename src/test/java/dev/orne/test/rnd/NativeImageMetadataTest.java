@@ -0,0 +1,240 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.test.rnd.params.ParametersExtractors;
+import dev.orne.test.rnd.params.ParametersSourceExtractor;
+
+/**
+ * Unit tests for the native image metadata shipped with the library.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.2, 2026-10
+ * @since 0.3
+ */
+@Tag("ut")
+class NativeImageMetadataTest {
+
+    /** The native image metadata folder. */
+    private static final String METADATA_PATH =
+            "META-INF/native-image/dev.orne.test/generators/";
+    /** The class name JSON property pattern. */
+    private static final Pattern NAME_PATTERN =
+            Pattern.compile("\"name\"\\s*:\\s*\"([^\"]+)\"");
+
+    /**
+     * Test that all the library SPI generators and extractors are
+     * registered for reflection.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testReflectConfig()
+    throws IOException {
+        final Set<String> names = readNames("reflect-config.json");
+        final List<String> providers = new ArrayList<>();
+        providers.addAll(readServices(Generator.class));
+        providers.addAll(readServices(ParametersSourceExtractor.class));
+        assertFalse(providers.isEmpty());
+        for (final String provider : providers) {
+            assertTrue(names.contains(provider), provider);
+        }
+        for (final String name : names) {
+            if (name.startsWith("dev.orne.")) {
+                assertDoesNotThrow(() -> Class.forName(name), name);
+            }
+        }
+    }
+
+    /**
+     * Test that the SPI files are included as resources.
+     * 
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testResourceConfig()
+    throws IOException {
+        final String config = read("resource-config.json");
+        assertTrue(config.contains("META-INF/services/" + Generator.class.getName()));
+        assertTrue(config.contains("META-INF/services/" + ParametersSourceExtractor.class.getName()));
+    }
+
+    /**
+     * Test that the generators and extractors registries are initialized at
+     * build time, sorted by the native image feature, that their default
+     * providers holders are initialized at run time, and that the other
+     * classes initialized at build time have no static state.
+     * 
+     * @throws IOException Should not happen
+     * @throws ClassNotFoundException Should not happen
+     */
+    @Test
+    void testNativeImageProperties()
+    throws IOException, ClassNotFoundException {
+        final Properties properties = new Properties();
+        try (final InputStream input = resource("native-image.properties").openStream()) {
+            properties.load(input);
+        }
+        final String args = properties.getProperty("Args");
+        assertNotNull(args);
+        final List<String> options = Arrays.asList(args.trim().split("\\s+"));
+        assertEquals(2, options.size(), args);
+        assertEquals("--features=" + NativeImageFeature.class.getName(), options.get(0));
+        final String prefix = "--initialize-at-build-time=";
+        assertTrue(options.get(1).startsWith(prefix));
+        final List<String> buildTimeClasses = Arrays.stream(
+                    options.get(1).substring(prefix.length()).split(","))
+                .map(String::trim)
+                .collect(Collectors.toList());
+        final List<String> registries = Arrays.asList(
+                Generators.class.getName(),
+                ProviderSnapshots.class.getName(),
+                ParametersExtractors.class.getName());
+        assertTrue(buildTimeClasses.containsAll(registries));
+        assertFalse(buildTimeClasses.contains(Generators.Defaults.class.getName()));
+        assertFalse(buildTimeClasses.contains(ParametersExtractors.class.getName() + "$Defaults"));
+        assertFalse(buildTimeClasses.contains("dev.orne.test.rnd.generators"));
+        for (final String name : buildTimeClasses) {
+            if (registries.contains(name)) {
+                continue;
+            }
+            final Class<?> type = Class.forName(name, false, getClass().getClassLoader());
+            for (final Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    assertTrue(Modifier.isFinal(field.getModifiers()), field.toString());
+                    assertTrue(field.getType().isPrimitive()
+                            || String.class.equals(field.getType()), field.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the URL of the specified native image metadata resource.
+     * 
+     * @param name The resource name
+     * @return The resource URL
+     */
+    private static URL resource(
+            final String name) {
+        final URL result = NativeImageMetadataTest.class.getClassLoader()
+                .getResource(METADATA_PATH + name);
+        assertNotNull(result, name);
+        return result;
+    }
+
+    /**
+     * Reads the specified native image metadata resource.
+     * 
+     * @param name The resource name
+     * @return The resource contents
+     * @throws IOException If an I/O error occurs
+     */
+    private static String read(
+            final String name)
+    throws IOException {
+        return String.join("\n", readLines(resource(name)));
+    }
+
+    /**
+     * Reads the class names of the specified native image metadata resource.
+     * 
+     * @param name The resource name
+     * @return The declared class names
+     * @throws IOException If an I/O error occurs
+     */
+    private static Set<String> readNames(
+            final String name)
+    throws IOException {
+        final Set<String> result = new HashSet<>();
+        final Matcher matcher = NAME_PATTERN.matcher(read(name));
+        while (matcher.find()) {
+            result.add(matcher.group(1));
+        }
+        return result;
+    }
+
+    /**
+     * Reads the SPI providers declared by the library for the specified
+     * service. The SPI file is resolved relative to the native image
+     * metadata, ignoring test SPI files.
+     * 
+     * @param service The service type
+     * @return The declared providers
+     * @throws IOException If an I/O error occurs
+     */
+    private static List<String> readServices(
+            final Class<?> service)
+    throws IOException {
+        final String metadata = resource("reflect-config.json").toString();
+        final String root = metadata.substring(0, metadata.indexOf(METADATA_PATH));
+        final URL url = new URL(root + "META-INF/services/" + service.getName());
+        final List<String> result = new ArrayList<>();
+        for (final String line : readLines(url)) {
+            final String provider = line.replaceAll("#.*", "").trim();
+            if (!provider.isEmpty()) {
+                result.add(provider);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the lines of the specified resource.
+     * 
+     * @param url The resource URL
+     * @return The resource lines
+     * @throws IOException If an I/O error occurs
+     */
+    private static List<String> readLines(
+            final URL url)
+    throws IOException {
+        try (final BufferedReader reader = new BufferedReader(
+                new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code PrimitiveIntGenerator}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see PrimitiveIntGenerator
+ */
+@Tag("ut")
+class PrimitiveIntGeneratorTest {
+
+    /**
+     * Unit test for {@link PrimitiveIntGenerator#fill(int[])}
+     */
+    @Test
+    void testFill() {
+        final AtomicInteger counter = new AtomicInteger();
+        final PrimitiveIntGenerator generator = () -> counter.incrementAndGet();
+        final int[] array = new int[5];
+        generator.fill(array);
+        assertArrayEquals(new int[] { 1, 2, 3, 4, 5 }, array);
+        generator.fill(new int[0]);
+        assertEquals(5, counter.get());
+        assertThrows(NullPointerException.class, () -> {
+            generator.fill(null);
+        });
+    }
+
+    /**
+     * Unit test for {@link PrimitiveIntGenerator#ints(long)}
+     */
+    @Test
+    void testInts() {
+        final AtomicInteger counter = new AtomicInteger();
+        final PrimitiveIntGenerator generator = () -> counter.incrementAndGet();
+        assertArrayEquals(new int[] { 1, 2, 3 }, generator.ints(3).toArray());
+        assertEquals(0, generator.ints(0).count());
+        assertEquals(3, counter.get());
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.ints(-1);
+        });
+    }
+}
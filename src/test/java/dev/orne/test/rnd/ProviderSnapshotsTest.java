@@ -0,0 +1,93 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code ProviderSnapshots}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see ProviderSnapshots
+ */
+@Tag("ut")
+class ProviderSnapshotsTest {
+
+    @AfterEach
+    void removeSnapshots() {
+        ProviderSnapshots.remove(Generator.class);
+        ProviderSnapshots.remove(Runnable.class);
+    }
+
+    /**
+     * Test for {@link ProviderSnapshots#take(Class, java.util.Comparator, ClassLoader)}
+     * and {@link ProviderSnapshots#newProviders(Class)}.
+     */
+    @Test
+    void testTakeAndNewProviders() {
+        assertNull(ProviderSnapshots.newProviders(Generator.class));
+        final List<Generator> expected = Generators.loadSpiGenerators();
+        Collections.sort(expected, Generators.COMPARATOR);
+        final List<Class<?>> types = ProviderSnapshots.take(
+                Generator.class,
+                Generators.COMPARATOR,
+                getClass().getClassLoader());
+        assertEquals(
+                expected.stream().map(Object::getClass).collect(Collectors.toList()),
+                types);
+        assertThrows(UnsupportedOperationException.class, () -> types.clear());
+        final List<Generator> result = ProviderSnapshots.newProviders(Generator.class);
+        assertNotNull(result);
+        assertEquals(types, result.stream().map(Object::getClass).collect(Collectors.toList()));
+        final List<Generator> other = ProviderSnapshots.newProviders(Generator.class);
+        for (int i = 0; i < result.size(); i++) {
+            assertNotSame(result.get(i), other.get(i));
+        }
+    }
+
+    /**
+     * Test for {@link ProviderSnapshots#take(Class, java.util.Comparator, ClassLoader)}
+     * without declared providers.
+     */
+    @Test
+    void testTake_NoProviders() {
+        assertEquals(
+                new ArrayList<>(),
+                ProviderSnapshots.take(
+                        Runnable.class,
+                        (a, b) -> 0,
+                        getClass().getClassLoader()));
+        assertEquals(new ArrayList<>(), ProviderSnapshots.newProviders(Runnable.class));
+    }
+}
@@ -0,0 +1,80 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code RandomSourceAdapter}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see RandomSourceAdapter
+ */
+@Tag("ut")
+class RandomSourceAdapterTest {
+
+    /**
+     * Unit test for {@link RandomSourceAdapter#RandomSourceAdapter(RandomSource)}
+     */
+    @Test
+    void testConstructor() {
+        final RandomSource source = mock(RandomSource.class);
+        final RandomSourceAdapter adapter = new RandomSourceAdapter(source);
+        assertSame(source, adapter.getSource());
+        assertThrows(NullPointerException.class, () -> {
+            new RandomSourceAdapter(null);
+        });
+    }
+
+    /**
+     * Unit test for delegation of {@code RandomSourceAdapter} methods.
+     */
+    @Test
+    void testDelegation() {
+        final RandomSource source = mock(RandomSource.class);
+        final byte[] bytes = new byte[4];
+        willReturn(-1).given(source).nextInt();
+        willReturn(3).given(source).nextInt(5);
+        willReturn(7L).given(source).nextLong();
+        willReturn(0.5).given(source).nextDouble();
+        willReturn(0.25f).given(source).nextFloat();
+        willReturn(true).given(source).nextBoolean();
+        final RandomSourceAdapter adapter = new RandomSourceAdapter(source);
+        adapter.setSeed(1234L);
+        assertEquals(-1, adapter.nextInt());
+        assertEquals(3, adapter.nextInt(5));
+        assertEquals(7L, adapter.nextLong());
+        assertEquals(0.5, adapter.nextDouble());
+        assertEquals(0.25f, adapter.nextFloat());
+        assertTrue(adapter.nextBoolean());
+        assertEquals(1, adapter.next(1));
+        adapter.nextBytes(bytes);
+        then(source).should().nextBytes(bytes);
+    }
+}
@@ -0,0 +1,211 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code RandomSource}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see RandomSource
+ */
+@Tag("ut")
+class RandomSourceTest {
+
+    /** The number of iterations for bounded values tests. */
+    private static final int ITERATIONS = 1000;
+
+    /**
+     * Unit test for {@link RandomSource#nextInt(int, int)}
+     */
+    @Test
+    void testNextIntRange() {
+        final RandomSource source = new TestRandomSource(1L);
+        assertEquals(5, source.nextInt(5, 5));
+        for (int i = 0; i < ITERATIONS; i++) {
+            final int value = source.nextInt(-10, 10);
+            assertTrue(value >= -10 && value < 10);
+        }
+        for (int i = 0; i < ITERATIONS; i++) {
+            final int value = source.nextInt(Integer.MIN_VALUE + 1, Integer.MAX_VALUE);
+            assertTrue(value > Integer.MIN_VALUE && value < Integer.MAX_VALUE);
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            source.nextInt(10, 5);
+        });
+    }
+
+    /**
+     * Unit test for {@link RandomSource#nextLong(long, long)}
+     */
+    @Test
+    void testNextLongRange() {
+        final RandomSource source = new TestRandomSource(1L);
+        assertEquals(5L, source.nextLong(5L, 5L));
+        for (int i = 0; i < ITERATIONS; i++) {
+            final long value = source.nextLong(-10L, 10L);
+            assertTrue(value >= -10L && value < 10L);
+        }
+        for (int i = 0; i < ITERATIONS; i++) {
+            final long value = source.nextLong(Long.MIN_VALUE + 1, Long.MAX_VALUE);
+            assertTrue(value > Long.MIN_VALUE && value < Long.MAX_VALUE);
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            source.nextLong(10L, 5L);
+        });
+    }
+
+    /**
+     * Unit test for {@link RandomSource#nextFloat()}
+     */
+    @Test
+    void testNextFloat() {
+        final RandomSource source = new TestRandomSource(1L);
+        for (int i = 0; i < ITERATIONS; i++) {
+            final float value = source.nextFloat();
+            assertTrue(value >= 0 && value < 1);
+        }
+    }
+
+    /**
+     * Unit test for {@link RandomSource#nextBoolean()}
+     */
+    @Test
+    void testNextBoolean() {
+        final RandomSource source = new TestRandomSource(1L);
+        boolean trueFound = false;
+        boolean falseFound = false;
+        for (int i = 0; i < ITERATIONS && !(trueFound && falseFound); i++) {
+            if (source.nextBoolean()) {
+                trueFound = true;
+            } else {
+                falseFound = true;
+            }
+        }
+        assertTrue(trueFound);
+        assertTrue(falseFound);
+    }
+
+    /**
+     * Unit test for {@link RandomSource#nextBytes(byte[])}
+     */
+    @Test
+    void testNextBytes() {
+        final byte[] result = new byte[13];
+        new TestRandomSource(1L).nextBytes(result);
+        final byte[] expected = new byte[13];
+        new TestRandomSource(1L).nextBytes(expected);
+        assertArrayEquals(expected, result);
+        boolean nonZero = false;
+        for (final byte value : result) {
+            nonZero |= value != 0;
+        }
+        assertTrue(nonZero);
+        assertThrows(NullPointerException.class, () -> {
+            new TestRandomSource(1L).nextBytes(null);
+        });
+    }
+
+    /**
+     * Unit test for {@link RandomSource#asRandom()}
+     */
+    @Test
+    void testAsRandom() {
+        final RandomSource source = new TestRandomSource(1L);
+        final Random result = source.asRandom();
+        assertNotNull(result);
+        assertTrue(result instanceof RandomSourceAdapter);
+        assertSame(source, ((RandomSourceAdapter) result).getSource());
+    }
+
+    /**
+     * Minimal random source for default methods testing.
+     */
+    private static class TestRandomSource
+    implements RandomSource {
+
+        /** The delegated random generator. */
+        private final Random random;
+
+        /**
+         * Creates a new instance.
+         * 
+         * @param seed The seed
+         */
+        public TestRandomSource(
+                final long seed) {
+            super();
+            this.random = new Random(seed);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int nextInt() {
+            return this.random.nextInt();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int nextInt(
+                final int bound) {
+            return this.random.nextInt(bound);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long nextLong() {
+            return this.random.nextLong();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long nextLong(
+                final long bound) {
+            return Math.floorMod(this.random.nextLong(), bound);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double nextDouble() {
+            return this.random.nextDouble();
+        }
+    }
+}
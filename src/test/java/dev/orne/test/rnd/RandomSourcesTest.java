@@ -0,0 +1,160 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code RandomSources}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see RandomSources
+ */
+@Tag("ut")
+class RandomSourcesTest {
+
+    /**
+     * Reset default random source.
+     */
+    @AfterEach
+    void resetRandomSources() {
+        RandomSources.reset();
+    }
+
+    /**
+     * Unit test for {@link RandomSources#getDefault()}
+     */
+    @Test
+    void testGetDefault() {
+        assertSame(ThreadLocalRandomSource.INSTANCE, RandomSources.getDefault());
+        assertSame(ThreadLocalRandomSource.INSTANCE, RandomSources.current());
+        assertSame(ThreadLocalRandomSource.INSTANCE, RandomSources.loadSpiSource());
+    }
+
+    /**
+     * Unit test for {@link RandomSources#setDefault(RandomSource)}
+     */
+    @Test
+    void testSetDefault() {
+        final RandomSource source = mock(RandomSource.class);
+        RandomSources.setDefault(source);
+        assertSame(source, RandomSources.getDefault());
+        assertSame(source, RandomSources.current());
+        RandomSources.reset();
+        assertSame(ThreadLocalRandomSource.INSTANCE, RandomSources.getDefault());
+        assertThrows(NullPointerException.class, () -> {
+            RandomSources.setDefault(null);
+        });
+    }
+
+    /**
+     * Unit test for {@link RandomSources#withSource(RandomSource, java.util.function.Supplier)}
+     */
+    @Test
+    void testWithSource() {
+        final RandomSource source = mock(RandomSource.class);
+        final RandomSource nested = mock(RandomSource.class);
+        final RandomSource result = RandomSources.withSource(source, () -> {
+            assertSame(source, RandomSources.current());
+            RandomSources.withSource(nested, () -> {
+                assertSame(nested, RandomSources.current());
+            });
+            return RandomSources.current();
+        });
+        assertSame(source, result);
+        assertSame(RandomSources.getDefault(), RandomSources.current());
+        assertThrows(IllegalStateException.class, () -> {
+            RandomSources.withSource(source, () -> {
+                throw new IllegalStateException();
+            });
+        });
+        assertSame(RandomSources.getDefault(), RandomSources.current());
+        assertThrows(NullPointerException.class, () -> {
+            RandomSources.withSource(null, () -> null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            RandomSources.withSource(source, (Runnable) null);
+        });
+    }
+
+    /**
+     * Unit test for {@code RandomSources} factory methods.
+     */
+    @Test
+    void testFactories() {
+        assertSame(ThreadLocalRandomSource.INSTANCE, RandomSources.threadLocal());
+        assertTrue(RandomSources.splittable() instanceof SplittableRandomSource);
+        assertTrue(RandomSources.splittable(1L) instanceof SplittableRandomSource);
+        final RandomSource seeded = RandomSources.seeded(1L);
+        assertTrue(seeded instanceof SeededRandomSource);
+        assertEquals(1L, ((SeededRandomSource) seeded).getSeed());
+    }
+
+    /**
+     * Unit test for reproducible generation with seeded random sources.
+     */
+    @Test
+    void testReproducibleGeneration() {
+        final List<Class<?>> types = Arrays.asList(
+                Integer.class,
+                Long.class,
+                String.class,
+                BigInteger.class,
+                UUID.class,
+                URI.class);
+        for (final Class<?> type : types) {
+            final Object expected = RandomSources.withSource(
+                    RandomSources.seeded(1234L),
+                    () -> Generators.randomValue(type));
+            final Object result = RandomSources.withSource(
+                    RandomSources.seeded(1234L),
+                    () -> Generators.randomValue(type));
+            assertEquals(expected, result);
+            final Object splitExpected = RandomSources.withSource(
+                    RandomSources.splittable(1234L),
+                    () -> Generators.randomValue(type));
+            final Object splitResult = RandomSources.withSource(
+                    RandomSources.splittable(1234L),
+                    () -> Generators.randomValue(type));
+            assertEquals(splitExpected, splitResult);
+        }
+        final UUID uuid = RandomSources.withSource(
+                RandomSources.seeded(1234L),
+                () -> Generators.randomValue(UUID.class));
+        assertEquals(4, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+}
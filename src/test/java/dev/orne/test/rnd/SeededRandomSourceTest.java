@@ -0,0 +1,99 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code SeededRandomSource}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see SeededRandomSource
+ */
+@Tag("ut")
+class SeededRandomSourceTest {
+
+    /** The number of iterations for bounded values tests. */
+    private static final int ITERATIONS = 1000;
+
+    /**
+     * Unit test for {@link SeededRandomSource#SeededRandomSource(long)}
+     */
+    @Test
+    void testConstructor() {
+        final SeededRandomSource source = new SeededRandomSource(1234L);
+        assertEquals(1234L, source.getSeed());
+        assertTrue(source.asRandom() instanceof RandomSourceAdapter);
+        assertSame(source.asRandom(), source.asRandom());
+    }
+
+    /**
+     * Unit test for reproducibility of {@code SeededRandomSource}.
+     */
+    @Test
+    void testReproducible() {
+        final SeededRandomSource source = new SeededRandomSource(1234L);
+        final SeededRandomSource other = new SeededRandomSource(1234L);
+        final byte[] bytes = new byte[10];
+        final byte[] otherBytes = new byte[10];
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(source.nextInt(), other.nextInt());
+            assertEquals(source.nextInt(100), other.nextInt(100));
+            assertEquals(source.nextLong(), other.nextLong());
+            assertEquals(source.nextLong(100L), other.nextLong(100L));
+            assertEquals(source.nextDouble(), other.nextDouble());
+            assertEquals(source.nextFloat(), other.nextFloat());
+            assertEquals(source.nextBoolean(), other.nextBoolean());
+            source.nextBytes(bytes);
+            other.nextBytes(otherBytes);
+            assertArrayEquals(bytes, otherBytes);
+        }
+    }
+
+    /**
+     * Unit test for {@link SeededRandomSource#nextLong(long)}
+     */
+    @Test
+    void testNextLongBound() {
+        final SeededRandomSource source = new SeededRandomSource(1234L);
+        for (int i = 0; i < ITERATIONS; i++) {
+            final long value = source.nextLong(10L);
+            assertTrue(value >= 0L && value < 10L);
+            final long pow2Value = source.nextLong(16L);
+            assertTrue(pow2Value >= 0L && pow2Value < 16L);
+            final long bigValue = source.nextLong(Long.MAX_VALUE);
+            assertTrue(bigValue >= 0L);
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            source.nextLong(0L);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            source.nextLong(-1L);
+        });
+    }
+}
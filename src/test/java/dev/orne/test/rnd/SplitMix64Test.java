@@ -0,0 +1,64 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code SplitMix64}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see SplitMix64
+ */
+@Tag("ut")
+class SplitMix64Test {
+
+    /**
+     * Unit test for {@link SplitMix64#valueAt(long, long)}
+     */
+    @Test
+    void testValueAt() {
+        final long seed = 1234L;
+        final SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(random.nextLong(), SplitMix64.valueAt(seed, i));
+        }
+    }
+
+    /**
+     * Unit test for {@link SplitMix64#mix64(long)}
+     */
+    @Test
+    void testMix64() {
+        assertEquals(0L, SplitMix64.mix64(0L));
+        assertNotEquals(SplitMix64.mix64(1L), SplitMix64.mix64(2L));
+        assertEquals(SplitMix64.mix64(1234L), SplitMix64.mix64(1234L));
+    }
+}
@@ -0,0 +1,97 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code SplittableRandomSource}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see SplittableRandomSource
+ */
+@Tag("ut")
+class SplittableRandomSourceTest {
+
+    /** The number of iterations for bounded values tests. */
+    private static final int ITERATIONS = 1000;
+
+    /**
+     * Unit test for reproducibility of seeded {@code SplittableRandomSource}.
+     */
+    @Test
+    void testReproducible() {
+        final SplittableRandomSource source = new SplittableRandomSource(1234L);
+        final SplittableRandomSource other = new SplittableRandomSource(1234L);
+        final byte[] bytes = new byte[10];
+        final byte[] otherBytes = new byte[10];
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(source.nextInt(), other.nextInt());
+            assertEquals(source.nextInt(100), other.nextInt(100));
+            assertEquals(source.nextInt(-100, 100), other.nextInt(-100, 100));
+            assertEquals(source.nextLong(), other.nextLong());
+            assertEquals(source.nextLong(100L), other.nextLong(100L));
+            assertEquals(source.nextLong(-100L, 100L), other.nextLong(-100L, 100L));
+            assertEquals(source.nextDouble(), other.nextDouble());
+            assertEquals(source.nextBoolean(), other.nextBoolean());
+            source.nextBytes(bytes);
+            other.nextBytes(otherBytes);
+            assertArrayEquals(bytes, otherBytes);
+        }
+        assertEquals(7, source.nextInt(7, 7));
+        assertEquals(7L, source.nextLong(7L, 7L));
+        assertSame(source.asRandom(), source.asRandom());
+    }
+
+    /**
+     * Unit test for per thread streams of {@code SplittableRandomSource}.
+     * 
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testThreadStreams()
+    throws Exception {
+        final SplittableRandomSource source = new SplittableRandomSource(1234L);
+        final SplittableRandomSource other = new SplittableRandomSource(1234L);
+        final long mainValue = source.nextLong();
+        assertEquals(mainValue, other.nextLong());
+        assertSame(source.current(), source.current());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Long> threadValue = executor.submit(() -> source.nextLong());
+            final long otherValue = source.nextLong();
+            assertNotEquals(otherValue, threadValue.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package dev.orne.test.rnd;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code ThreadLocalRandomSource}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see ThreadLocalRandomSource
+ */
+@Tag("ut")
+class ThreadLocalRandomSourceTest {
+
+    /** The number of iterations for bounded values tests. */
+    private static final int ITERATIONS = 1000;
+
+    /**
+     * Unit test for bounded methods of {@code ThreadLocalRandomSource}.
+     */
+    @Test
+    void testBoundedValues() {
+        final RandomSource source = ThreadLocalRandomSource.INSTANCE;
+        assertEquals(5, source.nextInt(5, 5));
+        assertEquals(5L, source.nextLong(5L, 5L));
+        for (int i = 0; i < ITERATIONS; i++) {
+            final int intValue = source.nextInt(10);
+            assertTrue(intValue >= 0 && intValue < 10);
+            final int intRangeValue = source.nextInt(-10, 10);
+            assertTrue(intRangeValue >= -10 && intRangeValue < 10);
+            final long longValue = source.nextLong(10L);
+            assertTrue(longValue >= 0L && longValue < 10L);
+            final long longRangeValue = source.nextLong(-10L, 10L);
+            assertTrue(longRangeValue >= -10L && longRangeValue < 10L);
+            final double doubleValue = source.nextDouble();
+            assertTrue(doubleValue >= 0 && doubleValue < 1);
+            final float floatValue = source.nextFloat();
+            assertTrue(floatValue >= 0 && floatValue < 1);
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            source.nextInt(0);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            source.nextInt(10, 5);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            source.nextLong(0L);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            source.nextLong(10L, 5L);
+        });
+    }
+
+    /**
+     * Unit test for {@link ThreadLocalRandomSource#asRandom()}
+     */
+    @Test
+    void testAsRandom() {
+        assertSame(ThreadLocalRandom.current(), ThreadLocalRandomSource.INSTANCE.asRandom());
+    }
+}
@@ -0,0 +1,281 @@
+package dev.orne.test.rnd.export;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import dev.orne.test.rnd.GenerationException;
+import dev.orne.test.rnd.params.ConstructorGenerator;
+import dev.orne.test.rnd.params.TargetedGenerator;
+
+/**
+ * Unit tests for {@code DatasetExporter}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see DatasetExporter
+ */
+@Tag("ut")
+class DatasetExporterTest {
+
+    /**
+     * Unit test for {@link DatasetExporter#of(String[], TargetedGenerator[])}
+     */
+    @Test
+    void testOf() {
+        final TargetedGenerator<?> generator = mock(TargetedGenerator.class);
+        final DatasetExporter exporter = DatasetExporter.of(
+                new String[] { "a" },
+                new TargetedGenerator<?>[] { generator });
+        assertArrayEquals(new String[] { "a" }, exporter.getNames());
+        assertEquals(ExportFormat.CSV, exporter.getFormat());
+        assertTrue(exporter.isHeader());
+        assertEquals(DatasetExporter.DEFAULT_CHUNK_SIZE, exporter.getChunkSize());
+        assertEquals(1, exporter.getParallelism());
+        assertThrows(NullPointerException.class, () -> DatasetExporter.of(
+                null,
+                new TargetedGenerator<?>[] { generator }));
+        assertThrows(NullPointerException.class, () -> DatasetExporter.of(
+                new String[] { "a" },
+                null));
+        assertThrows(IllegalArgumentException.class, () -> DatasetExporter.of(
+                new String[] { "a", "b" },
+                new TargetedGenerator<?>[] { generator }));
+        assertThrows(IllegalArgumentException.class, () -> DatasetExporter.of(
+                new String[] { null },
+                new TargetedGenerator<?>[] { generator }));
+    }
+
+    /**
+     * Unit test for {@link DatasetExporter#forType(Class)}
+     */
+    @Test
+    void testForType() {
+        final DatasetExporter exporter = DatasetExporter.forType(ChildBean.class);
+        assertArrayEquals(new String[] { "id", "name", "count", "flag" }, exporter.getNames());
+    }
+
+    /**
+     * Unit test for {@link DatasetExporter#forExecutable(dev.orne.test.rnd.params.ExecutableGenerator)}
+     * @throws Exception Should not happen
+     */
+    @Test
+    void testForExecutable()
+    throws Exception {
+        final ConstructorGenerator<ChildBean> generator = ConstructorGenerator.of(
+                ChildBean.class.getConstructor(Long.class, String.class));
+        final DatasetExporter exporter = DatasetExporter.forExecutable(generator);
+        assertEquals(2, exporter.getNames().length);
+        final String output = export(exporter.withHeader(false), 10, 1234L);
+        assertEquals(10, output.split("\n", -1).length - 1);
+    }
+
+    /**
+     * Unit test for {@link DatasetExporter} configuration validation.
+     */
+    @Test
+    void testConfigurationValidation() {
+        final DatasetExporter exporter = DatasetExporter.forType(ChildBean.class);
+        assertThrows(NullPointerException.class, () -> exporter.withFormat(null));
+        assertThrows(IllegalArgumentException.class, () -> exporter.withChunkSize(0));
+        assertThrows(IllegalArgumentException.class, () -> exporter.withParallelism(0));
+        assertThrows(NullPointerException.class, () -> exporter.export(null, 1));
+        final WritableByteChannel channel = Channels.newChannel(new ByteArrayOutputStream());
+        assertThrows(IllegalArgumentException.class, () -> exporter.export(channel, -1));
+    }
+
+    /**
+     * Unit test for {@link DatasetExporter#export(WritableByteChannel, long, long)}
+     * in CSV format.
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testExportCsv()
+    throws IOException {
+        final DatasetExporter exporter = DatasetExporter.forType(ChildBean.class);
+        final String output = export(exporter, 200, 1234L);
+        final String[] lines = output.split("\n", -1);
+        assertEquals(202, lines.length);
+        assertEquals("id,name,count,flag", lines[0]);
+        assertEquals("", lines[201]);
+        for (int i = 1; i <= 200; i++) {
+            final String[] fields = lines[i].split(",", -1);
+            assertEquals(4, fields.length, lines[i]);
+            assertFalse(fields[1].isEmpty());
+            assertTrue(fields[1].matches("[a-z]{3,8}"), fields[1]);
+            Integer.parseInt(fields[2]);
+        }
+        assertEquals(1, export(exporter, 0, 1234L).split("\n", -1).length - 1);
+        assertEquals(0, export(exporter.withHeader(false), 0, 1234L).length());
+    }
+
+    /**
+     * Unit test for {@link DatasetExporter#export(WritableByteChannel, long, long)}
+     * in JSON Lines format.
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testExportJsonLines()
+    throws IOException {
+        final DatasetExporter exporter = DatasetExporter.forType(ChildBean.class)
+                .withFormat(ExportFormat.JSON_LINES);
+        final String output = export(exporter, 100, 1234L);
+        final String[] lines = output.split("\n", -1);
+        assertEquals(101, lines.length);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(lines[i].matches(
+                    "\\{\"id\":(null|-?\\d+),\"name\":\"[a-z]{3,8}\",\"count\":-?\\d+,\"flag\":(null|true|false)\\}"),
+                    lines[i]);
+        }
+    }
+
+    /**
+     * Unit test for {@link DatasetExporter#export(WritableByteChannel, long, long)}
+     * returned size.
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testExportWrittenBytes()
+    throws IOException {
+        final DatasetExporter exporter = DatasetExporter.forType(ChildBean.class)
+                .withChunkSize(7)
+                .withParallelism(3);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final long written = exporter.export(Channels.newChannel(out), 100, 1234L);
+        assertEquals(out.size(), written);
+        assertTrue(exporter.export(Channels.newChannel(out), 10) > 0);
+    }
+
+    /**
+     * Unit test for {@link DatasetExporter#export(WritableByteChannel, long, long)}
+     * reproducibility.
+     * @throws IOException Should not happen
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "1,1",
+        "7,1",
+        "1,4",
+        "13,3",
+        "500,2",
+    })
+    void testExportReproducible(
+            final int chunkSize,
+            final int parallelism)
+    throws IOException {
+        for (final ExportFormat format : ExportFormat.values()) {
+            final DatasetExporter exporter = DatasetExporter.forType(ChildBean.class)
+                    .withFormat(format);
+            final String expected = export(exporter, 300, 1234L);
+            exporter.withChunkSize(chunkSize).withParallelism(parallelism);
+            assertEquals(expected, export(exporter, 300, 1234L));
+            assertNotEquals(expected, export(exporter, 300, 1235L));
+            final String prefix = export(exporter, 100, 1234L);
+            assertTrue(expected.startsWith(prefix));
+        }
+    }
+
+    /**
+     * Unit test for {@link DatasetExporter#export(WritableByteChannel, long, long)}
+     * when value generation fails.
+     */
+    @Test
+    void testExportGenerationError() {
+        final TargetedGenerator<?> generator = mock(TargetedGenerator.class);
+        final GenerationException failure = new GenerationException("Mock failure");
+        willThrow(failure).given(generator).nullableRandomValue(any());
+        final DatasetExporter exporter = DatasetExporter.of(
+                new String[] { "a" },
+                new TargetedGenerator<?>[] { generator });
+        final WritableByteChannel channel = Channels.newChannel(new ByteArrayOutputStream());
+        assertSame(failure, assertThrows(GenerationException.class,
+                () -> exporter.export(channel, 10, 1234L)));
+        exporter.withParallelism(2);
+        assertSame(failure, assertThrows(GenerationException.class,
+                () -> exporter.export(channel, 10, 1234L)));
+    }
+
+    private static String export(
+            final DatasetExporter exporter,
+            final long count,
+            final long seed)
+    throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.export(Channels.newChannel(out), count, seed);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parent bean for exporter tests.
+     */
+    public static class ParentBean {
+        public static final int IGNORED = 1;
+        private Long id;
+        public ParentBean() {
+            super();
+        }
+        public ParentBean(
+                final Long id) {
+            super();
+            this.id = id;
+        }
+    }
+
+    /**
+     * Child bean for exporter tests.
+     */
+    public static class ChildBean
+    extends ParentBean {
+        @NotNull
+        @Pattern(regexp = "[a-z]{3,8}")
+        private String name;
+        private int count;
+        private Boolean flag;
+        public ChildBean() {
+            super();
+        }
+        public ChildBean(
+                final Long id,
+                final String name) {
+            super(id);
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package dev.orne.test.rnd.export;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code ExportFormat}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @since 0.3
+ * @see ExportFormat
+ */
+@Tag("ut")
+class ExportFormatTest {
+
+    private static final String[] NAMES = { "a", "b", "c" };
+
+    /**
+     * Unit test for {@link ExportFormat#CSV} header.
+     */
+    @Test
+    void testCsvHeader() {
+        assertTrue(ExportFormat.CSV.supportsHeader());
+        final RecordBuffer buffer = new RecordBuffer(0);
+        ExportFormat.CSV.encodeHeader(new String[] { "id", "full,name" }, buffer);
+        assertEquals("id,\"full,name\"\n", toString(buffer));
+    }
+
+    /**
+     * Unit test for {@link ExportFormat#CSV} records.
+     */
+    @Test
+    void testCsvRecord() {
+        assertCsv("1,-2,\n", 1, -2L, null);
+        assertCsv("plain,\"with,comma\",\"say \"\"hi\"\"\"\n", "plain", "with,comma", "say \"hi\"");
+        assertCsv("\"line\nbreak\",\"cr\rx\",ñ\n", "line\nbreak", "cr\rx", "ñ");
+        assertCsv("true,1.5,\"[1, 2]\"\n", true, 1.5, new int[] { 1, 2 });
+        assertCsv("\"[[a], [b]]\",12.30,x\n", new String[][] { { "a" }, { "b" } }, new BigDecimal("12.30"), 'x');
+        assertCsv("\"[7]\",\"[say \"\"hi\"\", null]\",\"[]\"\n",
+                new long[] { 7 }, new Object[] { new StringBuilder("say \"hi\""), null }, new boolean[0]);
+    }
+
+    /**
+     * Unit test for {@link ExportFormat#JSON_LINES} header.
+     */
+    @Test
+    void testJsonHeader() {
+        assertFalse(ExportFormat.JSON_LINES.supportsHeader());
+        final RecordBuffer buffer = new RecordBuffer(0);
+        ExportFormat.JSON_LINES.encodeHeader(NAMES, buffer);
+        assertEquals(0, buffer.size());
+    }
+
+    /**
+     * Unit test for {@link ExportFormat#JSON_LINES} records.
+     */
+    @Test
+    void testJsonRecord() {
+        assertJson("{\"a\":1,\"b\":-2,\"c\":null}\n", 1, (short) -2, null);
+        assertJson("{\"a\":true,\"b\":1.5,\"c\":12.30}\n", true, 1.5f, new BigDecimal("12.30"));
+        assertJson("{\"a\":\"NaN\",\"b\":\"Infinity\",\"c\":\"x\"}\n", Double.NaN, Double.POSITIVE_INFINITY, 'x');
+        assertJson("{\"a\":\"q\\\"b\\\\\",\"b\":\"\\u000a\\u001f\",\"c\":\"ñ\"}\n", "q\"b\\", "\n\u001f", "ñ");
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("k", Arrays.asList(1, null));
+        map.put(2, Collections.emptyList());
+        assertJson("{\"a\":[1,2],\"b\":{\"k\":[1,null],\"2\":[]},\"c\":[]}\n",
+                new long[] { 1, 2 }, map, new Object[0]);
+    }
+
+    private static void assertCsv(
+            final String expected,
+            final Object... values) {
+        final RecordBuffer buffer = new RecordBuffer(0);
+        ExportFormat.CSV.encodeRecord(NAMES, values, buffer);
+        assertEquals(expected, toString(buffer));
+    }
+
+    private static void assertJson(
+            final String expected,
+            final Object... values) {
+        final RecordBuffer buffer = new RecordBuffer(0);
+        ExportFormat.JSON_LINES.encodeRecord(NAMES, values, buffer);
+        assertEquals(expected, toString(buffer));
+    }
+
+    private static String toString(
+            final RecordBuffer buffer) {
+        return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,200 @@
+package dev.orne.test.rnd.export;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import dev.orne.test.rnd.UnsupportedValueTypeException;
+
+/**
+ * Unit tests for {@code FixtureCodec}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @since 0.3
+ * @see FixtureCodec
+ */
+@Tag("ut")
+class FixtureCodecTest {
+
+    /**
+     * Unit test for {@link FixtureCodec#encode(Object, RecordBuffer)} and
+     * {@link FixtureCodec#decode(ByteBuffer)}
+     */
+    @ParameterizedTest
+    @MethodSource("testRoundTripArguments")
+    void testRoundTrip(
+            final Object value) {
+        final RecordBuffer buffer = new RecordBuffer(0);
+        FixtureCodec.encode(value, buffer);
+        FixtureCodec.encode("end", buffer);
+        final ByteBuffer encoded = ByteBuffer.wrap(buffer.toByteArray());
+        final Object result = FixtureCodec.decode(encoded);
+        if (value == null) {
+            assertNull(result);
+        } else {
+            if (!(value instanceof Collection) && !(value instanceof Map)) {
+                assertEquals(value.getClass(), result.getClass());
+            }
+            assertTrue(Objects.deepEquals(value, result), () -> String.valueOf(result));
+        }
+        assertEquals("end", FixtureCodec.decode(encoded));
+        assertFalse(encoded.hasRemaining());
+    }
+
+    private static Stream<Arguments> testRoundTripArguments() {
+        final Map<Object, Object> map = new HashMap<>();
+        map.put("a", Arrays.asList(1, 2L));
+        map.put(3, null);
+        return Stream.of(
+                null,
+                true,
+                false,
+                (byte) -7,
+                (short) -1234,
+                Integer.MIN_VALUE,
+                Long.MAX_VALUE,
+                -1.5f,
+                Double.NaN,
+                'ñ',
+                "",
+                "text ñ € 😀",
+                UUID.randomUUID(),
+                new BigInteger("-123456789012345678901234567890"),
+                new BigDecimal("-1234567890.0987654321"),
+                Instant.ofEpochSecond(-1234567, 987654321),
+                LocalDate.of(2026, 10, 18),
+                LocalTime.of(23, 59, 58, 123456789),
+                LocalDateTime.of(1970, 1, 1, 0, 0, 0, 1),
+                OffsetTime.of(12, 30, 0, 0, ZoneOffset.ofHours(-5)),
+                OffsetDateTime.of(2000, 2, 29, 1, 2, 3, 4, ZoneOffset.ofHoursMinutes(5, 30)),
+                ZonedDateTime.of(2026, 10, 25, 2, 30, 0, 0, ZoneId.of("Europe/Madrid")),
+                ZonedDateTime.of(2026, 10, 25, 2, 30, 0, 0, ZoneId.of("Europe/Madrid"))
+                        .withLaterOffsetAtOverlap(),
+                ZonedDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC),
+                Duration.ofSeconds(-12345, 6789),
+                Period.of(1, -2, 3),
+                Year.of(-44),
+                YearMonth.of(2026, 10),
+                MonthDay.of(2, 29),
+                ZoneOffset.ofHoursMinutesSeconds(-3, -30, -15),
+                ZoneId.of("America/New_York"),
+                Arrays.asList("a", null, 3),
+                Collections.emptyList(),
+                new LinkedHashSet<>(Arrays.asList(UUID.randomUUID(), "b")),
+                map,
+                new byte[] { 1, -2, 3 },
+                new int[] { 1, -2, Integer.MAX_VALUE },
+                new long[] { Long.MIN_VALUE, 0 },
+                new double[] { 0.5, Double.NEGATIVE_INFINITY }
+            ).map(Arguments::of);
+    }
+
+    /**
+     * Unit test for {@link FixtureCodec#encode(Object, RecordBuffer)} of
+     * {@code Short} and {@code Character} values, stored in two bytes.
+     */
+    @Test
+    void testEncodedSize_Short() {
+        final RecordBuffer buffer = new RecordBuffer(0);
+        FixtureCodec.encode((short) -1234, buffer);
+        assertEquals(3, buffer.size());
+        FixtureCodec.encode('\uFFFF', buffer);
+        assertEquals(6, buffer.size());
+        final ByteBuffer encoded = ByteBuffer.wrap(buffer.toByteArray());
+        assertEquals((short) -1234, FixtureCodec.decode(encoded));
+        assertEquals('\uFFFF', FixtureCodec.decode(encoded));
+    }
+
+    /**
+     * Unit test for {@link FixtureCodec#decode(ByteBuffer)} of nested
+     * collections.
+     */
+    @Test
+    void testNestedCollections() {
+        final List<Object> value = Arrays.asList(
+                Collections.singletonMap("k", Arrays.asList(new LinkedHashSet<>(Arrays.asList(1, 2)))),
+                Collections.singletonList(LocalDate.of(2026, 1, 1)));
+        final RecordBuffer buffer = new RecordBuffer(0);
+        FixtureCodec.encode(value, buffer);
+        assertEquals(value, FixtureCodec.decode(ByteBuffer.wrap(buffer.toByteArray())));
+    }
+
+    /**
+     * Unit test for {@link FixtureCodec#encode(Object, RecordBuffer)} of
+     * unsupported values.
+     */
+    @Test
+    void testUnsupported() {
+        final RecordBuffer buffer = new RecordBuffer(0);
+        assertThrows(UnsupportedValueTypeException.class, () -> FixtureCodec.encode(new Object(), buffer));
+        assertThrows(UnsupportedValueTypeException.class, () -> FixtureCodec.encode(new String[0], buffer));
+        assertThrows(UnsupportedValueTypeException.class, () -> FixtureCodec.encode(
+                Collections.singletonList(new StringBuilder()), buffer));
+        assertThrows(UnsupportedValueTypeException.class, () -> FixtureCodec.encode(
+                new java.util.concurrent.atomic.AtomicInteger(), buffer));
+    }
+
+    /**
+     * Unit test for {@link FixtureCodec#decode(ByteBuffer)} of invalid tags.
+     */
+    @Test
+    void testInvalidTag() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 127 });
+        assertThrows(IllegalStateException.class, () -> FixtureCodec.decode(buffer));
+    }
+}
@@ -0,0 +1,269 @@
+package dev.orne.test.rnd.export;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.orne.test.rnd.Generators;
+import dev.orne.test.rnd.UnsupportedValueTypeException;
+
+/**
+ * Unit tests for {@code FixtureFile}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.2, 2026-10
+ * @since 0.3
+ * @see FixtureFile
+ */
+@Tag("ut")
+class FixtureFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Unit test for {@link FixtureFile#write(Path, long, java.util.Iterator)}
+     * and {@link FixtureFile#open(Path)}
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testWriteAndOpen()
+    throws IOException {
+        final Path path = tempDir.resolve("values.fix");
+        final List<Object> values = Arrays.asList(
+                "first",
+                null,
+                42,
+                UUID.randomUUID(),
+                LocalDate.of(2026, 10, 18),
+                Arrays.asList("a", "b"),
+                new int[] { 1, 2, 3 });
+        final long written = FixtureFile.write(path, values.size(), values.iterator());
+        assertEquals(Files.size(path), written);
+        final FixtureFile fixture = FixtureFile.open(path);
+        assertEquals(path, fixture.getPath());
+        assertEquals(values.size(), fixture.getSize());
+        for (int i = values.size() - 1; i >= 0; i--) {
+            if (values.get(i) instanceof int[]) {
+                assertArrayEquals((int[]) values.get(i), (int[]) fixture.get(i));
+            } else {
+                assertEquals(values.get(i), fixture.get(i));
+            }
+        }
+        assertEquals("first", fixture.get(0, String.class));
+        assertEquals(42, fixture.get(2, int.class));
+        assertEquals(42, fixture.get(2, Integer.class));
+        assertThrows(ClassCastException.class, () -> fixture.get(0, Integer.class));
+        assertNotSame(fixture.get(5), fixture.get(5));
+        assertThrows(IllegalArgumentException.class, () -> fixture.get(-1));
+        assertThrows(IllegalArgumentException.class, () -> fixture.get(values.size()));
+        assertTrue(fixture.toString().contains("size=7"));
+    }
+
+    /**
+     * Unit test for {@link FixtureFile#write(Path, long, java.util.Iterator)}
+     * with many values, crossing index and data flush boundaries.
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testWriteLarge()
+    throws IOException {
+        final Path path = tempDir.resolve("large.fix");
+        final int count = 20_000;
+        final List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(i % 100 == 0 ? String.join("", Collections.nCopies(i % 700, "ñ")) : "value " + i);
+        }
+        FixtureFile.write(path, count, values.iterator());
+        final FixtureFile fixture = FixtureFile.open(path);
+        assertEquals(count, fixture.getSize());
+        for (int i = 0; i < count; i += 37) {
+            assertEquals(values.get(i), fixture.get(i));
+        }
+        assertEquals(values.get(count - 1), fixture.get(count - 1));
+    }
+
+    /**
+     * Unit test for {@link FixtureFile#write(Path, long, long, java.util.function.Supplier)}
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testWriteSeeded()
+    throws IOException {
+        final Path path = tempDir.resolve("seeded.fix");
+        FixtureFile.write(path, 500, 1234L, () -> Generators.randomValue(UUID.class));
+        final List<UUID> expected = Generators.parallelStream(UUID.class, 500, 1234L)
+                .collect(Collectors.toList());
+        final FixtureFile fixture = FixtureFile.open(path);
+        assertEquals(500, fixture.getSize());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(expected.get(i), fixture.get(i));
+        }
+        final Path other = tempDir.resolve("other.fix");
+        FixtureFile.write(other, 500, 1234L, () -> Generators.randomValue(UUID.class));
+        assertArrayEquals(Files.readAllBytes(path), Files.readAllBytes(other));
+    }
+
+    /**
+     * Unit test for {@link FixtureFile#write(Path, long, java.util.Iterator)}
+     * with no values.
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testWriteEmpty()
+    throws IOException {
+        final Path path = tempDir.resolve("empty.fix");
+        FixtureFile.write(path, 0, Collections.emptyIterator());
+        final FixtureFile fixture = FixtureFile.open(path);
+        assertEquals(0, fixture.getSize());
+        assertThrows(IllegalArgumentException.class, () -> fixture.get(0));
+    }
+
+    /**
+     * Unit test for {@link FixtureFile#write(Path, long, java.util.Iterator)}
+     * with invalid arguments.
+     */
+    @Test
+    void testWriteInvalid() {
+        final Path path = tempDir.resolve("invalid.fix");
+        assertThrows(NullPointerException.class, () -> FixtureFile.write(null, 0, Collections.emptyIterator()));
+        assertThrows(NullPointerException.class, () -> FixtureFile.write(path, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> FixtureFile.write(path, -1, Collections.emptyIterator()));
+        assertThrows(IllegalArgumentException.class, () -> FixtureFile.write(path, 3,
+                Arrays.asList("a", "b").iterator()));
+        assertThrows(IOException.class, () -> FixtureFile.open(path));
+        assertThrows(UnsupportedValueTypeException.class, () -> FixtureFile.write(path, 1,
+                Collections.singletonList(new Object()).iterator()));
+        assertFalse(Files.exists(path));
+        assertThrows(IOException.class, () -> FixtureFile.open(path));
+    }
+
+    /**
+     * Unit test for {@link FixtureFile#open(Path)} with invalid files.
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testOpenInvalid()
+    throws IOException {
+        final Path missing = tempDir.resolve("missing.fix");
+        assertThrows(IOException.class, () -> FixtureFile.open(missing));
+        final Path small = tempDir.resolve("small.fix");
+        Files.write(small, new byte[8]);
+        assertThrows(IOException.class, () -> FixtureFile.open(small));
+        final Path garbage = tempDir.resolve("garbage.fix");
+        Files.write(garbage, new byte[64]);
+        assertThrows(IOException.class, () -> FixtureFile.open(garbage));
+        final Path truncated = tempDir.resolve("truncated.fix");
+        FixtureFile.write(truncated, 3, Arrays.asList("a", "b", "c").iterator());
+        final byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> FixtureFile.open(truncated));
+        bytes[8] = 2;
+        Files.write(truncated, bytes);
+        assertThrows(IOException.class, () -> FixtureFile.open(truncated));
+    }
+
+    /**
+     * Unit test for {@link FixtureFile#open(Path)} and
+     * {@link FixtureFile#get(long)} with corrupted offset indexes.
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testOpenCorruptedIndex()
+    throws IOException {
+        final Path path = tempDir.resolve("values.fix");
+        FixtureFile.write(path, 3, Arrays.asList("a", "b", "c").iterator());
+        final byte[] bytes = Files.readAllBytes(path);
+        final Path corrupted = tempDir.resolve("corrupted.fix");
+        // Offsets of the first and second values swapped
+        final byte[] swapped = bytes.clone();
+        System.arraycopy(bytes, 24, swapped, 32, 8);
+        System.arraycopy(bytes, 32, swapped, 24, 8);
+        Files.write(corrupted, swapped);
+        assertThrows(IOException.class, () -> FixtureFile.open(corrupted));
+        // Last offset out of the file bounds
+        final byte[] lastOutOfBounds = bytes.clone();
+        lastOutOfBounds[48] = 0x7F;
+        Files.write(corrupted, lastOutOfBounds);
+        assertThrows(IOException.class, () -> FixtureFile.open(corrupted));
+        // Second offset out of the file bounds
+        final byte[] outOfBounds = bytes.clone();
+        outOfBounds[32] = 0x7F;
+        Files.write(corrupted, outOfBounds);
+        final FixtureFile outOfBoundsFixture = FixtureFile.open(corrupted);
+        assertThrows(IllegalStateException.class, () -> outOfBoundsFixture.get(0));
+        assertThrows(IllegalStateException.class, () -> outOfBoundsFixture.get(1));
+        assertEquals("c", outOfBoundsFixture.get(2));
+        // Second offset equal to the first one
+        final Path emptyPath = tempDir.resolve("empty.fix");
+        final byte[] empty = bytes.clone();
+        System.arraycopy(bytes, 24, empty, 32, 8);
+        Files.write(emptyPath, empty);
+        final FixtureFile emptyFixture = FixtureFile.open(emptyPath);
+        assertThrows(IllegalStateException.class, () -> emptyFixture.get(0));
+        assertThrows(IllegalStateException.class, () -> emptyFixture.get(1));
+        assertEquals("c", emptyFixture.get(2));
+        final Path validPath = tempDir.resolve("valid.fix");
+        Files.write(validPath, bytes);
+        assertEquals(3, FixtureFile.open(validPath).getSize());
+    }
+
+    /**
+     * Unit test for {@link FixtureFile#write(Path, long, java.util.Iterator)}
+     * replacing a fixture file in use.
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testWriteReplace()
+    throws IOException {
+        final Path path = tempDir.resolve("values.fix");
+        FixtureFile.write(path, 3, Arrays.asList("a", "b", "c").iterator());
+        final FixtureFile previous = FixtureFile.open(path);
+        FixtureFile.write(path, 1, Collections.singletonList("d").iterator());
+        assertEquals(3, previous.getSize());
+        assertEquals("a", previous.get(0));
+        assertEquals("c", previous.get(2));
+        final FixtureFile current = FixtureFile.open(path);
+        assertEquals(1, current.getSize());
+        assertEquals("d", current.get(0));
+        try (final Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(Collections.singletonList(path), files.collect(Collectors.toList()));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package dev.orne.test.rnd.export;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.orne.test.rnd.GenerationSession;
+import dev.orne.test.rnd.Generators;
+
+/**
+ * Unit tests for {@code FixtureGenerator}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @since 0.3
+ * @see FixtureGenerator
+ */
+@Tag("ut")
+class FixtureGeneratorTest {
+
+    private static final List<String> VALUES = Arrays.asList("a", "b", "c", "d");
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Unit test for {@link FixtureGenerator#FixtureGenerator(Class, FixtureFile)}
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testConstructor()
+    throws IOException {
+        final FixtureFile fixture = createFixture();
+        final FixtureGenerator<String> generator = fixture.generator(String.class);
+        assertSame(fixture, generator.getFixture());
+        assertEquals(String.class, generator.getValueType());
+        assertEquals(new FixtureGenerator<>(String.class, fixture), generator);
+        assertEquals(new FixtureGenerator<>(String.class, fixture).hashCode(), generator.hashCode());
+        assertNotEquals(new FixtureGenerator<>(CharSequence.class, fixture), generator);
+        assertThrows(NullPointerException.class, () -> new FixtureGenerator<>(String.class, null));
+        final Path empty = tempDir.resolve("empty.fix");
+        FixtureFile.write(empty, 0, Collections.emptyIterator());
+        final FixtureFile emptyFixture = FixtureFile.open(empty);
+        assertThrows(IllegalArgumentException.class, () -> emptyFixture.generator(String.class));
+        assertThrows(IllegalArgumentException.class, () -> fixture.generator(Integer.class));
+        final Path nulls = tempDir.resolve("nulls.fix");
+        FixtureFile.write(nulls, 3, Arrays.asList(null, null, null).iterator());
+        final FixtureFile nullsFixture = FixtureFile.open(nulls);
+        assertThrows(IllegalArgumentException.class, () -> nullsFixture.generator(String.class));
+    }
+
+    /**
+     * Unit test for {@link FixtureGenerator#FixtureGenerator(Class, FixtureFile)}
+     * with primitive types.
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testConstructor_Primitive()
+    throws IOException {
+        final Path path = tempDir.resolve("ints.fix");
+        FixtureFile.write(path, 2, Arrays.asList(1, 2).iterator());
+        final FixtureFile fixture = FixtureFile.open(path);
+        assertEquals(1, fixture.generator(int.class).defaultValue());
+        assertThrows(IllegalArgumentException.class, () -> fixture.generator(long.class));
+    }
+
+    /**
+     * Unit test for {@link FixtureGenerator#defaultValue()} and
+     * {@link FixtureGenerator#randomValue()} with {@code null} values
+     * in the fixture.
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testValues_Nulls()
+    throws IOException {
+        final Path path = tempDir.resolve("sparse.fix");
+        FixtureFile.write(path, 4, Arrays.asList(null, "b", null, "d").iterator());
+        final FixtureGenerator<String> generator = FixtureFile.open(path).generator(String.class);
+        assertEquals("b", generator.defaultValue());
+        final Set<String> values = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            values.add(generator.randomValue());
+        }
+        assertEquals(new HashSet<>(Arrays.asList("b", "d")), values);
+    }
+
+    /**
+     * Unit test for {@link FixtureGenerator#defaultValue()} and
+     * {@link FixtureGenerator#randomValue()}
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testValues()
+    throws IOException {
+        final FixtureGenerator<String> generator = createFixture().generator(String.class);
+        assertEquals("a", generator.defaultValue());
+        assertEquals("a", generator.defaultValue(String.class));
+        final Set<String> values = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            values.add(generator.randomValue());
+        }
+        assertEquals(new HashSet<>(VALUES), values);
+        final GenerationSession session = new GenerationSession(1234L);
+        assertEquals(
+                session.callAll(50, i -> generator.randomValue()),
+                session.callAll(50, i -> generator.randomValue()));
+    }
+
+    /**
+     * Unit test for registered {@link FixtureGenerator} instances.
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testRegistered()
+    throws IOException {
+        final FixtureGenerator<String> generator = createFixture().generator(String.class);
+        try {
+            Generators.register(generator);
+            for (int i = 0; i < 50; i++) {
+                assertTrue(VALUES.contains(Generators.randomValue(String.class)));
+            }
+        } finally {
+            Generators.remove(generator);
+        }
+        assertFalse(Generators.getRegisteredGenerators().contains(generator));
+    }
+
+    private FixtureFile createFixture()
+    throws IOException {
+        final Path path = tempDir.resolve("values.fix");
+        FixtureFile.write(path, VALUES.size(), VALUES.iterator());
+        return FixtureFile.open(path);
+    }
+}
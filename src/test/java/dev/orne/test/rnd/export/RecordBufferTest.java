@@ -0,0 +1,136 @@
+package dev.orne.test.rnd.export;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit tests for {@code RecordBuffer}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.2, 2026-10
+ * @since 0.3
+ * @see RecordBuffer
+ */
+@Tag("ut")
+class RecordBufferTest {
+
+    /**
+     * Unit test for {@link RecordBuffer#append(CharSequence)}
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "plain ascii",
+            "ñandú éÿ",
+            "€ ￮",
+            "😀 emoji",
+    })
+    void testAppendText(
+            final String text) {
+        final RecordBuffer buffer = new RecordBuffer(0);
+        buffer.append(text);
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), buffer.toByteArray());
+        assertEquals(text.getBytes(StandardCharsets.UTF_8).length, buffer.size());
+    }
+
+    /**
+     * Unit test for {@link RecordBuffer#append(CharSequence)} with unpaired
+     * surrogates.
+     */
+    @Test
+    void testAppendUnpairedSurrogates() {
+        final RecordBuffer buffer = new RecordBuffer(0);
+        buffer.append("a\ud83db\ude00").append('\ud83d');
+        assertArrayEquals("a?b??".getBytes(StandardCharsets.UTF_8), buffer.toByteArray());
+    }
+
+    /**
+     * Unit test for {@link RecordBuffer#append(CharSequence, int, int)}.
+     */
+    @Test
+    void testAppendRange() {
+        final RecordBuffer buffer = new RecordBuffer(0);
+        buffer.append("abc\ud83d\ude00def", 2, 6).append("xyz", 1, 1);
+        assertArrayEquals("c\ud83d\ude00d".getBytes(StandardCharsets.UTF_8), buffer.toByteArray());
+        buffer.clear();
+        buffer.append("a\ud83d\ude00", 0, 2);
+        assertArrayEquals("a?".getBytes(StandardCharsets.UTF_8), buffer.toByteArray());
+    }
+
+    /**
+     * Unit test for {@link RecordBuffer#append(long)}
+     */
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 7, -7, 10, 1234567890L, -987654321L, Long.MAX_VALUE, Long.MIN_VALUE })
+    void testAppendLong(
+            final long value) {
+        final RecordBuffer buffer = new RecordBuffer(0);
+        buffer.ascii('[').append(value).ascii(']');
+        assertEquals("[" + value + "]", new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Unit test for {@link RecordBuffer#writeShort(int)}
+     */
+    @Test
+    void testWriteShort() {
+        final RecordBuffer buffer = new RecordBuffer(0);
+        buffer.writeShort(0x1234).writeShort(-2).writeShort(0xFFFF1);
+        assertArrayEquals(
+                new byte[] { 0x12, 0x34, (byte) 0xFF, (byte) 0xFE, (byte) 0xFF, (byte) 0xF1 },
+                buffer.toByteArray());
+    }
+
+    /**
+     * Unit test for {@link RecordBuffer#writeTo(java.nio.channels.WritableByteChannel)}
+     * and {@link RecordBuffer#clear()}
+     * @throws IOException Should not happen
+     */
+    @Test
+    void testWriteTo()
+    throws IOException {
+        final RecordBuffer buffer = new RecordBuffer(16);
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            expected.append("line ").append(i).append('\n');
+            buffer.append("line ").append(i).ascii('\n');
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        buffer.writeTo(Channels.newChannel(out));
+        assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+        buffer.clear();
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.toByteArray().length);
+    }
+}
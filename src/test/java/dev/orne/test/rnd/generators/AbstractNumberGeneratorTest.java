@@ -0,0 +1,219 @@
+package dev.orne.test.rnd.generators;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.test.rnd.params.NumberGenerationParameters;
+import dev.orne.test.rnd.params.NumberParameters;
+
+/**
+ * Unit tests for {@code AbstractNumberGenerator}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see AbstractNumberGenerator
+ */
+@Tag("ut")
+class AbstractNumberGeneratorTest {
+
+    /**
+     * Unit test for {@link AbstractNumberGenerator#createParams(Object...)}
+     */
+    @Test
+    void testCreateParams() {
+        final TestGenerator generator = new TestGenerator();
+        final NumberGenerationParameters source = new NumberGenerationParameters()
+                .withNullable(false)
+                .withMin(-5)
+                .withMax(5);
+        final NumberGenerationParameters result = generator.createParams(source);
+        assertNotSame(source, result);
+        assertEquals(source, result);
+        assertEquals(generator.createEmptyParams(), generator.createParams());
+    }
+
+    /**
+     * Unit test for {@link AbstractNumberGenerator#nullableDefaultValue(Class, NumberGenerationParameters)}
+     */
+    @Test
+    void testNullableDefaultValue() {
+        final TestGenerator generator = spy(new TestGenerator());
+        final Long mockValue = RandomUtils.nextLong();
+        final NumberGenerationParameters params = generator.createEmptyParams();
+        willReturn(mockValue).given(generator).defaultValue(params);
+        assertNull(generator.nullableDefaultValue(Long.class, params));
+        assertEquals(mockValue, generator.nullableDefaultValue(long.class, params));
+        params.setNullable(false);
+        assertEquals(mockValue, generator.nullableDefaultValue(Long.class, params));
+        then(generator).should(times(2)).defaultValue(params);
+    }
+
+    /**
+     * Unit test for {@link AbstractNumberGenerator#nullableRandomValue(Class, NumberGenerationParameters)}
+     */
+    @Test
+    void testNullableRandomValue() {
+        final TestGenerator generator = spy(new TestGenerator());
+        final Long mockValue = RandomUtils.nextLong();
+        final NumberGenerationParameters params = generator.createEmptyParams();
+        willReturn(mockValue).given(generator).randomValue(params);
+        generator.setNullProbability(1f);
+        assertNull(generator.nullableRandomValue(Long.class, params));
+        assertEquals(mockValue, generator.nullableRandomValue(long.class, params));
+        params.setNullable(false);
+        assertEquals(mockValue, generator.nullableRandomValue(Long.class, params));
+        then(generator).should(times(2)).randomValue(params);
+    }
+
+    /**
+     * Unit test for {@link AbstractNumberGenerator#randomValues(int, Object...)}
+     */
+    @Test
+    void testRandomValues() {
+        final TestGenerator generator = spy(new TestGenerator());
+        final Long mockValue = RandomUtils.nextLong();
+        willReturn(mockValue).given(generator).randomValue(any(NumberGenerationParameters.class));
+        final List<Long> result = generator.randomValues(10, new Object());
+        assertEquals(10, result.size());
+        for (final Long value : result) {
+            assertEquals(mockValue, value);
+        }
+        then(generator).should(times(1)).createParams(any(Object[].class));
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.randomValues(-1);
+        });
+    }
+
+    /**
+     * Unit test for {@link AbstractNumberGenerator#ceilLong(Number)} and
+     * {@link AbstractNumberGenerator#floorLong(Number)}
+     */
+    @Test
+    void testCeilFloorLong() {
+        assertEquals(5, AbstractNumberGenerator.ceilLong(5));
+        assertEquals(5, AbstractNumberGenerator.floorLong(5L));
+        assertEquals(2, AbstractNumberGenerator.ceilLong(1.5));
+        assertEquals(1, AbstractNumberGenerator.floorLong(1.5f));
+        assertEquals(-1, AbstractNumberGenerator.ceilLong(-1.5));
+        assertEquals(-2, AbstractNumberGenerator.floorLong(-1.5));
+        assertEquals(2, AbstractNumberGenerator.ceilLong(new BigDecimal("1.5")));
+        assertEquals(1, AbstractNumberGenerator.floorLong(new BigDecimal("1.5")));
+        assertEquals(Long.MAX_VALUE, AbstractNumberGenerator.ceilLong(Double.POSITIVE_INFINITY));
+        assertEquals(Long.MIN_VALUE, AbstractNumberGenerator.floorLong(Double.NEGATIVE_INFINITY));
+        final BigInteger huge = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TEN);
+        assertEquals(Long.MAX_VALUE, AbstractNumberGenerator.ceilLong(huge));
+        assertEquals(Long.MIN_VALUE, AbstractNumberGenerator.floorLong(huge.negate()));
+        assertEquals(Long.MAX_VALUE, AbstractNumberGenerator.ceilLong(new BigDecimal(huge)));
+        assertEquals(Long.MIN_VALUE, AbstractNumberGenerator.floorLong(new BigDecimal(huge).negate()));
+    }
+
+    /**
+     * Unit test for {@link AbstractNumberGenerator#getMinLong(NumberParameters, long)},
+     * {@link AbstractNumberGenerator#getMaxLong(NumberParameters, long)} and
+     * {@link AbstractNumberGenerator#clamp(long, long, long)}
+     */
+    @Test
+    void testLongBounds() {
+        final NumberGenerationParameters params = new NumberGenerationParameters();
+        assertEquals(Integer.MIN_VALUE, AbstractNumberGenerator.getMinLong(params, Integer.MIN_VALUE));
+        assertEquals(Integer.MAX_VALUE, AbstractNumberGenerator.getMaxLong(params, Integer.MAX_VALUE));
+        params.withMin(-0.5).withMax(10.5);
+        assertEquals(0, AbstractNumberGenerator.getMinLong(params, Integer.MIN_VALUE));
+        assertEquals(10, AbstractNumberGenerator.getMaxLong(params, Integer.MAX_VALUE));
+        assertEquals(5, AbstractNumberGenerator.clamp(5, 0, 10));
+        assertEquals(0, AbstractNumberGenerator.clamp(-5, 0, 10));
+        assertEquals(10, AbstractNumberGenerator.clamp(15, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> {
+            AbstractNumberGenerator.clamp(5, 10, 0);
+        });
+    }
+
+    /**
+     * Unit test for {@link AbstractNumberGenerator#toBigDecimal(Number)}
+     */
+    @Test
+    void testToBigDecimal() {
+        final BigDecimal decimal = new BigDecimal("1.5");
+        assertSame(decimal, AbstractNumberGenerator.toBigDecimal(decimal));
+        assertEquals(BigDecimal.TEN, AbstractNumberGenerator.toBigDecimal(BigInteger.TEN));
+        assertEquals(BigDecimal.TEN, AbstractNumberGenerator.toBigDecimal(10));
+        assertEquals(BigDecimal.TEN, AbstractNumberGenerator.toBigDecimal((short) 10));
+        assertEquals(0, decimal.compareTo(AbstractNumberGenerator.toBigDecimal(1.5)));
+        assertEquals(0, decimal.compareTo(AbstractNumberGenerator.toBigDecimal(1.5f)));
+        assertThrows(NumberFormatException.class, () -> {
+            AbstractNumberGenerator.toBigDecimal(Double.NaN);
+        });
+    }
+
+    /**
+     * Unit test for {@link AbstractNumberGenerator#getMinBound(NumberParameters)}
+     * and {@link AbstractNumberGenerator#getMaxBound(NumberParameters)}
+     */
+    @Test
+    void testBounds() {
+        final NumberGenerationParameters params = new NumberGenerationParameters();
+        assertNull(AbstractNumberGenerator.getMinBound(params));
+        assertNull(AbstractNumberGenerator.getMaxBound(params));
+        params.withMin(Double.NEGATIVE_INFINITY).withMax(Float.POSITIVE_INFINITY);
+        assertNull(AbstractNumberGenerator.getMinBound(params));
+        assertNull(AbstractNumberGenerator.getMaxBound(params));
+        params.withMin(-5).withMax(new BigDecimal("5.5"));
+        assertEquals(0, BigDecimal.valueOf(-5).compareTo(AbstractNumberGenerator.getMinBound(params)));
+        assertEquals(0, new BigDecimal("5.5").compareTo(AbstractNumberGenerator.getMaxBound(params)));
+    }
+
+    private static class TestGenerator
+    extends AbstractNumberGenerator<Long> {
+        @Override
+        public @NotNull Long defaultValue() {
+            throw new AssertionError("Mock expected");
+        }
+        @Override
+        public @NotNull Long randomValue() {
+            throw new AssertionError("Mock expected");
+        }
+        @Override
+        public @NotNull Long defaultValue(
+                final @NotNull NumberGenerationParameters parameters) {
+            throw new AssertionError("Mock expected");
+        }
+        @Override
+        public @NotNull Long randomValue(
+                final @NotNull NumberGenerationParameters parameters) {
+            throw new AssertionError("Mock expected");
+        }
+    }
+}
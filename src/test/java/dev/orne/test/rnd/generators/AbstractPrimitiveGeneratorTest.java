@@ -22,6 +22,9 @@ package dev.orne.test.rnd.generators;
  * #L%
  */
 
+import java.util.Arrays;
+import java.util.HashSet;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
@@ -37,7 +40,7 @@ import dev.orne.test.rnd.UnsupportedValueTypeException;
  * Unit tests for {@code AbstractPrimitiveGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see AbstractPrimitiveGenerator
  */
@@ -85,6 +88,25 @@ class AbstractPrimitiveGeneratorTest {
         assertTrue(new TestGenerator<>(Character.class).supports(char.class));
     }
 
+    /**
+     * Unit test for {@link AbstractPrimitiveGenerator#getSupportedTypes()}
+     */
+    @Test
+    void testGetSupportedTypes() {
+        assertEquals(
+                new HashSet<>(Arrays.asList(Boolean.class, boolean.class)),
+                new TestGenerator<>(Boolean.class).getSupportedTypes());
+        assertEquals(
+                new HashSet<>(Arrays.asList(Integer.class, int.class)),
+                new TestGenerator<>(Integer.class).getSupportedTypes());
+        assertEquals(
+                new HashSet<>(Arrays.asList(Character.class, char.class)),
+                new TestGenerator<>(Character.class).getSupportedTypes());
+        assertEquals(
+                new HashSet<>(Arrays.asList(String.class)),
+                new TestGenerator<>(String.class).getSupportedTypes());
+    }
+
     /**
      * Unit test for {@link AbstractPrimitiveGenerator#nullableDefaultValue(Class)}
      */
@@ -48,6 +48,7 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.chrono.Chronology;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Currency;
 import java.util.Date;
@@ -67,7 +68,7 @@ import dev.orne.test.rnd.Priority;
  * Unit tests for {@code ArrayGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.2, 2026-10
  * @since 0.1
  * @see ArrayGenerator
  */
@@ -308,5 +309,126 @@ class ArrayGeneratorTest {
                 Generators.getGenerator(Long.class));
     }
 
+    /**
+     * Unit test for {@link ArrayGenerator#setSizeRange(int, int)}
+     */
+    @Test
+    void testSizes() {
+        final ArrayGenerator generator = new ArrayGenerator();
+        assertEquals(ArrayGenerator.MIN_SIZE, generator.getMinSize());
+        assertEquals(ArrayGenerator.MAX_SIZE, generator.getMaxSize());
+        generator.setSizeRange(0, 100000);
+        assertEquals(0, generator.getMinSize());
+        assertEquals(100000, generator.getMaxSize());
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.setSizeRange(-1, 10);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.setSizeRange(0, -1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.setSizeRange(11, 10);
+        });
+        assertEquals(0, generator.getMinSize());
+        assertEquals(100000, generator.getMaxSize());
+        generator.setSizeRange(5, 5);
+        assertEquals(5, generator.getMinSize());
+        assertEquals(5, generator.getMaxSize());
+    }
+
+    /**
+     * Unit test for {@link ArrayGenerator#randomSize()}
+     */
+    @Test
+    void testRandomSize() {
+        final ArrayGenerator generator = new ArrayGenerator();
+        generator.setSizeRange(1000, 1000);
+        assertEquals(1000, generator.randomSize());
+        generator.setSizeRange(1000, 1010);
+        for (int i = 0; i < 100; i++) {
+            final int size = generator.randomSize();
+            assertTrue(size >= 1000 && size < 1010);
+        }
+    }
+
+    /**
+     * Unit test for {@link ArrayGenerator#randomPrimitiveArray(Class, Generator, int)}
+     */
+    @Test
+    void testRandomPrimitiveArray() {
+        final ArrayGenerator generator = new ArrayGenerator();
+        final int size = 10000;
+        final int[] ints = (int[]) generator.randomPrimitiveArray(
+                int.class, Generators.getGenerator(int.class), size);
+        assertEquals(size, ints.length);
+        assertTrue(Arrays.stream(ints).distinct().count() > 1);
+        final long[] longs = (long[]) generator.randomPrimitiveArray(
+                long.class, Generators.getGenerator(long.class), size);
+        assertEquals(size, longs.length);
+        assertTrue(Arrays.stream(longs).distinct().count() > 1);
+        final double[] doubles = (double[]) generator.randomPrimitiveArray(
+                double.class, Generators.getGenerator(double.class), size);
+        assertEquals(size, doubles.length);
+        assertTrue(Arrays.stream(doubles).distinct().count() > 1);
+        final byte[] bytes = (byte[]) generator.randomPrimitiveArray(
+                byte.class, Generators.getGenerator(byte.class), size);
+        assertEquals(size, bytes.length);
+        assertFalse(Arrays.equals(new byte[size], bytes));
+    }
+
+    /**
+     * Unit test for {@link ArrayGenerator#randomPrimitiveArray(Class, Generator, int)}
+     */
+    @Test
+    void testRandomPrimitiveArray_Unsupported() {
+        final ArrayGenerator generator = new ArrayGenerator();
+        assertNull(generator.randomPrimitiveArray(
+                Integer.class, Generators.getGenerator(Integer.class), 10));
+        assertNull(generator.randomPrimitiveArray(
+                short.class, Generators.getGenerator(short.class), 10));
+        final Generator compGenerator = mock(Generator.class);
+        assertNull(generator.randomPrimitiveArray(int.class, compGenerator, 10));
+        assertNull(generator.randomPrimitiveArray(byte.class, compGenerator, 10));
+        then(compGenerator).shouldHaveNoInteractions();
+    }
+
+    /**
+     * Unit test for {@link ArrayGenerator#randomArray(Class, Generator)}
+     */
+    @Test
+    void testRandomArray_PrimitiveBulk() {
+        final ArrayGenerator generator = spy(new ArrayGenerator());
+        generator.setSizeRange(1000, 1000);
+        final IntegerGenerator intGenerator = spy(new IntegerGenerator());
+        final int[] result = (int[]) generator.randomArray(int.class, intGenerator);
+        assertEquals(1000, result.length);
+        then(generator).should().randomPrimitiveArray(int.class, intGenerator, 1000);
+        then(intGenerator).should().fill(result);
+        then(intGenerator).should(never()).randomValue(int.class);
+        final byte[] nullables = (byte[]) generator.randomNullablesArray(
+                byte.class,
+                Generators.getGenerator(byte.class));
+        assertEquals(1000, nullables.length);
+    }
+
+    /**
+     * Unit test for {@link ArrayGenerator#equals(Object)} and
+     * {@link ArrayGenerator#hashCode()}
+     */
+    @Test
+    void testEqualsHashCode() {
+        final ArrayGenerator generator = new ArrayGenerator();
+        final ArrayGenerator other = new ArrayGenerator();
+        assertEquals(generator, other);
+        assertEquals(generator.hashCode(), other.hashCode());
+        other.setSizeRange(ArrayGenerator.MIN_SIZE, 100);
+        assertNotEquals(generator, other);
+        other.setSizeRange(0, ArrayGenerator.MAX_SIZE);
+        assertNotEquals(generator, other);
+        other.setSizeRange(ArrayGenerator.MIN_SIZE, ArrayGenerator.MAX_SIZE);
+        assertEquals(generator, other);
+        assertEquals(generator.hashCode(), other.hashCode());
+    }
+
     private static class UnsupportedType {}
 }
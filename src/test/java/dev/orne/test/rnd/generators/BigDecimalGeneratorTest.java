@@ -25,6 +25,8 @@ package dev.orne.test.rnd.generators;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashSet;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -32,18 +34,22 @@ import org.junit.jupiter.api.Test;
 import dev.orne.test.rnd.Generators;
 import dev.orne.test.rnd.GeneratorsTestUtils;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Unit tests for {@code BigDecimalGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.2, 2026-10
  * @since 0.1
  * @see BigDecimalGenerator
  */
 @Tag("ut")
 class BigDecimalGeneratorTest {
 
+    /** The number of values to generate in range tests. */
+    private static final int SIZE = 100;
+
     /**
      * Integration test for automatic registration in {@code Generators}.
      * 
@@ -77,6 +83,16 @@ class BigDecimalGeneratorTest {
         assertFalse(generator.supports(Number[].class));
     }
 
+    /**
+     * Unit test for {@link BigDecimalGenerator#getSupportedTypes()}
+     */
+    @Test
+    void testGetSupportedTypes() {
+        assertEquals(
+                new HashSet<>(Arrays.asList(BigDecimal.class, Number.class)),
+                new BigDecimalGenerator().getSupportedTypes());
+    }
+
     /**
      * Unit test for {@link BigDecimalGenerator#defaultValue()}
      */
@@ -94,4 +110,85 @@ class BigDecimalGeneratorTest {
         final BigDecimalGenerator generator = new BigDecimalGenerator();
         GeneratorsTestUtils.assertRandomGeneration(generator, 100, 2);
     }
+
+    /**
+     * Unit test for {@link BigDecimalGenerator#defaultValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testDefaultValue_Range() {
+        final BigDecimalGenerator generator = new BigDecimalGenerator();
+        assertEquals(0, BigDecimal.ZERO.compareTo(generator.defaultValue(generator.createEmptyParams())));
+        assertEquals(0, new BigDecimal("1.5").compareTo(generator.defaultValue(generator.createEmptyParams()
+                .withMin(1.5)
+                .withMax(5))));
+        assertEquals(0, new BigDecimal("-1.5").compareTo(generator.defaultValue(generator.createEmptyParams()
+                .withMin(-5)
+                .withMax(-1.5))));
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.defaultValue(generator.createEmptyParams()
+                    .withMin(5)
+                    .withMax(-5));
+        });
+    }
+
+    /**
+     * Unit test for {@link BigDecimalGenerator#randomValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testRandomValue_Range() {
+        final BigDecimalGenerator generator = new BigDecimalGenerator();
+        final BigDecimal min = new BigDecimal("-0.5");
+        final BigDecimal max = new BigDecimal("0.5");
+        final NumberGenerationParameters params = generator.createEmptyParams()
+                .withMin(min)
+                .withMax(max);
+        for (int i = 0; i < SIZE; i++) {
+            final BigDecimal result = generator.randomValue(params);
+            assertTrue(result.compareTo(min) >= 0);
+            assertTrue(result.compareTo(max) <= 0);
+        }
+        final NumberGenerationParameters minParams = generator.createEmptyParams()
+                .withMin(max);
+        for (int i = 0; i < SIZE; i++) {
+            assertTrue(generator.randomValue(minParams).compareTo(max) >= 0);
+        }
+        final NumberGenerationParameters maxParams = generator.createEmptyParams()
+                .withMax(min);
+        for (int i = 0; i < SIZE; i++) {
+            assertTrue(generator.randomValue(maxParams).compareTo(min) <= 0);
+        }
+        assertEquals(0, max.compareTo(generator.randomValue(generator.createEmptyParams()
+                .withMin(max)
+                .withMax(max))));
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.randomValue(generator.createEmptyParams()
+                    .withMin(5)
+                    .withMax(-5));
+        });
+    }
+
+    /**
+     * Unit test for {@link BigDecimalGenerator#randomBigDecimal(BigDecimal, BigDecimal)}
+     * with wide and discrete ranges.
+     */
+    @Test
+    void testRandomBigDecimal_Range() {
+        final BigDecimal min = new BigDecimal("-1E+400");
+        final BigDecimal max = new BigDecimal("1E+400");
+        final HashSet<BigDecimal> values = new HashSet<>();
+        for (int i = 0; i < SIZE; i++) {
+            final BigDecimal result = BigDecimalGenerator.randomBigDecimal(min, max);
+            assertTrue(result.compareTo(min) >= 0);
+            assertTrue(result.compareTo(max) <= 0);
+            values.add(result);
+        }
+        assertEquals(SIZE, values.size());
+        final BigDecimal low = new BigDecimal("0.1");
+        final BigDecimal high = new BigDecimal("0.10");
+        for (int i = 0; i < SIZE; i++) {
+            final BigDecimal result = BigDecimalGenerator.randomBigDecimal(low, high);
+            assertEquals(0, low.compareTo(result));
+            assertEquals(2 + BigDecimalGenerator.EXTRA_SCALE, result.scale());
+        }
+    }
 }
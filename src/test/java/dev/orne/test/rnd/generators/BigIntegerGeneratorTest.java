@@ -32,18 +32,22 @@ import org.junit.jupiter.api.Test;
 import dev.orne.test.rnd.Generators;
 import dev.orne.test.rnd.GeneratorsTestUtils;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Unit tests for {@code BigIntegerGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see BigIntegerGenerator
  */
 @Tag("ut")
 class BigIntegerGeneratorTest {
 
+    /** The number of values to generate in range tests. */
+    private static final int SIZE = 100;
+
     /**
      * Integration test for automatic registration in {@code Generators}.
      * 
@@ -90,4 +94,60 @@ class BigIntegerGeneratorTest {
         final BigIntegerGenerator generator = new BigIntegerGenerator();
         GeneratorsTestUtils.assertRandomGeneration(generator, 100, 2);
     }
+
+    /**
+     * Unit test for {@link BigIntegerGenerator#defaultValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testDefaultValue_Range() {
+        final BigIntegerGenerator generator = new BigIntegerGenerator();
+        assertEquals(BigInteger.ZERO, generator.defaultValue(generator.createEmptyParams()));
+        assertEquals(BigInteger.valueOf(3), generator.defaultValue(generator.createEmptyParams()
+                .withMin(3)
+                .withMax(5)));
+        assertEquals(BigInteger.valueOf(-3), generator.defaultValue(generator.createEmptyParams()
+                .withMin(-5)
+                .withMax(-3)));
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.defaultValue(generator.createEmptyParams()
+                    .withMin(5)
+                    .withMax(-5));
+        });
+    }
+
+    /**
+     * Unit test for {@link BigIntegerGenerator#randomValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testRandomValue_Range() {
+        final BigIntegerGenerator generator = new BigIntegerGenerator();
+        final BigInteger min = BigInteger.valueOf(Long.MAX_VALUE).negate().multiply(BigInteger.TEN);
+        final BigInteger max = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TEN);
+        final NumberGenerationParameters params = generator.createEmptyParams()
+                .withMin(min)
+                .withMax(max);
+        for (int i = 0; i < SIZE; i++) {
+            final BigInteger result = generator.randomValue(params);
+            assertTrue(result.compareTo(min) >= 0);
+            assertTrue(result.compareTo(max) <= 0);
+        }
+        final NumberGenerationParameters minParams = generator.createEmptyParams()
+                .withMin(max);
+        for (int i = 0; i < SIZE; i++) {
+            assertTrue(generator.randomValue(minParams).compareTo(max) >= 0);
+        }
+        final NumberGenerationParameters maxParams = generator.createEmptyParams()
+                .withMax(min);
+        for (int i = 0; i < SIZE; i++) {
+            assertTrue(generator.randomValue(maxParams).compareTo(min) <= 0);
+        }
+        assertEquals(BigInteger.valueOf(3), generator.randomValue(generator.createEmptyParams()
+                .withMin(3)
+                .withMax(3)));
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.randomValue(generator.createEmptyParams()
+                    .withMin(5)
+                    .withMax(-5));
+        });
+    }
 }
@@ -0,0 +1,239 @@
+package dev.orne.test.rnd.generators;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.test.rnd.Generators;
+import dev.orne.test.rnd.GeneratorsTestUtils;
+import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.params.Alphabet;
+import dev.orne.test.rnd.params.StringGenerationParameters;
+
+/**
+ * Unit tests for {@code ByteBufferGenerator}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see ByteBufferGenerator
+ */
+@Tag("ut")
+class ByteBufferGeneratorTest {
+
+    /**
+     * Integration test for automatic registration in {@code Generators}.
+     * 
+     * @see Generators
+     */
+    @Test
+    void testAutomaticRegistration() {
+        assertTrue(Generators.supports(ByteBuffer.class));
+        assertEquals(ByteBufferGenerator.class, Generators.getGenerator(ByteBuffer.class).getClass());
+    }
+
+    /**
+     * Unit test for {@link ByteBufferGenerator#getPriority()}
+     */
+    @Test
+    void testPriority() {
+        assertEquals(Priority.NATIVE_GENERATORS, new ByteBufferGenerator().getPriority());
+    }
+
+    /**
+     * Unit test for {@link ByteBufferGenerator#supports()}
+     */
+    @Test
+    void testSupports() {
+        final ByteBufferGenerator generator = new ByteBufferGenerator();
+        assertTrue(generator.supports(ByteBuffer.class));
+        assertFalse(generator.supports(ByteBuffer[].class));
+        assertFalse(generator.supports(byte[].class));
+    }
+
+    /**
+     * Unit test for {@link ByteBufferGenerator#defaultValue(StringGenerationParameters)}
+     */
+    @Test
+    void testDefaultValue() {
+        final ByteBufferGenerator generator = new ByteBufferGenerator();
+        assertEquals(0, generator.defaultValue(ByteBufferGenerator.createParameters()).remaining());
+    }
+
+    /**
+     * Unit test for {@link ByteBufferGenerator#randomValue(StringGenerationParameters)}
+     */
+    @Test
+    void testRandomValue() {
+        final StringGenerationParameters params = ByteBufferGenerator.createParameters();
+        final ByteBufferGenerator generator = new ByteBufferGenerator();
+        Set<ByteBuffer> results = GeneratorsTestUtils.assertRandomGeneration(
+                generator,
+                100,
+                2,
+                params);
+        for (final ByteBuffer result : results) {
+            assertEquals(0, result.position());
+            assertTrue(StringGenerator.MIN_SIZE <= result.remaining());
+            assertTrue(StringGenerator.MAX_SIZE >= result.remaining());
+        }
+        params.setMinSize(1000);
+        params.setMaxSize(2000);
+        results = GeneratorsTestUtils.assertRandomGeneration(
+                generator,
+                100,
+                2,
+                params);
+        for (final ByteBuffer result : results) {
+            assertTrue(params.getMinSize() <= result.remaining());
+            assertTrue(params.getMaxSize() >= result.remaining());
+        }
+    }
+
+    /**
+     * Unit test for {@link ByteBufferGenerator#randomValue(StringGenerationParameters)}
+     * with alphabets.
+     */
+    @Test
+    void testRandomValue_Alphabet() {
+        final StringGenerationParameters params = ByteBufferGenerator.createParameters()
+                .withAlphabet(Alphabet.LATIN_1)
+                .withMinSize(10)
+                .withMaxSize(20);
+        final ByteBufferGenerator generator = new ByteBufferGenerator();
+        final Set<ByteBuffer> results = GeneratorsTestUtils.assertRandomGeneration(
+                generator,
+                100,
+                2,
+                params);
+        for (final ByteBuffer result : results) {
+            final String text = StandardCharsets.UTF_8.decode(result).toString();
+            assertTrue(params.getMinSize() <= text.length());
+            assertTrue(params.getMaxSize() >= text.length());
+            assertAlphabet(Alphabet.LATIN_1, text);
+        }
+    }
+
+    /**
+     * Unit test for {@link ByteBufferGenerator#randomValue(StringGenerationParameters)}
+     * with regular expressions.
+     */
+    @Test
+    void testRandomValue_Pattern() {
+        final StringGenerationParameters params = ByteBufferGenerator.createParameters()
+                .withPattern("[a-z]{3}-\\d{4}");
+        final ByteBuffer result = new ByteBufferGenerator().randomValue(params);
+        assertTrue(StandardCharsets.UTF_8.decode(result).toString().matches("[a-z]{3}-\\d{4}"));
+    }
+
+    /**
+     * Unit test for {@link ByteBufferGenerator#fill(ByteBuffer, StringGenerationParameters)}
+     * with heap and direct buffers.
+     */
+    @Test
+    void testFill() {
+        final ByteBufferGenerator generator = new ByteBufferGenerator();
+        final StringGenerationParameters params = ByteBufferGenerator.createParameters()
+                .withAlphabet(Alphabet.HEX)
+                .withMinSize(100)
+                .withMaxSize(200);
+        for (final ByteBuffer buffer : new ByteBuffer[] {
+                ByteBuffer.allocate(300),
+                ByteBuffer.allocateDirect(300) }) {
+            buffer.position(10);
+            final int written = generator.fill(buffer, params);
+            assertTrue(written >= 100);
+            assertTrue(written <= 200);
+            assertEquals(10 + written, buffer.position());
+            buffer.flip();
+            buffer.position(10);
+            assertAlphabet(Alphabet.HEX, StandardCharsets.US_ASCII.decode(buffer).toString());
+        }
+    }
+
+    /**
+     * Unit test for {@link ByteBufferGenerator#fill(ByteBuffer, StringGenerationParameters)}
+     * with sizes limited by the buffer remaining space.
+     */
+    @Test
+    void testFill_Limited() {
+        final ByteBufferGenerator generator = new ByteBufferGenerator();
+        final StringGenerationParameters params = ByteBufferGenerator.createParameters()
+                .withMinSize(5);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(5);
+        assertEquals(5, generator.fill(buffer, params));
+        assertFalse(buffer.hasRemaining());
+        assertThrows(IllegalArgumentException.class, () -> generator.fill(buffer, params));
+        params.setAlphabet(Alphabet.LATIN_1);
+        final ByteBuffer latin = ByteBuffer.allocate(11);
+        final int written = generator.fill(latin, params);
+        assertTrue(written >= 5);
+        assertTrue(written <= 10);
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.fill(ByteBuffer.allocate(9), params));
+        final StringGenerationParameters inverted = ByteBufferGenerator.createParameters()
+                .withMinSize(5)
+                .withMaxSize(3);
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.fill(ByteBuffer.allocate(100), inverted));
+    }
+
+    /**
+     * Unit test for {@link ByteBufferGenerator#fill(byte[], int, StringGenerationParameters)}.
+     */
+    @Test
+    void testFill_Array() {
+        final ByteBufferGenerator generator = new ByteBufferGenerator();
+        final StringGenerationParameters params = ByteBufferGenerator.createParameters()
+                .withAlphabet(Alphabet.of("x"))
+                .withMinSize(3)
+                .withMaxSize(3);
+        final byte[] target = new byte[6];
+        assertEquals(3, generator.fill(target, 2, params));
+        assertArrayEquals(new byte[] { 0, 0, 'x', 'x', 'x', 0 }, target);
+        assertThrows(IllegalArgumentException.class, () -> generator.fill(target, 7, params));
+        assertThrows(IllegalArgumentException.class, () -> generator.fill(target, 4, params));
+    }
+
+    /**
+     * Verifies that all the characters of the string belong to the
+     * alphabet.
+     * 
+     * @param alphabet The expected alphabet
+     * @param value The string to verify
+     */
+    private static void assertAlphabet(
+            final Alphabet alphabet,
+            final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            assertTrue(alphabet.contains(value.charAt(i)));
+        }
+    }
+}
@@ -30,18 +30,23 @@ import org.junit.jupiter.api.Test;
 import dev.orne.test.rnd.Generators;
 import dev.orne.test.rnd.GeneratorsTestUtils;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Unit tests for {@code ByteGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see ByteGenerator
  */
 @Tag("ut")
 class ByteGeneratorTest {
 
+    /** The number of values to generate. */
+    private static final int SIZE = 100;
+
     /**
      * Integration test for automatic registration in {@code Generators}.
      * 
@@ -92,4 +97,40 @@ class ByteGeneratorTest {
         final ByteGenerator generator = new ByteGenerator();
         GeneratorsTestUtils.assertRandomGeneration(generator, 100, 2);
     }
+
+    /**
+     * Unit test for {@link ByteGenerator#fill(byte[])}
+     */
+    @Test
+    void testFill() {
+        final ByteGenerator generator = new ByteGenerator();
+        final byte[] expected = new byte[SIZE];
+        RandomSources.seeded(1234L).nextBytes(expected);
+        final byte[] result = RandomSources.withSource(RandomSources.seeded(1234L), () -> {
+            final byte[] values = new byte[SIZE];
+            generator.fill(values);
+            return values;
+        });
+        assertArrayEquals(expected, result);
+        assertThrows(NullPointerException.class, () -> {
+            generator.fill(null);
+        });
+    }
+
+    /**
+     * Unit test for {@link ByteGenerator#defaultValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testDefaultValue_Range() {
+        GeneratorsTestUtils.assertIntegralDefaultValueRange(new ByteGenerator());
+    }
+
+    /**
+     * Unit test for {@link ByteGenerator#randomValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testRandomValue_Range() {
+        GeneratorsTestUtils.assertIntegralRandomValueRange(new ByteGenerator(),
+                Byte.MIN_VALUE, Byte.MAX_VALUE, SIZE);
+    }
 }
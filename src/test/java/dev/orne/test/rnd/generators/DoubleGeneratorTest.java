@@ -31,18 +31,25 @@ import org.junit.jupiter.api.Test;
 import dev.orne.test.rnd.Generators;
 import dev.orne.test.rnd.GeneratorsTestUtils;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Unit tests for {@code DoubleGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see DoubleGenerator
  */
 @Tag("ut")
 class DoubleGeneratorTest {
 
+    /** The seed for reproducibility tests. */
+    private static final long SEED = 1234L;
+    /** The size of the generated arrays. */
+    private static final int SIZE = 100;
+
     /**
      * Integration test for automatic registration in {@code Generators}.
      * 
@@ -152,4 +159,130 @@ class DoubleGeneratorTest {
                 Double.doubleToLongBits(RandomUtils.nextDouble())
         ));
     }
+
+    /**
+     * Unit test for {@link DoubleGenerator#nextDouble()}
+     */
+    @Test
+    void testNextDouble() {
+        final DoubleGenerator generator = new DoubleGenerator();
+        GeneratorsTestUtils.assertRandomGeneration(generator::nextDouble, 100, 2);
+    }
+
+    /**
+     * Unit test for {@link DoubleGenerator#fill(double[])}
+     */
+    @Test
+    void testFill() {
+        final DoubleGenerator generator = new DoubleGenerator();
+        final double[] expected = RandomSources.withSource(RandomSources.seeded(SEED), () -> {
+            final double[] values = new double[SIZE];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = generator.nextDouble();
+            }
+            return values;
+        });
+        final double[] result = RandomSources.withSource(RandomSources.seeded(SEED), () -> {
+            final double[] values = new double[SIZE];
+            generator.fill(values);
+            return values;
+        });
+        assertArrayEquals(expected, result);
+        assertThrows(NullPointerException.class, () -> {
+            generator.fill(null);
+        });
+    }
+
+    /**
+     * Unit test for {@link DoubleGenerator#doubles(long)}
+     */
+    @Test
+    void testDoubles() {
+        final DoubleGenerator generator = new DoubleGenerator();
+        final double[] expected = RandomSources.withSource(RandomSources.seeded(SEED), () -> {
+            final double[] values = new double[SIZE];
+            generator.fill(values);
+            return values;
+        });
+        final double[] result = RandomSources.withSource(
+                RandomSources.seeded(SEED),
+                () -> generator.doubles(SIZE)).toArray();
+        assertArrayEquals(expected, result);
+        assertEquals(0, generator.doubles(0).count());
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.doubles(-1);
+        });
+    }
+
+    /**
+     * Unit test for {@link DoubleGenerator#defaultValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testDefaultValue_Range() {
+        GeneratorsTestUtils.assertDecimalDefaultValueRange(new DoubleGenerator());
+    }
+
+    /**
+     * Unit test for {@link DoubleGenerator#randomValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testRandomValue_Range() {
+        GeneratorsTestUtils.assertDecimalRandomValueRange(new DoubleGenerator(), SIZE);
+    }
+
+    /**
+     * Unit test for {@link DoubleGenerator#randomDouble(double, double)}
+     */
+    @Test
+    void testRandomDouble_Range() {
+        for (int i = 0; i < SIZE; i++) {
+            final double result = DoubleGenerator.randomDouble(-0.5, 0.5);
+            assertTrue(result >= -0.5 && result <= 0.5);
+        }
+        for (int i = 0; i < SIZE; i++) {
+            final double result = DoubleGenerator.randomDouble(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+            assertFalse(Double.isNaN(result));
+        }
+        for (int i = 0; i < SIZE; i++) {
+            final double result = DoubleGenerator.randomDouble(0, 0);
+            assertTrue(result == 0);
+        }
+        assertEquals(Double.MAX_VALUE, DoubleGenerator.randomDouble(Double.MAX_VALUE, Double.MAX_VALUE));
+        assertEquals(Double.POSITIVE_INFINITY, DoubleGenerator.randomDouble(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY));
+        GeneratorsTestUtils.assertRandomGeneration(
+                () -> DoubleGenerator.randomDouble(1, 2), 100, 2);
+        assertThrows(IllegalArgumentException.class, () -> {
+            DoubleGenerator.randomDouble(5, -5);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            DoubleGenerator.randomDouble(Double.NaN, 5);
+        });
+    }
+
+    /**
+     * Unit test for {@link DoubleGenerator#toOrderedBits(double)} and
+     * {@link DoubleGenerator#fromOrderedBits(long)}
+     */
+    @Test
+    void testOrderedBits() {
+        final double[] values = new double[] {
+                Double.NEGATIVE_INFINITY,
+                -Double.MAX_VALUE,
+                -1,
+                -Double.MIN_VALUE,
+                -0.0,
+                0.0,
+                Double.MIN_VALUE,
+                1,
+                Double.MAX_VALUE,
+                Double.POSITIVE_INFINITY
+        };
+        for (int i = 0; i < values.length; i++) {
+            final long bits = DoubleGenerator.toOrderedBits(values[i]);
+            assertEquals(values[i], DoubleGenerator.fromOrderedBits(bits));
+            if (i > 0) {
+                assertTrue(DoubleGenerator.toOrderedBits(values[i - 1]) < bits);
+            }
+        }
+    }
 }
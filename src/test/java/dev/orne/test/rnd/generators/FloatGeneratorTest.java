@@ -31,18 +31,22 @@ import org.junit.jupiter.api.Test;
 import dev.orne.test.rnd.Generators;
 import dev.orne.test.rnd.GeneratorsTestUtils;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Unit tests for {@code FloatGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see FloatGenerator
  */
 @Tag("ut")
 class FloatGeneratorTest {
 
+    /** The number of values to generate in range tests. */
+    private static final int SIZE = 100;
+
     /**
      * Integration test for automatic registration in {@code Generators}.
      * 
@@ -152,4 +156,76 @@ class FloatGeneratorTest {
                 Float.floatToIntBits(RandomUtils.nextFloat())
         ));
     }
+
+    /**
+     * Unit test for {@link FloatGenerator#defaultValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testDefaultValue_Range() {
+        GeneratorsTestUtils.assertDecimalDefaultValueRange(new FloatGenerator());
+    }
+
+    /**
+     * Unit test for {@link FloatGenerator#randomValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testRandomValue_Range() {
+        GeneratorsTestUtils.assertDecimalRandomValueRange(new FloatGenerator(), SIZE);
+    }
+
+    /**
+     * Unit test for {@link FloatGenerator#randomFloat(float, float)}
+     */
+    @Test
+    void testRandomFloat_Range() {
+        for (int i = 0; i < SIZE; i++) {
+            final float result = FloatGenerator.randomFloat(-0.5f, 0.5f);
+            assertTrue(result >= -0.5f && result <= 0.5f);
+        }
+        for (int i = 0; i < SIZE; i++) {
+            final float result = FloatGenerator.randomFloat(Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY);
+            assertFalse(Float.isNaN(result));
+        }
+        for (int i = 0; i < SIZE; i++) {
+            final float result = FloatGenerator.randomFloat(0f, 0f);
+            assertTrue(result == 0);
+        }
+        assertEquals(Float.MAX_VALUE, FloatGenerator.randomFloat(Float.MAX_VALUE, Float.MAX_VALUE));
+        assertEquals(Float.POSITIVE_INFINITY, FloatGenerator.randomFloat(Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY));
+        GeneratorsTestUtils.assertRandomGeneration(
+                () -> FloatGenerator.randomFloat(1f, 2f), 100, 2);
+        assertThrows(IllegalArgumentException.class, () -> {
+            FloatGenerator.randomFloat(5f, -5f);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            FloatGenerator.randomFloat(Float.NaN, 5f);
+        });
+    }
+
+    /**
+     * Unit test for {@link FloatGenerator#toOrderedBits(float)} and
+     * {@link FloatGenerator#fromOrderedBits(int)}
+     */
+    @Test
+    void testOrderedBits() {
+        final float[] values = new float[] {
+                Float.NEGATIVE_INFINITY,
+                -Float.MAX_VALUE,
+                -1f,
+                -Float.MIN_VALUE,
+                -0.0f,
+                0.0f,
+                Float.MIN_VALUE,
+                1f,
+                Float.MAX_VALUE,
+                Float.POSITIVE_INFINITY
+        };
+        for (int i = 0; i < values.length; i++) {
+            final int bits = FloatGenerator.toOrderedBits(values[i]);
+            assertEquals(values[i], FloatGenerator.fromOrderedBits(bits));
+            if (i > 0) {
+                assertTrue(FloatGenerator.toOrderedBits(values[i - 1]) < bits);
+            }
+        }
+    }
 }
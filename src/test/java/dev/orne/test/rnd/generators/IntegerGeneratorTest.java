@@ -30,18 +30,25 @@ import org.junit.jupiter.api.Test;
 import dev.orne.test.rnd.Generators;
 import dev.orne.test.rnd.GeneratorsTestUtils;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Unit tests for {@code IntegerGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see IntegerGenerator
  */
 @Tag("ut")
 class IntegerGeneratorTest {
 
+    /** The seed for reproducibility tests. */
+    private static final long SEED = 1234L;
+    /** The size of the generated arrays. */
+    private static final int SIZE = 100;
+
     /**
      * Integration test for automatic registration in {@code Generators}.
      * 
@@ -105,4 +112,75 @@ class IntegerGeneratorTest {
                 max - min,
                 4);
     }
+
+    /**
+     * Unit test for {@link IntegerGenerator#nextInt()}
+     */
+    @Test
+    void testNextInt() {
+        final IntegerGenerator generator = new IntegerGenerator();
+        GeneratorsTestUtils.assertRandomGeneration(generator::nextInt, 100, 2);
+    }
+
+    /**
+     * Unit test for {@link IntegerGenerator#fill(int[])}
+     */
+    @Test
+    void testFill() {
+        final IntegerGenerator generator = new IntegerGenerator();
+        final int[] expected = RandomSources.withSource(RandomSources.seeded(SEED), () -> {
+            final int[] values = new int[SIZE];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = generator.nextInt();
+            }
+            return values;
+        });
+        final int[] result = RandomSources.withSource(RandomSources.seeded(SEED), () -> {
+            final int[] values = new int[SIZE];
+            generator.fill(values);
+            return values;
+        });
+        assertArrayEquals(expected, result);
+        assertThrows(NullPointerException.class, () -> {
+            generator.fill(null);
+        });
+    }
+
+    /**
+     * Unit test for {@link IntegerGenerator#ints(long)}
+     */
+    @Test
+    void testInts() {
+        final IntegerGenerator generator = new IntegerGenerator();
+        final int[] expected = RandomSources.withSource(RandomSources.seeded(SEED), () -> {
+            final int[] values = new int[SIZE];
+            generator.fill(values);
+            return values;
+        });
+        final int[] result = RandomSources.withSource(
+                RandomSources.seeded(SEED),
+                () -> generator.ints(SIZE)).toArray();
+        assertArrayEquals(expected, result);
+        assertEquals(0, generator.ints(0).count());
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.ints(-1);
+        });
+    }
+
+    /**
+     * Unit test for {@link IntegerGenerator#defaultValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testDefaultValue_Range() {
+        GeneratorsTestUtils.assertIntegralDefaultValueRange(new IntegerGenerator());
+    }
+
+    /**
+     * Unit test for {@link IntegerGenerator#randomValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testRandomValue_Range() {
+        GeneratorsTestUtils.assertIntegralRandomValueRange(new IntegerGenerator(),
+                Integer.MIN_VALUE, Integer.MAX_VALUE, SIZE);
+    }
 }
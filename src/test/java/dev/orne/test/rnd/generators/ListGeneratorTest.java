@@ -25,6 +25,7 @@ package dev.orne.test.rnd.generators;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 
@@ -52,7 +53,7 @@ import dev.orne.test.rnd.params.TypeDeclaration;
  * Unit tests for {@code ListGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-12
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see ListGenerator
  */
@@ -131,6 +132,16 @@ class ListGeneratorTest {
         assertFalse(generator.supports(List[].class));
     }
 
+    /**
+     * Unit test for {@link ListGenerator#getSupportedTypes()}
+     */
+    @Test
+    void testGetSupportedTypes() {
+        assertEquals(
+                new HashSet<>(Arrays.asList(List.class, Collection.class)),
+                new ListGenerator().getSupportedTypes());
+    }
+
     /**
      * Unit test for {@link ListGenerator#defaultValue(CollectionGenerationParameters)}
      */
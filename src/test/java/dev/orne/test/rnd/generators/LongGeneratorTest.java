@@ -30,18 +30,25 @@ import org.junit.jupiter.api.Test;
 import dev.orne.test.rnd.Generators;
 import dev.orne.test.rnd.GeneratorsTestUtils;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.RandomSources;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Unit tests for {@code LongGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see LongGenerator
  */
 @Tag("ut")
 class LongGeneratorTest {
 
+    /** The seed for reproducibility tests. */
+    private static final long SEED = 1234L;
+    /** The size of the generated arrays. */
+    private static final int SIZE = 100;
+
     /**
      * Integration test for automatic registration in {@code Generators}.
      * 
@@ -92,4 +99,94 @@ class LongGeneratorTest {
         final LongGenerator generator = new LongGenerator();
         GeneratorsTestUtils.assertRandomGeneration(generator, 100, 2);
     }
+
+    /**
+     * Unit test for {@link LongGenerator#nextLong()}
+     */
+    @Test
+    void testNextLong() {
+        final LongGenerator generator = new LongGenerator();
+        GeneratorsTestUtils.assertRandomGeneration(generator::nextLong, 100, 2);
+    }
+
+    /**
+     * Unit test for {@link LongGenerator#fill(long[])}
+     */
+    @Test
+    void testFill() {
+        final LongGenerator generator = new LongGenerator();
+        final long[] expected = RandomSources.withSource(RandomSources.seeded(SEED), () -> {
+            final long[] values = new long[SIZE];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = generator.nextLong();
+            }
+            return values;
+        });
+        final long[] result = RandomSources.withSource(RandomSources.seeded(SEED), () -> {
+            final long[] values = new long[SIZE];
+            generator.fill(values);
+            return values;
+        });
+        assertArrayEquals(expected, result);
+        assertThrows(NullPointerException.class, () -> {
+            generator.fill(null);
+        });
+    }
+
+    /**
+     * Unit test for {@link LongGenerator#longs(long)}
+     */
+    @Test
+    void testLongs() {
+        final LongGenerator generator = new LongGenerator();
+        final long[] expected = RandomSources.withSource(RandomSources.seeded(SEED), () -> {
+            final long[] values = new long[SIZE];
+            generator.fill(values);
+            return values;
+        });
+        final long[] result = RandomSources.withSource(
+                RandomSources.seeded(SEED),
+                () -> generator.longs(SIZE)).toArray();
+        assertArrayEquals(expected, result);
+        assertEquals(0, generator.longs(0).count());
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.longs(-1);
+        });
+    }
+
+    /**
+     * Unit test for {@link LongGenerator#defaultValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testDefaultValue_Range() {
+        GeneratorsTestUtils.assertIntegralDefaultValueRange(new LongGenerator());
+    }
+
+    /**
+     * Unit test for {@link LongGenerator#randomValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testRandomValue_Range() {
+        GeneratorsTestUtils.assertIntegralRandomValueRange(new LongGenerator(),
+                Long.MIN_VALUE, Long.MAX_VALUE, SIZE);
+    }
+
+    /**
+     * Unit test for {@link LongGenerator#randomLong(long, long)}
+     */
+    @Test
+    void testRandomLong_Range() {
+        for (int i = 0; i < SIZE; i++) {
+            final long result = LongGenerator.randomLong(-5, 5);
+            assertTrue(result >= -5 && result <= 5);
+        }
+        assertEquals(3, LongGenerator.randomLong(3, 3));
+        assertEquals(Long.MAX_VALUE, LongGenerator.randomLong(Long.MAX_VALUE, Long.MAX_VALUE));
+        assertEquals(Long.MIN_VALUE, LongGenerator.randomLong(Long.MIN_VALUE, Long.MIN_VALUE));
+        GeneratorsTestUtils.assertRandomGeneration(
+                () -> LongGenerator.randomLong(Long.MIN_VALUE, Long.MAX_VALUE), 100, 2);
+        assertThrows(IllegalArgumentException.class, () -> {
+            LongGenerator.randomLong(5, -5);
+        });
+    }
 }
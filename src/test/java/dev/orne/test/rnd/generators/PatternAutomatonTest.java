@@ -0,0 +1,237 @@
+package dev.orne.test.rnd.generators;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.test.rnd.GenerationException;
+import dev.orne.test.rnd.RandomSource;
+import dev.orne.test.rnd.SplittableRandomSource;
+
+/**
+ * Unit tests for {@code PatternAutomaton}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.2, 2026-10
+ * @since 0.3
+ * @see PatternAutomaton
+ */
+@Tag("ut")
+class PatternAutomatonTest {
+
+    /** Supported regular expressions. */
+    private static final String[] SUPPORTED = {
+            "abc",
+            "a|b|cd",
+            "[a-z]+",
+            "[^a-z]*",
+            "[a-z&&[^aeiou]]{3,5}",
+            "[\\w&&\\D]{2}",
+            "\\d{3}-\\d{2}-\\d{4}",
+            "[A-Z]{2}\\d{6}[A-Z]?",
+            "(?:ab|cd)*e?",
+            "(?<year>\\d{4})-(0[1-9]|1[0-2])",
+            "(?i)[a-f0-9]{8}",
+            "^\\s*\\S+$",
+            "\\Qa.b*c\\E+",
+            ".{2,4}",
+            "\\p{Alpha}\\p{Alnum}{0,7}",
+            "\\P{Digit}\\p{Punct}\\p{XDigit}",
+            "[\\x41-\\x43\\u0061\\0101\\t\\-]+",
+            "a{0}b{1,}c{2,3}?d*+",
+            "[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}",
+            "\\Aé\\z",
+            "(?=[a-z]+\\z)[a-f]{3}",
+            "(?=(?:\\d+)\\z)(?=(?:[1-5]{2,4})\\z)(?:\\d{3}|\\d{4})",
+    };
+    /** Invalid or unsupported regular expressions. */
+    private static final String[] UNSUPPORTED = {
+            "(a",
+            "a)",
+            "[a-",
+            "[z-a]",
+            "*a",
+            "a{3,2}",
+            "a{x}",
+            "(a)\\1",
+            "\\bword\\b",
+            "(?=a)a",
+            "(?=a\\\\z)a",
+            "(?=a\\z)a|b",
+            "a(?=b\\z)b",
+            "(?=a\\z)a)",
+            "(?<!a)b",
+            "(?>a)",
+            "(?x)a b",
+            "\\p{InGreek}",
+            "\\xZZ",
+            "a{50000}",
+            "\\",
+    };
+
+    /**
+     * Unit test for {@link PatternAutomaton#randomString(RandomSource, int, int)}
+     * for supported regular expressions.
+     */
+    @Test
+    void testRandomString() {
+        final RandomSource source = new SplittableRandomSource();
+        for (final String regex : SUPPORTED) {
+            final PatternAutomaton automaton = PatternAutomaton.compile(regex);
+            final Pattern pattern = Pattern.compile(regex);
+            final int min = automaton.minLength(0);
+            assertTrue(min >= 0, regex);
+            for (int i = 0; i < 200; i++) {
+                final String result = automaton.randomString(source, 0, min + 20);
+                assertTrue(pattern.matcher(result).matches(),
+                        () -> "'" + result + "' does not match " + regex);
+            }
+        }
+    }
+
+    /**
+     * Unit test for {@link PatternAutomaton#randomString(RandomSource, int, int)}
+     * with length bounds.
+     */
+    @Test
+    void testRandomString_Lengths() {
+        final PatternAutomaton automaton = PatternAutomaton.compile("(ab)+c?");
+        final RandomSource source = new SplittableRandomSource();
+        final Set<Integer> lengths = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            final String result = automaton.randomString(source, 3, 7);
+            assertTrue(result.matches("(ab)+c?"));
+            lengths.add(result.length());
+        }
+        assertEquals(new HashSet<>(Arrays.asList(3, 4, 5, 6, 7)), lengths);
+        assertEquals(5000, automaton.randomString(source, 5000, 5000).length());
+        assertThrows(GenerationException.class, () -> automaton.randomString(source, 0, 1));
+        assertThrows(GenerationException.class,
+                () -> PatternAutomaton.compile("\\d{3}").randomString(source, 4, 10));
+    }
+
+    /**
+     * Unit test for {@link PatternAutomaton#randomString(RandomSource, int, int)}
+     * with wide length bounds.
+     */
+    @Test
+    void testRandomString_WideLengths() {
+        final RandomSource source = new SplittableRandomSource();
+        final PatternAutomaton bounded = PatternAutomaton.compile("a{2,5}");
+        final Set<Integer> lengths = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            lengths.add(bounded.randomString(source, 0, Integer.MAX_VALUE).length());
+        }
+        assertEquals(new HashSet<>(Arrays.asList(2, 3, 4, 5)), lengths);
+        final PatternAutomaton periodic = PatternAutomaton.compile("x(abc)*|y{2}");
+        for (int i = 0; i < 500; i++) {
+            final String result = periodic.randomString(source, 2, 100);
+            assertTrue(result.matches("x(abc)*|y{2}"), result);
+        }
+        assertThrows(GenerationException.class,
+                () -> periodic.randomString(source, 3, 3));
+        assertThrows(GenerationException.class,
+                () -> periodic.randomString(source, Integer.MAX_VALUE - 1, Integer.MAX_VALUE - 1));
+    }
+
+    /**
+     * Unit test for {@link PatternAutomaton#accepts(int)} and
+     * {@link PatternAutomaton#minLength(int)}.
+     */
+    @Test
+    void testLengths() {
+        final PatternAutomaton automaton = PatternAutomaton.compile("x(abc)*|y{2}");
+        assertFalse(automaton.accepts(-1));
+        assertFalse(automaton.accepts(0));
+        assertTrue(automaton.accepts(1));
+        assertTrue(automaton.accepts(2));
+        assertFalse(automaton.accepts(3));
+        assertTrue(automaton.accepts(4));
+        assertTrue(automaton.accepts(3001));
+        assertFalse(automaton.accepts(3002));
+        assertEquals(1, automaton.minLength(0));
+        assertEquals(2, automaton.minLength(2));
+        assertEquals(4, automaton.minLength(3));
+        assertEquals(1000, automaton.minLength(998));
+        assertEquals(-1, PatternAutomaton.compile("a{2}").minLength(3));
+        assertEquals(Integer.MAX_VALUE, automaton.minLength(Integer.MAX_VALUE - 1));
+        assertEquals(-1, PatternAutomaton.compile("(ab)*").minLength(Integer.MAX_VALUE));
+        assertEquals(-1, PatternAutomaton.compile("[^\\x00-\\uFFFF]").minLength(0));
+    }
+
+    /**
+     * Unit test for {@link PatternAutomaton#of(String)}.
+     */
+    @Test
+    void testOf() {
+        final PatternAutomaton automaton = PatternAutomaton.of("[a-c]{4}");
+        assertEquals("[a-c]{4}", automaton.getPattern());
+        assertSame(automaton, PatternAutomaton.of("[a-c]{4}"));
+        assertNotSame(automaton, PatternAutomaton.of("[a-c]{5}"));
+        assertThrows(NullPointerException.class, () -> PatternAutomaton.of(null));
+    }
+
+    /**
+     * Unit test for {@link PatternAutomaton#compile(String)} with leading
+     * look-ahead groups.
+     */
+    @Test
+    void testCompile_Intersection() {
+        final RandomSource source = new SplittableRandomSource();
+        final PatternAutomaton automaton = PatternAutomaton.compile(
+                "(?=(?:[a-z]{2,6})\\z)(?:[a-c]+x?)");
+        assertEquals(2, automaton.minLength(0));
+        assertEquals(-1, automaton.minLength(7));
+        for (int i = 0; i < 200; i++) {
+            final String result = automaton.randomString(source, 0, 10);
+            assertTrue(result.matches("[a-z]{2,6}"), result);
+            assertTrue(result.matches("[a-c]+x?"), result);
+        }
+        final PatternAutomaton empty = PatternAutomaton.compile("(?=[a-z]+\\z)\\d+");
+        assertEquals(-1, empty.minLength(0));
+        assertThrows(GenerationException.class, () -> empty.randomString(source, 0, 10));
+    }
+
+    /**
+     * Unit test for {@link PatternAutomaton#compile(String)} with invalid
+     * or unsupported regular expressions.
+     */
+    @Test
+    void testCompile_Invalid() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PatternAutomaton.compile("[a-z]{9000}"));
+        for (final String regex : UNSUPPORTED) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> PatternAutomaton.compile(regex),
+                    regex);
+        }
+    }
+}
@@ -30,18 +30,22 @@ import org.junit.jupiter.api.Test;
 import dev.orne.test.rnd.Generators;
 import dev.orne.test.rnd.GeneratorsTestUtils;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.params.NumberGenerationParameters;
 
 /**
  * Unit tests for {@code ShortGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see ShortGenerator
  */
 @Tag("ut")
 class ShortGeneratorTest {
 
+    /** The number of values to generate in range tests. */
+    private static final int SIZE = 100;
+
     /**
      * Integration test for automatic registration in {@code Generators}.
      * 
@@ -92,4 +96,21 @@ class ShortGeneratorTest {
         final ShortGenerator generator = new ShortGenerator();
         GeneratorsTestUtils.assertRandomGeneration(generator, 100, 2);
     }
+
+    /**
+     * Unit test for {@link ShortGenerator#defaultValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testDefaultValue_Range() {
+        GeneratorsTestUtils.assertIntegralDefaultValueRange(new ShortGenerator());
+    }
+
+    /**
+     * Unit test for {@link ShortGenerator#randomValue(NumberGenerationParameters)}
+     */
+    @Test
+    void testRandomValue_Range() {
+        GeneratorsTestUtils.assertIntegralRandomValueRange(new ShortGenerator(),
+                Short.MIN_VALUE, Short.MAX_VALUE, SIZE);
+    }
 }
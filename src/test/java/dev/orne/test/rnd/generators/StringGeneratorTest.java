@@ -25,21 +25,26 @@ package dev.orne.test.rnd.generators;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Set;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import dev.orne.test.rnd.GenerationException;
 import dev.orne.test.rnd.Generators;
 import dev.orne.test.rnd.GeneratorsTestUtils;
 import dev.orne.test.rnd.Priority;
+import dev.orne.test.rnd.params.Alphabet;
+import dev.orne.test.rnd.params.SizeParameters;
 import dev.orne.test.rnd.params.StringGenerationParameters;
 
 /**
  * Unit tests for {@code StringGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-10
+ * @version 1.3, 2026-10
  * @since 0.1
  * @see StringGenerator
  */
@@ -79,6 +84,16 @@ class StringGeneratorTest {
         assertFalse(generator.supports(CharSequence[].class));
     }
 
+    /**
+     * Unit test for {@link StringGenerator#getSupportedTypes()}
+     */
+    @Test
+    void testGetSupportedTypes() {
+        assertEquals(
+                new HashSet<>(Arrays.asList(String.class, CharSequence.class)),
+                new StringGenerator().getSupportedTypes());
+    }
+
     /**
      * Unit test for {@link StringGenerator#defaultValue(StringGenerationParameters)}
      */
@@ -174,4 +189,157 @@ class StringGeneratorTest {
             assertTrue(params.getMaxSize() >= result.length());
         }
     }
+
+    /**
+     * Unit test for {@link StringGenerator#randomValue(StringGenerationParameters)}
+     * with explicit sizes greater than {@link StringGenerator#MAX_SIZE}.
+     */
+    @Test
+    void testRandomValue_Large() {
+        final StringGenerationParameters params = StringGenerator.createParameters()
+                .withMinSize(100)
+                .withMaxSize(200);
+        final StringGenerator generator = new StringGenerator();
+        final Set<String> results = GeneratorsTestUtils.assertRandomGeneration(
+                generator,
+                100,
+                2,
+                params);
+        for (final String result : results) {
+            assertTrue(params.getMinSize() <= result.length());
+            assertTrue(params.getMaxSize() >= result.length());
+        }
+        params.setMaxSize(SizeParameters.DEFAULT_MAX_SIZE);
+        assertEquals(100, generator.randomValue(params).length());
+    }
+
+    /**
+     * Unit test for {@link StringGenerator#randomValue(StringGenerationParameters)}
+     * with alphabets.
+     */
+    @Test
+    void testRandomValue_Alphabet() {
+        final StringGenerator generator = new StringGenerator();
+        for (final Alphabet alphabet : Arrays.asList(
+                Alphabet.ASCII,
+                Alphabet.ALPHANUMERIC,
+                Alphabet.HEX,
+                Alphabet.LATIN_1,
+                Alphabet.of("xyz"))) {
+            final StringGenerationParameters params = StringGenerator.createParameters()
+                    .withAlphabet(alphabet);
+            final Set<String> results = GeneratorsTestUtils.assertRandomGeneration(
+                    generator,
+                    100,
+                    2,
+                    params);
+            for (final String result : results) {
+                assertTrue(StringGenerator.MIN_SIZE <= result.length());
+                assertTrue(StringGenerator.MAX_SIZE >= result.length());
+                assertAlphabet(alphabet, result);
+            }
+        }
+    }
+
+    /**
+     * Unit test for {@link StringGenerator#randomValue(StringGenerationParameters)}
+     * with alphabets and sizes greater than the reusable buffer.
+     */
+    @Test
+    void testRandomValue_AlphabetLarge() {
+        final StringGenerator generator = new StringGenerator();
+        final StringGenerationParameters params = StringGenerator.createParameters()
+                .withAlphabet(Alphabet.ALPHANUMERIC)
+                .withMinSize(StringGenerator.BUFFER_SIZE / 2)
+                .withMaxSize(StringGenerator.BUFFER_SIZE * 2);
+        final Set<String> results = GeneratorsTestUtils.assertRandomGeneration(
+                generator,
+                10,
+                2,
+                params);
+        for (final String result : results) {
+            assertTrue(params.getMinSize() <= result.length());
+            assertTrue(params.getMaxSize() >= result.length());
+            assertAlphabet(Alphabet.ALPHANUMERIC, result);
+        }
+    }
+
+    /**
+     * Verifies that all the characters of the string belong to the
+     * alphabet.
+     * 
+     * @param alphabet The expected alphabet
+     * @param value The string to verify
+     */
+    private static void assertAlphabet(
+            final Alphabet alphabet,
+            final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            assertTrue(alphabet.contains(value.charAt(i)));
+        }
+    }
+
+    /**
+     * Unit test for {@link StringGenerator#randomValue(StringGenerationParameters)}
+     * with regular expressions.
+     */
+    @Test
+    void testRandomValue_Pattern() {
+        final StringGenerator generator = new StringGenerator();
+        final String regex = "[A-Z]{2}-\\d{2,6}(/[a-z]+)?";
+        final StringGenerationParameters params = StringGenerator.createParameters()
+                .withAlphabet(Alphabet.HEX)
+                .withPattern(regex);
+        Set<String> results = GeneratorsTestUtils.assertRandomGeneration(
+                generator,
+                100,
+                2,
+                params);
+        for (final String result : results) {
+            assertTrue(result.matches(regex));
+            assertTrue(StringGenerator.MAX_SIZE >= result.length());
+        }
+        params.setMinSize(6);
+        params.setMaxSize(7);
+        results = GeneratorsTestUtils.assertRandomGeneration(
+                generator,
+                100,
+                2,
+                params);
+        for (final String result : results) {
+            assertTrue(result.matches(regex));
+            assertTrue(params.getMinSize() <= result.length());
+            assertTrue(params.getMaxSize() >= result.length());
+        }
+    }
+
+    /**
+     * Unit test for {@link StringGenerator#randomValue(StringGenerationParameters)}
+     * with regular expressions with minimum length greater than
+     * {@link StringGenerator#MAX_SIZE}.
+     */
+    @Test
+    void testRandomValue_PatternLong() {
+        final StringGenerator generator = new StringGenerator();
+        final StringGenerationParameters params = StringGenerator.createParameters()
+                .withPattern("[a-z]{100}x*");
+        final String result = generator.randomValue(params);
+        assertEquals(100, result.length());
+        assertTrue(result.matches("[a-z]{100}x*"));
+    }
+
+    /**
+     * Unit test for {@link StringGenerator#randomValue(StringGenerationParameters)}
+     * with unsupported or unmatchable regular expressions.
+     */
+    @Test
+    void testRandomValue_PatternInvalid() {
+        final StringGenerator generator = new StringGenerator();
+        final StringGenerationParameters params = StringGenerator.createParameters()
+                .withPattern("(a)\\1");
+        assertThrows(GenerationException.class, () -> generator.randomValue(params));
+        params.setPattern("\\d{3}");
+        params.setMinSize(4);
+        assertThrows(GenerationException.class, () -> generator.randomValue(params));
+    }
 }
@@ -24,12 +24,13 @@ package dev.orne.test.rnd.it;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
@@ -89,16 +90,44 @@ class GenerationParametersIT {
      * Test for {@code NumberParameters} creation.
      */
     @Test
-    @Disabled(value = "Needs support in number generators")
     void testNumberParameters() {
         final NumberParameters params = GenerationParameters.forNumbers().withMin(10);
         Long result;
         result = Generators.defaultValue(Long.class, params);
         assertEquals(10, result);
         result = Generators.nullableDefaultValue(Long.class, params);
+        assertNull(result);
+        result = Generators.defaultValue(long.class, params);
+        assertEquals(10, result);
+        result = Generators.nullableDefaultValue(long.class, params);
         assertEquals(10, result);
         GeneratorsTestUtils.assertRandomGeneration(Long.class, 100, 2, params);
         GeneratorsTestUtils.assertNullableRandomGeneration(Long.class, 100, 2, params);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(Generators.randomValue(Long.class, params) >= 10);
+        }
+    }
+
+    /**
+     * Test for {@code NumberParameters} support in numeric generators.
+     */
+    @Test
+    void testNumberParametersRanges() {
+        final NumberParameters params = GenerationParameters.forNumbers()
+                .withMin(-5)
+                .withMax(5);
+        final Class<?>[] types = new Class<?>[] {
+            Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class
+        };
+        for (final Class<?> type : types) {
+            for (int i = 0; i < 1000; i++) {
+                final Number value = (Number) Generators.randomValue(type, params);
+                assertTrue(value.doubleValue() >= -5, () -> type + ": " + value);
+                assertTrue(value.doubleValue() <= 5, () -> type + ": " + value);
+            }
+            assertEquals(0, ((Number) Generators.defaultValue(type, params)).intValue());
+        }
     }
 
     /**
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 import javax.validation.groups.Default;
 
@@ -39,7 +40,7 @@ import dev.orne.test.rnd.params.TargetedGenerator;
  * Integration test for targeted generators.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-12
+ * @version 1.2, 2026-10
  * @since 0.1
  */
 @Tag("it")
@@ -93,6 +94,55 @@ class TargetedGenerationIT {
         assertGeneratedValues(generator);
     }
 
+    /**
+     * Test for generator for bean property with pattern constraint.
+     */
+    @Test
+    void testTargetPatternPropertyGeneration() {
+        final TargetedGenerator<String> generator = Generators.forProperty(
+                TestType.class,
+                "code");
+        for (int i = 0; i < 100; i++) {
+            final String result = generator.randomValue();
+            assertTrue(result.matches(TestType.CODE_PATTERN));
+            assertTrue(result.length() >= 6);
+            assertTrue(result.length() <= 8);
+        }
+    }
+
+    /**
+     * Test for generator for bean property with pattern constraint with
+     * flags.
+     */
+    @Test
+    void testTargetPatternFlagsPropertyGeneration() {
+        final TargetedGenerator<String> generator = Generators.forProperty(
+                TestType.class,
+                "label");
+        final java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(
+                TestType.LABEL_PATTERN,
+                java.util.regex.Pattern.CASE_INSENSITIVE);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(pattern.matcher(generator.randomValue()).matches());
+        }
+    }
+
+    /**
+     * Test for generator for bean property with multiple pattern
+     * constraints.
+     */
+    @Test
+    void testTargetMultiplePatternPropertyGeneration() {
+        final TargetedGenerator<String> generator = Generators.forProperty(
+                TestType.class,
+                "reference");
+        for (int i = 0; i < 100; i++) {
+            final String result = generator.randomValue();
+            assertTrue(result.matches("[a-z]+"), result);
+            assertTrue(result.matches("[a-f]{3}"), result);
+        }
+    }
+
     private void assertGeneratedValues(
             final TargetedGenerator<String> generator) {
         String result;
@@ -132,6 +182,18 @@ class TargetedGenerationIT {
     }
 
     public static class TestType {
+        static final String CODE_PATTERN = "[A-Z]{2}-\\d{2,6}";
+        @Pattern(regexp = CODE_PATTERN)
+        @Size(min = 6, max = 8)
+        private String code;
+        static final String LABEL_PATTERN = "[a-z]{2}-[a-z]{3}";
+        @Pattern(regexp = LABEL_PATTERN, flags = Pattern.Flag.CASE_INSENSITIVE)
+        private String label;
+        @Pattern.List({
+            @Pattern(regexp = "[a-z]+"),
+            @Pattern(regexp = "[a-f]{3}")
+        })
+        private String reference;
         @NotNull(groups = NotNullMode.class)
         @NotBlank(groups = NotBlankMode.class)
         @Size(groups = SizeMode.class, min = 3, max = 8)
@@ -153,6 +215,24 @@ class TargetedGenerationIT {
         public void setName(String name) {
             this.name = name;
         }
+        public String getCode() {
+            return code;
+        }
+        public void setCode(String code) {
+            this.code = code;
+        }
+        public String getLabel() {
+            return label;
+        }
+        public void setLabel(String label) {
+            this.label = label;
+        }
+        public String getReference() {
+            return reference;
+        }
+        public void setReference(String reference) {
+            this.reference = reference;
+        }
         @NotNull(groups = NotNullMode.class)
         @NotBlank(groups = NotBlankMode.class)
         @Size(groups = SizeMode.class, min = 3, max = 8)
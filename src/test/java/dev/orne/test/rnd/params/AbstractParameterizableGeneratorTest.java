@@ -25,6 +25,9 @@ package dev.orne.test.rnd.params;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.validation.constraints.NotNull;
@@ -36,6 +39,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import dev.orne.test.rnd.UnsupportedValueTypeException;
+
 /**
  * Unit tests for {@code AbstractParameterizableGenerator}.
  * 
@@ -321,6 +326,96 @@ class AbstractParameterizableGeneratorTest {
         }
     }
 
+    /**
+     * Unit test for {@link AbstractParameterizableGenerator#randomValues(Class, int)}
+     */
+    @Test
+    void testRandomValues() {
+        final DirectChild generator = spy(new DirectChild());
+        final MyParams params = mock(MyParams.class);
+        final MyType expected = mock(MyType.class);
+        willReturn(true).given(generator).supports(MyType.class);
+        willReturn(params).given(generator).createEmptyParams();
+        willReturn(expected).given(generator).randomValue(MyType.class, params);
+        final List<MyType> result = generator.randomValues(MyType.class, 3);
+        assertEquals(Collections.nCopies(3, expected), result);
+        then(generator).should(times(1)).createEmptyParams();
+        then(generator).should(times(1)).supports(MyType.class);
+        then(generator).should(times(3)).randomValue(MyType.class, params);
+        then(params).shouldHaveNoInteractions();
+    }
+
+    /**
+     * Unit test for {@link AbstractParameterizableGenerator#randomValues(Class, int, Object...)}
+     */
+    @Test
+    void testRandomValuesSources() {
+        final DirectChild generator = spy(new DirectChild());
+        final MyParams params = mock(MyParams.class);
+        final MyType expected = mock(MyType.class);
+        final Object[] sources = new Object[] {
+                spy(Object.class),
+                spy(Object.class)
+        };
+        willReturn(true).given(generator).supports(MyType.class);
+        willReturn(params).given(generator).createParams(sources);
+        willReturn(expected).given(generator).randomValue(MyType.class, params);
+        final List<MyType> result = generator.randomValues(MyType.class, 3, sources);
+        assertEquals(Collections.nCopies(3, expected), result);
+        then(generator).should(times(1)).createParams(sources);
+        then(generator).should(times(1)).supports(MyType.class);
+        then(generator).should(times(3)).randomValue(MyType.class, params);
+        then(params).shouldHaveNoInteractions();
+        for (int i = 0; i < sources.length; i++) {
+            then(sources[i]).shouldHaveNoInteractions();
+        }
+    }
+
+    /**
+     * Unit test for {@link AbstractParameterizableGenerator#randomValues(Class, int, GenerationParameters)}
+     */
+    @Test
+    void testRandomValuesParams_Invalid() {
+        final DirectChild generator = spy(new DirectChild());
+        final MyParams params = mock(MyParams.class);
+        assertThrows(UnsupportedValueTypeException.class, () -> {
+            generator.randomValues(MyType.class, 3, params);
+        });
+        willReturn(true).given(generator).supports(MyType.class);
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.randomValues(MyType.class, -1, params);
+        });
+        then(generator).should(never()).randomValue(MyType.class, params);
+    }
+
+    /**
+     * Unit test for {@link AbstractParameterizableGenerator#stream(Class, Object...)}
+     */
+    @Test
+    void testStreamSources() {
+        final DirectChild generator = spy(new DirectChild());
+        final MyParams params = mock(MyParams.class);
+        final MyType expected = mock(MyType.class);
+        final Object[] sources = new Object[] {
+                spy(Object.class),
+                spy(Object.class)
+        };
+        willReturn(true).given(generator).supports(MyType.class);
+        willReturn(params).given(generator).createParams(sources);
+        willReturn(expected).given(generator).randomValue(MyType.class, params);
+        final List<MyType> result = generator.stream(MyType.class, sources)
+                .limit(3)
+                .collect(Collectors.toList());
+        assertEquals(Collections.nCopies(3, expected), result);
+        then(generator).should(times(1)).createParams(sources);
+        then(generator).should(times(1)).supports(MyType.class);
+        then(generator).should(times(3)).randomValue(MyType.class, params);
+        willReturn(false).given(generator).supports(MyType.class);
+        assertThrows(UnsupportedValueTypeException.class, () -> {
+            generator.stream(MyType.class);
+        });
+    }
+
     /**
      * Unit test for {@link AbstractParameterizableGenerator#nullableRandomValue(Class)}
      */
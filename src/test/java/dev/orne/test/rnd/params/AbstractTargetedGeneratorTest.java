@@ -29,7 +29,9 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.validation.constraints.NotNull;
 
@@ -38,12 +40,13 @@ import org.junit.jupiter.api.Test;
 
 import dev.orne.test.rnd.Generator;
 import dev.orne.test.rnd.Generators;
+import dev.orne.test.rnd.generators.IntegerGenerator;
 
 /**
  * Unit tests for {@code AbstractTargetedGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.3, 2026-10
  * @since 0.1
  * @see AbstractTargetedGenerator
  */
@@ -196,6 +199,215 @@ class AbstractTargetedGeneratorTest {
         then(generator).should().getParameterSources(MyGroup.class);
     }
 
+    /**
+     * Unit test for {@link AbstractTargetedGenerator#randomValues(int, Class...)}
+     */
+    @Test
+    void testRandomValues() {
+        final Generator delegated = spy(Generator.class);
+        willReturn(true).given(delegated).supports(MyType.class);
+        final GenericChild<MyType> generator = spy(new GenericChild<>(MyType.class, delegated));
+        final MyType mockResult = mock(MyType.class);
+        willReturn(mockResult).given(delegated).randomValue(MyType.class);
+        final List<MyType> result = generator.randomValues(3, MyGroup.class);
+        assertEquals(Collections.nCopies(3, mockResult), result);
+        then(delegated).should(times(3)).randomValue(MyType.class);
+        then(generator).should(never()).getParameterSources(MyGroup.class);
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.randomValues(-1, MyGroup.class);
+        });
+    }
+
+    /**
+     * Unit test for {@link AbstractTargetedGenerator#parallelValues(int, Class...)}
+     */
+    @Test
+    void testParallelValues() {
+        final Generator delegated = spy(Generator.class);
+        willReturn(true).given(delegated).supports(MyType.class);
+        final GenericChild<MyType> generator = spy(new GenericChild<>(MyType.class, delegated));
+        final MyType mockResult = mock(MyType.class);
+        willReturn(mockResult).given(delegated).randomValue(MyType.class);
+        final List<MyType> result = generator.parallelValues(100, MyGroup.class);
+        assertEquals(Collections.nCopies(100, mockResult), result);
+        then(delegated).should(times(100)).randomValue(MyType.class);
+        assertTrue(generator.parallelValues(0, MyGroup.class).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> {
+            generator.parallelValues(-1, MyGroup.class);
+        });
+    }
+
+    /**
+     * Unit test for {@link AbstractTargetedGenerator#randomValues(int, Class...)}
+     */
+    @Test
+    void testRandomValues_Parameterizable() {
+        final ParameterizableGenerator delegated = spy(ParameterizableGenerator.class);
+        willReturn(true).given(delegated).supports(MyType.class);
+        final GenericChild<MyType> generator = spy(new GenericChild<>(MyType.class, delegated));
+        final Object[] sources = new Object[] { new Object() };
+        willReturn(sources).given(generator).getParameterSources(MyGroup.class);
+        final MyType mockResult = mock(MyType.class);
+        willReturn(mockResult).given(delegated).randomValue(MyType.class, sources);
+        final List<MyType> result = generator.randomValues(3, MyGroup.class);
+        assertEquals(Collections.nCopies(3, mockResult), result);
+        then(delegated).should(times(3)).randomValue(MyType.class, sources);
+        then(generator).should(times(1)).getParameterSources(MyGroup.class);
+    }
+
+    /**
+     * Unit test for {@link AbstractTargetedGenerator#randomValues(int, Class...)}
+     */
+    @Test
+    void testRandomValues_AbstractParameterizable() {
+        final MyParamsGenerator delegated = spy(new MyParamsGenerator());
+        final GenericChild<MyType> generator = spy(new GenericChild<>(MyType.class, delegated));
+        final Object[] sources = new Object[] { new Object() };
+        willReturn(sources).given(generator).getParameterSources(MyGroup.class);
+        final NullableParametersImpl params = new NullableParametersImpl();
+        willReturn(params).given(delegated).createParams(sources);
+        final MyType mockResult = mock(MyType.class);
+        willReturn(mockResult).given(delegated).randomValue(MyType.class, params);
+        final List<MyType> result = generator.randomValues(3, MyGroup.class);
+        assertEquals(Collections.nCopies(3, mockResult), result);
+        then(generator).should(times(1)).getParameterSources(MyGroup.class);
+        then(delegated).should(times(1)).createParams(sources);
+        then(delegated).should(times(3)).randomValue(MyType.class, params);
+    }
+
+    /**
+     * Unit test for {@link AbstractTargetedGenerator#randomValue(Class...)}
+     */
+    @Test
+    void testRandomValue_AbstractParameterizable() {
+        final MyParamsGenerator delegated = spy(new MyParamsGenerator());
+        final GenericChild<MyType> generator = spy(new GenericChild<>(MyType.class, delegated));
+        final Object[] sources = new Object[] { new Object() };
+        willReturn(Arrays.asList(sources)).given(generator).getParameterSourceList(MyGroup.class);
+        final NullableParametersImpl params = new NullableParametersImpl();
+        willReturn(params).given(delegated).createParams(sources);
+        final MyType mockResult = mock(MyType.class);
+        willReturn(mockResult).given(delegated).randomValue(MyType.class, params);
+        assertSame(mockResult, generator.randomValue(MyGroup.class));
+        assertSame(mockResult, generator.randomValue(MyGroup.class));
+        then(generator).should(times(1)).getParameterSourceList(MyGroup.class);
+        then(delegated).should(times(1)).createParams(sources);
+        then(delegated).should(times(2)).randomValue(MyType.class, params);
+    }
+
+    /**
+     * Unit test for {@link AbstractTargetedGenerator#getGenerationParameters(Class...)}
+     */
+    @Test
+    void testGetGenerationParameters() {
+        final MyParamsGenerator delegated = spy(new MyParamsGenerator());
+        final GenericChild<MyType> generator = spy(new GenericChild<>(MyType.class, delegated));
+        final Object[] sources = new Object[] { new Object() };
+        willReturn(sources).given(generator).getParameterSources(MyGroup.class);
+        final Object[] otherSources = new Object[] { new Object() };
+        willReturn(otherSources).given(generator).getParameterSources(MyGroup.class, OtherGroup.class);
+        final NullableParametersImpl params = new NullableParametersImpl();
+        final NullableParametersImpl otherParams = new NullableParametersImpl();
+        willReturn(params).given(delegated).createParams(sources);
+        willReturn(otherParams).given(delegated).createParams(otherSources);
+        assertSame(params, generator.getGenerationParameters(MyGroup.class));
+        assertSame(params, generator.getGenerationParameters(MyGroup.class));
+        assertSame(otherParams, generator.getGenerationParameters(MyGroup.class, OtherGroup.class));
+        assertSame(otherParams, generator.getGenerationParameters(MyGroup.class, OtherGroup.class));
+        then(delegated).should(times(1)).createParams(sources);
+        then(delegated).should(times(1)).createParams(otherSources);
+    }
+
+    /**
+     * Unit test for {@link AbstractTargetedGenerator#getGenerationParameters(Class...)}
+     */
+    @Test
+    void testGetGenerationParameters_Reconfigured() {
+        final MyParamsGenerator delegated = spy(new MyParamsGenerator());
+        final GenericChild<MyType> generator = spy(new GenericChild<>(MyType.class, delegated));
+        final Object[] sources = new Object[] { new Object() };
+        willReturn(sources).given(generator).getParameterSources(MyGroup.class);
+        final NullableParametersImpl params = new NullableParametersImpl();
+        final NullableParametersImpl newParams = new NullableParametersImpl();
+        willReturn(params, newParams).given(delegated).createParams(sources);
+        assertSame(params, generator.getGenerationParameters(MyGroup.class));
+        ParametersExtractors.reset();
+        assertSame(newParams, generator.getGenerationParameters(MyGroup.class));
+        assertSame(newParams, generator.getGenerationParameters(MyGroup.class));
+        then(delegated).should(times(2)).createParams(sources);
+    }
+
+    /**
+     * Unit test for {@link AbstractTargetedGenerator#getParameterSources(Class...)}
+     * and {@link AbstractTargetedGenerator#getGenerationParameters(Class...)}
+     * when constraint resolution is reconfigured after first use.
+     */
+    @Test
+    void testGetGenerationParameters_ConstraintsReconfigured() {
+        final MyParamsGenerator delegated = spy(new MyParamsGenerator());
+        final GenericChild<MyType> generator = spy(new GenericChild<>(MyType.class, delegated));
+        willReturn(Collections.emptyList()).given(generator).getTargetConstraints(MyGroup.class);
+        try {
+            generator.getParameterSources(MyGroup.class);
+            final GenerationParameters params = generator.getGenerationParameters(MyGroup.class);
+            assertSame(params, generator.getGenerationParameters(MyGroup.class));
+            then(generator).should(times(1)).getTargetConstraints(MyGroup.class);
+            ConstraintIntrospector.setStrategy(ConstraintIntrospector.Strategy.REFLECTION);
+            final GenerationParameters reflectionParams = generator.getGenerationParameters(MyGroup.class);
+            assertNotSame(params, reflectionParams);
+            assertSame(reflectionParams, generator.getGenerationParameters(MyGroup.class));
+            then(generator).should(times(2)).getTargetConstraints(MyGroup.class);
+            ConstraintIntrospector.setDefaultValidator(null);
+            generator.getParameterSources(MyGroup.class);
+            assertNotSame(reflectionParams, generator.getGenerationParameters(MyGroup.class));
+            then(generator).should(times(3)).getTargetConstraints(MyGroup.class);
+        } finally {
+            ConstraintIntrospector.setStrategy(ConstraintIntrospector.Strategy.VALIDATOR);
+            ConstraintIntrospector.setDefaultValidator(null);
+        }
+    }
+
+    /**
+     * Unit test for {@link AbstractTargetedGenerator#getGenerationParameters(Class...)}
+     * with numeric generators.
+     */
+    @Test
+    void testGetGenerationParameters_Number() {
+        final IntegerGenerator delegated = spy(new IntegerGenerator());
+        final GenericChild<Integer> generator = spy(new GenericChild<>(Integer.class, delegated));
+        final Object[] sources = new Object[] { new Object() };
+        willReturn(sources).given(generator).getParameterSources(MyGroup.class);
+        final NumberGenerationParameters params = new NumberGenerationParameters()
+                .withMin(5)
+                .withMax(5);
+        willReturn(params).given(delegated).createParams(sources);
+        assertSame(params, generator.getGenerationParameters(MyGroup.class));
+        assertEquals(5, generator.randomValue(MyGroup.class));
+        assertEquals(Arrays.asList(5, 5), generator.randomValues(2, MyGroup.class));
+        then(delegated).should(times(1)).createParams(sources);
+        then(delegated).should(times(3)).randomValue(Integer.class, params);
+    }
+
+    /**
+     * Unit test for {@link AbstractTargetedGenerator#stream(Class...)}
+     */
+    @Test
+    void testStream_Parameterizable() {
+        final ParameterizableGenerator delegated = spy(ParameterizableGenerator.class);
+        willReturn(true).given(delegated).supports(MyType.class);
+        final GenericChild<MyType> generator = spy(new GenericChild<>(MyType.class, delegated));
+        final Object[] sources = new Object[] { new Object() };
+        willReturn(sources).given(generator).getParameterSources(MyGroup.class);
+        final MyType mockResult = mock(MyType.class);
+        willReturn(mockResult).given(delegated).randomValue(MyType.class, sources);
+        final List<MyType> result = generator.stream(MyGroup.class)
+                .limit(3)
+                .collect(Collectors.toList());
+        assertEquals(Collections.nCopies(3, mockResult), result);
+        then(delegated).should(times(3)).randomValue(MyType.class, sources);
+        then(generator).should(times(1)).getParameterSources(MyGroup.class);
+    }
+
     /**
      * Unit test for {@link AbstractTargetedGenerator#nullableRandomValue(Class...)}
      */
@@ -251,6 +463,28 @@ class AbstractTargetedGeneratorTest {
         then(generator).should().getParameterSourceList(MyGroup.class);
     }
 
+    /**
+     * Unit test for {@link AbstractTargetedGenerator#getParameterSources(Class...)}
+     */
+    @Test
+    void testGetParameterSources_Cached() {
+        final ParameterizableGenerator delegated = spy(ParameterizableGenerator.class);
+        willReturn(true).given(delegated).supports(MyType.class);
+        final GenericChild<MyType> generator = spy(new GenericChild<>(MyType.class, delegated));
+        final List<Object> sources = Arrays.asList(new Object(), new Object());
+        willReturn(sources).given(generator).getParameterSourceList(MyGroup.class);
+        final List<Object> otherSources = Arrays.asList(new Object());
+        willReturn(otherSources).given(generator).getParameterSourceList(OtherGroup.class);
+        final Object[] result = generator.getParameterSources(MyGroup.class);
+        assertArrayEquals(sources.toArray(), result);
+        result[0] = null;
+        assertArrayEquals(sources.toArray(), generator.getParameterSources(MyGroup.class));
+        assertArrayEquals(otherSources.toArray(), generator.getParameterSources(OtherGroup.class));
+        assertArrayEquals(otherSources.toArray(), generator.getParameterSources(OtherGroup.class));
+        then(generator).should(times(1)).getParameterSourceList(MyGroup.class);
+        then(generator).should(times(1)).getParameterSourceList(OtherGroup.class);
+    }
+
     /**
      * Unit test for {@link AbstractTargetedGenerator#getParameterSources(Class...)}
      */
@@ -329,6 +563,39 @@ class AbstractTargetedGeneratorTest {
     private interface MyType {}
     private interface OtherType {}
     private interface MyGroup {}
+    private interface OtherGroup {}
+    /**
+     * Parameterizable generator for test purposes.
+     */
+    protected static class MyParamsGenerator
+    extends AbstractParameterizableGenerator<NullableParametersImpl> {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean supports(
+                final @NotNull Class<?> type) {
+            return MyType.class.equals(type);
+        }
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T> @NotNull T defaultValue(
+                final @NotNull Class<T> type,
+                final @NotNull NullableParametersImpl parameters) {
+            return null;
+        }
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T> @NotNull T randomValue(
+                final @NotNull Class<T> type,
+                final @NotNull NullableParametersImpl parameters) {
+            return null;
+        }
+    }
     /**
      * Generic extension of {@code AbstractTargetedGenerator} for
      * test purposes.
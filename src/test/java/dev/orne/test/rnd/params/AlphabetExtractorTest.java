@@ -0,0 +1,78 @@
+package dev.orne.test.rnd.params;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.validation.constraints.NotNull;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code AlphabetExtractor}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see AlphabetExtractor
+ */
+@Tag("ut")
+class AlphabetExtractorTest
+extends BaseParametersSourceExtractorTest {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull Class<AlphabetExtractor> getType() {
+        return AlphabetExtractor.class;
+    }
+
+    /**
+     * Tests for supported parameters type.
+     */
+    @Test
+    void testSupportedParametersTypes() {
+        assertSupportsParametersType(StringGenerationParameters.class);
+    }
+
+    /**
+     * Tests for supported source type.
+     */
+    @Test
+    void testSupportedSourceTypes() {
+        assertSupportsSourceType(Alphabet.class);
+    }
+
+    /**
+     * Tests for {@link AlphabetExtractor#extractParameters(Alphabet, StringGenerationParameters)}.
+     */
+    @Test
+    void testExtractParameters() {
+        final AlphabetExtractor extractor = new AlphabetExtractor();
+        final StringGenerationParameters params = new StringGenerationParameters();
+        extractor.extractParameters(Alphabet.ALPHANUMERIC, params);
+        assertSame(Alphabet.ALPHANUMERIC, params.getAlphabet());
+    }
+}
@@ -0,0 +1,246 @@
+package dev.orne.test.rnd.params;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.orne.test.rnd.RandomSource;
+import dev.orne.test.rnd.SplittableRandomSource;
+
+/**
+ * Unit tests for {@code Alphabet}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see Alphabet
+ */
+@Tag("ut")
+class AlphabetTest {
+
+    /**
+     * Unit test for predefined alphabets.
+     */
+    @Test
+    void testPredefined() {
+        assertEquals(95, Alphabet.ASCII.size());
+        assertEquals(' ', Alphabet.ASCII.charAt(0));
+        assertEquals('~', Alphabet.ASCII.charAt(94));
+        assertEquals(62, Alphabet.ALPHANUMERIC.size());
+        assertTrue(Alphabet.ALPHANUMERIC.contains('0'));
+        assertTrue(Alphabet.ALPHANUMERIC.contains('Z'));
+        assertTrue(Alphabet.ALPHANUMERIC.contains('z'));
+        assertFalse(Alphabet.ALPHANUMERIC.contains(' '));
+        assertEquals(Alphabet.of("0123456789abcdef"), Alphabet.HEX);
+        assertEquals(191, Alphabet.LATIN_1.size());
+        assertTrue(Alphabet.LATIN_1.contains('é'));
+        assertFalse(Alphabet.LATIN_1.contains('\u0080'));
+    }
+
+    /**
+     * Unit test for {@link Alphabet#of(CharSequence)}.
+     */
+    @Test
+    void testOf() {
+        final Alphabet alphabet = Alphabet.of("abcab");
+        assertEquals(3, alphabet.size());
+        assertEquals('a', alphabet.charAt(0));
+        assertEquals('b', alphabet.charAt(1));
+        assertEquals('c', alphabet.charAt(2));
+        assertFalse(alphabet.contains('d'));
+        assertThrows(NullPointerException.class, () -> Alphabet.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.of(""));
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.of("a😀"));
+    }
+
+    /**
+     * Unit test for {@link Alphabet#fill(char[], int, int, RandomSource)}.
+     */
+    @Test
+    void testFill() {
+        final RandomSource source = new SplittableRandomSource();
+        for (final Alphabet alphabet : Arrays.asList(
+                Alphabet.ASCII,
+                Alphabet.ALPHANUMERIC,
+                Alphabet.HEX,
+                Alphabet.LATIN_1,
+                Alphabet.of("01"),
+                Alphabet.of("abc"))) {
+            final char[] buffer = new char[20000];
+            alphabet.fill(buffer, 10, 19980, source);
+            final Set<Character> generated = new HashSet<>();
+            for (int i = 0; i < buffer.length; i++) {
+                if (i < 10 || i >= 19990) {
+                    assertEquals('\0', buffer[i]);
+                } else {
+                    assertTrue(alphabet.contains(buffer[i]));
+                    generated.add(buffer[i]);
+                }
+            }
+            assertEquals(alphabet.size(), generated.size());
+        }
+    }
+
+    /**
+     * Unit test for {@link Alphabet#fill(char[], int, int, RandomSource)}
+     * with multiple characters per random {@code long}.
+     */
+    @Test
+    void testFill_Packed() {
+        final RandomSource source = mock(RandomSource.class);
+        given(source.nextLong()).willReturn(0xFEDCBA9876543210L);
+        final char[] buffer = new char[16];
+        Alphabet.HEX.fill(buffer, 0, 16, source);
+        assertEquals("0123456789abcdef", new String(buffer));
+        then(source).should(times(1)).nextLong();
+    }
+
+    /**
+     * Unit test for {@link Alphabet#fill(char[], int, int, RandomSource)}
+     * with rejected random bits.
+     */
+    @Test
+    void testFill_Rejection() {
+        final RandomSource source = mock(RandomSource.class);
+        given(source.nextLong()).willReturn(-1L, 0b10_11_01_00L);
+        final char[] buffer = new char[4];
+        Alphabet.of("abc").fill(buffer, 0, 4, source);
+        assertEquals("abca", new String(buffer));
+        then(source).should(times(2)).nextLong();
+    }
+
+    /**
+     * Unit test for {@link Alphabet#fill(char[], int, int, RandomSource)}
+     * with single character alphabet.
+     */
+    @Test
+    void testFill_SingleChar() {
+        final RandomSource source = mock(RandomSource.class);
+        final char[] buffer = new char[5];
+        Alphabet.of("x").fill(buffer, 1, 3, source);
+        assertArrayEquals(new char[] { '\0', 'x', 'x', 'x', '\0' }, buffer);
+        then(source).shouldHaveNoInteractions();
+    }
+
+    /**
+     * Unit test for {@link Alphabet#fill(char[], int, int, RandomSource)}
+     * with invalid arguments.
+     */
+    @Test
+    void testFill_Invalid() {
+        final RandomSource source = new SplittableRandomSource();
+        final char[] buffer = new char[5];
+        assertThrows(NullPointerException.class, () -> Alphabet.HEX.fill(null, 0, 1, source));
+        assertThrows(NullPointerException.class, () -> Alphabet.HEX.fill(buffer, 0, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.HEX.fill(buffer, -1, 1, source));
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.HEX.fill(buffer, 0, -1, source));
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.HEX.fill(buffer, 3, 3, source));
+    }
+
+    /**
+     * Unit test for {@link Alphabet#maxEncodedLength()}.
+     */
+    @Test
+    void testMaxEncodedLength() {
+        assertEquals(1, Alphabet.ASCII.maxEncodedLength());
+        assertEquals(1, Alphabet.HEX.maxEncodedLength());
+        assertEquals(2, Alphabet.LATIN_1.maxEncodedLength());
+        assertEquals(3, Alphabet.of("a€").maxEncodedLength());
+    }
+
+    /**
+     * Unit test for {@link Alphabet#fill(ByteBuffer, int, RandomSource)}.
+     */
+    @Test
+    void testFill_ByteBuffer() {
+        final RandomSource source = new SplittableRandomSource();
+        for (final Alphabet alphabet : Arrays.asList(
+                Alphabet.ALPHANUMERIC,
+                Alphabet.LATIN_1,
+                Alphabet.of("a€"),
+                Alphabet.of("é"))) {
+            for (final ByteBuffer buffer : new ByteBuffer[] {
+                    ByteBuffer.allocate(4000),
+                    ByteBuffer.allocateDirect(4000),
+                    ByteBuffer.wrap(new byte[4010], 10, 4000).slice() }) {
+                buffer.position(5);
+                final int written = alphabet.fill(buffer, 1000, source);
+                assertEquals(5 + written, buffer.position());
+                buffer.flip();
+                buffer.position(5);
+                final String text = StandardCharsets.UTF_8.decode(buffer).toString();
+                assertEquals(1000, text.length());
+                assertEquals(written, text.getBytes(StandardCharsets.UTF_8).length);
+                for (int i = 0; i < text.length(); i++) {
+                    assertTrue(alphabet.contains(text.charAt(i)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Unit test for {@link Alphabet#fill(ByteBuffer, int, RandomSource)}
+     * with invalid arguments.
+     */
+    @Test
+    void testFill_ByteBufferInvalid() {
+        final RandomSource source = new SplittableRandomSource();
+        final ByteBuffer buffer = ByteBuffer.allocate(5);
+        assertThrows(NullPointerException.class, () -> Alphabet.HEX.fill((ByteBuffer) null, 1, source));
+        assertThrows(NullPointerException.class, () -> Alphabet.HEX.fill(buffer, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.HEX.fill(buffer, -1, source));
+        assertThrows(BufferOverflowException.class, () -> Alphabet.HEX.fill(buffer, 6, source));
+        assertThrows(BufferOverflowException.class, () -> Alphabet.LATIN_1.fill(buffer, 3, source));
+        assertEquals(0, buffer.position());
+    }
+
+    /**
+     * Unit test for {@link Alphabet#equals(Object)},
+     * {@link Alphabet#hashCode()} and
+     * {@link Alphabet#toString()}.
+     */
+    @Test
+    @SuppressWarnings({ "java:S5785" })
+    void testEqualsHashCodeToString() {
+        final Alphabet alphabet = Alphabet.of("abc");
+        assertFalse(alphabet.equals(null));
+        assertTrue(alphabet.equals(alphabet));
+        assertFalse(alphabet.equals(new Object()));
+        final Alphabet other = Alphabet.of("abcc");
+        assertTrue(alphabet.equals(other));
+        assertEquals(alphabet.hashCode(), other.hashCode());
+        assertEquals(alphabet.toString(), other.toString());
+        assertFalse(alphabet.equals(Alphabet.of("acb")));
+    }
+}
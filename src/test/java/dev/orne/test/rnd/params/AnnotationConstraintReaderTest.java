@@ -0,0 +1,275 @@
+package dev.orne.test.rnd.params;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import javax.validation.groups.Default;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code AnnotationConstraintReader}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @since 0.3
+ * @see AnnotationConstraintReader
+ */
+@Tag("ut")
+class AnnotationConstraintReaderTest {
+
+    private static final Class<?>[] DEFAULT_GROUPS = new Class<?>[] { Default.class };
+
+    /**
+     * Unit test for {@link AnnotationConstraintReader#findPropertyConstrains(Class, String, Class...)}.
+     */
+    @Test
+    void testFindPropertyConstrains() {
+        assertEquals(
+                types(NotNull.class, Size.class),
+                types(AnnotationConstraintReader.findPropertyConstrains(
+                        ChildBean.class, "name", DEFAULT_GROUPS)));
+        assertEquals(
+                types(NotNull.class, Size.class, Min.class),
+                types(AnnotationConstraintReader.findPropertyConstrains(
+                        ChildBean.class, "name", Default.class, Group.class)));
+        assertEquals(
+                types(NotNull.class),
+                types(AnnotationConstraintReader.findPropertyConstrains(
+                        ChildBean.class, "active", DEFAULT_GROUPS)));
+        assertEquals(
+                types(),
+                types(AnnotationConstraintReader.findPropertyConstrains(
+                        ChildBean.class, "counter", DEFAULT_GROUPS)));
+        assertEquals(
+                types(),
+                types(AnnotationConstraintReader.findPropertyConstrains(
+                        ChildBean.class, "missing", DEFAULT_GROUPS)));
+    }
+
+    /**
+     * Unit test for {@link AnnotationConstraintReader#findElementConstrains(java.lang.reflect.AnnotatedElement, Class...)}.
+     */
+    @Test
+    void testFindElementConstrains()
+    throws NoSuchMethodException {
+        final Method method = ChildBean.class.getMethod("format", String.class);
+        assertEquals(
+                types(Size.class, Pattern.class),
+                types(AnnotationConstraintReader.findElementConstrains(
+                        method.getParameters()[0], DEFAULT_GROUPS)));
+        final Set<Annotation> result = AnnotationConstraintReader.findElementConstrains(
+                method.getParameters()[0], DEFAULT_GROUPS);
+        assertEquals(3, result.size());
+        assertEquals(
+                types(Max.class),
+                types(AnnotationConstraintReader.findElementConstrains(
+                        method, SubGroup.class)));
+        assertEquals(
+                types(),
+                types(AnnotationConstraintReader.findElementConstrains(
+                        method, DEFAULT_GROUPS)));
+    }
+
+    /**
+     * Unit test for {@link AnnotationConstraintReader#findMethodResultConstrains(Method, Class...)}.
+     */
+    @Test
+    void testFindMethodResultConstrains()
+    throws NoSuchMethodException {
+        assertEquals(
+                types(NotNull.class),
+                types(AnnotationConstraintReader.findMethodResultConstrains(
+                        ParentBean.class.getMethod("describe", String.class), DEFAULT_GROUPS)));
+        assertEquals(
+                types(NotNull.class, Size.class),
+                types(AnnotationConstraintReader.findMethodResultConstrains(
+                        ChildBean.class.getMethod("describe", String.class), DEFAULT_GROUPS)));
+        assertEquals(
+                types(),
+                types(AnnotationConstraintReader.findMethodResultConstrains(
+                        ChildBean.class.getMethod("getCounter"), DEFAULT_GROUPS)));
+    }
+
+    /**
+     * Unit test for {@link AnnotationConstraintReader#findMethodParameterConstrains(Method, int, Class...)}.
+     */
+    @Test
+    void testFindMethodParameterConstrains()
+    throws NoSuchMethodException {
+        assertEquals(
+                types(NotNull.class),
+                types(AnnotationConstraintReader.findMethodParameterConstrains(
+                        ParentBean.class.getMethod("describe", String.class), 0, DEFAULT_GROUPS)));
+        assertEquals(
+                types(NotNull.class),
+                types(AnnotationConstraintReader.findMethodParameterConstrains(
+                        ChildBean.class.getMethod("describe", String.class), 0, DEFAULT_GROUPS)));
+        assertEquals(
+                types(),
+                types(AnnotationConstraintReader.findMethodParameterConstrains(
+                        ChildBean.class.getMethod("describe", String.class), 0, Group.class)));
+    }
+
+    /**
+     * Unit test for {@link AnnotationConstraintReader#isGetter(Method, String)}.
+     */
+    @Test
+    void testIsGetter()
+    throws NoSuchMethodException {
+        assertTrue(AnnotationConstraintReader.isGetter(
+                ParentBean.class.getMethod("getName"), "Name"));
+        assertFalse(AnnotationConstraintReader.isGetter(
+                ParentBean.class.getMethod("getName"), "Nam"));
+        assertTrue(AnnotationConstraintReader.isGetter(
+                ChildBean.class.getMethod("isActive"), "Active"));
+        assertFalse(AnnotationConstraintReader.isGetter(
+                ChildBean.class.getMethod("isText"), "Text"));
+        assertFalse(AnnotationConstraintReader.isGetter(
+                ChildBean.class.getMethod("getCounter"), "Counter"));
+        assertFalse(AnnotationConstraintReader.isGetter(
+                ChildBean.class.getMethod("format", String.class), "ormat"));
+    }
+
+    /**
+     * Unit test for {@link AnnotationConstraintReader#getRepeatedConstraints(Annotation)}
+     * and {@link AnnotationConstraintReader#matchesGroups(Annotation, Class[])}.
+     */
+    @Test
+    void testGetRepeatedConstraints()
+    throws NoSuchMethodException {
+        final Method method = ChildBean.class.getMethod("format", String.class);
+        final Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        int containers = 0;
+        for (final Annotation annotation : parameterAnnotations[0]) {
+            final Annotation[] repeated = AnnotationConstraintReader.getRepeatedConstraints(annotation);
+            if (repeated.length > 0) {
+                containers++;
+                for (final Annotation constraint : repeated) {
+                    assertTrue(AnnotationConstraintReader.isConstraint(constraint));
+                }
+            }
+        }
+        assertEquals(2, containers);
+        final Annotation[] annotations = NotConstraintBean.class.getAnnotations();
+        assertEquals(1, annotations.length);
+        assertEquals(0, AnnotationConstraintReader.getRepeatedConstraints(annotations[0]).length);
+        assertFalse(AnnotationConstraintReader.matchesGroups(annotations[0],
+                new Class<?>[] { Group.class }));
+        assertTrue(AnnotationConstraintReader.matchesGroups(annotations[0], DEFAULT_GROUPS));
+    }
+
+    private static Set<Class<?>> types(
+            final Class<?>... types) {
+        final Set<Class<?>> result = new HashSet<>();
+        for (final Class<?> type : types) {
+            result.add(type);
+        }
+        return result;
+    }
+
+    private static Set<Class<?>> types(
+            final Set<Annotation> constraints) {
+        final Set<Class<?>> result = new HashSet<>();
+        for (final Annotation constraint : constraints) {
+            result.add(constraint.annotationType());
+        }
+        return result;
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    private static @interface NotConstraint {
+        Class<?>[] groups() default { Group.class };
+        Class<?>[] value() default {};
+    }
+    @NotConstraint
+    private static class NotConstraintBean {}
+    private static interface Group {}
+    private static interface SubGroup
+    extends Group {}
+    public static class ParentBean {
+        @Size(min = 2)
+        private String name;
+        public String getName() {
+            return this.name;
+        }
+        @NotNull
+        public String describe(
+                @NotNull
+                final String value) {
+            return value;
+        }
+    }
+    public static class ChildBean
+    extends ParentBean {
+        @Override
+        @NotNull
+        @Min(value = 1, groups = Group.class)
+        public String getName() {
+            return super.getName();
+        }
+        @NotNull
+        public boolean isActive() {
+            return true;
+        }
+        @NotNull
+        public String isText() {
+            return null;
+        }
+        @NotNull
+        public static int getCounter() {
+            return 0;
+        }
+        @Override
+        @Size(max = 10)
+        public String describe(
+                final String value) {
+            return value;
+        }
+        @Max(value = 5, groups = Group.class)
+        public String format(
+                @Size.List({
+                    @Size(min = 1),
+                    @Size(max = 5, groups = Group.class)
+                })
+                @Pattern(regexp = "\\d+")
+                @Pattern(regexp = "\\w+")
+                final String value) {
+            return value;
+        }
+    }
+}
@@ -23,14 +23,21 @@ package dev.orne.test.rnd.params;
  */
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Set;
 
+import javax.validation.Validation;
+import javax.validation.Validator;
 import javax.validation.constraints.Digits;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
@@ -39,12 +46,13 @@ import javax.validation.groups.Default;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
 
 /**
  * Unit tests for {@code ConstraintIntrospector}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.2, 2026-10
  * @since 0.1
  * @see ConstraintIntrospector
  */
@@ -531,6 +539,362 @@ class ConstraintIntrospectorTest {
         assertEquals(ConstraintIntrospectionTestType.PATTERN_REGEXP, pattern.regexp());
     }
 
+    /**
+     * Unit test for {@link ConstraintIntrospector#findPropertyConstrains(Validator, Class, String, Class...)}
+     * results caching.
+     */
+    @Test
+    void testFindPropertyConstrains_Cached() {
+        final Validator validator = createDelegatingValidator();
+        final Set<Annotation> result = ConstraintIntrospector.findPropertyConstrains(
+                validator,
+                ConstraintIntrospectionTestType.class,
+                ConstraintIntrospectionTestType.PROP2_FIELD.getName());
+        assertEquals(2, result.size());
+        assertThrows(UnsupportedOperationException.class, () -> result.clear());
+        assertSame(result, ConstraintIntrospector.findPropertyConstrains(
+                validator,
+                ConstraintIntrospectionTestType.class,
+                ConstraintIntrospectionTestType.PROP2_FIELD.getName()));
+        assertSame(result, ConstraintIntrospector.findPropertyConstrains(
+                validator,
+                ConstraintIntrospectionTestType.class,
+                ConstraintIntrospectionTestType.PROP2_FIELD.getName(),
+                Default.class));
+        then(validator).should(times(1)).getConstraintsForClass(ConstraintIntrospectionTestType.class);
+        final Set<Annotation> groupResult = ConstraintIntrospector.findPropertyConstrains(
+                validator,
+                ConstraintIntrospectionTestType.class,
+                ConstraintIntrospectionTestType.PROP2_FIELD.getName(),
+                Default.class,
+                ConstraintIntrospectionTestType.Group1.class);
+        assertEquals(3, groupResult.size());
+        then(validator).should(times(2)).getConstraintsForClass(ConstraintIntrospectionTestType.class);
+        final Validator otherValidator = createDelegatingValidator();
+        assertEquals(result, ConstraintIntrospector.findPropertyConstrains(
+                otherValidator,
+                ConstraintIntrospectionTestType.class,
+                ConstraintIntrospectionTestType.PROP2_FIELD.getName()));
+        then(otherValidator).should(times(1)).getConstraintsForClass(ConstraintIntrospectionTestType.class);
+    }
+
+    /**
+     * Unit test for {@link ConstraintIntrospector#findParameterConstrains(Validator, Parameter, Class...)}
+     * results caching.
+     */
+    @Test
+    void testFindParameterConstrains_Cached() {
+        final Validator validator = createDelegatingValidator();
+        final Set<Annotation> result = ConstraintIntrospector.findParameterConstrains(
+                validator,
+                ConstraintIntrospectionTestType.TEST_METHOD.getParameters()[2]);
+        assertEquals(2, result.size());
+        assertSame(result, ConstraintIntrospector.findParameterConstrains(
+                validator,
+                ConstraintIntrospectionTestType.TEST_METHOD.getParameters()[2]));
+        then(validator).should(times(1)).getConstraintsForClass(ConstraintIntrospectionTestType.class);
+        final Set<Annotation> otherResult = ConstraintIntrospector.findParameterConstrains(
+                validator,
+                ConstraintIntrospectionTestType.TEST_METHOD.getParameters()[1]);
+        assertEquals(1, otherResult.size());
+        then(validator).should(times(2)).getConstraintsForClass(ConstraintIntrospectionTestType.class);
+    }
+
+    /**
+     * Unit test for {@link ConstraintIntrospector#findMethodParameterConstrains(Validator, Method, int, Class...)},
+     * {@link ConstraintIntrospector#findMethodResultConstrains(Validator, Method, Class...)} and
+     * {@link ConstraintIntrospector#findConstructorParameterConstrains(Validator, Constructor, int, Class...)}
+     * results caching.
+     */
+    @Test
+    void testFindExecutableConstrains_Cached() {
+        final Validator validator = createDelegatingValidator();
+        final Method method = ConstraintIntrospectionTestType.TEST_METHOD;
+        final Constructor<?> constructor = ConstraintIntrospectionTestType.PARAM_CONSTRUCTOR;
+        final Set<Annotation> paramResult = ConstraintIntrospector.findMethodParameterConstrains(
+                validator, method, 2);
+        final Set<Annotation> returnResult = ConstraintIntrospector.findMethodResultConstrains(
+                validator, method);
+        final Set<Annotation> ctrResult = ConstraintIntrospector.findConstructorParameterConstrains(
+                validator, constructor, 2);
+        assertEquals(2, paramResult.size());
+        assertEquals(2, ctrResult.size());
+        then(validator).should(times(3)).getConstraintsForClass(ConstraintIntrospectionTestType.class);
+        assertSame(paramResult, ConstraintIntrospector.findMethodParameterConstrains(
+                validator, method, 2));
+        assertSame(returnResult, ConstraintIntrospector.findMethodResultConstrains(
+                validator, method));
+        assertSame(ctrResult, ConstraintIntrospector.findConstructorParameterConstrains(
+                validator, constructor, 2));
+        then(validator).should(times(3)).getConstraintsForClass(ConstraintIntrospectionTestType.class);
+    }
+
+    /**
+     * Unit test for constraint cache eviction when the cache of the
+     * declaring class is full.
+     */
+    @Test
+    void testCache_Eviction() {
+        final Validator validator = createDelegatingValidator();
+        for (int i = 0; i < ConstraintIntrospector.MAX_CACHED_TARGETS; i++) {
+            ConstraintIntrospector.findPropertyConstrains(
+                    validator, EvictionTestType.class, "property" + i);
+        }
+        ConstraintIntrospector.findPropertyConstrains(
+                validator, EvictionTestType.class, "property0");
+        then(validator).should(times(ConstraintIntrospector.MAX_CACHED_TARGETS))
+                .getConstraintsForClass(EvictionTestType.class);
+        ConstraintIntrospector.findPropertyConstrains(
+                validator, EvictionTestType.class, "extra");
+        ConstraintIntrospector.findPropertyConstrains(
+                validator, EvictionTestType.class, "extra");
+        then(validator).should(times(ConstraintIntrospector.MAX_CACHED_TARGETS + 1))
+                .getConstraintsForClass(EvictionTestType.class);
+        ConstraintIntrospector.findPropertyConstrains(
+                validator, EvictionTestType.class, "property0");
+        then(validator).should(times(ConstraintIntrospector.MAX_CACHED_TARGETS + 2))
+                .getConstraintsForClass(EvictionTestType.class);
+    }
+
+    /**
+     * Unit test for constraint cache not retaining the validators used.
+     */
+    @Test
+    void testCache_ValidatorNotRetained() {
+        final Validator delegate = Validation.buildDefaultValidatorFactory().getValidator();
+        Validator validator = (Validator) Proxy.newProxyInstance(
+                Validator.class.getClassLoader(),
+                new Class<?>[] { Validator.class },
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(delegate, args);
+                    } catch (final InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        final Set<Annotation> result = ConstraintIntrospector.findPropertyConstrains(
+                validator,
+                ConstraintIntrospectionTestType.class,
+                ConstraintIntrospectionTestType.PROP2_FIELD.getName());
+        assertEquals(2, result.size());
+        final WeakReference<Validator> ref = new WeakReference<>(validator);
+        validator = null;
+        for (int i = 0; i < 100 && ref.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(ref.get());
+    }
+
+    /**
+     * Unit test for {@link ConstraintIntrospector#getDefaultValidator()} and
+     * {@link ConstraintIntrospector#setDefaultValidator(Validator)}.
+     */
+    @Test
+    void testDefaultValidator() {
+        try {
+            ConstraintIntrospector.setDefaultValidator(null);
+            final Validator defaultValidator = ConstraintIntrospector.getDefaultValidator();
+            assertNotNull(defaultValidator);
+            assertSame(defaultValidator, ConstraintIntrospector.getDefaultValidator());
+            final Validator validator = createDelegatingValidator();
+            ConstraintIntrospector.setDefaultValidator(validator);
+            assertSame(validator, ConstraintIntrospector.getDefaultValidator());
+            final Set<Annotation> result = ConstraintIntrospector.findPropertyConstrains(
+                    ConstraintIntrospectionTestType.class,
+                    ConstraintIntrospectionTestType.PROP2_FIELD.getName());
+            assertEquals(2, result.size());
+            then(validator).should(times(1)).getConstraintsForClass(ConstraintIntrospectionTestType.class);
+            ConstraintIntrospector.setDefaultValidator(null);
+            final Validator newValidator = ConstraintIntrospector.getDefaultValidator();
+            assertNotNull(newValidator);
+            assertNotSame(validator, newValidator);
+        } finally {
+            ConstraintIntrospector.setDefaultValidator(null);
+        }
+    }
+
+    /**
+     * Unit test for {@link ConstraintIntrospector#createDefaultValidator()}.
+     */
+    @Test
+    void testCreateDefaultValidator() {
+        final Validator result = ConstraintIntrospector.createDefaultValidator();
+        assertNotNull(result);
+        assertNotSame(result, ConstraintIntrospector.createDefaultValidator());
+    }
+
+    /**
+     * Unit test for constraint retrieval when no Bean Validation provider
+     * is available.
+     */
+    @Test
+    void testNoProvider() {
+        try {
+            ConstraintIntrospector.setResolvedDefaultValidator(null);
+            assertNull(ConstraintIntrospector.getDefaultValidator());
+            assertReflectionEquivalent();
+        } finally {
+            ConstraintIntrospector.setDefaultValidator(null);
+        }
+    }
+
+    /**
+     * Unit test for {@link ConstraintIntrospector#getStrategy()} and
+     * {@link ConstraintIntrospector#setStrategy(ConstraintIntrospector.Strategy)}.
+     */
+    @Test
+    void testStrategy() {
+        assertEquals(ConstraintIntrospector.Strategy.VALIDATOR, ConstraintIntrospector.getStrategy());
+        assertThrows(NullPointerException.class, () -> {
+            ConstraintIntrospector.setStrategy(null);
+        });
+        final Validator validator = createDelegatingValidator();
+        try {
+            ConstraintIntrospector.setDefaultValidator(validator);
+            ConstraintIntrospector.setStrategy(ConstraintIntrospector.Strategy.REFLECTION);
+            assertEquals(ConstraintIntrospector.Strategy.REFLECTION, ConstraintIntrospector.getStrategy());
+            assertReflectionEquivalent();
+            then(validator).shouldHaveNoInteractions();
+        } finally {
+            ConstraintIntrospector.setStrategy(ConstraintIntrospector.Strategy.VALIDATOR);
+            ConstraintIntrospector.setDefaultValidator(null);
+        }
+    }
+
+    /**
+     * Asserts that the constraints retrieved without validator are
+     * equivalent to the constraints retrieved through a Bean Validation
+     * validator.
+     */
+    private static void assertReflectionEquivalent() {
+        final Validator validator = createDelegatingValidator();
+        final Class<?>[][] groupsList = new Class<?>[][] {
+            new Class<?>[0],
+            new Class<?>[] { Default.class, ConstraintIntrospectionTestType.Group1.class },
+            new Class<?>[] { Default.class, ConstraintIntrospectionTestType.Group2.class },
+            new Class<?>[] { ConstraintIntrospectionTestType.Group1.class },
+        };
+        final Method[] methods;
+        try {
+            methods = new Method[] {
+                ConstraintIntrospectionTestType.TEST_METHOD,
+                ConstraintIntrospectionTestType.STATIC_METHOD,
+                ParentType.class.getMethod("process", String.class),
+                ChildType.class.getMethod("process", String.class)
+            };
+        } catch (final NoSuchMethodException e) {
+            throw new AssertionError(e);
+        }
+        for (final Class<?>[] groups : groupsList) {
+            for (final String property : new String[] {
+                    ConstraintIntrospectionTestType.PROP0_FIELD.getName(),
+                    ConstraintIntrospectionTestType.PROP1_FIELD.getName(),
+                    ConstraintIntrospectionTestType.PROP2_FIELD.getName(),
+                    ConstraintIntrospectionTestType.STATIC_FIELD.getName() }) {
+                assertEquals(
+                        constraintTypes(ConstraintIntrospector.findPropertyConstrains(
+                                validator, ConstraintIntrospectionTestType.class, property, groups)),
+                        constraintTypes(ConstraintIntrospector.findPropertyConstrains(
+                                ConstraintIntrospectionTestType.class, property, groups)));
+            }
+            for (final Method method : methods) {
+                assertEquals(
+                        constraintTypes(ConstraintIntrospector.findMethodResultConstrains(
+                                validator, method, groups)),
+                        constraintTypes(ConstraintIntrospector.findMethodResultConstrains(
+                                method, groups)));
+                for (int i = 0; i < method.getParameterCount(); i++) {
+                    assertEquals(
+                            constraintTypes(ConstraintIntrospector.findMethodParameterConstrains(
+                                    validator, method, i, groups)),
+                            constraintTypes(ConstraintIntrospector.findMethodParameterConstrains(
+                                    method, i, groups)));
+                    assertEquals(
+                            constraintTypes(ConstraintIntrospector.findParameterConstrains(
+                                    validator, method.getParameters()[i], groups)),
+                            constraintTypes(ConstraintIntrospector.findParameterConstrains(
+                                    method.getParameters()[i], groups)));
+                }
+            }
+            final Constructor<?> constructor = ConstraintIntrospectionTestType.PARAM_CONSTRUCTOR;
+            for (int i = 0; i < constructor.getParameterCount(); i++) {
+                assertEquals(
+                        constraintTypes(ConstraintIntrospector.findConstructorParameterConstrains(
+                                validator, constructor, i, groups)),
+                        constraintTypes(ConstraintIntrospector.findConstructorParameterConstrains(
+                                constructor, i, groups)));
+                assertEquals(
+                        constraintTypes(ConstraintIntrospector.findParameterConstrains(
+                                validator, constructor.getParameters()[i], groups)),
+                        constraintTypes(ConstraintIntrospector.findParameterConstrains(
+                                constructor.getParameters()[i], groups)));
+            }
+        }
+    }
+
+    /**
+     * Returns the annotation types of the specified constraints.
+     * 
+     * @param constraints The constraints
+     * @return The constraint annotation types
+     */
+    private static Set<Class<?>> constraintTypes(
+            final Collection<Annotation> constraints) {
+        final Set<Class<?>> result = new HashSet<>();
+        for (final Annotation constraint : constraints) {
+            result.add(constraint.annotationType());
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new mock validator that delegates in a real default
+     * validator.
+     * 
+     * @return The created validator
+     */
+    private static Validator createDelegatingValidator() {
+        final Validator delegate = Validation.buildDefaultValidatorFactory().getValidator();
+        return mock(Validator.class, AdditionalAnswers.delegatesTo(delegate));
+    }
+
+    /** Test type for constraint cache eviction. */
+    public static class EvictionTestType {
+        // No properties
+    }
+
+    /** Test parent type. */
+    public static class ParentType {
+        /**
+         * Test method.
+         * 
+         * @param value Method parameter.
+         * @return Method return value.
+         */
+        @NotNull
+        public String process(
+                @NotNull
+                @Size(min = 2)
+                final String value) {
+            return value;
+        }
+    }
+
+    /** Test child type. */
+    public static class ChildType
+    extends ParentType {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @Size(max = 5)
+        @Digits(integer = 5, fraction = 0, groups = ConstraintIntrospectionTestType.Group1.class)
+        public String process(
+                final String value) {
+            return value;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     <T extends Annotation> T assertContainsConstraint(
             final Collection<?> values,
@@ -41,7 +41,7 @@ import dev.orne.test.rnd.TestGenerator;
  * Unit tests for {@code DefaultParametersExtractor}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see DefaultParametersExtractor
  */
@@ -235,6 +235,39 @@ class DefaultParametersExtractorTest {
         then(extractor3).shouldHaveNoMoreInteractions();
     }
 
+    /**
+     * Unit test for {@link DefaultParametersExtractor#extract(Object, Object)}
+     * dispatch table caching.
+     */
+    @Test
+    void testExtractCachedDispatch() {
+        @SuppressWarnings("unchecked")
+        final ParametersSourceExtractor<MyParams, MySource> extractor1 = spy(ParametersSourceExtractor.class);
+        willReturn(MySource.class).given(extractor1).getSourceType();
+        @SuppressWarnings("unchecked")
+        final ParametersSourceExtractor<MyParams, MySourceExt> extractor2 = spy(ParametersSourceExtractor.class);
+        willReturn(MySourceExt.class).given(extractor2).getSourceType();
+        final DefaultParametersExtractor<MyParams> generator = new DefaultParametersExtractor<>(
+                Arrays.asList(extractor1, extractor2));
+        final MyParams params = mock(MyParams.class);
+        final MySourceExt source1 = mock(MySourceExt.class);
+        final MySourceExt source2 = mock(MySourceExt.class);
+        generator.extract(params, source1);
+        generator.extract(params, source2);
+        generator.extract(params, source1);
+        then(extractor1).should(times(1)).getSourceType();
+        then(extractor2).should(times(1)).getSourceType();
+        final InOrder order = inOrder(extractor1, extractor2);
+        then(extractor2).should(order).extractParameters(source1, params);
+        then(extractor1).should(order).extractParameters(source1, params);
+        then(extractor2).should(order).extractParameters(source2, params);
+        then(extractor1).should(order).extractParameters(source2, params);
+        then(extractor2).should(order).extractParameters(source1, params);
+        then(extractor1).should(order).extractParameters(source1, params);
+        then(extractor1).shouldHaveNoMoreInteractions();
+        then(extractor2).shouldHaveNoMoreInteractions();
+    }
+
     /**
      * Unit test for {@link DefaultParametersExtractor#equals(Object)},
      * {@link DefaultParametersExtractor#hashCode()} and
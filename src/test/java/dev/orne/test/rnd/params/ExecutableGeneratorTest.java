@@ -25,6 +25,8 @@ package dev.orne.test.rnd.params;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
@@ -35,13 +37,14 @@ import javax.validation.groups.Default;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import dev.orne.test.rnd.GenerationException;
 import dev.orne.test.rnd.Generators;
 
 /**
  * Unit tests for {@code ExecutableGenerator}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-12
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see ExecutableGenerator
  */
@@ -206,6 +209,98 @@ class ExecutableGeneratorTest {
         then(paramGenerators[1]).shouldHaveNoMoreInteractions();
     }
 
+    /**
+     * Unit test for {@link ExecutableGenerator#compileInvoker()}
+     */
+    @Test
+    void testCompileInvoker_Method()
+    throws Throwable {
+        final ExecutableGenerator<MyType> generator = new GenericChild<>(
+                MyType.class,
+                EXECUTABLE,
+                new TargetedGenerator<?>[0]);
+        final MethodHandle result = generator.compileInvoker();
+        assertEquals(MethodType.methodType(Object.class, Object[].class), result.type());
+        final Object value = result.invokeExact(new Object[] { "value", 1 });
+        assertTrue(value instanceof MyType);
+    }
+
+    /**
+     * Unit test for {@link ExecutableGenerator#compileInvoker()}
+     */
+    @Test
+    void testCompileInvoker_Constructor()
+    throws Throwable {
+        final Constructor<MyType> ctr = MyType.class.getConstructor(
+                String.class,
+                Integer.class);
+        final ExecutableGenerator<MyType> generator = new GenericChild<>(
+                MyType.class,
+                ctr,
+                new TargetedGenerator<?>[0]);
+        final MethodHandle result = generator.compileInvoker();
+        assertEquals(MethodType.methodType(Object.class, Object[].class), result.type());
+        final Object value = result.invokeExact(new Object[] { "value", 1 });
+        assertTrue(value instanceof MyType);
+    }
+
+    /**
+     * Unit test for {@link ExecutableGenerator#compileInvoker()}
+     */
+    @Test
+    void testCompileInvoker_Inaccessible()
+    throws Throwable {
+        final Method method = MyType.class.getDeclaredMethod("privateFactory");
+        final ExecutableGenerator<MyType> generator = new GenericChild<>(
+                MyType.class,
+                method,
+                new TargetedGenerator<?>[0]);
+        assertThrows(GenerationException.class, () -> {
+            generator.compileInvoker();
+        });
+    }
+
+    /**
+     * Unit test for {@link ExecutableGenerator#getInvoker()}
+     */
+    @Test
+    void testGetInvoker() {
+        final ExecutableGenerator<MyType> generator = spy(new GenericChild<>(
+                MyType.class,
+                EXECUTABLE,
+                new TargetedGenerator<?>[0]));
+        final MethodHandle result = generator.getInvoker();
+        assertNotNull(result);
+        assertSame(result, generator.getInvoker());
+        then(generator).should(times(1)).compileInvoker();
+    }
+
+    /**
+     * Unit test for {@link ExecutableGenerator#invoke(Object[])}
+     */
+    @Test
+    void testInvoke()
+    throws Throwable {
+        final ExecutableGenerator<MyType> generator = new GenericChild<>(
+                MyType.class,
+                EXECUTABLE,
+                new TargetedGenerator<?>[0]);
+        assertTrue(generator.invoke(new Object[] { "value", 1 }) instanceof MyType);
+        assertThrows(GenerationException.class, () -> {
+            generator.invoke(new Object[] { new Object(), 1 });
+        });
+        assertThrows(GenerationException.class, () -> {
+            generator.invoke(new Object[] { "value" });
+        });
+        final ExecutableGenerator<MyType> errorGenerator = new GenericChild<>(
+                MyType.class,
+                MyType.class.getDeclaredMethod("errorFactory"),
+                new TargetedGenerator<?>[0]);
+        assertThrows(AssertionError.class, () -> {
+            errorGenerator.invoke(new Object[0]);
+        });
+    }
+
     /**
      * Unit test for {@link ExecutableGenerator#equals(Object)},
      * {@link ExecutableGenerator#hashCode()} and
@@ -266,6 +361,13 @@ class ExecutableGeneratorTest {
         public static MyType otherFactory() {
             return new MyType();
         }
+        public static MyType errorFactory() {
+            throw new AssertionError();
+        }
+        @SuppressWarnings("unused")
+        private static MyType privateFactory() {
+            return new MyType();
+        }
     }
     private static interface OtherType {}
     /**
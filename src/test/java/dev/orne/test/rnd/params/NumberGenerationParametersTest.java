@@ -0,0 +1,172 @@
+package dev.orne.test.rnd.params;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code NumberGenerationParameters}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see NumberGenerationParameters
+ */
+@Tag("ut")
+class NumberGenerationParametersTest {
+
+    /**
+     * Unit test for {@link NumberGenerationParameters#NumberGenerationParameters()}.
+     */
+    @Test
+    void testEmptyConstructor() {
+        final NumberGenerationParameters params = new NumberGenerationParameters();
+        assertTrue(params.isNullable());
+        assertEquals(NumberParameters.DEFAULT_MIN, params.getMin());
+        assertEquals(NumberParameters.DEFAULT_MAX, params.getMax());
+    }
+
+    /**
+     * Unit test for {@link NumberGenerationParameters#NumberGenerationParameters(GenerationParameters)}.
+     */
+    @Test
+    void testCopyConstructor() {
+        final NumberGenerationParameters copy = new NumberGenerationParameters();
+        copy.setNullable(RandomUtils.nextBoolean());
+        copy.setMin(RandomUtils.nextInt());
+        copy.setMax(RandomUtils.nextDouble());
+        final NumberGenerationParameters params = new NumberGenerationParameters(copy);
+        assertEquals(copy, params);
+    }
+
+    /**
+     * Unit test for {@link NumberGenerationParameters#NumberGenerationParameters(GenerationParameters)}.
+     */
+    @Test
+    void testCopyConstructor_GenerationParameters() {
+        final GenerationParameters copy = mock(GenerationParameters.class);
+        final NumberGenerationParameters params = new NumberGenerationParameters(copy);
+        assertTrue(params.isNullable());
+        assertEquals(NumberParameters.DEFAULT_MIN, params.getMin());
+        assertEquals(NumberParameters.DEFAULT_MAX, params.getMax());
+    }
+
+    /**
+     * Unit test for {@link NumberGenerationParameters#NumberGenerationParameters(GenerationParameters)}.
+     */
+    @Test
+    void testCopyConstructor_NullableParameters() {
+        final NullableParameters copy = mock(NullableParameters.class);
+        given(copy.isNullable()).willReturn(false);
+        final NumberGenerationParameters params = new NumberGenerationParameters(copy);
+        assertFalse(params.isNullable());
+        assertEquals(NumberParameters.DEFAULT_MIN, params.getMin());
+        assertEquals(NumberParameters.DEFAULT_MAX, params.getMax());
+    }
+
+    /**
+     * Unit test for {@link NumberGenerationParameters#NumberGenerationParameters(GenerationParameters)}.
+     */
+    @Test
+    void testCopyConstructor_NumberParameters() {
+        final NumberParameters copy = mock(NumberParameters.class);
+        final Number min = RandomUtils.nextInt();
+        final Number max = RandomUtils.nextLong();
+        given(copy.getMin()).willReturn(min);
+        given(copy.getMax()).willReturn(max);
+        final NumberGenerationParameters params = new NumberGenerationParameters(copy);
+        assertTrue(params.isNullable());
+        assertEquals(min, params.getMin());
+        assertEquals(max, params.getMax());
+    }
+
+    /**
+     * Unit test for {@link NumberGenerationParameters#withNullable(boolean)}.
+     */
+    @Test
+    void testWithNullable() {
+        final NumberGenerationParameters params = new NumberGenerationParameters();
+        final NumberGenerationParameters result = params.withNullable(false);
+        assertSame(result, params);
+        assertFalse(params.isNullable());
+    }
+
+    /**
+     * Unit test for {@link NumberGenerationParameters#withMin(Number)}.
+     */
+    @Test
+    void testWithMin() {
+        final NumberGenerationParameters params = new NumberGenerationParameters();
+        final Number value = RandomUtils.nextInt();
+        final NumberGenerationParameters result = params.withMin(value);
+        assertSame(result, params);
+        assertEquals(value, params.getMin());
+        assertThrows(NullPointerException.class, () -> {
+            params.withMin(null);
+        });
+    }
+
+    /**
+     * Unit test for {@link NumberGenerationParameters#withMax(Number)}.
+     */
+    @Test
+    void testWithMax() {
+        final NumberGenerationParameters params = new NumberGenerationParameters();
+        final Number value = RandomUtils.nextInt();
+        final NumberGenerationParameters result = params.withMax(value);
+        assertSame(result, params);
+        assertEquals(value, params.getMax());
+        assertThrows(NullPointerException.class, () -> {
+            params.withMax(null);
+        });
+    }
+
+    /**
+     * Unit test for {@link NumberGenerationParameters#equals(Object)},
+     * {@link NumberGenerationParameters#hashCode()} and
+     * {@link NumberGenerationParameters#toString()}.
+     */
+    @Test
+    @SuppressWarnings({ "java:S5785" })
+    void testEqualsHashCodeToString() {
+        final NumberGenerationParameters params = new NumberGenerationParameters();
+        assertFalse(params.equals(null));
+        assertTrue(params.equals(params));
+        assertFalse(params.equals(new Object()));
+        NumberGenerationParameters other = new NumberGenerationParameters();
+        assertTrue(params.equals(other));
+        assertEquals(params.hashCode(), other.hashCode());
+        assertEquals(params.toString(), other.toString());
+        other = new NumberGenerationParameters().withNullable(false);
+        assertFalse(params.equals(other));
+        other = new NumberGenerationParameters().withMin(RandomUtils.nextInt());
+        assertFalse(params.equals(other));
+        other = new NumberGenerationParameters().withMax(RandomUtils.nextInt());
+        assertFalse(params.equals(other));
+    }
+}
@@ -25,6 +25,7 @@ package dev.orne.test.rnd.params;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -32,6 +33,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Tag;
@@ -43,7 +48,7 @@ import dev.orne.test.rnd.Priority;
  * Unit tests for {@code ParametersExtractors}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-11
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see ParametersExtractors
  */
@@ -211,6 +216,32 @@ class ParametersExtractorsTest {
         assertTrue(cache.isEmpty());
     }
 
+    /**
+     * Test for {@link ParametersExtractors#getConfigurationVersion()}.
+     */
+    @Test
+    void testGetConfigurationVersion() {
+        long version = ParametersExtractors.getConfigurationVersion();
+        assertEquals(version, ParametersExtractors.getConfigurationVersion());
+        ParametersExtractors.getExtractor(TestSourceExtractor.Params.class);
+        assertEquals(version, ParametersExtractors.getConfigurationVersion());
+        final ParametersSourceExtractor<?, ?> extractor = new DefaultExtractor();
+        ParametersExtractors.register(extractor);
+        assertNotEquals(version, ParametersExtractors.getConfigurationVersion());
+        version = ParametersExtractors.getConfigurationVersion();
+        ParametersExtractors.remove(extractor);
+        assertNotEquals(version, ParametersExtractors.getConfigurationVersion());
+        version = ParametersExtractors.getConfigurationVersion();
+        ParametersExtractors.reset();
+        assertNotEquals(version, ParametersExtractors.getConfigurationVersion());
+        version = ParametersExtractors.getConfigurationVersion();
+        ParametersExtractors.setFilter(ParametersExtractors.DEFAULT_FILTER);
+        assertNotEquals(version, ParametersExtractors.getConfigurationVersion());
+        version = ParametersExtractors.getConfigurationVersion();
+        ParametersExtractors.setBuilder(ParametersExtractors.DEFAULT_BUILDER);
+        assertNotEquals(version, ParametersExtractors.getConfigurationVersion());
+    }
+
     /**
      * Test for {@link ParametersExtractors#register(ParametersSourceExtractor...)}.
      */
@@ -503,6 +534,44 @@ class ParametersExtractorsTest {
         assertEquals(result, cache.get(MyParams.class));
     }
 
+    /**
+     * Test for {@link ParametersExtractors#getExtractor(Class)} with
+     * concurrent configuration changes.
+     */
+    @Test
+    void testGetExtractorConcurrent()
+    throws Exception {
+        final int threads = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        assertNotNull(ParametersExtractors.getExtractor(TestSourceExtractor.Params.class));
+                        assertNotNull(ParametersExtractors.getExtractor(MyParams.class));
+                        assertNotNull(ParametersExtractors.getExtractor(MyParamsExt.class));
+                    }
+                }));
+            }
+            final ParametersSourceExtractor<?, ?> extractor = new DefaultExtractor();
+            for (int i = 0; i < 100; i++) {
+                ParametersExtractors.register(extractor);
+                ParametersExtractors.remove(extractor);
+            }
+            for (final Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        final ParametersExtractor<?> result = ParametersExtractors.getExtractor(MyParams.class);
+        assertSame(result, ParametersExtractors.getExtractor(MyParams.class));
+        assertEquals(ParametersExtractors.loadSpiExtractors().size(),
+                ParametersExtractors.getSourceExtractorsInt().size());
+    }
+
     private static interface MyParams {}
     private static interface MyParamsExt
     extends MyParams {}
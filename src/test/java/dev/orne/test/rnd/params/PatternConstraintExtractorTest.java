@@ -0,0 +1,129 @@
+package dev.orne.test.rnd.params;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code PatternConstraintExtractor}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.2, 2026-10
+ * @since 0.3
+ * @see PatternConstraintExtractor
+ */
+@Tag("ut")
+class PatternConstraintExtractorTest
+extends BaseParametersSourceExtractorTest {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull Class<PatternConstraintExtractor> getType() {
+        return PatternConstraintExtractor.class;
+    }
+
+    /**
+     * Tests for supported parameters type.
+     */
+    @Test
+    void testSupportedParametersTypes() {
+        assertSupportsParametersType(StringGenerationParameters.class);
+    }
+
+    /**
+     * Tests for supported source type.
+     */
+    @Test
+    void testSupportedSourceTypes() {
+        assertSupportsSourceType(Pattern.class);
+    }
+
+    /**
+     * Tests for {@link PatternConstraintExtractor#extractParameters(Pattern, StringGenerationParameters)}.
+     */
+    @Test
+    void testExtractParameters() {
+        final PatternConstraintExtractor extractor = new PatternConstraintExtractor();
+        final Pattern source = mock(Pattern.class);
+        final StringGenerationParameters params = mock(StringGenerationParameters.class);
+        given(source.regexp()).willReturn("[a-z]{3}\\d+");
+        given(source.flags()).willReturn(new Pattern.Flag[0]);
+        extractor.extractParameters(source, params);
+        then(params).should().setPattern("[a-z]{3}\\d+");
+    }
+
+    /**
+     * Tests for {@link PatternConstraintExtractor#extractParameters(Pattern, StringGenerationParameters)}
+     * with pattern flags.
+     */
+    @Test
+    void testExtractParameters_Flags() {
+        final PatternConstraintExtractor extractor = new PatternConstraintExtractor();
+        final Pattern source = mock(Pattern.class);
+        final StringGenerationParameters params = new StringGenerationParameters();
+        given(source.regexp()).willReturn("[a-z]+");
+        given(source.flags()).willReturn(new Pattern.Flag[] {
+                Pattern.Flag.CASE_INSENSITIVE,
+                Pattern.Flag.CANON_EQ,
+                Pattern.Flag.DOTALL,
+                Pattern.Flag.CASE_INSENSITIVE });
+        extractor.extractParameters(source, params);
+        assertEquals("(?is)[a-z]+", params.getPattern());
+        assertTrue("aBc".matches(params.getPattern()));
+    }
+
+    /**
+     * Tests for {@link PatternConstraintExtractor#extractParameters(Pattern, StringGenerationParameters)}
+     * with multiple pattern constraints.
+     */
+    @Test
+    void testExtractParameters_Multiple() {
+        final PatternConstraintExtractor extractor = new PatternConstraintExtractor();
+        final Pattern source = mock(Pattern.class);
+        final Pattern other = mock(Pattern.class);
+        final Pattern third = mock(Pattern.class);
+        final StringGenerationParameters params = new StringGenerationParameters();
+        given(source.regexp()).willReturn("[a-z]+");
+        given(source.flags()).willReturn(new Pattern.Flag[0]);
+        given(other.regexp()).willReturn("[0-9]+");
+        given(other.flags()).willReturn(new Pattern.Flag[0]);
+        given(third.regexp()).willReturn("[a-f]{3}");
+        given(third.flags()).willReturn(new Pattern.Flag[0]);
+        extractor.extractParameters(source, params);
+        extractor.extractParameters(source, params);
+        assertEquals("[a-z]+", params.getPattern());
+        extractor.extractParameters(other, params);
+        assertEquals("(?=(?:[0-9]+)\\z)(?:[a-z]+)", params.getPattern());
+        extractor.extractParameters(third, params);
+        assertEquals("(?=(?:[a-f]{3})\\z)(?=(?:[0-9]+)\\z)(?:[a-z]+)", params.getPattern());
+    }
+}
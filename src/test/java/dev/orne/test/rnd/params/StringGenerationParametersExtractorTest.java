@@ -0,0 +1,97 @@
+package dev.orne.test.rnd.params;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.validation.constraints.NotNull;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@code StringGenerationParametersExtractor}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.0, 2026-10
+ * @since 0.3
+ * @see StringGenerationParametersExtractor
+ */
+@Tag("ut")
+class StringGenerationParametersExtractorTest
+extends BaseParametersSourceExtractorTest {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull Class<StringGenerationParametersExtractor> getType() {
+        return StringGenerationParametersExtractor.class;
+    }
+
+    /**
+     * Tests for supported parameters type.
+     */
+    @Test
+    void testSupportedParametersTypes() {
+        assertSupportsParametersType(StringGenerationParameters.class);
+    }
+
+    /**
+     * Tests for supported source type.
+     */
+    @Test
+    void testSupportedSourceTypes() {
+        assertSupportsSourceType(StringGenerationParameters.class);
+    }
+
+    /**
+     * Tests for {@link StringGenerationParametersExtractor#extractParameters(StringGenerationParameters, StringGenerationParameters)}.
+     */
+    @Test
+    void testExtractParameters() {
+        final StringGenerationParametersExtractor extractor = new StringGenerationParametersExtractor();
+        final StringGenerationParameters source = new StringGenerationParameters()
+                .withAlphabet(Alphabet.HEX)
+                .withPattern("[a-f]+");
+        final StringGenerationParameters params = new StringGenerationParameters();
+        extractor.extractParameters(source, params);
+        assertSame(Alphabet.HEX, params.getAlphabet());
+        assertEquals("[a-f]+", params.getPattern());
+    }
+
+    /**
+     * Tests for {@link StringGenerationParametersExtractor#extractParameters(StringGenerationParameters, StringGenerationParameters)}.
+     */
+    @Test
+    void testExtractParameters_Empty() {
+        final StringGenerationParametersExtractor extractor = new StringGenerationParametersExtractor();
+        final StringGenerationParameters source = new StringGenerationParameters();
+        final StringGenerationParameters params = new StringGenerationParameters()
+                .withAlphabet(Alphabet.HEX)
+                .withPattern("[a-f]+");
+        extractor.extractParameters(source, params);
+        assertSame(Alphabet.HEX, params.getAlphabet());
+        assertEquals("[a-f]+", params.getPattern());
+    }
+}
@@ -33,7 +33,7 @@ import org.junit.jupiter.api.Test;
  * Unit tests for {@code StringGenerationParameters}.
  * 
  * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
- * @version 1.0, 2022-12
+ * @version 1.1, 2026-10
  * @since 0.1
  * @see StringGenerationParameters
  */
@@ -49,6 +49,8 @@ class StringGenerationParametersTest {
         assertTrue(params.isNullable());
         assertEquals(0, params.getMinSize());
         assertEquals(Integer.MAX_VALUE, params.getMaxSize());
+        assertNull(params.getAlphabet());
+        assertNull(params.getPattern());
     }
 
     /**
@@ -60,6 +62,8 @@ class StringGenerationParametersTest {
         copy.setNullable(RandomUtils.nextBoolean());
         copy.setMinSize(RandomUtils.nextInt());
         copy.setMaxSize(RandomUtils.nextInt());
+        copy.setAlphabet(Alphabet.HEX);
+        copy.setPattern("\\d+");
         final StringGenerationParameters params = new StringGenerationParameters(copy);
         assertEquals(copy, params);
     }
@@ -74,6 +78,8 @@ class StringGenerationParametersTest {
         assertTrue(params.isNullable());
         assertEquals(0, params.getMinSize());
         assertEquals(Integer.MAX_VALUE, params.getMaxSize());
+        assertNull(params.getAlphabet());
+        assertNull(params.getPattern());
     }
 
     /**
@@ -87,6 +93,8 @@ class StringGenerationParametersTest {
         assertFalse(params.isNullable());
         assertEquals(0, params.getMinSize());
         assertEquals(Integer.MAX_VALUE, params.getMaxSize());
+        assertNull(params.getAlphabet());
+        assertNull(params.getPattern());
     }
 
     /**
@@ -103,6 +111,8 @@ class StringGenerationParametersTest {
         assertTrue(params.isNullable());
         assertEquals(minSize, params.getMinSize());
         assertEquals(maxSize, params.getMaxSize());
+        assertNull(params.getAlphabet());
+        assertNull(params.getPattern());
     }
 
     /**
@@ -140,6 +150,33 @@ class StringGenerationParametersTest {
         assertEquals(value, params.getMaxSize());
     }
 
+    /**
+     * Unit test for {@link StringGenerationParameters#withAlphabet(Alphabet)}.
+     */
+    @Test
+    void testWithAlphabet() {
+        final StringGenerationParameters params = new StringGenerationParameters();
+        final StringGenerationParameters result = params.withAlphabet(Alphabet.ASCII);
+        assertSame(result, params);
+        assertSame(Alphabet.ASCII, params.getAlphabet());
+        params.withAlphabet(null);
+        assertNull(params.getAlphabet());
+        assertNull(params.getPattern());
+    }
+
+    /**
+     * Unit test for {@link StringGenerationParameters#withPattern(String)}.
+     */
+    @Test
+    void testWithPattern() {
+        final StringGenerationParameters params = new StringGenerationParameters();
+        final StringGenerationParameters result = params.withPattern("[a-z]+");
+        assertSame(result, params);
+        assertEquals("[a-z]+", params.getPattern());
+        params.withPattern(null);
+        assertNull(params.getPattern());
+    }
+
     /**
      * Unit test for {@link StringGenerationParameters#equals(Object)},
      * {@link StringGenerationParameters#hashCode()} and
@@ -162,5 +199,12 @@ class StringGenerationParametersTest {
         assertFalse(params.equals(other));
         other = new StringGenerationParameters().withMaxSize(RandomUtils.nextInt());
         assertFalse(params.equals(other));
+        other = new StringGenerationParameters().withAlphabet(Alphabet.HEX);
+        assertFalse(params.equals(other));
+        assertEquals(
+                new StringGenerationParameters().withAlphabet(Alphabet.of("0123456789abcdef")),
+                other);
+        other = new StringGenerationParameters().withPattern("\\d+");
+        assertFalse(params.equals(other));
     }
 }
@@ -0,0 +1,311 @@
+package dev.orne.test.rnd.processor;
+
+/*-
+ * #%L
+ * Orne Test Generators
+ * %%
+ * Copyright (C) 2026 Orne Developments
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.orne.test.rnd.AbstractTypedGenerator;
+import dev.orne.test.rnd.Generator;
+import dev.orne.test.rnd.Priority;
+
+/**
+ * Unit tests for {@code GeneratorMethodProcessor}.
+ * 
+ * @author <a href="mailto:wamphiry@orne.dev">(w) Iker Hernaez</a>
+ * @version 1.1, 2026-10
+ * @since 0.3
+ * @see GeneratorMethodProcessor
+ */
+@Tag("ut")
+class GeneratorMethodProcessorTest {
+
+    private static final String BEAN_SOURCE =
+            "package test.gen;\n"
+            + "import java.util.List;\n"
+            + "import javax.validation.constraints.Min;\n"
+            + "import javax.validation.constraints.NotNull;\n"
+            + "import javax.validation.constraints.Size;\n"
+            + "import dev.orne.test.rnd.GeneratorMethod;\n"
+            + "public class Bean {\n"
+            + "    public final String name;\n"
+            + "    public final int count;\n"
+            + "    public final List<String> tags;\n"
+            + "    public final Long id;\n"
+            + "    @GeneratorMethod\n"
+            + "    public Bean(\n"
+            + "            @NotNull String name,\n"
+            + "            @Min(10) int count,\n"
+            + "            @NotNull @Size(min = 1, max = 3) List<String> tags,\n"
+            + "            Long id) {\n"
+            + "        this.name = name;\n"
+            + "        this.count = count;\n"
+            + "        this.tags = tags;\n"
+            + "        this.id = id;\n"
+            + "    }\n"
+            + "    public static class Nested {\n"
+            + "        public final int value;\n"
+            + "        private Nested(int value) {\n"
+            + "            this.value = value;\n"
+            + "        }\n"
+            + "        @GeneratorMethod\n"
+            + "        public static Nested create(int value) throws java.io.IOException {\n"
+            + "            return new Nested(value);\n"
+            + "        }\n"
+            + "    }\n"
+            + "    public static class Invalid {\n"
+            + "        @GeneratorMethod\n"
+            + "        Invalid(String value) {}\n"
+            + "    }\n"
+            + "    public static class InvalidMethod {\n"
+            + "        @GeneratorMethod\n"
+            + "        public InvalidMethod create() { return this; }\n"
+            + "    }\n"
+            + "}\n";
+
+    private static final String GENERICS_SOURCE =
+            "package test.gen;\n"
+            + "import java.util.List;\n"
+            + "import java.util.Map;\n"
+            + "import javax.validation.constraints.NotNull;\n"
+            + "import javax.validation.constraints.Size;\n"
+            + "import dev.orne.test.rnd.GeneratorMethod;\n"
+            + "import dev.orne.test.rnd.Priority;\n"
+            + "public class Catalog {\n"
+            + "    public final Map<String, Integer> index;\n"
+            + "    public final List<Integer> amounts;\n"
+            + "    @GeneratorMethod\n"
+            + "    @Priority(100)\n"
+            + "    public Catalog(\n"
+            + "            @NotNull Map<String, Integer> index,\n"
+            + "            @NotNull @Size(max = 3) List<Integer> amounts) {\n"
+            + "        this.index = index;\n"
+            + "        this.amounts = amounts;\n"
+            + "    }\n"
+            + "    public static class Box<T extends Comparable<T>> {\n"
+            + "        public final T value;\n"
+            + "        public final List<List<T>> values;\n"
+            + "        @GeneratorMethod\n"
+            + "        public Box(T value, List<List<T>> values) {\n"
+            + "            this.value = value;\n"
+            + "            this.values = values;\n"
+            + "        }\n"
+            + "    }\n"
+            + "    public static class Pair<A, B> {\n"
+            + "        private Pair() {}\n"
+            + "        @GeneratorMethod\n"
+            + "        @Priority(-10)\n"
+            + "        public static <A, B> Pair<A, B> of(A first, List<? extends B> second) {\n"
+            + "            return new Pair<>();\n"
+            + "        }\n"
+            + "    }\n"
+            + "}\n";
+
+    /**
+     * Unit test for {@link GeneratorMethodProcessor#getGeneratorSimpleName(javax.lang.model.element.TypeElement)}
+     * and generated generators.
+     */
+    @Test
+    void testProcess(
+            final @TempDir Path tempDir)
+    throws Exception {
+        final Path srcDir = Files.createDirectories(tempDir.resolve("src/test/gen"));
+        final Path outDir = Files.createDirectories(tempDir.resolve("classes"));
+        final Path source = srcDir.resolve("Bean.java");
+        Files.write(source, BEAN_SOURCE.getBytes(StandardCharsets.UTF_8));
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile(source, outDir);
+        final List<String> warnings = diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.WARNING)
+                .map(d -> d.getMessage(Locale.ROOT))
+                .filter(m -> m.contains("generation is misconfigured"))
+                .collect(Collectors.toList());
+        assertEquals(2, warnings.size(), warnings::toString);
+        assertTrue(Files.exists(outDir.resolve("test/gen/Bean_RandomGenerator.class")));
+        assertTrue(Files.exists(outDir.resolve("test/gen/Bean_Nested_RandomGenerator.class")));
+        assertFalse(Files.exists(outDir.resolve("test/gen/Bean_Invalid_RandomGenerator.class")));
+        assertFalse(Files.exists(outDir.resolve("test/gen/Bean_InvalidMethod_RandomGenerator.class")));
+        final List<String> services = Files.readAllLines(
+                outDir.resolve(GeneratorMethodProcessor.SERVICES_FILE),
+                StandardCharsets.UTF_8);
+        assertEquals(
+                Arrays.asList("test.gen.Bean_Nested_RandomGenerator", "test.gen.Bean_RandomGenerator"),
+                services);
+        try (final URLClassLoader loader = new URLClassLoader(
+                new URL[] { outDir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            final Class<?> beanType = loader.loadClass("test.gen.Bean");
+            final Class<?> generatorType = loader.loadClass("test.gen.Bean_RandomGenerator");
+            assertEquals(Priority.DEFAULT, generatorType.getAnnotation(Priority.class).value());
+            assertEquals(Priority.DEFAULT, loader.loadClass("test.gen.Bean_Nested_RandomGenerator")
+                    .getAnnotation(Priority.class).value());
+            final AbstractTypedGenerator<?> generator = (AbstractTypedGenerator<?>) generatorType
+                    .getConstructor().newInstance();
+            assertTrue(generator instanceof Generator);
+            assertEquals(beanType, generator.getValueType());
+            for (int i = 0; i < 20; i++) {
+                final Object bean = generator.randomValue();
+                assertNotNull(bean);
+                assertNotNull(beanType.getField("name").get(bean));
+                assertTrue(beanType.getField("count").getInt(bean) >= 10);
+                final List<?> tags = (List<?>) beanType.getField("tags").get(bean);
+                assertNotNull(tags);
+                assertTrue(tags.size() >= 1 && tags.size() <= 3);
+            }
+            assertNotNull(generator.defaultValue());
+            final Class<?> nestedType = loader.loadClass("test.gen.Bean$Nested");
+            final AbstractTypedGenerator<?> nestedGenerator = (AbstractTypedGenerator<?>) loader
+                    .loadClass("test.gen.Bean_Nested_RandomGenerator")
+                    .getConstructor().newInstance();
+            assertEquals(nestedType, nestedGenerator.getValueType());
+            assertTrue(nestedType.isInstance(nestedGenerator.randomValue()));
+        }
+    }
+
+    /**
+     * Unit test for generated generators of generic types and parameters.
+     * Generated sources must use parameterized types and carry over the
+     * priority of the annotated executable.
+     */
+    @Test
+    void testProcess_Generics(
+            final @TempDir Path tempDir)
+    throws Exception {
+        final Path srcDir = Files.createDirectories(tempDir.resolve("src/test/gen"));
+        final Path outDir = Files.createDirectories(tempDir.resolve("classes"));
+        final Path source = srcDir.resolve("Catalog.java");
+        Files.write(source, GENERICS_SOURCE.getBytes(StandardCharsets.UTF_8));
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile(source, outDir, "-Xlint:all");
+        final List<String> warnings = diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.WARNING
+                        || d.getKind() == Diagnostic.Kind.MANDATORY_WARNING)
+                .filter(d -> d.getSource() != null
+                        && d.getSource().getName().endsWith(GeneratorMethodProcessor.GENERATOR_SUFFIX + ".java"))
+                .map(d -> d.getMessage(Locale.ROOT))
+                .collect(Collectors.toList());
+        assertTrue(warnings.isEmpty(), warnings::toString);
+        try (final URLClassLoader loader = new URLClassLoader(
+                new URL[] { outDir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            final Class<?> catalogType = loader.loadClass("test.gen.Catalog");
+            final Class<?> generatorType = loader.loadClass("test.gen.Catalog_RandomGenerator");
+            assertEquals(100, generatorType.getAnnotation(Priority.class).value());
+            assertEquals(Priority.DEFAULT, loader.loadClass("test.gen.Catalog_Box_RandomGenerator")
+                    .getAnnotation(Priority.class).value());
+            final Class<?> pairGeneratorType = loader.loadClass("test.gen.Catalog_Pair_RandomGenerator");
+            assertEquals(-10, pairGeneratorType.getAnnotation(Priority.class).value());
+            assertEquals(
+                    loader.loadClass("test.gen.Catalog$Pair"),
+                    ((AbstractTypedGenerator<?>) pairGeneratorType.getConstructor().newInstance())
+                        .getValueType());
+            final AbstractTypedGenerator<?> generator = (AbstractTypedGenerator<?>) generatorType
+                    .getConstructor().newInstance();
+            assertEquals(catalogType, generator.getValueType());
+            for (int i = 0; i < 20; i++) {
+                final Object catalog = generator.randomValue();
+                assertNotNull(catalogType.getField("index").get(catalog));
+                final List<?> amounts = (List<?>) catalogType.getField("amounts").get(catalog);
+                assertNotNull(amounts);
+                assertTrue(amounts.size() <= 3);
+            }
+        }
+    }
+
+    /**
+     * Unit test for {@link GeneratorMethodProcessor#writeServicesFile()}
+     * merging with existing declarations.
+     */
+    @Test
+    void testServicesFileMerge(
+            final @TempDir Path tempDir)
+    throws Exception {
+        final Path srcDir = Files.createDirectories(tempDir.resolve("src/test/gen"));
+        final Path outDir = Files.createDirectories(tempDir.resolve("classes"));
+        final Path servicesFile = outDir.resolve(GeneratorMethodProcessor.SERVICES_FILE);
+        Files.createDirectories(servicesFile.getParent());
+        Files.write(servicesFile, Arrays.asList(
+                "# Custom generators",
+                "test.gen.CustomGenerator"), StandardCharsets.UTF_8);
+        final Path source = srcDir.resolve("Bean.java");
+        Files.write(source, BEAN_SOURCE.getBytes(StandardCharsets.UTF_8));
+        compile(source, outDir);
+        assertEquals(
+                Arrays.asList(
+                        "test.gen.Bean_Nested_RandomGenerator",
+                        "test.gen.Bean_RandomGenerator",
+                        "test.gen.CustomGenerator"),
+                Files.readAllLines(servicesFile, StandardCharsets.UTF_8));
+    }
+
+    private static DiagnosticCollector<JavaFileObject> compile(
+            final Path source,
+            final Path outDir,
+            final String... extraOptions)
+    throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (final StandardJavaFileManager fileManager = compiler.getStandardFileManager(
+                diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            final String classPath = System.getProperty(
+                    "surefire.test.class.path",
+                    System.getProperty("java.class.path"));
+            final List<String> options = new ArrayList<>(Arrays.asList(
+                    "-classpath", classPath,
+                    "-d", outDir.toString(),
+                    "-implicit:class"));
+            options.addAll(Arrays.asList(extraOptions));
+            final JavaCompiler.CompilationTask task = compiler.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    options,
+                    null,
+                    fileManager.getJavaFileObjects(source.toFile()));
+            task.setProcessors(Arrays.asList(new GeneratorMethodProcessor()));
+            final boolean success = task.call();
+            assertTrue(success, () -> diagnostics.getDiagnostics().toString());
+        }
+        return diagnostics;
+    }
+}